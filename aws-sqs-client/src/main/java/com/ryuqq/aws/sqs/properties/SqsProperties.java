@@ -17,6 +17,11 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *     long-polling-wait-seconds: 20
  *     max-batch-size: 10
  *     visibility-timeout: 30
+ *     buffered-send-enabled: false
+ *     buffered-send-linger-millis: 20
+ *     batch-max-attempts: 3
+ *     queue-url-cache-max-size: 1000
+ *     queue-url-cache-negative-ttl-millis: 30000
  * </code></pre>
  * 
  * @since 1.0.0
@@ -79,6 +84,56 @@ public class SqsProperties {
      */
     private int visibilityTimeout = 30;
 
+    /**
+     * 클라이언트 측 전송 버퍼 사용 여부
+     * 
+     * <p>활성화하면 {@code SqsService.sendMessageBuffered()} 호출이 큐별로 모여
+     * SendMessageBatch 요청으로 전송됩니다. 비활성화 시 개별 SendMessage로 전송됩니다.</p>
+     * 
+     * @default false (명시적으로 활성화해야 함)
+     */
+    private boolean bufferedSendEnabled = false;
+
+    /**
+     * 전송 버퍼 최대 대기 시간 (밀리초 단위)
+     * 
+     * <p>버퍼에 첫 메시지가 들어온 후 배치가 가득 차지 않아도 전송하기까지 기다리는 시간입니다.
+     * 값이 클수록 배치 효율이 높아지지만 전송 지연이 늘어납니다.</p>
+     * 
+     * @default 20밀리초
+     */
+    private long bufferedSendLingerMillis = 20;
+
+    /**
+     * 청크 분할 배치 작업의 Entry별 최대 시도 횟수
+     * 
+     * <p>청크 단위로 분할된 sendMessageBatch/deleteMessageBatch에서 재시도 가능한 오류로 실패한 Entry를
+     * 다시 요청하는 최대 횟수입니다 (최초 요청 포함). 요청자 오류(senderFault)는 재시도하지 않습니다.</p>
+     * 
+     * @default 3회
+     */
+    private int batchMaxAttempts = 3;
+
+    /**
+     * 큐 URL 캐시 최대 항목 수
+     * 
+     * <p>getQueueUrl() 결과를 큐 이름별로 캐싱하는 최대 개수입니다.
+     * 초과 시 가장 오래 사용하지 않은 항목부터 제거됩니다.</p>
+     * 
+     * @default 1000개
+     */
+    private int queueUrlCacheMaxSize = 1000;
+
+    /**
+     * 존재하지 않는 큐에 대한 조회 결과 캐싱 시간 (밀리초 단위)
+     * 
+     * <p>QueueDoesNotExist 응답을 이 시간 동안 보관하여, 잘못 설정된 DLQ 등으로
+     * 실패가 몰릴 때 같은 조회가 반복되지 않도록 합니다. 0이면 네거티브 캐싱을 사용하지 않습니다.</p>
+     * 
+     * @default 30000밀리초 (30초)
+     */
+    private long queueUrlCacheNegativeTtlMillis = 30_000L;
+
     public int getLongPollingWaitSeconds() {
         return longPollingWaitSeconds;
     }
@@ -91,6 +146,26 @@ public class SqsProperties {
         return visibilityTimeout;
     }
 
+    public boolean isBufferedSendEnabled() {
+        return bufferedSendEnabled;
+    }
+
+    public long getBufferedSendLingerMillis() {
+        return bufferedSendLingerMillis;
+    }
+
+    public int getBatchMaxAttempts() {
+        return batchMaxAttempts;
+    }
+
+    public int getQueueUrlCacheMaxSize() {
+        return queueUrlCacheMaxSize;
+    }
+
+    public long getQueueUrlCacheNegativeTtlMillis() {
+        return queueUrlCacheNegativeTtlMillis;
+    }
+
     public void setLongPollingWaitSeconds(int longPollingWaitSeconds) {
         this.longPollingWaitSeconds = longPollingWaitSeconds;
     }
@@ -102,4 +177,24 @@ public class SqsProperties {
     public void setVisibilityTimeout(int visibilityTimeout) {
         this.visibilityTimeout = visibilityTimeout;
     }
+
+    public void setBufferedSendEnabled(boolean bufferedSendEnabled) {
+        this.bufferedSendEnabled = bufferedSendEnabled;
+    }
+
+    public void setBufferedSendLingerMillis(long bufferedSendLingerMillis) {
+        this.bufferedSendLingerMillis = bufferedSendLingerMillis;
+    }
+
+    public void setBatchMaxAttempts(int batchMaxAttempts) {
+        this.batchMaxAttempts = batchMaxAttempts;
+    }
+
+    public void setQueueUrlCacheMaxSize(int queueUrlCacheMaxSize) {
+        this.queueUrlCacheMaxSize = queueUrlCacheMaxSize;
+    }
+
+    public void setQueueUrlCacheNegativeTtlMillis(long queueUrlCacheNegativeTtlMillis) {
+        this.queueUrlCacheNegativeTtlMillis = queueUrlCacheNegativeTtlMillis;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,165 @@
+package com.ryuqq.aws.sqs.service;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.sqs.model.QueueDoesNotExistException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 큐 이름 → 큐 URL 조회 결과 캐시
+ *
+ * <p>큐 URL은 큐가 존재하는 동안 바뀌지 않으므로 GetQueueUrl 결과를 메모리에 보관하여
+ * 반복 조회 시 AWS 호출 없이 즉시 완료된 Future를 반환합니다. 동일한 큐 이름에 대한
+ * 동시 조회는 하나의 요청으로 합쳐집니다.</p>
+ *
+ * <h3>캐시 정책:</h3>
+ * <ul>
+ *   <li><strong>용량 제한</strong>: 최대 개수를 넘으면 가장 오래 사용하지 않은 항목을 제거 (LRU)</li>
+ *   <li><strong>네거티브 캐싱</strong>: QueueDoesNotExist 응답은 지정된 시간 동안 보관하여 반복 조회를 막음</li>
+ *   <li><strong>일시 오류</strong>: 그 외 오류는 캐싱하지 않고 다음 조회에서 다시 요청</li>
+ *   <li><strong>무효화</strong>: 캐시된 URL로 보낸 요청이 QueueDoesNotExist로 실패하면 해당 항목을 제거</li>
+ * </ul>
+ *
+ * @since 1.0.0
+ * @see SqsService#getQueueUrl(String)
+ */
+@Slf4j
+public class QueueUrlCache {
+
+    private final int maxSize;
+    private final long negativeTtlNanos;
+    private final Map<String, CacheEntry> entries;
+
+    public QueueUrlCache(int maxSize, long negativeTtlMillis) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("캐시 최대 크기는 1 이상이어야 합니다: " + maxSize);
+        }
+        if (negativeTtlMillis < 0) {
+            throw new IllegalArgumentException("네거티브 캐시 시간은 0 이상이어야 합니다: " + negativeTtlMillis);
+        }
+        this.maxSize = maxSize;
+        this.negativeTtlNanos = negativeTtlMillis * 1_000_000L;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return size() > QueueUrlCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 큐 URL을 반환하거나, 없으면 loader로 조회하여 캐싱합니다.
+     *
+     * @param queueName 조회할 큐 이름
+     * @param loader 캐시 미스 시 큐 URL을 비동기로 조회하는 함수
+     * @return 큐 URL을 포함한 CompletableFuture (호출자별 복사본)
+     */
+    public CompletableFuture<String> get(String queueName, Function<String, CompletableFuture<String>> loader) {
+        CacheEntry entry;
+        boolean load = false;
+
+        synchronized (entries) {
+            entry = entries.get(queueName);
+            if (entry != null && entry.isExpired(System.nanoTime())) {
+                entries.remove(queueName);
+                entry = null;
+            }
+            if (entry == null) {
+                entry = new CacheEntry();
+                entries.put(queueName, entry);
+                load = true;
+            }
+        }
+
+        if (load) {
+            load(queueName, entry, loader);
+        }
+        // 공유 Future를 호출자가 완료시키지 못하도록 복사본을 반환
+        return entry.future.copy();
+    }
+
+    /**
+     * 큐 이름에 해당하는 캐시 항목을 제거합니다.
+     *
+     * @param queueName 제거할 큐 이름
+     */
+    public void invalidate(String queueName) {
+        synchronized (entries) {
+            entries.remove(queueName);
+        }
+    }
+
+    /**
+     * 지정된 URL로 해결된 모든 캐시 항목을 제거합니다.
+     *
+     * @param queueUrl 더 이상 유효하지 않은 큐 URL
+     */
+    public void invalidateUrl(String queueUrl) {
+        synchronized (entries) {
+            entries.values().removeIf(entry -> entry.future.isDone()
+                    && !entry.future.isCompletedExceptionally()
+                    && queueUrl.equals(entry.future.join()));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void load(String queueName, CacheEntry entry, Function<String, CompletableFuture<String>> loader) {
+        CompletableFuture<String> lookup;
+        try {
+            lookup = loader.apply(queueName);
+        } catch (RuntimeException e) {
+            lookup = CompletableFuture.failedFuture(e);
+        }
+
+        lookup.whenComplete((queueUrl, throwable) -> {
+            if (throwable == null) {
+                entry.future.complete(queueUrl);
+                return;
+            }
+            if (isQueueDoesNotExist(throwable)) {
+                log.debug("Queue {} does not exist; caching negative result", queueName);
+                entry.expiresAtNanos = System.nanoTime() + negativeTtlNanos;
+            } else {
+                // 일시적인 오류는 캐싱하지 않음
+                synchronized (entries) {
+                    entries.remove(queueName, entry);
+                }
+            }
+            entry.future.completeExceptionally(throwable);
+        });
+    }
+
+    /**
+     * 예외 체인에 QueueDoesNotExistException이 포함되어 있는지 확인합니다.
+     *
+     * @param throwable 확인할 예외
+     * @return 큐가 존재하지 않아 발생한 예외이면 true
+     */
+    static boolean isQueueDoesNotExist(Throwable throwable) {
+        Throwable current = throwable;
+        while (current != null) {
+            if (current instanceof QueueDoesNotExistException) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    private static final class CacheEntry {
+        private final CompletableFuture<String> future = new CompletableFuture<>();
+        private volatile long expiresAtNanos = Long.MAX_VALUE;
+
+        private boolean isExpired(long nowNanos) {
+            return expiresAtNanos != Long.MAX_VALUE && nowNanos - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.ryuqq.aws.sqs.service;
+
+import com.ryuqq.aws.sqs.util.BatchEntryFactory;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * SQS 메시지 전송 버퍼 (클라이언트 측 자동 배치)
+ *
+ * <p>개별 전송 요청을 큐 URL별로 모아 SendMessageBatch 요청으로 묶어 전송합니다.
+ * 호출자마다 자신의 메시지 ID로 완료되는 CompletableFuture를 받으므로
+ * {@link SqsService#sendMessage(String, String)}와 동일한 방식으로 사용할 수 있습니다.</p>
+ *
+ * <h3>플러시 조건 (먼저 충족되는 조건):</h3>
+ * <ul>
+ *   <li>버퍼된 메시지가 10개에 도달</li>
+ *   <li>다음 메시지를 추가하면 배치 페이로드가 256KB를 초과</li>
+ *   <li>첫 메시지가 버퍼에 들어온 후 linger 시간 경과</li>
+ * </ul>
+ *
+ * <p>배치 Entry ID는 버퍼 전체에서 증가하는 시퀀스를 사용하며
+ * {@link BatchEntryFactory#createSendMessageEntriesWithCustomIds(List, List)}로 생성합니다.
+ * 응답의 성공/실패 항목은 이 ID로 각 호출자의 Future에 매핑됩니다.</p>
+ *
+ * @since 1.0.0
+ * @see SqsService#sendMessageBuffered(String, String)
+ */
+@Slf4j
+public class SqsSendBuffer implements AutoCloseable {
+
+    /** SQS 배치 요청 최대 Entry 개수 */
+    private static final int MAX_BATCH_ENTRIES = 10;
+
+    /** SQS 배치 요청 최대 페이로드 크기 (256KB) */
+    private static final int MAX_BATCH_PAYLOAD_BYTES = 256 * 1024;
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 10L;
+
+    private final SqsAsyncClient sqsAsyncClient;
+    private final long lingerMillis;
+    private final ScheduledExecutorService scheduler;
+    private final ConcurrentMap<String, QueueBuffer> buffers = new ConcurrentHashMap<>();
+    private final AtomicLong entryIdSequence = new AtomicLong();
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    public SqsSendBuffer(SqsAsyncClient sqsAsyncClient, long lingerMillis) {
+        if (lingerMillis < 0) {
+            throw new IllegalArgumentException("linger 시간은 0 이상이어야 합니다: " + lingerMillis);
+        }
+        this.sqsAsyncClient = sqsAsyncClient;
+        this.lingerMillis = lingerMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "sqs-send-buffer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 메시지를 버퍼에 추가하고 전송 결과 Future를 반환합니다.
+     *
+     * @param queueUrl 메시지를 전송할 SQS 큐의 URL
+     * @param body 전송할 메시지 본문 (최대 256KB)
+     * @return 전송된 메시지의 ID로 완료되는 CompletableFuture
+     */
+    public CompletableFuture<String> send(String queueUrl, String body) {
+        if (body == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("메시지 본문은 null일 수 없습니다"));
+        }
+        int payloadBytes = body.getBytes(StandardCharsets.UTF_8).length;
+        if (payloadBytes > MAX_BATCH_PAYLOAD_BYTES) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException(
+                    "메시지 크기가 256KB를 초과합니다: " + payloadBytes + " bytes"));
+        }
+        if (closed.get()) {
+            return CompletableFuture.failedFuture(new IllegalStateException("전송 버퍼가 이미 종료되었습니다"));
+        }
+
+        PendingSend pending = new PendingSend(
+                Long.toString(entryIdSequence.incrementAndGet()), body, payloadBytes, new CompletableFuture<>());
+        QueueBuffer buffer = buffers.computeIfAbsent(queueUrl, key -> new QueueBuffer());
+        List<List<PendingSend>> ready = new ArrayList<>(2);
+
+        synchronized (buffer) {
+            // 추가 시 256KB를 초과하면 현재 버퍼를 먼저 내보냄
+            if (!buffer.pending.isEmpty() && buffer.payloadBytes + payloadBytes > MAX_BATCH_PAYLOAD_BYTES) {
+                ready.add(buffer.drain());
+            }
+            buffer.add(pending);
+            if (buffer.pending.size() >= MAX_BATCH_ENTRIES) {
+                ready.add(buffer.drain());
+            }
+            if (buffer.pending.isEmpty()) {
+                buffer.cancelLinger();
+            } else if (buffer.lingerTask == null) {
+                buffer.lingerTask = scheduleFlush(queueUrl);
+            }
+        }
+
+        ready.forEach(batch -> sendBatch(queueUrl, batch));
+        return pending.future;
+    }
+
+    /**
+     * 버퍼된 모든 메시지를 즉시 전송합니다.
+     *
+     * @return 호출 시점에 버퍼된 모든 메시지의 전송이 끝나면 완료되는 CompletableFuture
+     */
+    public CompletableFuture<Void> flush() {
+        List<CompletableFuture<Void>> flushes = new ArrayList<>();
+        for (String queueUrl : buffers.keySet()) {
+            flushes.add(flushQueue(queueUrl));
+        }
+        return CompletableFuture.allOf(flushes.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * 남은 메시지를 전송하고 스케줄러를 종료합니다.
+     * 종료 이후의 전송 요청은 실패한 Future를 반환합니다.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flush().get(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("전송 버퍼 종료 중 일부 메시지를 전송하지 못했습니다: {}", e.getMessage());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private ScheduledFuture<?> scheduleFlush(String queueUrl) {
+        try {
+            return scheduler.schedule(() -> flushQueue(queueUrl), lingerMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            CompletableFuture.runAsync(() -> flushQueue(queueUrl));
+            return null;
+        }
+    }
+
+    private CompletableFuture<Void> flushQueue(String queueUrl) {
+        QueueBuffer buffer = buffers.get(queueUrl);
+        if (buffer == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<PendingSend> batch;
+        synchronized (buffer) {
+            buffer.cancelLinger();
+            if (buffer.pending.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            batch = buffer.drain();
+        }
+        return sendBatch(queueUrl, batch);
+    }
+
+    private CompletableFuture<Void> sendBatch(String queueUrl, List<PendingSend> batch) {
+        List<String> bodies = batch.stream().map(PendingSend::body).collect(Collectors.toList());
+        List<String> entryIds = batch.stream().map(PendingSend::entryId).collect(Collectors.toList());
+
+        CompletableFuture<SendMessageBatchResponse> request;
+        try {
+            request = sqsAsyncClient.sendMessageBatch(SendMessageBatchRequest.builder()
+                    .queueUrl(queueUrl)
+                    .entries(BatchEntryFactory.createSendMessageEntriesWithCustomIds(bodies, entryIds))
+                    .build());
+        } catch (RuntimeException e) {
+            request = CompletableFuture.failedFuture(e);
+        }
+
+        return request.handle((response, throwable) -> {
+            if (throwable != null) {
+                RuntimeException failure = new RuntimeException("Failed to send message", throwable);
+                batch.forEach(pending -> pending.future.completeExceptionally(failure));
+                return null;
+            }
+            completeFutures(queueUrl, batch, response);
+            return null;
+        });
+    }
+
+    private void completeFutures(String queueUrl, List<PendingSend> batch, SendMessageBatchResponse response) {
+        Map<String, String> messageIds = response.successful().stream()
+                .collect(Collectors.toMap(SendMessageBatchResultEntry::id, SendMessageBatchResultEntry::messageId));
+        Map<String, BatchResultErrorEntry> failures = response.failed().stream()
+                .collect(Collectors.toMap(BatchResultErrorEntry::id, Function.identity()));
+
+        for (PendingSend pending : batch) {
+            String messageId = messageIds.get(pending.entryId());
+            if (messageId != null) {
+                pending.future.complete(messageId);
+                continue;
+            }
+            BatchResultErrorEntry error = failures.get(pending.entryId());
+            String reason = error != null ? error.code() + " - " + error.message() : "no result entry in response";
+            log.warn("버퍼 전송 실패 (queue: {}): {}", queueUrl, reason);
+            pending.future.completeExceptionally(new RuntimeException("Failed to send message: " + reason));
+        }
+    }
+
+    private record PendingSend(String entryId, String body, int payloadBytes, CompletableFuture<String> future) {
+    }
+
+    /**
+     * 큐 하나의 대기 중인 전송 요청 목록 (자체 모니터로 보호됨)
+     */
+    private static final class QueueBuffer {
+        private final List<PendingSend> pending = new ArrayList<>(MAX_BATCH_ENTRIES);
+        private int payloadBytes;
+        private ScheduledFuture<?> lingerTask;
+
+        private void add(PendingSend send) {
+            pending.add(send);
+            payloadBytes += send.payloadBytes();
+        }
+
+        private List<PendingSend> drain() {
+            List<PendingSend> batch = new ArrayList<>(pending);
+            pending.clear();
+            payloadBytes = 0;
+            return batch;
+        }
+
+        private void cancelLinger() {
+            if (lingerTask != null) {
+                lingerTask.cancel(false);
+                lingerTask = null;
+            }
+        }
+    }
+}
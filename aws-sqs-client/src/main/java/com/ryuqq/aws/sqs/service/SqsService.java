@@ -1,12 +1,21 @@
 package com.ryuqq.aws.sqs.service;
 
 import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
 import software.amazon.awssdk.services.sqs.model.CreateQueueRequest;
 import software.amazon.awssdk.services.sqs.model.CreateQueueResponse;
 import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
 import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
 import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesResponse;
 import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
 import software.amazon.awssdk.services.sqs.model.GetQueueUrlResponse;
 import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
@@ -20,17 +29,27 @@ import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
 
 import com.ryuqq.aws.sqs.adapter.SqsTypeAdapter;
 import com.ryuqq.aws.sqs.properties.SqsProperties;
+import com.ryuqq.aws.sqs.types.SqsBatchResult;
 import com.ryuqq.aws.sqs.types.SqsMessage;
+import com.ryuqq.aws.sqs.util.BatchChunker;
 import com.ryuqq.aws.sqs.util.BatchEntryFactory;
 import com.ryuqq.aws.sqs.util.BatchValidationUtils;
 import com.ryuqq.aws.sqs.util.QueueAttributeUtils;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import jakarta.annotation.PreDestroy;
 import org.springframework.stereotype.Service;
 
 /**
@@ -43,6 +62,7 @@ import org.springframework.stereotype.Service;
  * <ul>
  *   <li>단일/배치 메시지 전송 및 수신</li>
  *   <li>메시지 삭제 (단일/배치)</li>
+ *   <li>메시지 가시성 타임아웃 변경 (단일/배치)</li>
  *   <li>큐 생성 및 URL 조회</li>
  *   <li>Long Polling을 통한 효율적인 메시지 수신</li>
  * </ul>
@@ -62,12 +82,22 @@ import org.springframework.stereotype.Service;
 @Service
 public class SqsService {
 
+    /** 청크 배치 재시도 기본 지연 시간 (시도마다 2배씩 증가) */
+    private static final long BATCH_RETRY_BASE_DELAY_MILLIS = 100L;
+
     private final SqsAsyncClient sqsAsyncClient;
     private final SqsProperties sqsProperties;
+    private final SqsSendBuffer sendBuffer;
+    private final QueueUrlCache queueUrlCache;
 
     public SqsService(SqsAsyncClient sqsAsyncClient, SqsProperties sqsProperties) {
         this.sqsAsyncClient = sqsAsyncClient;
         this.sqsProperties = sqsProperties;
+        this.sendBuffer = sqsProperties.isBufferedSendEnabled()
+                ? new SqsSendBuffer(sqsAsyncClient, sqsProperties.getBufferedSendLingerMillis())
+                : null;
+        this.queueUrlCache = new QueueUrlCache(
+                sqsProperties.getQueueUrlCacheMaxSize(), sqsProperties.getQueueUrlCacheNegativeTtlMillis());
     }
 
     /**
@@ -99,10 +129,64 @@ public class SqsService {
         return sqsAsyncClient.sendMessage(request)
                 .thenApply(SendMessageResponse::messageId)
                 .exceptionally(throwable -> {
+                    if (QueueUrlCache.isQueueDoesNotExist(throwable)) {
+                        // 캐시된 URL의 큐가 삭제된 경우 다음 조회에서 다시 해결하도록 제거
+                        queueUrlCache.invalidateUrl(queueUrl);
+                    }
                     throw new RuntimeException("Failed to send message", throwable);
                 });
     }
 
+    /**
+     * 전송 버퍼를 통해 메시지를 비동기로 전송합니다.
+     * 
+     * <p>{@code aws.sqs.buffered-send-enabled=true}인 경우 같은 큐로 향하는 메시지들을 모아
+     * SendMessageBatch 요청으로 전송합니다. 배치는 10개가 모이거나, 256KB에 도달하거나,
+     * linger 시간이 지나면 전송됩니다. 비활성화된 경우 {@link #sendMessage(String, String)}와 동일합니다.</p>
+     * 
+     * @param queueUrl 메시지를 전송할 SQS 큐의 URL
+     * @param body 전송할 메시지 본문 (최대 256KB)
+     * @return 이 메시지의 고유 ID를 포함한 CompletableFuture
+     * @throws RuntimeException 메시지 전송 실패 시
+     * @see SqsSendBuffer
+     * 
+     * <h4>사용 예시:</h4>
+     * <pre><code>
+     * // 고빈도 이벤트 발행 - 호출자는 개별 전송과 동일하게 자신의 메시지 ID를 받음
+     * events.forEach(event -&gt;
+     *     sqsService.sendMessageBuffered(queueUrl, toJson(event))
+     *         .thenAccept(messageId -&gt; log.debug("메시지 전송 완료: {}", messageId)));
+     * </code></pre>
+     */
+    public CompletableFuture<String> sendMessageBuffered(String queueUrl, String body) {
+        if (sendBuffer == null) {
+            return sendMessage(queueUrl, body);
+        }
+        return sendBuffer.send(queueUrl, body);
+    }
+
+    /**
+     * 전송 버퍼에 남아 있는 메시지를 즉시 전송합니다.
+     * 
+     * @return 버퍼된 메시지의 전송이 모두 끝나면 완료되는 CompletableFuture (버퍼 비활성화 시 즉시 완료)
+     */
+    public CompletableFuture<Void> flushBufferedMessages() {
+        if (sendBuffer == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return sendBuffer.flush();
+    }
+
+    /**
+     * 애플리케이션 종료 시 전송 버퍼에 남은 메시지를 전송하고 버퍼를 종료합니다.
+     */
+    @PreDestroy
+    public void close() {
+        if (sendBuffer != null) {
+            sendBuffer.close();
+        }
+    }
+
     /**
      * SQS 큐에 여러 메시지를 한 번에 배치로 전송합니다.
      * 
@@ -159,6 +243,63 @@ public class SqsService {
                 });
     }
 
+    /**
+     * 개수 제한 없이 메시지를 청크 단위 배치로 전송하고 인덱스별 결과를 반환합니다.
+     * 
+     * <p>메시지 목록을 10개 또는 256KB 단위의 청크로 분할하여 최대 {@code maxConcurrency}개의
+     * SendMessageBatch 요청을 동시에 실행합니다. 서버 측 오류로 실패한 Entry는
+     * {@code aws.sqs.batch-max-attempts}까지 지수 백오프로 재시도하며, 최종 결과는
+     * 입력 인덱스별 메시지 ID 또는 오류로 제공됩니다.</p>
+     * 
+     * <h4>실패 처리:</h4>
+     * <ul>
+     *   <li>256KB를 초과하는 메시지는 전송하지 않고 MessageTooLong 실패로 기록</li>
+     *   <li>요청자 오류(senderFault=true)는 재시도하지 않음</li>
+     *   <li>요청 전체가 실패하면 네트워크 오류, 스로틀링, 5xx 응답일 때만 청크의 모든 Entry를 재시도 (그 외 서비스 오류는 senderFault=true로 기록)</li>
+     * </ul>
+     * 
+     * @param queueUrl 메시지를 전송할 SQS 큐의 URL
+     * @param messages 전송할 메시지 본문 목록 (개수 제한 없음, null 요소 불가)
+     * @param maxConcurrency 동시에 실행할 최대 배치 요청 수 (1 이상)
+     * @return 입력 인덱스별 전송 결과를 포함한 CompletableFuture
+     * @throws IllegalArgumentException maxConcurrency가 1보다 작거나 목록에 null 요소가 있을 때
+     * 
+     * <h4>사용 예시:</h4>
+     * <pre><code>
+     * sqsService.sendMessageBatch(queueUrl, largeMessageList, 4)
+     *     .thenAccept(result -&gt; {
+     *         if (result.hasFailures()) {
+     *             log.warn("{}개 메시지 전송 실패", result.getFailed().size());
+     *         }
+     *     });
+     * </code></pre>
+     */
+    public CompletableFuture<SqsBatchResult> sendMessageBatch(String queueUrl, List<String> messages,
+                                                              int maxConcurrency) {
+        validateMaxConcurrency(maxConcurrency);
+        if (BatchValidationUtils.isEmpty(messages, "sendMessageBatch")) {
+            return CompletableFuture.completedFuture(SqsBatchResult.empty());
+        }
+        BatchValidationUtils.validateNoNullElements(messages, "sendMessageBatch");
+
+        SqsBatchResult.Entry[] results = new SqsBatchResult.Entry[messages.size()];
+        List<Integer> sendable = new ArrayList<>(messages.size());
+        for (int index = 0; index < messages.size(); index++) {
+            if (BatchChunker.payloadBytes(messages.get(index)) > BatchChunker.MAX_BATCH_PAYLOAD_BYTES) {
+                results[index] = SqsBatchResult.Entry.failure(index, "MessageTooLong",
+                        "메시지 크기가 256KB를 초과합니다", true);
+            } else {
+                sendable.add(index);
+            }
+        }
+
+        List<List<Integer>> chunks = BatchChunker.chunkBySizeAndCount(
+                messages, sendable, sqsProperties.getMaxBatchSize(), BatchChunker.MAX_BATCH_PAYLOAD_BYTES);
+
+        return dispatchChunks(chunks, maxConcurrency, chunk -> sendChunk(queueUrl, messages, chunk, results, 1))
+                .thenApply(ignored -> toBatchResult(queueUrl, "sendMessageBatch", results));
+    }
+
     /**
      * SQS 큐에서 메시지를 비동기로 수신합니다.
      * 
@@ -179,6 +320,9 @@ public class SqsService {
      *   <li>처리 실패 시 자동으로 큐에 다시 나타남</li>
      * </ul>
      * 
+     * <p>모든 메시지 속성과 함께 시스템 속성(MessageGroupId, SentTimestamp, ApproximateReceiveCount 등)도
+     * 요청하므로 {@link SqsMessage#getAttributes()}로 조회할 수 있습니다.</p>
+     * 
      * @param queueUrl 메시지를 수신할 SQS 큐의 URL
      * @param maxMessages 한 번에 수신할 최대 메시지 개수 (1-10)
      * @return 수신된 SqsMessage 객체들의 목록을 포함한 CompletableFuture
@@ -198,12 +342,30 @@ public class SqsService {
      * </code></pre>
      */
     public CompletableFuture<List<SqsMessage>> receiveMessages(String queueUrl, int maxMessages) {
+        return receiveMessages(queueUrl, maxMessages, sqsProperties.getVisibilityTimeout());
+    }
+
+    /**
+     * 지정한 Visibility Timeout으로 SQS 큐에서 메시지를 비동기로 수신합니다.
+     * 
+     * <p>전역 설정(aws.sqs.visibility-timeout) 대신 호출자가 지정한 값을 수신 요청에 적용합니다.
+     * 컨슈머별로 가시성 타임아웃이 다를 때, 실제로 적용된 값을 기준으로 연장 시점이나
+     * 만료 시점을 계산할 수 있도록 사용합니다.</p>
+     * 
+     * @param queueUrl 메시지를 수신할 SQS 큐의 URL
+     * @param maxMessages 한 번에 수신할 최대 메시지 개수 (1-10)
+     * @param visibilityTimeoutSeconds 수신한 메시지에 적용할 Visibility Timeout (초)
+     * @return 수신된 SqsMessage 객체들의 목록을 포함한 CompletableFuture
+     */
+    public CompletableFuture<List<SqsMessage>> receiveMessages(String queueUrl, int maxMessages,
+                                                               int visibilityTimeoutSeconds) {
         ReceiveMessageRequest request = ReceiveMessageRequest.builder()
                 .queueUrl(queueUrl)
                 .maxNumberOfMessages(Math.min(maxMessages, sqsProperties.getMaxBatchSize()))
                 .waitTimeSeconds(sqsProperties.getLongPollingWaitSeconds())
-                .visibilityTimeout(sqsProperties.getVisibilityTimeout())
+                .visibilityTimeout(visibilityTimeoutSeconds)
                 .messageAttributeNames("All")
+                .messageSystemAttributeNamesWithStrings("All")
                 .build();
 
         return sqsAsyncClient.receiveMessage(request)
@@ -308,6 +470,342 @@ public class SqsService {
                 .thenRun(() -> log.debug("Batch deleted messages from queue: {}", queueUrl));
     }
 
+    /**
+     * 개수 제한 없이 메시지를 청크 단위 배치로 삭제하고 인덱스별 결과를 반환합니다.
+     * 
+     * <p>Receipt Handle 목록을 10개 단위 청크로 분할하여 최대 {@code maxConcurrency}개의
+     * DeleteMessageBatch 요청을 동시에 실행합니다. 재시도 규칙은
+     * {@link #sendMessageBatch(String, List, int)}와 같습니다.</p>
+     * 
+     * @param queueUrl 메시지를 삭제할 SQS 큐의 URL
+     * @param receiptHandles 삭제할 메시지들의 Receipt Handle 목록 (개수 제한 없음)
+     * @param maxConcurrency 동시에 실행할 최대 배치 요청 수 (1 이상)
+     * @return 입력 인덱스별 삭제 결과를 포함한 CompletableFuture
+     * @throws IllegalArgumentException maxConcurrency가 1보다 작거나 빈 Receipt Handle이 있을 때
+     * 
+     * <h4>사용 예시:</h4>
+     * <pre><code>
+     * sqsService.deleteMessageBatch(queueUrl, receiptHandles, 4)
+     *     .thenAccept(result -&gt; result.getFailed().forEach(failed -&gt;
+     *         log.warn("삭제 실패: {}", receiptHandles.get(failed.getIndex()))));
+     * </code></pre>
+     */
+    public CompletableFuture<SqsBatchResult> deleteMessageBatch(String queueUrl, List<String> receiptHandles,
+                                                                int maxConcurrency) {
+        validateMaxConcurrency(maxConcurrency);
+        if (BatchValidationUtils.isEmpty(receiptHandles, "deleteMessageBatch")) {
+            return CompletableFuture.completedFuture(SqsBatchResult.empty());
+        }
+        BatchValidationUtils.validateNoBlankStrings(receiptHandles, "deleteMessageBatch");
+
+        SqsBatchResult.Entry[] results = new SqsBatchResult.Entry[receiptHandles.size()];
+        List<List<Integer>> chunks = BatchChunker.chunkByCount(receiptHandles.size(), sqsProperties.getMaxBatchSize());
+
+        return dispatchChunks(chunks, maxConcurrency, chunk -> deleteChunk(queueUrl, receiptHandles, chunk, results, 1))
+                .thenApply(ignored -> toBatchResult(queueUrl, "deleteMessageBatch", results));
+    }
+
+    /**
+     * 메시지를 배치로 삭제하고 재시도 가능한 실패 항목의 Receipt Handle을 반환합니다.
+     * 
+     * <p>{@link #deleteMessageBatch(String, List)}와 동일하게 요청하지만 응답의 실패 항목을
+     * 분석합니다. 서버 측 오류(senderFault=false)로 실패한 항목만 재시도 대상으로 반환하며,
+     * 만료된 Receipt Handle 등 요청자 오류는 재시도해도 성공할 수 없으므로 로그만 남깁니다.</p>
+     * 
+     * @param queueUrl 메시지를 삭제할 SQS 큐의 URL
+     * @param receiptHandles 삭제할 메시지들의 Receipt Handle 목록 (최대 10개)
+     * @return 재시도 가능한 실패 항목의 Receipt Handle 목록 (모두 성공 시 빈 목록)
+     * @throws IllegalArgumentException Receipt Handle 개수가 최대 배치 크기를 초과할 때
+     * 
+     * <h4>사용 예시:</h4>
+     * <pre><code>
+     * sqsService.deleteMessageBatchWithRetryableFailures(queueUrl, receiptHandles)
+     *     .thenCompose(failed -&gt; failed.isEmpty()
+     *         ? CompletableFuture.completedFuture(List.of())
+     *         : sqsService.deleteMessageBatchWithRetryableFailures(queueUrl, failed));
+     * </code></pre>
+     */
+    public CompletableFuture<List<String>> deleteMessageBatchWithRetryableFailures(String queueUrl,
+                                                                                  List<String> receiptHandles) {
+        if (BatchValidationUtils.validateForBatchOperation(receiptHandles, sqsProperties, "deleteMessageBatch", true)) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        // Entry ID는 목록 인덱스이므로 실패 항목을 원래 Receipt Handle로 역매핑할 수 있음
+        List<DeleteMessageBatchRequestEntry> entries = BatchEntryFactory.createDeleteMessageEntries(receiptHandles);
+
+        DeleteMessageBatchRequest request = DeleteMessageBatchRequest.builder()
+                .queueUrl(queueUrl)
+                .entries(entries)
+                .build();
+
+        return sqsAsyncClient.deleteMessageBatch(request)
+                .thenApply(response -> collectRetryableDeleteFailures(queueUrl, receiptHandles, response));
+    }
+
+    private List<String> collectRetryableDeleteFailures(String queueUrl, List<String> receiptHandles,
+                                                        DeleteMessageBatchResponse response) {
+        if (!response.hasFailed() || response.failed().isEmpty()) {
+            log.debug("Batch deleted {} messages from queue: {}", receiptHandles.size(), queueUrl);
+            return Collections.emptyList();
+        }
+
+        return response.failed().stream()
+                .filter(failure -> {
+                    if (Boolean.TRUE.equals(failure.senderFault())) {
+                        log.warn("Non-retryable delete failure on queue {}: {} - {}",
+                                queueUrl, failure.code(), failure.message());
+                        return false;
+                    }
+                    return true;
+                })
+                .map(failure -> receiptHandles.get(Integer.parseInt(failure.id())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 처리 중인 메시지의 가시성 타임아웃을 변경합니다.
+     * 
+     * <p>처리에 시간이 오래 걸리는 메시지의 가시성 타임아웃을 연장하여 다른 컨슈머에게
+     * 다시 전달되지 않도록 하거나, 0으로 설정하여 즉시 재전달되도록 할 수 있습니다.</p>
+     * 
+     * @param queueUrl 메시지를 수신한 SQS 큐의 URL
+     * @param receiptHandle 수신 시 받은 메시지의 Receipt Handle
+     * @param visibilityTimeoutSeconds 지금부터 적용할 가시성 타임아웃 (0-43200초)
+     * @return 변경 완료를 나타내는 CompletableFuture&lt;Void&gt;
+     * 
+     * <h4>사용 예시:</h4>
+     * <pre><code>
+     * // 처리를 포기한 메시지를 즉시 다시 수신 가능하게 설정
+     * sqsService.changeMessageVisibility(queueUrl, message.getReceiptHandle(), 0);
+     * </code></pre>
+     */
+    public CompletableFuture<Void> changeMessageVisibility(String queueUrl, String receiptHandle,
+                                                           int visibilityTimeoutSeconds) {
+        ChangeMessageVisibilityRequest request = ChangeMessageVisibilityRequest.builder()
+                .queueUrl(queueUrl)
+                .receiptHandle(receiptHandle)
+                .visibilityTimeout(visibilityTimeoutSeconds)
+                .build();
+
+        return sqsAsyncClient.changeMessageVisibility(request)
+                .thenRun(() -> log.debug("Changed message visibility to {}s on queue: {}",
+                        visibilityTimeoutSeconds, queueUrl));
+    }
+
+    /**
+     * 여러 메시지의 가시성 타임아웃을 배치로 변경하고 실패한 항목의 Receipt Handle을 반환합니다.
+     * 
+     * <p>한 번의 ChangeMessageVisibilityBatch 호출로 최대 10개 메시지의 가시성 타임아웃을
+     * 동일한 값으로 변경합니다. 만료된 Receipt Handle처럼 항목 단위로 실패한 경우에도
+     * 나머지 항목의 변경은 유지됩니다.</p>
+     * 
+     * @param queueUrl 메시지를 수신한 SQS 큐의 URL
+     * @param receiptHandles 가시성을 변경할 메시지들의 Receipt Handle 목록 (최대 10개)
+     * @param visibilityTimeoutSeconds 지금부터 적용할 가시성 타임아웃 (0-43200초)
+     * @return 변경에 실패한 항목의 Receipt Handle 목록 (모두 성공 시 빈 목록)
+     * @throws IllegalArgumentException Receipt Handle 개수가 최대 배치 크기를 초과할 때
+     * 
+     * <h4>사용 예시:</h4>
+     * <pre><code>
+     * sqsService.changeMessageVisibilityBatch(queueUrl, receiptHandles, 60)
+     *     .thenAccept(failed -&gt; failed.forEach(handle -&gt;
+     *         log.warn("가시성 연장 실패: {}", handle)));
+     * </code></pre>
+     */
+    public CompletableFuture<List<String>> changeMessageVisibilityBatch(String queueUrl, List<String> receiptHandles,
+                                                                       int visibilityTimeoutSeconds) {
+        if (BatchValidationUtils.validateForBatchOperation(
+                receiptHandles, sqsProperties, "changeMessageVisibilityBatch", true)) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        ChangeMessageVisibilityBatchRequest request = ChangeMessageVisibilityBatchRequest.builder()
+                .queueUrl(queueUrl)
+                .entries(BatchEntryFactory.createChangeMessageVisibilityEntries(receiptHandles, visibilityTimeoutSeconds))
+                .build();
+
+        return sqsAsyncClient.changeMessageVisibilityBatch(request)
+                .thenApply(response -> collectVisibilityFailures(queueUrl, receiptHandles, response));
+    }
+
+    private List<String> collectVisibilityFailures(String queueUrl, List<String> receiptHandles,
+                                                   ChangeMessageVisibilityBatchResponse response) {
+        if (!response.hasFailed() || response.failed().isEmpty()) {
+            log.debug("Changed visibility of {} messages on queue: {}", receiptHandles.size(), queueUrl);
+            return Collections.emptyList();
+        }
+
+        return response.failed().stream()
+                .peek(failure -> log.debug("Visibility change failed on queue {}: {} - {}",
+                        queueUrl, failure.code(), failure.message()))
+                .map(failure -> receiptHandles.get(Integer.parseInt(failure.id())))
+                .collect(Collectors.toList());
+    }
+
+    private CompletableFuture<Void> sendChunk(String queueUrl, List<String> messages, List<Integer> chunk,
+                                              SqsBatchResult.Entry[] results, int attempt) {
+        // Entry ID로 입력 인덱스를 사용하여 응답을 원래 위치로 역매핑
+        List<String> bodies = chunk.stream().map(messages::get).collect(Collectors.toList());
+        List<String> entryIds = chunk.stream().map(String::valueOf).collect(Collectors.toList());
+
+        SendMessageBatchRequest request = SendMessageBatchRequest.builder()
+                .queueUrl(queueUrl)
+                .entries(BatchEntryFactory.createSendMessageEntriesWithCustomIds(bodies, entryIds))
+                .build();
+
+        return sqsAsyncClient.sendMessageBatch(request)
+                .handle((response, throwable) -> {
+                    if (throwable != null) {
+                        return recordChunkFailure(chunk, results, throwable);
+                    }
+                    response.successful().forEach(entry -> {
+                        int index = Integer.parseInt(entry.id());
+                        results[index] = SqsBatchResult.Entry.success(index, entry.messageId());
+                    });
+                    return recordEntryFailures(response.failed(), results);
+                })
+                .thenCompose(retryable -> retryChunk(retryable, attempt,
+                        next -> sendChunk(queueUrl, messages, next, results, attempt + 1)));
+    }
+
+    private CompletableFuture<Void> deleteChunk(String queueUrl, List<String> receiptHandles, List<Integer> chunk,
+                                                SqsBatchResult.Entry[] results, int attempt) {
+        List<String> handles = chunk.stream().map(receiptHandles::get).collect(Collectors.toList());
+        List<String> entryIds = chunk.stream().map(String::valueOf).collect(Collectors.toList());
+
+        DeleteMessageBatchRequest request = DeleteMessageBatchRequest.builder()
+                .queueUrl(queueUrl)
+                .entries(BatchEntryFactory.createDeleteMessageEntriesWithCustomIds(handles, entryIds))
+                .build();
+
+        return sqsAsyncClient.deleteMessageBatch(request)
+                .handle((response, throwable) -> {
+                    if (throwable != null) {
+                        return recordChunkFailure(chunk, results, throwable);
+                    }
+                    response.successful().forEach(entry -> {
+                        int index = Integer.parseInt(entry.id());
+                        results[index] = SqsBatchResult.Entry.success(index, null);
+                    });
+                    return recordEntryFailures(response.failed(), results);
+                })
+                .thenCompose(retryable -> retryChunk(retryable, attempt,
+                        next -> deleteChunk(queueUrl, receiptHandles, next, results, attempt + 1)));
+    }
+
+    /**
+     * 청크를 최대 maxConcurrency개의 레인으로 나누어 실행합니다.
+     * 각 레인은 자신의 청크가 끝나면 다음 청크를 가져가므로 동시 요청 수가 제한됩니다.
+     */
+    private CompletableFuture<Void> dispatchChunks(List<List<Integer>> chunks, int maxConcurrency,
+                                                   Function<List<Integer>, CompletableFuture<Void>> dispatcher) {
+        AtomicInteger nextChunk = new AtomicInteger();
+        int lanes = Math.min(maxConcurrency, chunks.size());
+        CompletableFuture<?>[] laneFutures = new CompletableFuture[lanes];
+        for (int lane = 0; lane < lanes; lane++) {
+            laneFutures[lane] = runLane(chunks, nextChunk, dispatcher);
+        }
+        return CompletableFuture.allOf(laneFutures);
+    }
+
+    private CompletableFuture<Void> runLane(List<List<Integer>> chunks, AtomicInteger nextChunk,
+                                            Function<List<Integer>, CompletableFuture<Void>> dispatcher) {
+        int chunkIndex = nextChunk.getAndIncrement();
+        if (chunkIndex >= chunks.size()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<Void> dispatched;
+        try {
+            dispatched = dispatcher.apply(chunks.get(chunkIndex));
+        } catch (RuntimeException e) {
+            dispatched = CompletableFuture.failedFuture(e);
+        }
+        return dispatched
+                .handle((ignored, throwable) -> {
+                    if (throwable != null) {
+                        log.warn("Batch chunk {} failed unexpectedly: {}", chunkIndex, throwable.getMessage());
+                    }
+                    return null;
+                })
+                .thenCompose(ignored -> runLane(chunks, nextChunk, dispatcher));
+    }
+
+    private CompletableFuture<Void> retryChunk(List<Integer> retryable, int attempt,
+                                               Function<List<Integer>, CompletableFuture<Void>> retry) {
+        if (retryable.isEmpty() || attempt >= sqsProperties.getBatchMaxAttempts()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long delayMillis = BATCH_RETRY_BASE_DELAY_MILLIS << (attempt - 1);
+        Executor delayed = CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS);
+        return CompletableFuture.supplyAsync(() -> retryable, delayed).thenCompose(retry);
+    }
+
+    /**
+     * 요청 전체가 실패한 청크의 항목별 오류 기록
+     *
+     * 네트워크 오류(SdkClientException), 스로틀링, 5xx 응답만 재시도 대상으로 반환합니다.
+     * 그 외 서비스 오류(큐 없음, 권한 없음, 잘못된 파라미터 등)는 다시 보내도 성공할 수 없으므로
+     * senderFault=true로 기록하고 재시도하지 않습니다.
+     */
+    private List<Integer> recordChunkFailure(List<Integer> chunk, SqsBatchResult.Entry[] results, Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        boolean retryable = isRetryableRequestFailure(cause);
+        boolean senderFault = cause instanceof SdkServiceException && !retryable;
+        for (Integer index : chunk) {
+            results[index] = SqsBatchResult.Entry.failure(index, cause.getClass().getSimpleName(),
+                    cause.getMessage(), senderFault);
+        }
+        return retryable ? chunk : Collections.emptyList();
+    }
+
+    private static boolean isRetryableRequestFailure(Throwable cause) {
+        if (cause instanceof SdkClientException) {
+            return true;
+        }
+        if (cause instanceof SdkServiceException serviceException) {
+            return serviceException.isThrottlingException() || serviceException.statusCode() >= 500;
+        }
+        return false;
+    }
+
+    private List<Integer> recordEntryFailures(List<BatchResultErrorEntry> failures, SqsBatchResult.Entry[] results) {
+        List<Integer> retryable = new ArrayList<>(failures.size());
+        for (BatchResultErrorEntry failure : failures) {
+            int index = Integer.parseInt(failure.id());
+            boolean senderFault = Boolean.TRUE.equals(failure.senderFault());
+            results[index] = SqsBatchResult.Entry.failure(index, failure.code(), failure.message(), senderFault);
+            if (!senderFault) {
+                retryable.add(index);
+            }
+        }
+        return retryable;
+    }
+
+    private SqsBatchResult toBatchResult(String queueUrl, String operationName, SqsBatchResult.Entry[] results) {
+        for (int index = 0; index < results.length; index++) {
+            if (results[index] == null) {
+                results[index] = SqsBatchResult.Entry.failure(index, "MissingResult",
+                        "배치 응답에 해당 Entry의 결과가 없습니다", false);
+            }
+        }
+        SqsBatchResult result = SqsBatchResult.of(Arrays.asList(results));
+        if (result.hasFailures()) {
+            log.warn("{} completed with {} failed entries out of {} for queue: {}",
+                    operationName, result.getFailed().size(), result.size(), queueUrl);
+        }
+        return result;
+    }
+
+    private static void validateMaxConcurrency(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency는 1 이상이어야 합니다: " + maxConcurrency);
+        }
+    }
+
     /**
      * 새로운 SQS 큐를 생성합니다.
      * 
@@ -359,6 +857,10 @@ public class SqsService {
      * <p>큐 URL은 SQS API 호출에 필요한 고유 식별자입니다.
      * 큐가 존재하지 않는 경우 예외가 발생합니다.</p>
      * 
+     * <p>조회 결과는 {@link QueueUrlCache}에 캐싱되므로 같은 큐 이름에 대한 반복 호출은
+     * AWS 요청 없이 즉시 완료됩니다. 존재하지 않는 큐는
+     * {@code aws.sqs.queue-url-cache-negative-ttl-millis} 동안 실패 결과가 캐싱됩니다.</p>
+     * 
      * <h4>큐 URL 형식:</h4>
      * <ul>
      *   <li>표준 큐: https://sqs.{region}.amazonaws.com/{account-id}/{queue-name}</li>
@@ -386,6 +888,40 @@ public class SqsService {
      * </code></pre>
      */
     public CompletableFuture<String> getQueueUrl(String queueName) {
+        return queueUrlCache.get(queueName, this::fetchQueueUrl);
+    }
+
+    /**
+     * 큐 이름에 대한 캐시된 URL을 제거하여 다음 조회 시 AWS에서 다시 해결하도록 합니다.
+     * 
+     * @param queueName 캐시에서 제거할 큐 이름
+     */
+    public void invalidateQueueUrl(String queueName) {
+        queueUrlCache.invalidate(queueName);
+    }
+
+    /**
+     * 큐 속성을 조회합니다.
+     * 
+     * <p>요청한 속성을 한 번의 GetQueueAttributes 호출로 함께 조회합니다.
+     * 큐 적체 모니터링에는 ApproximateNumberOfMessages, ApproximateNumberOfMessagesNotVisible,
+     * ApproximateAgeOfOldestMessage 등을 사용합니다.</p>
+     * 
+     * @param queueUrl 조회할 큐의 URL
+     * @param attributeNames 조회할 속성 이름 목록 (QueueAttributeName 문자열 값)
+     * @return 속성 이름을 키로 하는 속성 값 맵을 포함한 CompletableFuture
+     */
+    public CompletableFuture<Map<String, String>> getQueueAttributes(String queueUrl, List<String> attributeNames) {
+        GetQueueAttributesRequest request = GetQueueAttributesRequest.builder()
+                .queueUrl(queueUrl)
+                .attributeNamesWithStrings(attributeNames)
+                .build();
+
+        return sqsAsyncClient.getQueueAttributes(request)
+                .thenApply(GetQueueAttributesResponse::attributesAsStrings);
+    }
+
+    private CompletableFuture<String> fetchQueueUrl(String queueName) {
         GetQueueUrlRequest request = GetQueueUrlRequest.builder()
                 .queueName(queueName)
                 .build();
@@ -0,0 +1,205 @@
+package com.ryuqq.aws.sqs.types;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * AWS Kit SQS 라이브러리의 배치 작업 결과 타입
+ *
+ * <p>청크 단위로 분할된 배치 전송/삭제의 결과를 입력 목록의 인덱스별로 제공합니다.
+ * 각 인덱스는 성공(전송 시 메시지 ID 포함) 또는 실패(오류 코드와 메시지 포함) 중 하나의 결과를 가집니다.</p>
+ *
+ * <h3>사용 예시:</h3>
+ * <pre><code>
+ * sqsService.sendMessageBatch(queueUrl, messages, 4)
+ *     .thenAccept(result -&gt; {
+ *         for (SqsBatchResult.Entry failed : result.getFailed()) {
+ *             log.warn("{}번 메시지 전송 실패: {}", failed.getIndex(), failed.getErrorCode());
+ *         }
+ *     });
+ * </code></pre>
+ *
+ * @since 1.0.0
+ * @see Entry 인덱스별 결과
+ */
+public final class SqsBatchResult {
+
+    private final List<Entry> entries;
+
+    private SqsBatchResult(List<Entry> entries) {
+        this.entries = List.copyOf(entries);
+    }
+
+    /**
+     * 인덱스 순서로 정렬된 결과 목록으로 배치 결과를 생성합니다.
+     *
+     * @param entries 입력 목록과 같은 순서의 결과 목록
+     * @return 배치 결과
+     * @throws IllegalArgumentException 결과의 인덱스가 목록 위치와 일치하지 않을 때
+     */
+    public static SqsBatchResult of(List<Entry> entries) {
+        Objects.requireNonNull(entries, "entries는 null일 수 없습니다");
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            if (entry == null || entry.index != i) {
+                throw new IllegalArgumentException("결과 목록의 " + i + "번 위치에 해당 인덱스의 결과가 없습니다");
+            }
+        }
+        return new SqsBatchResult(entries);
+    }
+
+    /**
+     * 빈 배치 결과를 반환합니다.
+     *
+     * @return 결과가 없는 배치 결과
+     */
+    public static SqsBatchResult empty() {
+        return new SqsBatchResult(Collections.emptyList());
+    }
+
+    /**
+     * 입력 목록의 특정 인덱스에 대한 결과를 반환합니다.
+     *
+     * @param index 입력 목록의 인덱스
+     * @return 해당 인덱스의 결과
+     * @throws IndexOutOfBoundsException 인덱스가 범위를 벗어날 때
+     */
+    public Entry get(int index) {
+        return entries.get(index);
+    }
+
+    /**
+     * 입력 순서대로 정렬된 전체 결과 목록을 반환합니다.
+     *
+     * @return 불변 결과 목록
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    public List<Entry> getSuccessful() {
+        return entries.stream().filter(Entry::isSuccessful).collect(Collectors.toList());
+    }
+
+    public List<Entry> getFailed() {
+        return entries.stream().filter(entry -> !entry.isSuccessful()).collect(Collectors.toList());
+    }
+
+    public boolean hasFailures() {
+        return entries.stream().anyMatch(entry -> !entry.isSuccessful());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public String toString() {
+        long failed = entries.stream().filter(entry -> !entry.isSuccessful()).count();
+        return "SqsBatchResult{" +
+                "total=" + entries.size() +
+                ", failed=" + failed +
+                '}';
+    }
+
+    /**
+     * 입력 목록의 한 요소에 대한 배치 작업 결과
+     *
+     * <p>성공한 전송 결과는 메시지 ID를, 삭제 결과는 메시지 ID 없이 성공 여부만 가집니다.
+     * 실패한 결과는 AWS 오류 코드와 메시지, 그리고 요청자 오류(senderFault) 여부를 포함합니다.</p>
+     */
+    public static final class Entry {
+
+        private final int index;
+        private final boolean successful;
+        private final String messageId;
+        private final String errorCode;
+        private final String errorMessage;
+        private final boolean senderFault;
+
+        private Entry(int index, boolean successful, String messageId,
+                      String errorCode, String errorMessage, boolean senderFault) {
+            this.index = index;
+            this.successful = successful;
+            this.messageId = messageId;
+            this.errorCode = errorCode;
+            this.errorMessage = errorMessage;
+            this.senderFault = senderFault;
+        }
+
+        /**
+         * 성공 결과를 생성합니다.
+         *
+         * @param index 입력 목록의 인덱스
+         * @param messageId AWS가 생성한 메시지 ID (삭제 결과는 null)
+         * @return 성공 결과
+         */
+        public static Entry success(int index, String messageId) {
+            return new Entry(index, true, messageId, null, null, false);
+        }
+
+        /**
+         * 실패 결과를 생성합니다.
+         *
+         * @param index 입력 목록의 인덱스
+         * @param errorCode AWS 오류 코드 또는 예외 타입
+         * @param errorMessage 오류 메시지
+         * @param senderFault 요청자 오류 여부 (true면 재시도해도 성공할 수 없음)
+         * @return 실패 결과
+         */
+        public static Entry failure(int index, String errorCode, String errorMessage, boolean senderFault) {
+            return new Entry(index, false, null, errorCode, errorMessage, senderFault);
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public boolean isSuccessful() {
+            return successful;
+        }
+
+        public String getMessageId() {
+            return messageId;
+        }
+
+        public String getErrorCode() {
+            return errorCode;
+        }
+
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+
+        public boolean isSenderFault() {
+            return senderFault;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Entry entry = (Entry) o;
+            return index == entry.index &&
+                    successful == entry.successful &&
+                    senderFault == entry.senderFault &&
+                    Objects.equals(messageId, entry.messageId) &&
+                    Objects.equals(errorCode, entry.errorCode) &&
+                    Objects.equals(errorMessage, entry.errorMessage);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, successful, messageId, errorCode, errorMessage, senderFault);
+        }
+
+        @Override
+        public String toString() {
+            return successful
+                    ? "Entry{index=" + index + ", messageId='" + messageId + "'}"
+                    : "Entry{index=" + index + ", errorCode='" + errorCode + "', senderFault=" + senderFault + "}";
+        }
+    }
+}
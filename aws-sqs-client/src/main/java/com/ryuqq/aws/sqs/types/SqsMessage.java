@@ -190,6 +190,18 @@ public final class SqsMessage {
         return attributes.get("SenderId");
     }
     
+    /**
+     * FIFO 큐 메시지의 메시지 그룹 ID를 반환합니다.
+     * 
+     * <p>같은 그룹 ID를 가진 메시지는 전송된 순서대로 처리되어야 합니다.
+     * 표준 큐에서 수신한 메시지에는 값이 없습니다.</p>
+     * 
+     * @return 메시지 그룹 ID (표준 큐 메시지이면 null)
+     */
+    public String getMessageGroupId() {
+        return attributes.get("MessageGroupId");
+    }
+    
     /**
      * SqsMessage 객체를 생성하기 위한 Builder 인스턴스를 반환합니다.
      * 
@@ -0,0 +1,119 @@
+package com.ryuqq.aws.sqs.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대량 배치 작업을 SQS 배치 제한에 맞는 청크로 분할하는 유틸리티 클래스
+ *
+ * <p>청크는 원본 목록의 인덱스 목록으로 표현되므로, 배치 응답을 원래 입력 위치로
+ * 역매핑할 수 있습니다. 입력 순서는 청크 내부와 청크 간에 모두 유지됩니다.</p>
+ *
+ * <h3>분할 기준:</h3>
+ * <ul>
+ *   <li>청크당 최대 Entry 개수 (SQS 제한: 10개)</li>
+ *   <li>청크당 최대 페이로드 크기 (SQS 제한: 256KB, UTF-8 기준)</li>
+ * </ul>
+ *
+ * @since 1.0.0
+ * @see BatchEntryFactory
+ */
+public final class BatchChunker {
+
+    /** SQS 배치 요청 최대 페이로드 크기 (256KB) */
+    public static final int MAX_BATCH_PAYLOAD_BYTES = 256 * 1024;
+
+    private BatchChunker() {
+        // 유틸리티 클래스 - 인스턴스 생성 방지
+        throw new UnsupportedOperationException("유틸리티 클래스는 인스턴스를 생성할 수 없습니다");
+    }
+
+    /**
+     * 요소 개수만 기준으로 인덱스를 청크로 분할합니다.
+     *
+     * @param size 전체 요소 개수
+     * @param maxEntries 청크당 최대 요소 개수
+     * @return 인덱스 청크 목록
+     * @throws IllegalArgumentException maxEntries가 1보다 작을 때
+     *
+     * <h4>사용 예시:</h4>
+     * <pre><code>
+     * BatchChunker.chunkByCount(25, 10);
+     * // [[0..9], [10..19], [20..24]]
+     * </code></pre>
+     */
+    public static List<List<Integer>> chunkByCount(int size, int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("청크당 최대 개수는 1 이상이어야 합니다: " + maxEntries);
+        }
+
+        List<List<Integer>> chunks = new ArrayList<>((size + maxEntries - 1) / maxEntries);
+        List<Integer> current = new ArrayList<>(maxEntries);
+        for (int index = 0; index < size; index++) {
+            current.add(index);
+            if (current.size() == maxEntries) {
+                chunks.add(current);
+                current = new ArrayList<>(maxEntries);
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    /**
+     * 요소 개수와 UTF-8 페이로드 크기를 기준으로 메시지 인덱스를 청크로 분할합니다.
+     *
+     * <p>다음 메시지를 추가하면 maxPayloadBytes를 초과하는 경우 새 청크를 시작합니다.
+     * 단일 메시지가 maxPayloadBytes보다 큰 경우는 호출자가 미리 걸러내야 하며,
+     * 걸러내지 않으면 해당 메시지만 담긴 청크가 만들어집니다.</p>
+     *
+     * @param messages 분할할 메시지 본문 목록 (null 요소 불가)
+     * @param indices 분할 대상 인덱스 목록 (오름차순)
+     * @param maxEntries 청크당 최대 요소 개수
+     * @param maxPayloadBytes 청크당 최대 페이로드 크기 (바이트)
+     * @return 인덱스 청크 목록
+     * @throws IllegalArgumentException maxEntries 또는 maxPayloadBytes가 1보다 작을 때
+     */
+    public static List<List<Integer>> chunkBySizeAndCount(List<String> messages, List<Integer> indices,
+                                                          int maxEntries, int maxPayloadBytes) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("청크당 최대 개수는 1 이상이어야 합니다: " + maxEntries);
+        }
+        if (maxPayloadBytes < 1) {
+            throw new IllegalArgumentException("청크당 최대 크기는 1 이상이어야 합니다: " + maxPayloadBytes);
+        }
+
+        List<List<Integer>> chunks = new ArrayList<>();
+        List<Integer> current = new ArrayList<>(maxEntries);
+        int currentBytes = 0;
+
+        for (Integer index : indices) {
+            int bytes = payloadBytes(messages.get(index));
+            if (!current.isEmpty()
+                    && (current.size() == maxEntries || currentBytes + bytes > maxPayloadBytes)) {
+                chunks.add(current);
+                current = new ArrayList<>(maxEntries);
+                currentBytes = 0;
+            }
+            current.add(index);
+            currentBytes += bytes;
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    /**
+     * 메시지 본문의 UTF-8 인코딩 크기를 반환합니다.
+     *
+     * @param body 메시지 본문
+     * @return UTF-8 바이트 크기
+     */
+    public static int payloadBytes(String body) {
+        return body.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
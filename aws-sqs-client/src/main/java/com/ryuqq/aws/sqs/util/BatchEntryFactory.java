@@ -1,5 +1,6 @@
 package com.ryuqq.aws.sqs.util;
 
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
 import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
 import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
 
@@ -17,6 +18,7 @@ import java.util.stream.Collectors;
  * <ul>
  *   <li><strong>SendMessageBatchRequestEntry</strong>: 메시지 전송 배치용</li>
  *   <li><strong>DeleteMessageBatchRequestEntry</strong>: 메시지 삭제 배치용</li>
+ *   <li><strong>ChangeMessageVisibilityBatchRequestEntry</strong>: 가시성 타임아웃 변경 배치용</li>
  * </ul>
  * 
  * <h3>팩토리 패턴의 장점:</h3>
@@ -195,6 +197,29 @@ public final class BatchEntryFactory {
                 .collect(Collectors.toList());
     }
     
+    /**
+     * 가시성 타임아웃 변경 배치를 위한 ChangeMessageVisibilityBatchRequestEntry 목록을 생성합니다.
+     * 
+     * <p>모든 Entry에 동일한 가시성 타임아웃을 적용하며, Entry ID는 0부터 시작하는 목록 인덱스입니다.</p>
+     * 
+     * @param receiptHandles 가시성을 변경할 메시지들의 Receipt Handle 목록
+     * @param visibilityTimeoutSeconds 새 가시성 타임아웃 (초)
+     * @return AWS SQS ChangeMessageVisibilityBatch API용 Entry 목록
+     * @throws IllegalArgumentException Receipt Handle 목록이 null이거나 비어있거나 빈 값을 포함할 때
+     */
+    public static List<ChangeMessageVisibilityBatchRequestEntry> createChangeMessageVisibilityEntries(
+            List<String> receiptHandles, int visibilityTimeoutSeconds) {
+        validateReceiptHandleList(receiptHandles, "createChangeMessageVisibilityEntries");
+        
+        return IntStream.range(0, receiptHandles.size())
+                .mapToObj(index -> ChangeMessageVisibilityBatchRequestEntry.builder()
+                        .id(String.valueOf(index))
+                        .receiptHandle(receiptHandles.get(index))
+                        .visibilityTimeout(visibilityTimeoutSeconds)
+                        .build())
+                .collect(Collectors.toList());
+    }
+    
     /**
      * 메시지 목록에 대한 유효성 검증을 수행합니다.
      * 
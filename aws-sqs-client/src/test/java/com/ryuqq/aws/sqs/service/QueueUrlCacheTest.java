@@ -0,0 +1,137 @@
+package com.ryuqq.aws.sqs.service;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sqs.model.QueueDoesNotExistException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueueUrlCacheTest {
+
+    private static final String QUEUE_NAME = "test-queue";
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/test-queue";
+
+    @Test
+    void get_캐시적중시_재조회하지않음() {
+        // Given
+        QueueUrlCache cache = new QueueUrlCache(10, 30_000L);
+        AtomicInteger lookups = new AtomicInteger();
+        Function<String, CompletableFuture<String>> loader = name -> {
+            lookups.incrementAndGet();
+            return CompletableFuture.completedFuture(QUEUE_URL);
+        };
+
+        // When
+        String first = cache.get(QUEUE_NAME, loader).join();
+        String second = cache.get(QUEUE_NAME, loader).join();
+
+        // Then
+        assertThat(first).isEqualTo(QUEUE_URL);
+        assertThat(second).isEqualTo(QUEUE_URL);
+        assertThat(lookups).hasValue(1);
+    }
+
+    @Test
+    void get_동시조회_하나의요청으로합침() {
+        // Given
+        QueueUrlCache cache = new QueueUrlCache(10, 30_000L);
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        AtomicInteger lookups = new AtomicInteger();
+        Function<String, CompletableFuture<String>> loader = name -> {
+            lookups.incrementAndGet();
+            return pending;
+        };
+
+        // When
+        CompletableFuture<String> first = cache.get(QUEUE_NAME, loader);
+        CompletableFuture<String> second = cache.get(QUEUE_NAME, loader);
+        pending.complete(QUEUE_URL);
+
+        // Then
+        assertThat(first.join()).isEqualTo(QUEUE_URL);
+        assertThat(second.join()).isEqualTo(QUEUE_URL);
+        assertThat(lookups).hasValue(1);
+    }
+
+    @Test
+    void get_큐없음_네거티브캐싱() {
+        // Given
+        QueueUrlCache cache = new QueueUrlCache(10, 30_000L);
+        AtomicInteger lookups = new AtomicInteger();
+        Function<String, CompletableFuture<String>> loader = name -> {
+            lookups.incrementAndGet();
+            return CompletableFuture.failedFuture(QueueDoesNotExistException.builder().message("missing").build());
+        };
+
+        // When & Then
+        assertThatThrownBy(() -> cache.get(QUEUE_NAME, loader).join())
+                .hasCauseInstanceOf(QueueDoesNotExistException.class);
+        assertThatThrownBy(() -> cache.get(QUEUE_NAME, loader).join())
+                .hasCauseInstanceOf(QueueDoesNotExistException.class);
+        assertThat(lookups).hasValue(1);
+    }
+
+    @Test
+    void get_일시오류_캐싱하지않음() {
+        // Given
+        QueueUrlCache cache = new QueueUrlCache(10, 30_000L);
+        AtomicInteger lookups = new AtomicInteger();
+        Function<String, CompletableFuture<String>> loader = name -> lookups.incrementAndGet() == 1
+                ? CompletableFuture.failedFuture(new RuntimeException("throttled"))
+                : CompletableFuture.completedFuture(QUEUE_URL);
+
+        // When
+        assertThatThrownBy(() -> cache.get(QUEUE_NAME, loader).join());
+        String retried = cache.get(QUEUE_NAME, loader).join();
+
+        // Then
+        assertThat(retried).isEqualTo(QUEUE_URL);
+        assertThat(lookups).hasValue(2);
+    }
+
+    @Test
+    void get_최대크기초과시_오래된항목제거() {
+        // Given
+        QueueUrlCache cache = new QueueUrlCache(2, 30_000L);
+        Function<String, CompletableFuture<String>> loader =
+                name -> CompletableFuture.completedFuture("https://sqs/" + name);
+
+        // When
+        cache.get("a", loader).join();
+        cache.get("b", loader).join();
+        cache.get("a", loader).join();
+        cache.get("c", loader).join();
+
+        // Then - "b"가 가장 오래 사용되지 않아 제거됨
+        assertThat(cache.size()).isEqualTo(2);
+        AtomicInteger lookups = new AtomicInteger();
+        cache.get("a", name -> {
+            lookups.incrementAndGet();
+            return CompletableFuture.completedFuture("reloaded");
+        }).join();
+        assertThat(lookups).hasValue(0);
+    }
+
+    @Test
+    void invalidateUrl_해당URL항목제거() {
+        // Given
+        QueueUrlCache cache = new QueueUrlCache(10, 30_000L);
+        AtomicInteger lookups = new AtomicInteger();
+        Function<String, CompletableFuture<String>> loader = name -> {
+            lookups.incrementAndGet();
+            return CompletableFuture.completedFuture(QUEUE_URL);
+        };
+        cache.get(QUEUE_NAME, loader).join();
+
+        // When
+        cache.invalidateUrl(QUEUE_URL);
+        cache.get(QUEUE_NAME, loader).join();
+
+        // Then
+        assertThat(lookups).hasValue(2);
+    }
+}
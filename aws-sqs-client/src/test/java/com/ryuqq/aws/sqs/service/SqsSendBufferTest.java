@@ -0,0 +1,160 @@
+package com.ryuqq.aws.sqs.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SqsSendBufferTest {
+
+    @Mock
+    private SqsAsyncClient sqsAsyncClient;
+
+    private SqsSendBuffer sendBuffer;
+
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/test-queue";
+
+    @BeforeEach
+    void setUp() {
+        // linger를 길게 두어 개수/크기 조건 또는 명시적 flush로만 전송되도록 함
+        sendBuffer = new SqsSendBuffer(sqsAsyncClient, 5_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sendBuffer.close();
+    }
+
+    @Test
+    void send_10개도달시_배치전송() throws Exception {
+        // Given
+        when(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(
+                        successResponse(invocation.getArgument(0))));
+
+        // When
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(sendBuffer.send(QUEUE_URL, "msg" + i));
+        }
+
+        // Then
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(1, TimeUnit.SECONDS);
+
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsAsyncClient, times(1)).sendMessageBatch(captor.capture());
+        List<SendMessageBatchRequestEntry> entries = captor.getValue().entries();
+        assertThat(entries).hasSize(10);
+        for (int i = 0; i < 10; i++) {
+            assertThat(futures.get(i).join()).isEqualTo("mid-" + entries.get(i).id());
+        }
+    }
+
+    @Test
+    void send_linger경과시_부분배치전송() throws Exception {
+        // Given
+        SqsSendBuffer lingering = new SqsSendBuffer(sqsAsyncClient, 20L);
+        when(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(
+                        successResponse(invocation.getArgument(0))));
+
+        try {
+            // When
+            CompletableFuture<String> first = lingering.send(QUEUE_URL, "msg1");
+            CompletableFuture<String> second = lingering.send(QUEUE_URL, "msg2");
+
+            // Then
+            CompletableFuture.allOf(first, second).get(1, TimeUnit.SECONDS);
+            assertThat(first.join()).isNotEqualTo(second.join());
+            verify(sqsAsyncClient, times(1)).sendMessageBatch(any(SendMessageBatchRequest.class));
+        } finally {
+            lingering.close();
+        }
+    }
+
+    @Test
+    void send_256KB초과시_기존버퍼먼저전송() {
+        // Given
+        String largeBody = "a".repeat(200 * 1024);
+        when(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(
+                        successResponse(invocation.getArgument(0))));
+
+        // When
+        CompletableFuture<String> first = sendBuffer.send(QUEUE_URL, largeBody);
+        CompletableFuture<String> second = sendBuffer.send(QUEUE_URL, largeBody);
+
+        // Then - 첫 메시지만 단독 배치로 전송되고 두 번째는 버퍼에 남음
+        assertThat(first).isCompleted();
+        assertThat(second).isNotDone();
+
+        sendBuffer.flush().join();
+        assertThat(second).isCompleted();
+        verify(sqsAsyncClient, times(2)).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
+
+    @Test
+    void send_부분실패시_해당호출자만실패() {
+        // Given
+        when(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenAnswer(invocation -> {
+                    SendMessageBatchRequest request = invocation.getArgument(0);
+                    String okId = request.entries().get(0).id();
+                    String failedId = request.entries().get(1).id();
+                    return CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                            .successful(SendMessageBatchResultEntry.builder().id(okId).messageId("mid-" + okId).build())
+                            .failed(BatchResultErrorEntry.builder().id(failedId).code("InternalError")
+                                    .message("try again").senderFault(false).build())
+                            .build());
+                });
+
+        CompletableFuture<String> ok = sendBuffer.send(QUEUE_URL, "msg1");
+        CompletableFuture<String> failed = sendBuffer.send(QUEUE_URL, "msg2");
+
+        // When
+        sendBuffer.flush().join();
+
+        // Then
+        assertThat(ok.join()).startsWith("mid-");
+        assertThatThrownBy(failed::join)
+                .hasCauseInstanceOf(RuntimeException.class)
+                .hasMessageContaining("InternalError");
+    }
+
+    @Test
+    void send_256KB초과메시지_즉시실패() {
+        // When
+        CompletableFuture<String> result = sendBuffer.send(QUEUE_URL, "a".repeat(256 * 1024 + 1));
+
+        // Then
+        assertThatThrownBy(result::join).hasCauseInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(sqsAsyncClient);
+    }
+
+    private static SendMessageBatchResponse successResponse(SendMessageBatchRequest request) {
+        return SendMessageBatchResponse.builder()
+                .successful(request.entries().stream()
+                        .map(entry -> SendMessageBatchResultEntry.builder()
+                                .id(entry.id())
+                                .messageId("mid-" + entry.id())
+                                .build())
+                        .toList())
+                .build();
+    }
+}
@@ -4,16 +4,20 @@ import com.ryuqq.aws.sqs.properties.SqsProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
 import software.amazon.awssdk.services.sqs.model.*;
+import com.ryuqq.aws.sqs.types.SqsBatchResult;
 import com.ryuqq.aws.sqs.types.SqsMessage;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -72,6 +76,58 @@ class SqsServiceTest {
                 .hasMessageContaining("Failed to send message");
     }
 
+    @Test
+    void sendMessageBuffered_버퍼비활성화시_개별전송() {
+        // Given
+        SendMessageResponse response = SendMessageResponse.builder()
+                .messageId(MESSAGE_ID)
+                .build();
+        when(sqsAsyncClient.sendMessage(any(SendMessageRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        // When
+        CompletableFuture<String> result = sqsService.sendMessageBuffered(QUEUE_URL, MESSAGE_BODY);
+
+        // Then
+        assertThat(result.join()).isEqualTo(MESSAGE_ID);
+        verify(sqsAsyncClient, never()).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
+
+    @Test
+    void sendMessageBuffered_버퍼활성화시_배치전송() {
+        // Given
+        SqsProperties bufferedProperties = new SqsProperties();
+        bufferedProperties.setBufferedSendEnabled(true);
+        bufferedProperties.setBufferedSendLingerMillis(5_000L);
+        SqsService bufferedService = new SqsService(sqsAsyncClient, bufferedProperties);
+
+        when(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenAnswer(invocation -> {
+                    SendMessageBatchRequest request = invocation.getArgument(0);
+                    return CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                            .successful(request.entries().stream()
+                                    .map(entry -> SendMessageBatchResultEntry.builder()
+                                            .id(entry.id()).messageId("id-" + entry.id()).build())
+                                    .toList())
+                            .build());
+                });
+
+        try {
+            // When
+            CompletableFuture<String> first = bufferedService.sendMessageBuffered(QUEUE_URL, "msg1");
+            CompletableFuture<String> second = bufferedService.sendMessageBuffered(QUEUE_URL, "msg2");
+            bufferedService.flushBufferedMessages().join();
+
+            // Then
+            assertThat(first.join()).startsWith("id-");
+            assertThat(second.join()).startsWith("id-").isNotEqualTo(first.join());
+            verify(sqsAsyncClient, times(1)).sendMessageBatch(any(SendMessageBatchRequest.class));
+            verify(sqsAsyncClient, never()).sendMessage(any(SendMessageRequest.class));
+        } finally {
+            bufferedService.close();
+        }
+    }
+
     @Test
     void sendMessageBatch_성공() {
         // Given
@@ -106,6 +162,140 @@ class SqsServiceTest {
                 sqsService.sendMessageBatch(QUEUE_URL, messages));
     }
 
+    @Test
+    void sendMessageBatch_청크분할_인덱스별결과() {
+        // Given
+        List<String> messages = IntStream.range(0, 25).mapToObj(i -> "msg" + i).collect(Collectors.toList());
+        when(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenAnswer(invocation -> {
+                    SendMessageBatchRequest request = invocation.getArgument(0);
+                    return CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                            .successful(request.entries().stream()
+                                    .map(entry -> SendMessageBatchResultEntry.builder()
+                                            .id(entry.id()).messageId("id-" + entry.id()).build())
+                                    .toList())
+                            .build());
+                });
+
+        // When
+        SqsBatchResult result = sqsService.sendMessageBatch(QUEUE_URL, messages, 2).join();
+
+        // Then
+        assertThat(result.size()).isEqualTo(25);
+        assertThat(result.hasFailures()).isFalse();
+        assertThat(result.get(0).getMessageId()).isEqualTo("id-0");
+        assertThat(result.get(24).getMessageId()).isEqualTo("id-24");
+        verify(sqsAsyncClient, times(3)).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
+
+    @Test
+    void sendMessageBatch_청크분할_재시도가능실패만재시도() {
+        // Given
+        List<String> messages = Arrays.asList("msg0", "msg1", "msg2");
+        when(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                        .successful(SendMessageBatchResultEntry.builder().id("0").messageId("id-0").build())
+                        .failed(
+                                BatchResultErrorEntry.builder().id("1").code("InternalError").senderFault(false).build(),
+                                BatchResultErrorEntry.builder().id("2").code("InvalidMessageContents").senderFault(true).build())
+                        .build()))
+                .thenReturn(CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                        .successful(SendMessageBatchResultEntry.builder().id("1").messageId("id-1").build())
+                        .build()));
+
+        // When
+        SqsBatchResult result = sqsService.sendMessageBatch(QUEUE_URL, messages, 1).join();
+
+        // Then
+        assertThat(result.get(0).getMessageId()).isEqualTo("id-0");
+        assertThat(result.get(1).getMessageId()).isEqualTo("id-1");
+        assertThat(result.get(2).isSuccessful()).isFalse();
+        assertThat(result.get(2).getErrorCode()).isEqualTo("InvalidMessageContents");
+
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsAsyncClient, times(2)).sendMessageBatch(captor.capture());
+        assertThat(captor.getAllValues().get(1).entries())
+                .extracting(SendMessageBatchRequestEntry::id)
+                .containsExactly("1");
+    }
+
+    @Test
+    void deleteMessageBatch_청크분할_요청실패시_인덱스별오류() {
+        // Given
+        SqsProperties singleAttempt = new SqsProperties();
+        singleAttempt.setBatchMaxAttempts(1);
+        SqsService service = new SqsService(sqsAsyncClient, singleAttempt);
+        List<String> receiptHandles = IntStream.range(0, 12).mapToObj(i -> "handle" + i).collect(Collectors.toList());
+
+        when(sqsAsyncClient.deleteMessageBatch(any(DeleteMessageBatchRequest.class)))
+                .thenAnswer(invocation -> {
+                    DeleteMessageBatchRequest request = invocation.getArgument(0);
+                    if (request.entries().size() == 2) {
+                        return CompletableFuture.failedFuture(new IllegalStateException("throttled"));
+                    }
+                    return CompletableFuture.completedFuture(DeleteMessageBatchResponse.builder()
+                            .successful(request.entries().stream()
+                                    .map(entry -> DeleteMessageBatchResultEntry.builder().id(entry.id()).build())
+                                    .toList())
+                            .build());
+                });
+
+        // When
+        SqsBatchResult result = service.deleteMessageBatch(QUEUE_URL, receiptHandles, 2).join();
+
+        // Then
+        assertThat(result.getSuccessful()).hasSize(10);
+        assertThat(result.getFailed())
+                .extracting(SqsBatchResult.Entry::getIndex)
+                .containsExactly(10, 11);
+        assertThat(result.get(10).getErrorCode()).isEqualTo("IllegalStateException");
+    }
+
+    @Test
+    void deleteMessageBatch_요청실패_재시도불가오류는_한번만보내고_senderFault기록() {
+        // Given
+        List<String> receiptHandles = Arrays.asList("handle0", "handle1");
+        when(sqsAsyncClient.deleteMessageBatch(any(DeleteMessageBatchRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(QueueDoesNotExistException.builder()
+                        .message("missing").statusCode(400).build()));
+
+        // When
+        SqsBatchResult result = sqsService.deleteMessageBatch(QUEUE_URL, receiptHandles, 1).join();
+
+        // Then
+        verify(sqsAsyncClient, times(1)).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
+        assertThat(result.getFailed()).hasSize(2)
+                .allSatisfy(entry -> {
+                    assertThat(entry.isSenderFault()).isTrue();
+                    assertThat(entry.getErrorCode()).isEqualTo("QueueDoesNotExistException");
+                });
+    }
+
+    @Test
+    void sendMessageBatch_요청실패_5xx오류는_재시도() {
+        // Given
+        List<String> messages = Arrays.asList("msg0", "msg1");
+        when(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(SqsException.builder()
+                        .message("internal error").statusCode(500).build()))
+                .thenAnswer(invocation -> {
+                    SendMessageBatchRequest request = invocation.getArgument(0);
+                    return CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                            .successful(request.entries().stream()
+                                    .map(entry -> SendMessageBatchResultEntry.builder()
+                                            .id(entry.id()).messageId("id-" + entry.id()).build())
+                                    .toList())
+                            .build());
+                });
+
+        // When
+        SqsBatchResult result = sqsService.sendMessageBatch(QUEUE_URL, messages, 1).join();
+
+        // Then
+        assertThat(result.hasFailures()).isFalse();
+        verify(sqsAsyncClient, times(2)).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
+
     @Test
     void receiveMessages_성공() {
         // Given
@@ -133,6 +323,21 @@ class SqsServiceTest {
         verify(sqsAsyncClient).receiveMessage(any(ReceiveMessageRequest.class));
     }
 
+    @Test
+    void receiveMessages_지정한가시성타임아웃적용() {
+        // Given
+        when(sqsAsyncClient.receiveMessage(any(ReceiveMessageRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(ReceiveMessageResponse.builder().build()));
+
+        // When
+        sqsService.receiveMessages(QUEUE_URL, 5, 120).join();
+
+        // Then
+        ArgumentCaptor<ReceiveMessageRequest> captor = ArgumentCaptor.forClass(ReceiveMessageRequest.class);
+        verify(sqsAsyncClient).receiveMessage(captor.capture());
+        assertThat(captor.getValue().visibilityTimeout()).isEqualTo(120);
+    }
+
     @Test
     void deleteMessage_성공() {
         // Given
@@ -170,6 +375,81 @@ class SqsServiceTest {
         assertThat(result.join()).isNull();
     }
 
+    @Test
+    void deleteMessageBatchWithRetryableFailures_재시도가능실패만반환() {
+        // Given
+        List<String> receiptHandles = Arrays.asList("handle1", "handle2", "handle3");
+        DeleteMessageBatchResponse response = DeleteMessageBatchResponse.builder()
+                .successful(DeleteMessageBatchResultEntry.builder().id("0").build())
+                .failed(
+                        BatchResultErrorEntry.builder().id("1").code("InternalError").senderFault(false).build(),
+                        BatchResultErrorEntry.builder().id("2").code("ReceiptHandleIsInvalid").senderFault(true).build()
+                )
+                .build();
+
+        when(sqsAsyncClient.deleteMessageBatch(any(DeleteMessageBatchRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        // When
+        List<String> failed = sqsService.deleteMessageBatchWithRetryableFailures(QUEUE_URL, receiptHandles).join();
+
+        // Then
+        assertThat(failed).containsExactly("handle2");
+    }
+
+    @Test
+    void changeMessageVisibilityBatch_실패항목반환() {
+        // Given
+        List<String> receiptHandles = Arrays.asList("handle1", "handle2");
+        ChangeMessageVisibilityBatchResponse response = ChangeMessageVisibilityBatchResponse.builder()
+                .successful(ChangeMessageVisibilityBatchResultEntry.builder().id("0").build())
+                .failed(BatchResultErrorEntry.builder().id("1").code("ReceiptHandleIsInvalid").senderFault(true).build())
+                .build();
+
+        when(sqsAsyncClient.changeMessageVisibilityBatch(any(ChangeMessageVisibilityBatchRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        // When
+        List<String> failed = sqsService.changeMessageVisibilityBatch(QUEUE_URL, receiptHandles, 60).join();
+
+        // Then
+        assertThat(failed).containsExactly("handle2");
+        ArgumentCaptor<ChangeMessageVisibilityBatchRequest> captor =
+                ArgumentCaptor.forClass(ChangeMessageVisibilityBatchRequest.class);
+        verify(sqsAsyncClient).changeMessageVisibilityBatch(captor.capture());
+        assertThat(captor.getValue().entries())
+                .allMatch(entry -> entry.visibilityTimeout() == 60)
+                .extracting(ChangeMessageVisibilityBatchRequestEntry::receiptHandle)
+                .containsExactly("handle1", "handle2");
+    }
+
+    @Test
+    void getQueueAttributes_한번의호출로여러속성조회() {
+        // Given
+        GetQueueAttributesResponse response = GetQueueAttributesResponse.builder()
+                .attributesWithStrings(Map.of(
+                        "ApproximateNumberOfMessages", "42",
+                        "ApproximateNumberOfMessagesNotVisible", "3"))
+                .build();
+
+        when(sqsAsyncClient.getQueueAttributes(any(GetQueueAttributesRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        // When
+        Map<String, String> attributes = sqsService.getQueueAttributes(QUEUE_URL,
+                List.of("ApproximateNumberOfMessages", "ApproximateNumberOfMessagesNotVisible")).join();
+
+        // Then
+        assertThat(attributes)
+                .containsEntry("ApproximateNumberOfMessages", "42")
+                .containsEntry("ApproximateNumberOfMessagesNotVisible", "3");
+        ArgumentCaptor<GetQueueAttributesRequest> captor = ArgumentCaptor.forClass(GetQueueAttributesRequest.class);
+        verify(sqsAsyncClient).getQueueAttributes(captor.capture());
+        assertThat(captor.getValue().queueUrl()).isEqualTo(QUEUE_URL);
+        assertThat(captor.getValue().attributeNamesAsStrings())
+                .containsExactly("ApproximateNumberOfMessages", "ApproximateNumberOfMessagesNotVisible");
+    }
+
     @Test
     void createQueue_성공() {
         // Given
@@ -0,0 +1,67 @@
+package com.ryuqq.aws.sqs.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * BatchChunker 테스트
+ *
+ * 대량 배치 작업이 SQS 개수/크기 제한에 맞는 청크로 분할되는지 검증합니다.
+ */
+class BatchChunkerTest {
+
+    @Test
+    @DisplayName("개수 기준으로 순서를 유지하며 분할해야 한다")
+    void shouldChunkByCount() {
+        // when
+        List<List<Integer>> chunks = BatchChunker.chunkByCount(25, 10);
+
+        // then
+        assertThat(chunks).hasSize(3);
+        assertThat(chunks.get(0)).hasSize(10).startsWith(0).endsWith(9);
+        assertThat(chunks.get(2)).containsExactly(20, 21, 22, 23, 24);
+    }
+
+    @Test
+    @DisplayName("페이로드 크기가 제한을 넘으면 새 청크를 시작해야 한다")
+    void shouldChunkByPayloadSize() {
+        // given - 100KB 메시지 5개: 256KB 제한이면 청크당 2개
+        String body = "a".repeat(100 * 1024);
+        List<String> messages = List.of(body, body, body, body, body);
+        List<Integer> indices = IntStream.range(0, messages.size()).boxed().collect(Collectors.toList());
+
+        // when
+        List<List<Integer>> chunks = BatchChunker.chunkBySizeAndCount(
+                messages, indices, 10, BatchChunker.MAX_BATCH_PAYLOAD_BYTES);
+
+        // then
+        assertThat(chunks).containsExactly(List.of(0, 1), List.of(2, 3), List.of(4));
+    }
+
+    @Test
+    @DisplayName("지정된 인덱스만 분할 대상에 포함해야 한다")
+    void shouldChunkOnlyGivenIndices() {
+        // given
+        List<String> messages = List.of("m0", "m1", "m2", "m3");
+
+        // when
+        List<List<Integer>> chunks = BatchChunker.chunkBySizeAndCount(
+                messages, List.of(0, 2, 3), 2, BatchChunker.MAX_BATCH_PAYLOAD_BYTES);
+
+        // then
+        assertThat(chunks).containsExactly(List.of(0, 2), List.of(3));
+    }
+
+    @Test
+    @DisplayName("청크 크기가 1보다 작으면 예외가 발생해야 한다")
+    void shouldRejectInvalidChunkSize() {
+        assertThatThrownBy(() -> BatchChunker.chunkByCount(5, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,23 +1,45 @@
 package com.ryuqq.aws.sqs.consumer;
 
+import com.ryuqq.aws.sqs.consumer.component.DeadLetterQueueHandler;
+import com.ryuqq.aws.sqs.consumer.component.MessageAcknowledger;
+import com.ryuqq.aws.sqs.consumer.component.MetricsCollector;
+import com.ryuqq.aws.sqs.consumer.component.VisibilityExtender;
+import com.ryuqq.aws.sqs.consumer.component.impl.BatchingMessageAcknowledger;
+import com.ryuqq.aws.sqs.consumer.component.impl.DefaultDeadLetterQueueHandler;
+import com.ryuqq.aws.sqs.consumer.component.impl.HeartbeatVisibilityExtender;
+import com.ryuqq.aws.sqs.consumer.component.impl.MicrometerMetricsCollector;
+import com.ryuqq.aws.sqs.consumer.executor.ExecutorServiceProvider;
 import com.ryuqq.aws.sqs.consumer.executor.SqsExecutorConfiguration;
+import com.ryuqq.aws.sqs.consumer.executor.ThreadPoolMetricsBinder;
 import com.ryuqq.aws.sqs.consumer.processor.SqsListenerAnnotationBeanPostProcessor;
 import com.ryuqq.aws.sqs.consumer.properties.SqsConsumerProperties;
+import com.ryuqq.aws.sqs.consumer.registry.ConcurrencyScalingPolicy;
+import com.ryuqq.aws.sqs.consumer.registry.QueueDepthSampler;
 import com.ryuqq.aws.sqs.consumer.registry.SqsListenerContainerRegistry;
+import com.ryuqq.aws.sqs.AwsSqsAutoConfiguration;
 import com.ryuqq.aws.sqs.service.SqsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
 
 /**
  * Auto-configuration for SQS Consumer functionality.
  * Provides declarative SQS message consumption using @SqsListener annotation.
  */
-@AutoConfiguration
+@AutoConfiguration(
+    after = AwsSqsAutoConfiguration.class,
+    afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration"
+)
 @ConditionalOnClass({SqsService.class})
 @ConditionalOnProperty(
     prefix = "aws.sqs.consumer", 
@@ -38,6 +60,82 @@ public class AwsSqsConsumerAutoConfiguration {
         return new SqsListenerContainerRegistry();
     }
     
+    /**
+     * Acknowledger that batches auto-delete calls of listener containers.
+     * Disable with aws.sqs.consumer.acknowledgement.batching-enabled=false to delete one by one.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(SqsService.class)
+    @ConditionalOnProperty(
+        prefix = "aws.sqs.consumer.acknowledgement",
+        name = "batching-enabled",
+        havingValue = "true",
+        matchIfMissing = true
+    )
+    public MessageAcknowledger messageAcknowledger(
+            SqsService sqsService,
+            @Value("${aws.sqs.consumer.acknowledgement.linger-millis:100}") long lingerMillis,
+            @Value("${aws.sqs.consumer.acknowledgement.max-attempts:3}") int maxAttempts) {
+        return new BatchingMessageAcknowledger(sqsService, lingerMillis, maxAttempts);
+    }
+    
+    /**
+     * Dead letter queue handler shared by all listener containers, so failed messages of every
+     * container are sent through one SendMessageBatch pipeline and flushed on shutdown.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(SqsService.class)
+    public DeadLetterQueueHandler deadLetterQueueHandler(
+            SqsService sqsService,
+            Environment environment,
+            @Value("${aws.sqs.consumer.dead-letter-queue.linger-millis:50}") long lingerMillis) {
+        return new DefaultDeadLetterQueueHandler(sqsService, environment, lingerMillis);
+    }
+    
+    /**
+     * Heartbeat that extends the visibility timeout of messages whose listener is still running.
+     * Disable with aws.sqs.consumer.visibility-heartbeat.enabled=false.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(SqsService.class)
+    @ConditionalOnProperty(
+        prefix = "aws.sqs.consumer.visibility-heartbeat",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true
+    )
+    public VisibilityExtender visibilityExtender(
+            SqsService sqsService,
+            @Value("${aws.sqs.consumer.visibility-heartbeat.tick-millis:1000}") long tickMillis) {
+        return new HeartbeatVisibilityExtender(sqsService, tickMillis);
+    }
+    
+    /**
+     * Sampler that reads the depth of every listener queue with one GetQueueAttributes call per
+     * queue, records it as metrics and feeds an optional {@link ConcurrencyScalingPolicy} bean.
+     * Enable with aws.sqs.consumer.queue-depth-sampler.enabled=true.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(SqsService.class)
+    @ConditionalOnProperty(
+        prefix = "aws.sqs.consumer.queue-depth-sampler",
+        name = "enabled",
+        havingValue = "true"
+    )
+    public QueueDepthSampler queueDepthSampler(
+            SqsListenerContainerRegistry sqsListenerContainerRegistry,
+            SqsService sqsService,
+            ObjectProvider<MetricsCollector> metricsCollector,
+            ObjectProvider<ConcurrencyScalingPolicy> scalingPolicy,
+            @Value("${aws.sqs.consumer.queue-depth-sampler.interval-millis:30000}") long intervalMillis) {
+        return new QueueDepthSampler(sqsListenerContainerRegistry, sqsService,
+            metricsCollector.getIfAvailable(), scalingPolicy.getIfAvailable(), intervalMillis);
+    }
+    
     /**
      * Bean post-processor for scanning @SqsListener annotations.
      */
@@ -46,4 +144,38 @@ public class AwsSqsConsumerAutoConfiguration {
     public SqsListenerAnnotationBeanPostProcessor sqsListenerAnnotationBeanPostProcessor() {
         return new SqsListenerAnnotationBeanPostProcessor();
     }
-}
\ No newline at end of file
+    
+    /**
+     * Micrometer-backed metrics collector, registered when Micrometer is on the classpath and a
+     * MeterRegistry bean exists, together with the executor pool metrics.
+     * Disable with aws.sqs.consumer.metrics.enabled=false.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(
+        prefix = "aws.sqs.consumer.metrics",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true
+    )
+    static class MicrometerMetricsConfiguration {
+        
+        @Bean
+        @ConditionalOnMissingBean(MetricsCollector.class)
+        @ConditionalOnBean(MeterRegistry.class)
+        public MetricsCollector micrometerMetricsCollector(MeterRegistry meterRegistry) {
+            return new MicrometerMetricsCollector(meterRegistry);
+        }
+        
+        /**
+         * Queue depth, active thread and rejection metrics of the bounded message processing pools.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnBean(MeterRegistry.class)
+        public ThreadPoolMetricsBinder sqsConsumerThreadPoolMetricsBinder(
+                ObjectProvider<ExecutorServiceProvider> executorServiceProvider) {
+            return new ThreadPoolMetricsBinder(executorServiceProvider::getIfAvailable);
+        }
+    }
+}
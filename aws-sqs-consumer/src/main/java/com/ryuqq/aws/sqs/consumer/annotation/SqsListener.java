@@ -18,8 +18,17 @@ import java.lang.annotation.*;
  * public void handleBatchEvents(List<SqsMessage> messages) {
  *     // Process batch of messages
  * }
+ * 
+ * @SqsListener(queueName = "order-events-queue")
+ * public void handleOrderEvent(OrderEvent event) {
+ *     // Message body already deserialized from JSON
+ * }
  * }
  * </pre>
+ * 
+ * Besides SqsMessage, a method may declare String (raw body) or any type Jackson can read from
+ * the JSON body; batch methods may declare List of such a type. The body is deserialized with the
+ * application's ObjectMapper when one is registered.
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
@@ -71,9 +80,42 @@ public @interface SqsListener {
      */
     int maxMessagesPerPoll() default 10;
     
+    /**
+     * Number of concurrent long-poll loops for this listener.
+     * All pollers share the same maxConcurrentMessages budget and stop together
+     * with the container. Increase for high-throughput queues.
+     * Default is 1.
+     */
+    int pollerCount() default 1;
+    
+    /**
+     * Number of messages that may be received ahead of processing, in addition to
+     * maxConcurrentMessages. While all processing slots are busy the next receive is already in
+     * flight, and its messages wait in a buffer until a slot frees up.
+     * Buffered messages whose visibility timeout (messageVisibilitySeconds) is half elapsed are
+     * released back to the queue instead of being processed late.
+     * Not applicable when batchMode is true. Default is 0 (receive only when a slot is free).
+     */
+    int prefetchMessages() default 0;
+    
+    /**
+     * Process messages of the same FIFO MessageGroupId one after another, in receive order,
+     * while messages of different groups still run in parallel up to maxConcurrentMessages.
+     * Retries of a message complete before the next message of its group starts. If a message
+     * goes back to the queue without being deleted or dead-lettered (shutdown, rejected work,
+     * open circuit breaker, failure without a dead letter queue), the messages of its group
+     * received after it are returned as well instead of overtaking it.
+     * Messages without a MessageGroupId are dispatched without ordering.
+     * Intended for .fifo queues. Default is false.
+     */
+    boolean orderByMessageGroup() default false;
+    
     /**
      * Enable batch mode for processing multiple messages together.
-     * When enabled, the annotated method should accept List<SqsMessage> parameter.
+     * When enabled, the annotated method should accept List<SqsMessage> or a List of a payload type.
+     * The method may return a Collection of the message ids (or received elements) that failed;
+     * only those are retried or dead-lettered and the rest of the batch is deleted.
+     * See {@link com.ryuqq.aws.sqs.consumer.processor.BatchResults}.
      * Default is false.
      */
     boolean batchMode() default false;
@@ -81,10 +123,22 @@ public @interface SqsListener {
     /**
      * Batch size for batch mode processing.
      * Only applicable when batchMode is true.
+     * Received messages are passed to the listener in chunks of at most this size.
+     * Valid range is 1-10, the most entries a single DeleteMessageBatch call accepts.
      * Default is 10.
      */
     int batchSize() default 10;
     
+    /**
+     * Maximum time in milliseconds to accumulate messages across polls before invoking a batch
+     * listener with fewer than batchSize messages. The wait starts when the first message of a
+     * batch is buffered, so it bounds the latency added to any message.
+     * Keep it well below the visibility timeout, and note that buffered messages count against
+     * maxConcurrentMessages, so a batchSize above that limit is only reached through this wait.
+     * Only applicable when batchMode is true. Default is 0 (each receive is dispatched immediately).
+     */
+    long batchMaxWaitMillis() default 0;
+    
     /**
      * Enable automatic message deletion after successful processing.
      * Default is true.
@@ -102,7 +156,46 @@ public @interface SqsListener {
      * Default is 1000ms (1 second).
      */
     long retryDelayMillis() default 1000L;
-    
+
+    /**
+     * How failed messages are retried.
+     * With {@link RetryMode#IN_PROCESS} the container holds the message and retries it after
+     * retryDelayMillis. With {@link RetryMode#VISIBILITY_TIMEOUT} the message is handed back to SQS
+     * and redelivered later, and its ApproximateReceiveCount decides when retries are exhausted.
+     * Default is IN_PROCESS.
+     */
+    RetryMode retryMode() default RetryMode.IN_PROCESS;
+
+    /**
+     * Upper bound of the redelivery delay in VISIBILITY_TIMEOUT retry mode.
+     * The delay starts at retryDelayMillis and doubles with every receive up to this value
+     * (and never beyond the 12 hour SQS visibility timeout limit).
+     * Default is 300000ms (5 minutes).
+     */
+    long maxRetryDelayMillis() default 300000L;
+
+    /**
+     * Failure rate, in percent of the last {@link #circuitBreakerWindowSize()} listener
+     * invocations, at which the container's circuit breaker opens. While open the container
+     * stops polling and hands received messages back to the queue instead of retrying them.
+     * Valid range is 0-100. Default is 0 (circuit breaker disabled).
+     */
+    int circuitBreakerFailureRateThreshold() default 0;
+
+    /**
+     * Number of most recent listener invocations used to compute the failure rate.
+     * The breaker does not open until the window has been filled.
+     * Must be positive when the circuit breaker is enabled. Default is 20.
+     */
+    int circuitBreakerWindowSize() default 20;
+
+    /**
+     * How long the circuit breaker stays open before a single probe message is let through.
+     * A successful probe closes the breaker, a failed one opens it again.
+     * Default is 30000ms (30 seconds).
+     */
+    long circuitBreakerOpenMillis() default 30000L;
+
     /**
      * Enable dead letter queue processing for failed messages.
      * Default is false.
@@ -114,4 +207,29 @@ public @interface SqsListener {
      * Only used when enableDeadLetterQueue is true.
      */
     String deadLetterQueueName() default "";
+
+    /**
+     * Retry strategies for failed messages.
+     */
+    enum RetryMode {
+
+        /**
+         * Retry inside the container while the message stays in flight.
+         * Up to maxRetryAttempts retries run retryDelayMillis apart, and then the message is
+         * dead-lettered when enableDeadLetterQueue is true.
+         */
+        IN_PROCESS,
+
+        /**
+         * Retry through SQS redelivery.
+         * A failed message gets a backoff visibility timeout via ChangeMessageVisibility and is
+         * released, so no worker or permit waits for the retry and the retry count survives
+         * consumer restarts. Once its ApproximateReceiveCount exceeds maxRetryAttempts it is sent
+         * to the dead letter queue and deleted when enableDeadLetterQueue is true. Without a
+         * dead letter queue it keeps being redelivered with backoff, so the queue's
+         * own RedrivePolicy can move it. With orderByMessageGroup, the messages of its group
+         * received after it are returned right away, and a FIFO queue redelivers them after it.
+         */
+        VISIBILITY_TIMEOUT
+    }
 }
\ No newline at end of file
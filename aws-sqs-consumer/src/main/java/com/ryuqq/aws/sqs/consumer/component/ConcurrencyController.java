@@ -0,0 +1,57 @@
+package com.ryuqq.aws.sqs.consumer.component;
+
+/**
+ * Strategy for sizing receive batches and worker concurrency of a listener container.
+ * Implementations may keep the annotation values fixed or adapt them from runtime feedback.
+ */
+public interface ConcurrencyController {
+
+    /**
+     * Register a container with its configured upper bounds.
+     *
+     * @param containerId the container identifier
+     * @param maxConcurrency upper bound for concurrent listener invocations (maxConcurrentMessages)
+     * @param maxPollSize upper bound for messages per receive call (maxMessagesPerPoll)
+     */
+    void register(String containerId, int maxConcurrency, int maxPollSize);
+
+    /**
+     * Remove all state kept for the container.
+     *
+     * @param containerId the container identifier
+     */
+    void unregister(String containerId);
+
+    /**
+     * Number of messages to request on the next receive call.
+     *
+     * @param containerId the container identifier
+     * @return poll size between 1 and the registered maxPollSize
+     */
+    int getPollSize(String containerId);
+
+    /**
+     * Current limit for concurrent listener invocations.
+     *
+     * @param containerId the container identifier
+     * @return concurrency limit between 1 and the registered maxConcurrency
+     */
+    int getConcurrencyLimit(String containerId);
+
+    /**
+     * Record the outcome of a receive call.
+     *
+     * @param containerId the container identifier
+     * @param receivedCount number of messages returned, 0 for an empty receive
+     */
+    void onPollCompleted(String containerId, int receivedCount);
+
+    /**
+     * Record the outcome of a listener invocation.
+     *
+     * @param containerId the container identifier
+     * @param processingTimeMillis processing time including retries
+     * @param success whether the invocation completed without error
+     */
+    void onProcessingCompleted(String containerId, long processingTimeMillis, boolean success);
+}
@@ -2,6 +2,8 @@ package com.ryuqq.aws.sqs.consumer.component;
 
 import com.ryuqq.aws.sqs.types.SqsMessage;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Interface for handling dead letter queue operations.
  * Manages failed messages that need to be sent to DLQ.
@@ -18,6 +20,25 @@ public interface DeadLetterQueueHandler {
      */
     boolean sendToDeadLetterQueue(SqsMessage originalMessage, Exception exception, DlqConfig config);
     
+    /**
+     * Send a failed message to the dead letter queue without blocking the caller.
+     * The default implementation runs {@link #sendToDeadLetterQueue} on the calling thread.
+     *
+     * @param originalMessage the original message that failed processing
+     * @param exception the exception that caused the failure
+     * @param config DLQ configuration
+     * @return future completed with true once the message is in the DLQ, false if DLQ handling is
+     *         disabled, or completed exceptionally with a {@link DeadLetterQueueException}
+     */
+    default CompletableFuture<Boolean> sendToDeadLetterQueueAsync(SqsMessage originalMessage, Exception exception,
+                                                                  DlqConfig config) {
+        try {
+            return CompletableFuture.completedFuture(sendToDeadLetterQueue(originalMessage, exception, config));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+    
     /**
      * Check if dead letter queue handling is enabled for the given configuration.
      *
@@ -60,6 +81,20 @@ public interface DeadLetterQueueHandler {
             return java.util.Collections.emptyMap();
         }
         
+        /**
+         * Get the URL of the queue the failed message was received from, if known.
+         */
+        default String getSourceQueueUrl() {
+            return null;
+        }
+        
+        /**
+         * Get the number of retry attempts made before the message was given up, if known.
+         */
+        default Integer getRetryAttempts() {
+            return null;
+        }
+        
         /**
          * Check if original message attributes should be preserved.
          */
@@ -0,0 +1,27 @@
+package com.ryuqq.aws.sqs.consumer.component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Interface for acknowledging (deleting) successfully processed messages.
+ * Implementations may coalesce acknowledgements into batch deletes.
+ */
+public interface MessageAcknowledger {
+
+    /**
+     * Acknowledge a processed message.
+     *
+     * @param queueUrl the SQS queue URL the message was received from
+     * @param receiptHandle the receipt handle of the message
+     * @return future completed once the message is deleted, or completed exceptionally
+     *         if the deletion ultimately failed
+     */
+    CompletableFuture<Void> acknowledge(String queueUrl, String receiptHandle);
+
+    /**
+     * Send all buffered acknowledgements immediately.
+     *
+     * @return future completed when every acknowledgement buffered at call time has settled
+     */
+    CompletableFuture<Void> flush();
+}
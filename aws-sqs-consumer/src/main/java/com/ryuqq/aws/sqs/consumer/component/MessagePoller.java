@@ -3,6 +3,7 @@ package com.ryuqq.aws.sqs.consumer.component;
 import com.ryuqq.aws.sqs.types.SqsMessage;
 
 import java.util.List;
+import java.util.function.IntSupplier;
 
 /**
  * Interface for SQS message polling operations.
@@ -31,6 +32,55 @@ public interface MessagePoller {
     void startPolling(String queueUrl, int maxMessages, int pollTimeoutSeconds, 
                      MessageHandler messageHandler);
     
+    /**
+     * Start several concurrent polling loops for the same queue.
+     * All loops deliver to the same handler and are stopped together by {@link #stopPolling()}.
+     * Implementations that do not support fan-out fall back to a single poller.
+     *
+     * @param queueUrl the SQS queue URL
+     * @param maxMessages maximum number of messages per poll
+     * @param pollTimeoutSeconds polling timeout in seconds
+     * @param pollerCount number of concurrent polling loops
+     * @param messageHandler handler for processing received messages
+     */
+    default void startPolling(String queueUrl, int maxMessages, int pollTimeoutSeconds,
+                              int pollerCount, MessageHandler messageHandler) {
+        startPolling(queueUrl, maxMessages, pollTimeoutSeconds, messageHandler);
+    }
+    
+    /**
+     * Start polling with a receive batch size that is re-evaluated before every receive call.
+     * Implementations that do not support dynamic sizing read the supplier once.
+     *
+     * @param queueUrl the SQS queue URL
+     * @param maxMessagesSupplier supplies the number of messages to request per poll (1-10)
+     * @param pollTimeoutSeconds polling timeout in seconds
+     * @param pollerCount number of concurrent polling loops
+     * @param messageHandler handler for processing received messages
+     */
+    default void startPolling(String queueUrl, IntSupplier maxMessagesSupplier, int pollTimeoutSeconds,
+                              int pollerCount, MessageHandler messageHandler) {
+        startPolling(queueUrl, maxMessagesSupplier.getAsInt(), pollTimeoutSeconds, pollerCount, messageHandler);
+    }
+    
+    /**
+     * Start polling with a dynamic receive batch size and an explicit visibility timeout.
+     * Every receive request asks SQS for this visibility timeout instead of the client default,
+     * so the window a listener relies on is the one actually applied to its messages.
+     * Implementations that cannot set the visibility timeout per request ignore it.
+     *
+     * @param queueUrl the SQS queue URL
+     * @param maxMessagesSupplier supplies the number of messages to request per poll (1-10)
+     * @param pollTimeoutSeconds polling timeout in seconds
+     * @param visibilityTimeoutSeconds visibility timeout to apply to received messages
+     * @param pollerCount number of concurrent polling loops
+     * @param messageHandler handler for processing received messages
+     */
+    default void startPolling(String queueUrl, IntSupplier maxMessagesSupplier, int pollTimeoutSeconds,
+                              int visibilityTimeoutSeconds, int pollerCount, MessageHandler messageHandler) {
+        startPolling(queueUrl, maxMessagesSupplier, pollTimeoutSeconds, pollerCount, messageHandler);
+    }
+    
     /**
      * Stop the polling process.
      */
@@ -49,5 +99,23 @@ public interface MessagePoller {
     @FunctionalInterface
     interface MessageHandler {
         void handleMessages(List<SqsMessage> messages);
+        
+        /**
+         * Called with the messages of a receive call and the time the request was sent.
+         * The visibility timeout of the messages started no earlier than that time.
+         * The default implementation ignores the receive time.
+         *
+         * @param messages received messages
+         * @param receivedAtNanos {@link System#nanoTime()} at which the receive request was sent
+         */
+        default void handleMessages(List<SqsMessage> messages, long receivedAtNanos) {
+            handleMessages(messages);
+        }
+        
+        /**
+         * Called when a receive call returned no messages.
+         */
+        default void onEmptyReceive() {
+        }
     }
 }
\ No newline at end of file
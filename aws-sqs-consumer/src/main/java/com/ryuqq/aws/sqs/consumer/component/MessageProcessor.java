@@ -1,8 +1,11 @@
 package com.ryuqq.aws.sqs.consumer.component;
 
+import com.ryuqq.aws.sqs.consumer.processor.ListenerInvoker;
+import com.ryuqq.aws.sqs.consumer.processor.ListenerInvokerFactory;
 import com.ryuqq.aws.sqs.types.SqsMessage;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Interface for processing SQS messages.
@@ -21,12 +24,15 @@ public interface MessageProcessor {
     
     /**
      * Process a batch of SQS messages.
+     * Messages the listener reports as failed are left on the queue; the rest are acknowledged.
      *
      * @param messages the messages to process
      * @param config processing configuration
-     * @throws MessageProcessingException if processing fails
+     * @return ids of the messages that failed, empty if the whole batch succeeded
+     * @throws MessageProcessingException if the listener call itself fails
+     * @see com.ryuqq.aws.sqs.consumer.processor.BatchResults
      */
-    void processBatch(List<SqsMessage> messages, ProcessingConfig config) throws MessageProcessingException;
+    Set<String> processBatch(List<SqsMessage> messages, ProcessingConfig config) throws MessageProcessingException;
     
     /**
      * Check if batch processing is supported.
@@ -44,6 +50,14 @@ public interface MessageProcessor {
         boolean isBatchMode();
         boolean isAutoDelete();
         String getQueueUrl();
+        
+        /**
+         * Invoker for the target method. Implementations should return an invoker created once
+         * with {@link ListenerInvokerFactory#create}; the default falls back to reflection.
+         */
+        default ListenerInvoker getListenerInvoker() {
+            return ListenerInvokerFactory.reflective(getTargetBean(), getTargetMethod());
+        }
     }
     
     /**
@@ -59,4 +73,22 @@ public interface MessageProcessor {
             super(message, cause);
         }
     }
+    
+    /**
+     * Exception signalling that a batch listener reported some of its messages as failed.
+     * Carries the ids of those messages so only they are retried or sent to the DLQ.
+     */
+    class PartialBatchFailureException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        private final Set<String> failedMessageIds;
+        
+        public PartialBatchFailureException(Set<String> failedMessageIds, int batchSize) {
+            super(failedMessageIds.size() + " of " + batchSize + " messages in batch failed");
+            this.failedMessageIds = Set.copyOf(failedMessageIds);
+        }
+        
+        public Set<String> getFailedMessageIds() {
+            return failedMessageIds;
+        }
+    }
 }
\ No newline at end of file
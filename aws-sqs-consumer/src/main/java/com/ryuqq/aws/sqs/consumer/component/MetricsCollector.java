@@ -2,6 +2,7 @@ package com.ryuqq.aws.sqs.consumer.component;
 
 import java.time.Instant;
 import java.util.Map;
+import java.util.function.IntSupplier;
 
 /**
  * SQS Consumer 메트릭 수집 및 관리 인터페이스
@@ -13,7 +14,7 @@ import java.util.Map;
  * <ul>
  *   <li><strong>메시지 처리 통계</strong>: 성공/실패 건수, 처리 시간</li>
  *   <li><strong>컨테이너 상태</strong>: 상태 전환 횟수, 현재 상태</li>
- *   <li><strong>성능 지표</strong>: 평균/최대/최소 처리 시간</li>
+ *   <li><strong>성능 지표</strong>: 평균/최대/최소 처리 시간, 처리 시간 및 큐 대기 지연 백분위수</li>
  *   <li><strong>오류 처리</strong>: DLQ 전송, 재시도 통계</li>
  * </ul>
  * 
@@ -117,6 +118,19 @@ public interface MetricsCollector {
         // 기본 구현: 아무 작업 안함 (선택적 기능)
     }
     
+    /**
+     * DLQ 전송 지연 시간 기록
+     * 
+     * 실패한 메시지를 DLQ 파이프라인에 넘긴 시점부터 전송 결과가 확정될 때까지의 시간을 기록합니다.
+     * 배치 대기 시간과 SendMessageBatch 응답 시간이 포함되며, DLQ 적체를 감지하는 데 사용됩니다.
+     * 
+     * @param containerId 메시지를 처리한 컨테이너 ID
+     * @param latencyMillis DLQ 전송 요청부터 결과 확정까지의 시간 (밀리초 단위)
+     */
+    default void recordDlqLatency(String containerId, long latencyMillis) {
+        // 기본 구현: 아무 작업 안함 (선택적 기능)
+    }
+    
     /**
      * 재시도 시도 횟수 기록
      * 
@@ -130,6 +144,119 @@ public interface MetricsCollector {
         // 기본 구현: 아무 작업 안함 (선택적 기능)
     }
     
+    /**
+     * 큐 대기 지연 시간 기록
+     * 
+     * 메시지가 큐에 전송된 시각(SentTimestamp)부터 리스너가 처리를 시작한 시각까지의
+     * 종단 간 지연을 기록합니다. 처리 시간만으로는 드러나지 않는 적체(backlog)를 감지하는 데 사용됩니다.
+     * 
+     * @param containerId 메시지를 처리한 컨테이너 ID
+     * @param latencyMillis 전송 시각부터 처리 시작까지의 지연 시간 (밀리초 단위)
+     */
+    default void recordQueueLatency(String containerId, long latencyMillis) {
+        // 기본 구현: 아무 작업 안함 (선택적 기능)
+    }
+    
+    /**
+     * 큐 적체 상태 기록
+     * 
+     * 큐 깊이 샘플러가 GetQueueAttributes로 읽은 근사값을 컨테이너별로 기록합니다.
+     * 가장 오래된 메시지의 대기 시간은 컨슈머가 얼마나 뒤처져 있는지를 나타내는 지연(lag) 지표입니다.
+     * 
+     * @param containerId 큐를 수신하는 컨테이너 ID
+     * @param visibleMessages 수신 가능한 메시지 수 (ApproximateNumberOfMessages)
+     * @param notVisibleMessages 처리 중인 메시지 수 (ApproximateNumberOfMessagesNotVisible)
+     * @param oldestMessageAgeSeconds 가장 오래된 메시지의 대기 시간 (ApproximateAgeOfOldestMessage, 초)
+     */
+    default void recordQueueDepth(String containerId, long visibleMessages, long notVisibleMessages,
+                                  long oldestMessageAgeSeconds) {
+        // 기본 구현: 아무 작업 안함 (선택적 기능)
+    }
+    
+    /**
+     * 컨테이너 전용 기록기 바인딩
+     * 
+     * 컨테이너가 시작될 때 한 번 호출하여 해당 컨테이너의 미터를 미리 등록하고, 메시지마다
+     * 컨테이너 ID로 조회하지 않고 바로 기록할 수 있는 기록기를 받습니다.
+     * 같은 컨테이너를 다시 바인딩하면 in-flight 공급자와 큐 정보가 갱신됩니다.
+     * 
+     * 기본 구현은 컨테이너 ID를 받는 기존 메서드로 위임하며, in-flight 공급자는 사용하지 않습니다.
+     * 
+     * @param containerId 컨테이너 ID
+     * @param queueUrl 컨테이너가 수신하는 큐 URL
+     * @param inFlightMessages 현재 in-flight 메시지 수를 반환하는 공급자
+     * @return 컨테이너 전용 기록기
+     */
+    default ContainerRecorder bindContainer(String containerId, String queueUrl, IntSupplier inFlightMessages) {
+        MetricsCollector collector = this;
+        return new ContainerRecorder() {
+            @Override
+            public void recordMessageProcessed(long processingTimeMillis) {
+                collector.recordMessageProcessed(containerId);
+                collector.recordProcessingTime(containerId, processingTimeMillis);
+            }
+            
+            @Override
+            public void recordMessageFailed(Exception exception) {
+                collector.recordMessageFailed(containerId, exception);
+            }
+            
+            @Override
+            public void recordQueueLatency(long latencyMillis) {
+                collector.recordQueueLatency(containerId, latencyMillis);
+            }
+            
+            @Override
+            public void recordDlqOperation(boolean success) {
+                collector.recordDlqOperation(containerId, success);
+            }
+            
+            @Override
+            public void recordDlqLatency(long latencyMillis) {
+                collector.recordDlqLatency(containerId, latencyMillis);
+            }
+        };
+    }
+    
+    /**
+     * 특정 컨테이너에 바인딩된 메트릭 기록기
+     * 
+     * {@link #bindContainer}로 얻으며, 메시지 처리 경로에서 호출됩니다.
+     */
+    interface ContainerRecorder {
+        
+        /** 아무것도 기록하지 않는 기록기 (메트릭 수집기가 없을 때 사용) */
+        ContainerRecorder NOOP = new ContainerRecorder() {
+            @Override
+            public void recordMessageProcessed(long processingTimeMillis) {
+            }
+            
+            @Override
+            public void recordMessageFailed(Exception exception) {
+            }
+            
+            @Override
+            public void recordQueueLatency(long latencyMillis) {
+            }
+            
+            @Override
+            public void recordDlqOperation(boolean success) {
+            }
+        };
+        
+        /** 메시지 처리 성공과 처리 시간(밀리초) 기록 */
+        void recordMessageProcessed(long processingTimeMillis);
+        /** 재시도를 모두 소진한 메시지 처리 실패 기록 */
+        void recordMessageFailed(Exception exception);
+        /** 전송 시각부터 처리 시작까지의 큐 대기 지연(밀리초) 기록 */
+        void recordQueueLatency(long latencyMillis);
+        /** DLQ 전송 결과 기록 */
+        void recordDlqOperation(boolean success);
+        /** DLQ 전송 요청부터 결과 확정까지의 지연(밀리초) 기록 */
+        default void recordDlqLatency(long latencyMillis) {
+        }
+    }
+    
     /**
      * 컨테이너 메트릭 데이터 인터페이스
      * 
@@ -153,5 +280,28 @@ public interface MetricsCollector {
         String getCurrentState();
         /** 컨테이너 상태 변경 총 횟수 반환 */
         long getStateChanges();
+        /** 메시지 처리 시간 백분위수(밀리초) 반환 */
+        default LatencyPercentiles getProcessingTimePercentiles() {
+            return LatencyPercentiles.EMPTY;
+        }
+        /** 큐 대기 지연 시간 백분위수(밀리초) 반환 */
+        default LatencyPercentiles getQueueLatencyPercentiles() {
+            return LatencyPercentiles.EMPTY;
+        }
+    }
+    
+    /**
+     * 지연 시간 백분위수 스냅샷
+     * 
+     * 히스토그램 버킷 경계로 계산되므로 실제 값과 약간의 오차가 있을 수 있습니다.
+     * 
+     * @param p50 중앙값 (밀리초)
+     * @param p90 90번째 백분위수 (밀리초)
+     * @param p99 99번째 백분위수 (밀리초)
+     * @param p999 99.9번째 백분위수 (밀리초)
+     */
+    record LatencyPercentiles(long p50, long p90, long p99, long p999) {
+        /** 기록이 없을 때 사용하는 빈 스냅샷 */
+        public static final LatencyPercentiles EMPTY = new LatencyPercentiles(0, 0, 0, 0);
     }
 }
\ No newline at end of file
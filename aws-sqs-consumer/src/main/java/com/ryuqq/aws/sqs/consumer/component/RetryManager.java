@@ -1,5 +1,8 @@
 package com.ryuqq.aws.sqs.consumer.component;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 /**
@@ -28,6 +31,48 @@ public interface RetryManager {
      */
     void executeWithRetry(Runnable operation, RetryConfig config) throws Exception;
     
+    /**
+     * Execute an operation with retry logic without blocking between attempts.
+     * Each attempt runs on the given executor; the delay before a retry is scheduled
+     * on a timer so no worker thread is held while waiting.
+     *
+     * <p>The default implementation runs the blocking {@link #executeWithRetry(Supplier, RetryConfig)}
+     * on the executor, so custom implementations keep working unchanged.</p>
+     *
+     * @param operation the operation to execute
+     * @param config retry configuration
+     * @param executor executor that runs each attempt
+     * @param <T> the return type of the operation
+     * @return future completed with the result, or exceptionally with {@link RetryExhaustedException}
+     *         once all attempts fail
+     */
+    default <T> CompletableFuture<T> executeWithRetryAsync(Supplier<T> operation, RetryConfig config,
+                                                           Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return executeWithRetry(operation, config);
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+    
+    /**
+     * Execute a void operation with retry logic without blocking between attempts.
+     *
+     * @param operation the operation to execute
+     * @param config retry configuration
+     * @param executor executor that runs each attempt
+     * @return future completed when an attempt succeeds, or exceptionally once all attempts fail
+     */
+    default CompletableFuture<Void> executeWithRetryAsync(Runnable operation, RetryConfig config,
+                                                          Executor executor) {
+        return executeWithRetryAsync(() -> {
+            operation.run();
+            return null;
+        }, config, executor);
+    }
+    
     /**
      * Calculate the next retry delay using exponential backoff.
      *
@@ -0,0 +1,49 @@
+package com.ryuqq.aws.sqs.consumer.component;
+
+/**
+ * Interface for keeping in-flight messages invisible while their listener is still running.
+ * A message is tracked from the moment it is handed to a worker until its outcome is settled,
+ * and its visibility timeout is extended before it would expire.
+ */
+public interface VisibilityExtender {
+
+    /**
+     * Start extending the visibility of a received message.
+     *
+     * @param queueUrl the SQS queue URL the message was received from
+     * @param receiptHandle the receipt handle of the message
+     * @param visibilityTimeoutSeconds visibility window applied on receive and on every extension
+     */
+    void track(String queueUrl, String receiptHandle, int visibilityTimeoutSeconds);
+
+    /**
+     * Start extending the visibility of a message that was received earlier than now,
+     * for example one that waited in a prefetch buffer. The first extension is due half a
+     * visibility window after the receive, not after this call.
+     * The default implementation ignores the receive time.
+     *
+     * @param queueUrl the SQS queue URL the message was received from
+     * @param receiptHandle the receipt handle of the message
+     * @param visibilityTimeoutSeconds visibility window applied on receive and on every extension
+     * @param receivedAtNanos {@link System#nanoTime()} at which the receive request was sent
+     */
+    default void track(String queueUrl, String receiptHandle, int visibilityTimeoutSeconds, long receivedAtNanos) {
+        track(queueUrl, receiptHandle, visibilityTimeoutSeconds);
+    }
+
+    /**
+     * Stop extending the visibility of a message whose processing completed or failed.
+     * Unknown receipt handles are ignored.
+     *
+     * @param queueUrl the SQS queue URL the message was received from
+     * @param receiptHandle the receipt handle of the message
+     */
+    void release(String queueUrl, String receiptHandle);
+
+    /**
+     * Number of messages currently tracked.
+     *
+     * @return tracked message count across all queues
+     */
+    int getTrackedCount();
+}
@@ -0,0 +1,194 @@
+package com.ryuqq.aws.sqs.consumer.component.impl;
+
+import com.ryuqq.aws.sqs.consumer.component.ConcurrencyController;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Additive-increase / multiplicative-decrease controller for listener concurrency.
+ *
+ * Feedback is evaluated in windows of {@code windowSize} samples. A window whose
+ * error rate exceeds the threshold, or whose average latency exceeds the smoothed
+ * baseline by the tolerance factor, shrinks the limit multiplicatively. Mostly empty
+ * receives shrink it by one so idle queues release worker capacity. Otherwise the
+ * limit grows by one up to the annotation's maxConcurrentMessages. The poll size
+ * follows the limit, capped by maxMessagesPerPoll.
+ */
+public class AimdConcurrencyController implements ConcurrencyController {
+
+    private static final Logger log = LoggerFactory.getLogger(AimdConcurrencyController.class);
+
+    private static final int DEFAULT_WINDOW_SIZE = 20;
+    private static final double DEFAULT_DECREASE_FACTOR = 0.75;
+    private static final double DEFAULT_LATENCY_TOLERANCE = 2.0;
+    private static final double DEFAULT_ERROR_RATE_THRESHOLD = 0.1;
+    private static final double DEFAULT_EMPTY_RECEIVE_THRESHOLD = 0.5;
+    private static final double BASELINE_SMOOTHING = 0.1;
+
+    private final int windowSize;
+    private final double decreaseFactor;
+    private final double latencyTolerance;
+    private final double errorRateThreshold;
+    private final double emptyReceiveThreshold;
+
+    private final ConcurrentMap<String, LimitState> states = new ConcurrentHashMap<>();
+
+    public AimdConcurrencyController() {
+        this(DEFAULT_WINDOW_SIZE, DEFAULT_DECREASE_FACTOR, DEFAULT_LATENCY_TOLERANCE,
+                DEFAULT_ERROR_RATE_THRESHOLD, DEFAULT_EMPTY_RECEIVE_THRESHOLD);
+    }
+
+    public AimdConcurrencyController(int windowSize,
+                                     double decreaseFactor,
+                                     double latencyTolerance,
+                                     double errorRateThreshold,
+                                     double emptyReceiveThreshold) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size must be at least 1");
+        }
+        if (decreaseFactor <= 0 || decreaseFactor >= 1) {
+            throw new IllegalArgumentException("Decrease factor must be between 0 and 1 (exclusive)");
+        }
+        if (latencyTolerance < 1) {
+            throw new IllegalArgumentException("Latency tolerance must be at least 1");
+        }
+        this.windowSize = windowSize;
+        this.decreaseFactor = decreaseFactor;
+        this.latencyTolerance = latencyTolerance;
+        this.errorRateThreshold = errorRateThreshold;
+        this.emptyReceiveThreshold = emptyReceiveThreshold;
+    }
+
+    @Override
+    public void register(String containerId, int maxConcurrency, int maxPollSize) {
+        states.put(containerId, new LimitState(Math.max(1, maxConcurrency), Math.max(1, maxPollSize)));
+    }
+
+    @Override
+    public void unregister(String containerId) {
+        states.remove(containerId);
+    }
+
+    @Override
+    public int getPollSize(String containerId) {
+        LimitState state = states.get(containerId);
+        if (state == null) {
+            return 1;
+        }
+        return Math.min(state.maxPollSize, state.currentLimit());
+    }
+
+    @Override
+    public int getConcurrencyLimit(String containerId) {
+        LimitState state = states.get(containerId);
+        return state != null ? state.currentLimit() : 1;
+    }
+
+    @Override
+    public void onPollCompleted(String containerId, int receivedCount) {
+        LimitState state = states.get(containerId);
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            state.polls++;
+            if (receivedCount == 0) {
+                state.emptyPolls++;
+            }
+            // An idle queue produces no processing samples, so evaluate on polls alone
+            if (state.samples == 0 && state.polls >= windowSize) {
+                adjust(containerId, state);
+            }
+        }
+    }
+
+    @Override
+    public void onProcessingCompleted(String containerId, long processingTimeMillis, boolean success) {
+        LimitState state = states.get(containerId);
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            state.samples++;
+            state.totalLatencyMillis += Math.max(0, processingTimeMillis);
+            if (!success) {
+                state.errors++;
+            }
+            if (state.samples >= windowSize) {
+                adjust(containerId, state);
+            }
+        }
+    }
+
+    private void adjust(String containerId, LimitState state) {
+        double previous = state.limit;
+        double emptyRatio = state.polls > 0 ? (double) state.emptyPolls / state.polls : 0.0;
+
+        if (state.samples > 0) {
+            double averageLatency = (double) state.totalLatencyMillis / state.samples;
+            double errorRate = (double) state.errors / state.samples;
+
+            if (Double.isNaN(state.baselineLatencyMillis)) {
+                state.baselineLatencyMillis = averageLatency;
+            }
+
+            boolean overloaded = errorRate > errorRateThreshold
+                    || averageLatency > state.baselineLatencyMillis * latencyTolerance;
+
+            if (overloaded) {
+                state.limit = Math.max(1.0, state.limit * decreaseFactor);
+            } else if (emptyRatio > emptyReceiveThreshold) {
+                state.limit = Math.max(1.0, state.limit - 1);
+            } else {
+                state.limit = Math.min(state.maxLimit, state.limit + 1);
+            }
+
+            state.baselineLatencyMillis += BASELINE_SMOOTHING * (averageLatency - state.baselineLatencyMillis);
+        } else if (emptyRatio > emptyReceiveThreshold) {
+            state.limit = Math.max(1.0, state.limit - 1);
+        }
+
+        if ((int) previous != (int) state.limit) {
+            log.debug("Adjusted concurrency limit for container {}: {} -> {}",
+                    containerId, (int) previous, (int) state.limit);
+        }
+        state.resetWindow();
+    }
+
+    /**
+     * Mutable per-container limit state. Guarded by its own monitor.
+     */
+    private static final class LimitState {
+        private final int maxLimit;
+        private final int maxPollSize;
+
+        private volatile double limit;
+        private double baselineLatencyMillis = Double.NaN;
+        private int samples;
+        private int errors;
+        private long totalLatencyMillis;
+        private int polls;
+        private int emptyPolls;
+
+        private LimitState(int maxLimit, int maxPollSize) {
+            this.maxLimit = maxLimit;
+            this.maxPollSize = maxPollSize;
+            this.limit = maxLimit;
+        }
+
+        private int currentLimit() {
+            return Math.max(1, (int) limit);
+        }
+
+        private void resetWindow() {
+            samples = 0;
+            errors = 0;
+            totalLatencyMillis = 0;
+            polls = 0;
+            emptyPolls = 0;
+        }
+    }
+}
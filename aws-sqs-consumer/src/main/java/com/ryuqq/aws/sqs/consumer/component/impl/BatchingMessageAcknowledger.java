@@ -0,0 +1,246 @@
+package com.ryuqq.aws.sqs.consumer.component.impl;
+
+import com.ryuqq.aws.sqs.consumer.component.MessageAcknowledger;
+import com.ryuqq.aws.sqs.service.SqsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * MessageAcknowledger that coalesces deletes into DeleteMessageBatch calls.
+ *
+ * Receipt handles are buffered per queue URL. A buffer is flushed as soon as it holds
+ * 10 handles (the SQS batch limit) or when the linger time since its first pending handle
+ * elapses, whichever comes first. Entries that fail with a retryable error are re-buffered
+ * individually until {@code maxAttempts} is reached; the rest of the batch is completed.
+ */
+public class BatchingMessageAcknowledger implements MessageAcknowledger, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchingMessageAcknowledger.class);
+
+    private static final int MAX_BATCH_SIZE = 10;
+    private static final long DEFAULT_LINGER_MILLIS = 100L;
+    private static final int DEFAULT_MAX_ATTEMPTS = 3;
+    private static final long CLOSE_TIMEOUT_SECONDS = 10L;
+
+    private final SqsService sqsService;
+    private final long lingerMillis;
+    private final int maxAttempts;
+    private final ScheduledExecutorService scheduler;
+    private final ConcurrentMap<String, QueueBuffer> buffers = new ConcurrentHashMap<>();
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    public BatchingMessageAcknowledger(SqsService sqsService) {
+        this(sqsService, DEFAULT_LINGER_MILLIS, DEFAULT_MAX_ATTEMPTS);
+    }
+
+    public BatchingMessageAcknowledger(SqsService sqsService, long lingerMillis, int maxAttempts) {
+        if (lingerMillis < 0) {
+            throw new IllegalArgumentException("Linger time cannot be negative");
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be at least 1");
+        }
+        this.sqsService = sqsService;
+        this.lingerMillis = lingerMillis;
+        this.maxAttempts = maxAttempts;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "sqs-ack-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> acknowledge(String queueUrl, String receiptHandle) {
+        if (closed.get()) {
+            // No more batching after close; delete directly so late acknowledgements are not lost
+            return sqsService.deleteMessage(queueUrl, receiptHandle);
+        }
+        PendingAck ack = new PendingAck(receiptHandle, new CompletableFuture<>(), 1);
+        enqueue(queueUrl, ack);
+        return ack.future;
+    }
+
+    @Override
+    public CompletableFuture<Void> flush() {
+        List<CompletableFuture<Void>> flushes = new ArrayList<>();
+        for (String queueUrl : buffers.keySet()) {
+            flushes.add(flushQueue(queueUrl));
+        }
+        return CompletableFuture.allOf(flushes.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * Number of acknowledgements currently buffered and not yet sent.
+     *
+     * @return buffered acknowledgement count across all queues
+     */
+    public int getPendingCount() {
+        int total = 0;
+        for (QueueBuffer buffer : buffers.values()) {
+            synchronized (buffer) {
+                total += buffer.pending.size();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Flush all buffered acknowledgements and stop the linger scheduler.
+     * Acknowledgements arriving afterwards are deleted individually.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flush().get(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Not all acknowledgements were flushed on close: {}", e.getMessage());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void enqueue(String queueUrl, PendingAck ack) {
+        QueueBuffer buffer = buffers.computeIfAbsent(queueUrl, key -> new QueueBuffer());
+        List<PendingAck> ready = null;
+
+        synchronized (buffer) {
+            buffer.pending.addLast(ack);
+            if (buffer.pending.size() >= MAX_BATCH_SIZE) {
+                ready = buffer.drain(MAX_BATCH_SIZE);
+                if (buffer.pending.isEmpty()) {
+                    buffer.cancelLinger();
+                }
+            } else if (buffer.lingerTask == null) {
+                buffer.lingerTask = scheduleFlush(queueUrl);
+            }
+        }
+
+        if (ready != null) {
+            send(queueUrl, ready);
+        }
+    }
+
+    private ScheduledFuture<?> scheduleFlush(String queueUrl) {
+        try {
+            return scheduler.schedule(() -> flushQueue(queueUrl), lingerMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Scheduler already stopped; flush asynchronously instead
+            CompletableFuture.runAsync(() -> flushQueue(queueUrl));
+            return null;
+        }
+    }
+
+    private CompletableFuture<Void> flushQueue(String queueUrl) {
+        QueueBuffer buffer = buffers.get(queueUrl);
+        if (buffer == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<List<PendingAck>> batches = new ArrayList<>();
+        synchronized (buffer) {
+            buffer.cancelLinger();
+            while (!buffer.pending.isEmpty()) {
+                batches.add(buffer.drain(MAX_BATCH_SIZE));
+            }
+        }
+
+        List<CompletableFuture<Void>> settled = new ArrayList<>();
+        for (List<PendingAck> batch : batches) {
+            send(queueUrl, batch);
+            for (PendingAck ack : batch) {
+                settled.add(ack.future.handle((result, throwable) -> null));
+            }
+        }
+        return CompletableFuture.allOf(settled.toArray(new CompletableFuture[0]));
+    }
+
+    private void send(String queueUrl, List<PendingAck> batch) {
+        List<String> receiptHandles = new ArrayList<>(batch.size());
+        for (PendingAck ack : batch) {
+            receiptHandles.add(ack.receiptHandle);
+        }
+
+        CompletableFuture<List<String>> request;
+        try {
+            request = sqsService.deleteMessageBatchWithRetryableFailures(queueUrl, receiptHandles);
+        } catch (RuntimeException e) {
+            request = CompletableFuture.failedFuture(e);
+        }
+
+        request.whenComplete((failedHandles, throwable) -> {
+            if (throwable != null) {
+                log.warn("Delete batch of {} messages failed for queue {}: {}",
+                        batch.size(), queueUrl, throwable.getMessage());
+                batch.forEach(ack -> retryOrFail(queueUrl, ack, throwable));
+                return;
+            }
+
+            Set<String> failed = failedHandles.isEmpty() ? Set.of() : new HashSet<>(failedHandles);
+            for (PendingAck ack : batch) {
+                if (failed.contains(ack.receiptHandle)) {
+                    retryOrFail(queueUrl, ack,
+                            new IllegalStateException("DeleteMessageBatch entry failed for queue " + queueUrl));
+                } else {
+                    ack.future.complete(null);
+                }
+            }
+        });
+    }
+
+    private void retryOrFail(String queueUrl, PendingAck ack, Throwable cause) {
+        if (ack.attempts < maxAttempts) {
+            enqueue(queueUrl, new PendingAck(ack.receiptHandle, ack.future, ack.attempts + 1));
+        } else {
+            log.warn("Giving up deleting message on queue {} after {} attempts", queueUrl, ack.attempts);
+            ack.future.completeExceptionally(cause);
+        }
+    }
+
+    private record PendingAck(String receiptHandle, CompletableFuture<Void> future, int attempts) {
+    }
+
+    /**
+     * Pending acknowledgements for one queue. Guarded by its own monitor.
+     */
+    private static final class QueueBuffer {
+        private final Deque<PendingAck> pending = new ArrayDeque<>();
+        private ScheduledFuture<?> lingerTask;
+
+        private List<PendingAck> drain(int max) {
+            List<PendingAck> batch = new ArrayList<>(Math.min(max, pending.size()));
+            while (batch.size() < max && !pending.isEmpty()) {
+                batch.add(pending.pollFirst());
+            }
+            return batch;
+        }
+
+        private void cancelLinger() {
+            if (lingerTask != null) {
+                lingerTask.cancel(false);
+                lingerTask = null;
+            }
+        }
+    }
+}
@@ -1,141 +1,329 @@
 package com.ryuqq.aws.sqs.consumer.component.impl;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.ryuqq.aws.sqs.consumer.component.DeadLetterQueueHandler;
+import com.ryuqq.aws.sqs.consumer.types.DlqMessage;
 import com.ryuqq.aws.sqs.service.SqsService;
+import com.ryuqq.aws.sqs.types.SqsBatchResult;
 import com.ryuqq.aws.sqs.types.SqsMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Default implementation of DeadLetterQueueHandler.
  * Manages failed messages and sends them to configured dead letter queues.
+ *
+ * Failed messages are serialized into a {@link DlqMessage} envelope on the calling thread with a
+ * shared, pre-configured ObjectWriter and buffered per DLQ name. A buffer is sent with one
+ * SendMessageBatch call as soon as it holds 10 envelopes (the SQS batch limit) or when the linger
+ * time since its first pending envelope elapses. The DLQ URL is resolved through the SqsService
+ * cache, so neither the lookup nor the send blocks the worker that reported the failure.
  */
 @Component
-public class DefaultDeadLetterQueueHandler implements DeadLetterQueueHandler {
+public class DefaultDeadLetterQueueHandler implements DeadLetterQueueHandler, AutoCloseable {
 
     private static final Logger log = LoggerFactory.getLogger(DefaultDeadLetterQueueHandler.class);
 
+    private static final int MAX_BATCH_SIZE = 10;
+    private static final long DEFAULT_LINGER_MILLIS = 50L;
+    private static final long CLOSE_TIMEOUT_SECONDS = 10L;
+
+    // Thread-safe and immutable; shared by every handler so envelopes are never serialized with a fresh mapper
+    private static final ObjectWriter DLQ_MESSAGE_WRITER = createDlqMessageWriter();
+
     private final SqsService sqsService;
     private final Environment environment;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Executor lingerExecutor;
+    private final ConcurrentMap<String, DlqBuffer> buffers = new ConcurrentHashMap<>();
+    private final AtomicBoolean closed = new AtomicBoolean(false);
 
+    @Autowired
     public DefaultDeadLetterQueueHandler(SqsService sqsService, Environment environment) {
+        this(sqsService, environment, DEFAULT_LINGER_MILLIS);
+    }
+
+    public DefaultDeadLetterQueueHandler(SqsService sqsService, Environment environment, long lingerMillis) {
+        if (lingerMillis < 0) {
+            throw new IllegalArgumentException("Linger time cannot be negative");
+        }
         this.sqsService = sqsService;
         this.environment = environment;
+        this.lingerExecutor = CompletableFuture.delayedExecutor(lingerMillis, TimeUnit.MILLISECONDS);
     }
-    
+
+    private static ObjectWriter createDlqMessageWriter() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.getFactory().disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        return mapper.writerFor(DlqMessage.class);
+    }
+
+    /**
+     * Send a failed message and wait for the batch carrying it to complete.
+     * Prefer {@link #sendToDeadLetterQueueAsync} on worker threads.
+     */
     @Override
     public boolean sendToDeadLetterQueue(SqsMessage originalMessage, Exception exception, DlqConfig config) {
+        try {
+            return sendToDeadLetterQueueAsync(originalMessage, exception, config).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DeadLetterQueueException("Interrupted while sending message to DLQ", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DeadLetterQueueException dlqException) {
+                throw dlqException;
+            }
+            throw new DeadLetterQueueException("Failed to send message to DLQ", e.getCause());
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> sendToDeadLetterQueueAsync(SqsMessage originalMessage, Exception exception,
+                                                                 DlqConfig config) {
         if (!isDlqEnabled(config)) {
             log.debug("DLQ is not enabled for container: {}", config.getContainerId());
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
-        
+
+        String dlqName;
+        String body;
         try {
             validateDlqConfig(config);
-            
-            String dlqName = resolveProperty(config.getDlqName());
-            String dlqUrl = sqsService.getQueueUrl(dlqName).get();
-            
-            String dlqMessageBody = createDlqMessageBody(originalMessage, exception, config);
-            
-            sqsService.sendMessage(dlqUrl, dlqMessageBody).get();
-            
-            log.info("Successfully sent failed message {} to DLQ for container {}", 
-                    originalMessage.getMessageId(), config.getContainerId());
-            
-            return true;
-            
-        } catch (Exception e) {
-            log.error("Failed to send message to DLQ for container {}: {}", 
-                    config.getContainerId(), e.getMessage(), e);
-            
-            throw new DeadLetterQueueException("Failed to send message to DLQ", e);
+            dlqName = resolveProperty(config.getDlqName());
+            body = DLQ_MESSAGE_WRITER.writeValueAsString(createDlqMessage(originalMessage, exception, config));
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            log.error("Failed to prepare DLQ message for container {}: {}", config.getContainerId(), e.getMessage(), e);
+            return CompletableFuture.failedFuture(new DeadLetterQueueException("Failed to send message to DLQ", e));
+        }
+
+        PendingEnvelope envelope = new PendingEnvelope(originalMessage.getMessageId(), config.getContainerId(), body,
+                new CompletableFuture<>());
+        if (closed.get()) {
+            // No more batching after close; send the envelope on its own so late failures are not lost
+            send(dlqName, List.of(envelope));
+        } else {
+            enqueue(dlqName, envelope);
         }
+        return envelope.future;
     }
-    
+
     @Override
     public boolean isDlqEnabled(DlqConfig config) {
-        return config.isEnabled() && 
-               config.getDlqName() != null && 
+        return config.isEnabled() &&
+               config.getDlqName() != null &&
                !config.getDlqName().trim().isEmpty();
     }
-    
+
     @Override
     public void validateDlqConfig(DlqConfig config) throws IllegalArgumentException {
         if (!config.isEnabled()) {
             throw new IllegalArgumentException("DLQ is not enabled");
         }
-        
+
         if (config.getDlqName() == null || config.getDlqName().trim().isEmpty()) {
             throw new IllegalArgumentException("DLQ name cannot be null or empty");
         }
-        
+
         if (config.getContainerId() == null || config.getContainerId().trim().isEmpty()) {
             throw new IllegalArgumentException("Container ID cannot be null or empty");
         }
     }
-    
-    private String createDlqMessageBody(SqsMessage originalMessage, Exception exception, DlqConfig config) {
+
+    /**
+     * Send all buffered envelopes immediately.
+     *
+     * @return future completed when every envelope buffered at call time has settled
+     */
+    public CompletableFuture<Void> flush() {
+        List<CompletableFuture<Void>> flushes = new ArrayList<>();
+        for (String dlqName : buffers.keySet()) {
+            flushes.add(flushQueue(dlqName));
+        }
+        return CompletableFuture.allOf(flushes.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * Number of envelopes currently buffered and not yet sent.
+     *
+     * @return buffered envelope count across all dead letter queues
+     */
+    public int getPendingCount() {
+        int total = 0;
+        for (DlqBuffer buffer : buffers.values()) {
+            synchronized (buffer) {
+                total += buffer.pending.size();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Flush all buffered envelopes. Envelopes arriving afterwards are sent individually.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
         try {
-            Map<String, Object> dlqMessage = new HashMap<>();
-            
-            // Original message information
-            dlqMessage.put("originalMessageId", originalMessage.getMessageId());
-            dlqMessage.put("originalMessageBody", originalMessage.getBody());
-            
-            if (config.preserveOriginalAttributes() && originalMessage.getAttributes() != null) {
-                dlqMessage.put("originalAttributes", originalMessage.getAttributes());
+            flush().get(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Not all DLQ messages were flushed on close: {}", e.getMessage());
+        }
+    }
+
+    private DlqMessage createDlqMessage(SqsMessage originalMessage, Exception exception, DlqConfig config) {
+        DlqMessage.Builder builder = DlqMessage.builder()
+                .originalMessageId(originalMessage.getMessageId())
+                .originalMessage(originalMessage.getBody())
+                .errorMessage(exception.getMessage())
+                .errorType(exception.getClass().getSimpleName())
+                .timestamp(Instant.now())
+                .containerId(config.getContainerId())
+                .queueUrl(config.getSourceQueueUrl())
+                .retryAttempts(config.getRetryAttempts());
+
+        if (config.preserveOriginalAttributes() && originalMessage.getAttributes() != null) {
+            builder.originalAttributes(originalMessage.getAttributes());
+        }
+        if (config.getAdditionalMetadata() != null && !config.getAdditionalMetadata().isEmpty()) {
+            builder.additionalContext(new HashMap<>(config.getAdditionalMetadata()));
+        }
+        return builder.build();
+    }
+
+    private void enqueue(String dlqName, PendingEnvelope envelope) {
+        DlqBuffer buffer = buffers.computeIfAbsent(dlqName, key -> new DlqBuffer());
+        List<PendingEnvelope> ready = null;
+
+        synchronized (buffer) {
+            buffer.pending.addLast(envelope);
+            if (buffer.pending.size() >= MAX_BATCH_SIZE) {
+                ready = buffer.drain(MAX_BATCH_SIZE);
+                if (buffer.pending.isEmpty()) {
+                    buffer.lingerScheduled = false;
+                }
+            } else if (!buffer.lingerScheduled) {
+                buffer.lingerScheduled = true;
+                CompletableFuture.runAsync(() -> flushQueue(dlqName), lingerExecutor);
+            }
+        }
+
+        if (ready != null) {
+            send(dlqName, ready);
+        }
+    }
+
+    private CompletableFuture<Void> flushQueue(String dlqName) {
+        DlqBuffer buffer = buffers.get(dlqName);
+        if (buffer == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<List<PendingEnvelope>> batches = new ArrayList<>();
+        synchronized (buffer) {
+            buffer.lingerScheduled = false;
+            while (!buffer.pending.isEmpty()) {
+                batches.add(buffer.drain(MAX_BATCH_SIZE));
             }
-            
-            // Failure information
-            dlqMessage.put("errorMessage", exception.getMessage());
-            dlqMessage.put("errorType", exception.getClass().getSimpleName());
-            dlqMessage.put("failureTimestamp", Instant.now().toString());
-            
-            // Container information
-            dlqMessage.put("containerId", config.getContainerId());
-            
-            // Additional metadata
-            if (config.getAdditionalMetadata() != null && !config.getAdditionalMetadata().isEmpty()) {
-                dlqMessage.put("additionalMetadata", config.getAdditionalMetadata());
+        }
+
+        List<CompletableFuture<Void>> settled = new ArrayList<>();
+        for (List<PendingEnvelope> batch : batches) {
+            send(dlqName, batch);
+            for (PendingEnvelope envelope : batch) {
+                settled.add(envelope.future.handle((result, throwable) -> null));
             }
-            
-            return objectMapper.writeValueAsString(dlqMessage);
-            
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to create structured DLQ message, falling back to simple format: {}", e.getMessage());
-            
-            // Fallback to simple string format
-            return String.format(
-                    "{\"originalMessage\":\"%s\",\"error\":\"%s\",\"timestamp\":\"%s\",\"containerId\":\"%s\"}",
-                    escapeJson(originalMessage.getBody()),
-                    escapeJson(exception.getMessage()),
-                    Instant.now(),
-                    config.getContainerId()
-            );
-        }
-    }
-    
-    private String escapeJson(String value) {
-        if (value == null) {
-            return "";
         }
-        return value.replace("\"", "\\\"").replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r");
+        return CompletableFuture.allOf(settled.toArray(new CompletableFuture[0]));
     }
-    
+
+    private void send(String dlqName, List<PendingEnvelope> batch) {
+        List<String> bodies = new ArrayList<>(batch.size());
+        for (PendingEnvelope envelope : batch) {
+            bodies.add(envelope.body);
+        }
+
+        CompletableFuture<SqsBatchResult> request;
+        try {
+            // Queue URL lookups are served from the SqsService cache after the first resolution
+            request = sqsService.getQueueUrl(dlqName)
+                    .thenCompose(dlqUrl -> sqsService.sendMessageBatch(dlqUrl, bodies, 1));
+        } catch (RuntimeException e) {
+            request = CompletableFuture.failedFuture(e);
+        }
+
+        request.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                log.error("Failed to send {} message(s) to DLQ {}: {}", batch.size(), dlqName, throwable.getMessage());
+                DeadLetterQueueException failure = new DeadLetterQueueException("Failed to send message to DLQ", throwable);
+                batch.forEach(envelope -> envelope.future.completeExceptionally(failure));
+                return;
+            }
+            for (int index = 0; index < batch.size(); index++) {
+                PendingEnvelope envelope = batch.get(index);
+                SqsBatchResult.Entry entry = result.get(index);
+                if (entry.isSuccessful()) {
+                    log.info("Successfully sent failed message {} to DLQ for container {}",
+                            envelope.messageId, envelope.containerId);
+                    envelope.future.complete(true);
+                } else {
+                    log.error("Failed to send message {} to DLQ for container {}: {} {}",
+                            envelope.messageId, envelope.containerId, entry.getErrorCode(), entry.getErrorMessage());
+                    envelope.future.completeExceptionally(new DeadLetterQueueException(
+                            "DLQ entry failed: " + entry.getErrorCode() + " " + entry.getErrorMessage()));
+                }
+            }
+        });
+    }
+
     private String resolveProperty(String value) {
         if (value == null || value.isEmpty()) {
             return "";
         }
         return environment.resolvePlaceholders(value);
     }
-}
\ No newline at end of file
+
+    private record PendingEnvelope(String messageId, String containerId, String body,
+                                   CompletableFuture<Boolean> future) {
+    }
+
+    /**
+     * Pending envelopes for one dead letter queue. Guarded by its own monitor.
+     */
+    private static final class DlqBuffer {
+        private final Deque<PendingEnvelope> pending = new ArrayDeque<>();
+        private boolean lingerScheduled;
+
+        private List<PendingEnvelope> drain(int max) {
+            List<PendingEnvelope> batch = new ArrayList<>(Math.min(max, pending.size()));
+            while (batch.size() < max && !pending.isEmpty()) {
+                batch.add(pending.pollFirst());
+            }
+            return batch;
+        }
+    }
+}
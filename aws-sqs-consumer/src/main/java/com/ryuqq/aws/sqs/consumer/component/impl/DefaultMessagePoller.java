@@ -1,6 +1,7 @@
 package com.ryuqq.aws.sqs.consumer.component.impl;
 
 import com.ryuqq.aws.sqs.consumer.component.MessagePoller;
+import com.ryuqq.aws.sqs.consumer.executor.PollingEngine;
 import com.ryuqq.aws.sqs.service.SqsService;
 import com.ryuqq.aws.sqs.types.SqsMessage;
 import org.slf4j.Logger;
@@ -10,24 +11,31 @@ import org.springframework.stereotype.Component;
 import java.util.List;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntSupplier;
 
 /**
  * Default implementation of MessagePoller.
  * Handles SQS message polling with configurable parameters.
+ * Continuous polling runs on the shared {@link PollingEngine}, so no thread is held
+ * while a long poll is outstanding.
  */
 @Component
 public class DefaultMessagePoller implements MessagePoller {
 
     private static final Logger log = LoggerFactory.getLogger(DefaultMessagePoller.class);
 
+    private static final long ERROR_BACKOFF_MILLIS = 1000L;
+    
+    // Receive with the client's configured visibility timeout (aws.sqs.visibility-timeout)
+    private static final int DEFAULT_VISIBILITY_TIMEOUT = -1;
+    
     private final SqsService sqsService;
 
     public DefaultMessagePoller(SqsService sqsService) {
         this.sqsService = sqsService;
     }
     private final AtomicBoolean polling = new AtomicBoolean(false);
-    private ScheduledExecutorService pollingExecutor;
-    private CompletableFuture<Void> pollingTask;
+    private volatile PollingEngine.Handle pollingHandle;
     
     @Override
     public List<SqsMessage> pollMessages(String queueUrl, int maxMessages, int pollTimeoutSeconds) {
@@ -43,23 +51,39 @@ public class DefaultMessagePoller implements MessagePoller {
     @Override
     public void startPolling(String queueUrl, int maxMessages, int pollTimeoutSeconds, 
                            MessageHandler messageHandler) {
+        startPolling(queueUrl, maxMessages, pollTimeoutSeconds, 1, messageHandler);
+    }
+    
+    @Override
+    public void startPolling(String queueUrl, int maxMessages, int pollTimeoutSeconds,
+                             int pollerCount, MessageHandler messageHandler) {
+        startPolling(queueUrl, () -> maxMessages, pollTimeoutSeconds, pollerCount, messageHandler);
+    }
+    
+    @Override
+    public void startPolling(String queueUrl, IntSupplier maxMessagesSupplier, int pollTimeoutSeconds,
+                             int pollerCount, MessageHandler messageHandler) {
+        startPolling(queueUrl, maxMessagesSupplier, pollTimeoutSeconds, DEFAULT_VISIBILITY_TIMEOUT,
+                pollerCount, messageHandler);
+    }
+    
+    @Override
+    public void startPolling(String queueUrl, IntSupplier maxMessagesSupplier, int pollTimeoutSeconds,
+                             int visibilityTimeoutSeconds, int pollerCount, MessageHandler messageHandler) {
+        if (pollerCount < 1) {
+            throw new IllegalArgumentException("Poller count must be at least 1");
+        }
         if (polling.getAndSet(true)) {
             log.warn("Polling is already active for queue: {}", queueUrl);
             return;
         }
         
-        pollingExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread thread = new Thread(r, "sqs-poller-" + queueUrl.hashCode());
-            thread.setDaemon(true);
-            return thread;
-        });
-        
-        pollingTask = CompletableFuture.runAsync(() -> 
-            pollContinuously(queueUrl, maxMessages, pollTimeoutSeconds, messageHandler), 
-            pollingExecutor
-        );
+        pollingHandle = PollingEngine.start(queueUrl, pollerCount,
+                () -> pollOnce(queueUrl, maxMessagesSupplier, pollTimeoutSeconds, visibilityTimeoutSeconds,
+                        messageHandler),
+                ERROR_BACKOFF_MILLIS);
         
-        log.info("Started polling for queue: {}", queueUrl);
+        log.info("Started {} poller(s) for queue: {}", pollerCount, queueUrl);
     }
     
     @Override
@@ -69,15 +93,9 @@ public class DefaultMessagePoller implements MessagePoller {
         }
         
         try {
-            if (pollingTask != null && !pollingTask.isDone()) {
-                pollingTask.cancel(true);
-            }
-            
-            if (pollingExecutor != null && !pollingExecutor.isShutdown()) {
-                pollingExecutor.shutdown();
-                if (!pollingExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
-                    pollingExecutor.shutdownNow();
-                }
+            PollingEngine.Handle handle = pollingHandle;
+            if (handle != null) {
+                handle.stop().get(30, TimeUnit.SECONDS);
             }
             
             log.info("Stopped polling");
@@ -91,28 +109,32 @@ public class DefaultMessagePoller implements MessagePoller {
         return polling.get();
     }
     
-    private void pollContinuously(String queueUrl, int maxMessages, int pollTimeoutSeconds, 
-                                 MessageHandler messageHandler) {
-        while (polling.get()) {
-            try {
-                List<SqsMessage> messages = pollMessages(queueUrl, maxMessages, pollTimeoutSeconds);
-                
-                if (!messages.isEmpty()) {
-                    log.debug("Polled {} messages from queue: {}", messages.size(), queueUrl);
-                    messageHandler.handleMessages(messages);
-                }
-                
-            } catch (Exception e) {
-                log.error("Error in polling loop for queue {}: {}", queueUrl, e.getMessage(), e);
-                
-                // Brief pause before retrying to avoid tight error loops
-                try {
-                    Thread.sleep(1000);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    break;
-                }
-            }
+    /**
+     * Sends one receive request and hands the result to the handler once it arrives,
+     * together with the time the request was sent.
+     * A failed receive completes the returned future exceptionally so the engine backs off.
+     */
+    private CompletableFuture<Void> pollOnce(String queueUrl, IntSupplier maxMessagesSupplier,
+                                             int pollTimeoutSeconds, int visibilityTimeoutSeconds,
+                                             MessageHandler messageHandler) {
+        int maxMessages = Math.max(1, Math.min(10, maxMessagesSupplier.getAsInt()));
+        if (!polling.get()) {
+            return CompletableFuture.completedFuture(null);
         }
+        
+        // The visibility timeout starts after the request is sent, so this is a safe lower bound
+        long requestedAt = System.nanoTime();
+        CompletableFuture<List<SqsMessage>> receive = (visibilityTimeoutSeconds >= 0
+                ? sqsService.receiveMessages(queueUrl, maxMessages, visibilityTimeoutSeconds)
+                : sqsService.receiveMessages(queueUrl, maxMessages))
+                .orTimeout(pollTimeoutSeconds + 5, TimeUnit.SECONDS);
+        return PollingEngine.linkCancellation(receive.thenAcceptAsync(messages -> {
+                    if (!messages.isEmpty()) {
+                        log.debug("Polled {} messages from queue: {}", messages.size(), queueUrl);
+                        messageHandler.handleMessages(messages, requestedAt);
+                    } else {
+                        messageHandler.onEmptyReceive();
+                    }
+                }, PollingEngine.continuationExecutor()), receive);
     }
-}
\ No newline at end of file
+}
@@ -1,17 +1,25 @@
 package com.ryuqq.aws.sqs.consumer.component.impl;
 
+import com.ryuqq.aws.sqs.consumer.component.MessageAcknowledger;
 import com.ryuqq.aws.sqs.consumer.component.MessageProcessor;
+import com.ryuqq.aws.sqs.consumer.processor.BatchResults;
 import com.ryuqq.aws.sqs.service.SqsService;
 import com.ryuqq.aws.sqs.types.SqsMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Default implementation of MessageProcessor.
  * Handles both single message and batch processing.
+ * Single-message deletes go through the MessageAcknowledger when one is configured.
+ * Batch deletes skip the messages a batch listener reports as failed.
  */
 @Component
 public class DefaultMessageProcessor implements MessageProcessor {
@@ -19,9 +27,16 @@ public class DefaultMessageProcessor implements MessageProcessor {
     private static final Logger log = LoggerFactory.getLogger(DefaultMessageProcessor.class);
 
     private final SqsService sqsService;
+    private final MessageAcknowledger messageAcknowledger;
 
     public DefaultMessageProcessor(SqsService sqsService) {
+        this(sqsService, null);
+    }
+
+    @Autowired
+    public DefaultMessageProcessor(SqsService sqsService, @Nullable MessageAcknowledger messageAcknowledger) {
         this.sqsService = sqsService;
+        this.messageAcknowledger = messageAcknowledger;
     }
     
     @Override
@@ -42,21 +57,26 @@ public class DefaultMessageProcessor implements MessageProcessor {
     }
     
     @Override
-    public void processBatch(List<SqsMessage> messages, ProcessingConfig config) throws MessageProcessingException {
+    public Set<String> processBatch(List<SqsMessage> messages, ProcessingConfig config) throws MessageProcessingException {
         try {
             log.debug("Processing batch of {} messages", messages.size());
             
-            invokeTargetMethod(messages, config);
+            Object result = invokeTargetMethod(messages, config);
+            Set<String> failedMessageIds = BatchResults.failedMessageIds(result, messages);
             
-            // Auto-delete messages if configured
+            // Auto-delete the messages that succeeded if configured
             if (config.isAutoDelete()) {
                 List<String> receiptHandles = messages.stream()
+                        .filter(message -> !failedMessageIds.contains(message.getMessageId()))
                         .map(SqsMessage::getReceiptHandle)
                         .toList();
                 
-                deleteMessageBatch(config.getQueueUrl(), receiptHandles);
+                if (!receiptHandles.isEmpty()) {
+                    deleteMessageBatch(config.getQueueUrl(), receiptHandles);
+                }
             }
             
+            return failedMessageIds;
         } catch (Exception e) {
             throw new MessageProcessingException("Failed to process message batch", e);
         }
@@ -67,9 +87,9 @@ public class DefaultMessageProcessor implements MessageProcessor {
         return true;
     }
     
-    private void invokeTargetMethod(Object messageParameter, ProcessingConfig config) throws Exception {
+    private Object invokeTargetMethod(Object messageParameter, ProcessingConfig config) throws Exception {
         try {
-            config.getTargetMethod().invoke(config.getTargetBean(), messageParameter);
+            return config.getListenerInvoker().invoke(messageParameter);
         } catch (Exception e) {
             log.error("Error invoking target method: {}", e.getMessage(), e);
             throw e;
@@ -77,7 +97,10 @@ public class DefaultMessageProcessor implements MessageProcessor {
     }
     
     private void deleteMessage(String queueUrl, String receiptHandle) {
-        sqsService.deleteMessage(queueUrl, receiptHandle)
+        CompletableFuture<Void> deletion = messageAcknowledger != null
+                ? messageAcknowledger.acknowledge(queueUrl, receiptHandle)
+                : sqsService.deleteMessage(queueUrl, receiptHandle);
+        deletion
                 .exceptionally(throwable -> {
                     log.warn("Failed to delete message with receipt handle {}: {}", 
                             receiptHandle, throwable.getMessage());
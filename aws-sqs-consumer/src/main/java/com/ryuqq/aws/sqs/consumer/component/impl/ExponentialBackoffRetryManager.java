@@ -1,15 +1,19 @@
 package com.ryuqq.aws.sqs.consumer.component.impl;
 
 import com.ryuqq.aws.sqs.consumer.component.RetryManager;
+import com.ryuqq.aws.sqs.consumer.executor.RetryScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 /**
  * Implementation of RetryManager with exponential backoff strategy.
  * Provides retry logic with configurable backoff parameters.
+ * The async variant schedules backoff delays on the shared {@link RetryScheduler} timer.
  */
 @Component
 public class ExponentialBackoffRetryManager implements RetryManager {
@@ -60,6 +64,48 @@ public class ExponentialBackoffRetryManager implements RetryManager {
         }, config);
     }
     
+    @Override
+    public <T> CompletableFuture<T> executeWithRetryAsync(Supplier<T> operation, RetryConfig config,
+                                                          Executor executor) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        scheduleAttempt(operation, config, executor, 0, 0L, result);
+        return result;
+    }
+    
+    private <T> void scheduleAttempt(Supplier<T> operation, RetryConfig config, Executor executor,
+                                     int attempt, long delayMillis, CompletableFuture<T> result) {
+        RetryScheduler.runAfter(delayMillis, executor, () -> runAttempt(operation, config, executor, attempt, result))
+                .exceptionally(rejected -> {
+                    result.completeExceptionally(rejected);
+                    return null;
+                });
+    }
+    
+    private <T> void runAttempt(Supplier<T> operation, RetryConfig config, Executor executor,
+                                int attempt, CompletableFuture<T> result) {
+        T value;
+        try {
+            value = operation.get();
+        } catch (Exception e) {
+            if (attempt < config.getMaxRetryAttempts()) {
+                long delay = calculateRetryDelay(attempt, config.getRetryDelayMillis(),
+                                               config.getMaxRetryDelayMillis());
+                log.warn("Operation attempt {} failed, retrying in {}ms: {}",
+                        attempt + 1, delay, e.getMessage());
+                scheduleAttempt(operation, config, executor, attempt + 1, delay, result);
+            } else {
+                log.error("All retry attempts exhausted after {} attempts", attempt + 1);
+                result.completeExceptionally(new RetryExhaustedException(
+                        "Operation failed after " + (attempt + 1) + " attempts", attempt + 1, e));
+            }
+            return;
+        } catch (Throwable t) {
+            result.completeExceptionally(t);
+            return;
+        }
+        result.complete(value);
+    }
+    
     @Override
     public long calculateRetryDelay(int attempt, long baseDelayMillis, long maxDelayMillis) {
         if (attempt <= 0) {
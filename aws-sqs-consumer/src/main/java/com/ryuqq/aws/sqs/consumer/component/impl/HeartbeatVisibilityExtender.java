@@ -0,0 +1,202 @@
+package com.ryuqq.aws.sqs.consumer.component.impl;
+
+import com.ryuqq.aws.sqs.consumer.component.VisibilityExtender;
+import com.ryuqq.aws.sqs.service.SqsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * VisibilityExtender driven by one shared heartbeat thread.
+ *
+ * Every tick collects the tracked messages that have used up half of their visibility window
+ * and extends them with ChangeMessageVisibilityBatch, 10 receipt handles per call, grouped by
+ * queue and visibility timeout. Entries rejected by SQS (for example an expired receipt handle)
+ * are dropped; a failed request is retried on the next tick. Messages are never extended past
+ * the 12 hour visibility limit SQS enforces from the time of receipt. Both the first extension
+ * and that limit count from the receive time passed to track, so a message that waited before
+ * being tracked is extended as soon as half of its window has elapsed.
+ */
+public class HeartbeatVisibilityExtender implements VisibilityExtender, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(HeartbeatVisibilityExtender.class);
+
+    private static final int MAX_BATCH_SIZE = 10;
+    private static final long DEFAULT_TICK_MILLIS = 1_000L;
+    private static final long MAX_VISIBILITY_NANOS = TimeUnit.HOURS.toNanos(12);
+
+    private final SqsService sqsService;
+    private final ScheduledExecutorService scheduler;
+    private final ConcurrentMap<String, ConcurrentMap<String, Lease>> leasesByQueue = new ConcurrentHashMap<>();
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    public HeartbeatVisibilityExtender(SqsService sqsService) {
+        this(sqsService, DEFAULT_TICK_MILLIS);
+    }
+
+    public HeartbeatVisibilityExtender(SqsService sqsService, long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Heartbeat tick must be positive");
+        }
+        this.sqsService = sqsService;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "sqs-visibility-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::safeExtendDueLeases, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void track(String queueUrl, String receiptHandle, int visibilityTimeoutSeconds) {
+        track(queueUrl, receiptHandle, visibilityTimeoutSeconds, System.nanoTime());
+    }
+
+    @Override
+    public void track(String queueUrl, String receiptHandle, int visibilityTimeoutSeconds, long receivedAtNanos) {
+        if (closed.get() || visibilityTimeoutSeconds <= 0) {
+            return;
+        }
+        leasesByQueue.computeIfAbsent(queueUrl, key -> new ConcurrentHashMap<>())
+                .put(receiptHandle, new Lease(visibilityTimeoutSeconds, receivedAtNanos));
+    }
+
+    @Override
+    public void release(String queueUrl, String receiptHandle) {
+        ConcurrentMap<String, Lease> leases = leasesByQueue.get(queueUrl);
+        if (leases != null) {
+            leases.remove(receiptHandle);
+        }
+    }
+
+    @Override
+    public int getTrackedCount() {
+        int total = 0;
+        for (ConcurrentMap<String, Lease> leases : leasesByQueue.values()) {
+            total += leases.size();
+        }
+        return total;
+    }
+
+    /**
+     * Stop the heartbeat. Tracked messages are no longer extended and become visible
+     * again once their current visibility timeout expires.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        scheduler.shutdownNow();
+        leasesByQueue.clear();
+    }
+
+    private void safeExtendDueLeases() {
+        try {
+            extendDueLeases();
+        } catch (RuntimeException e) {
+            // Never let an exception cancel the periodic heartbeat
+            log.warn("Visibility heartbeat failed: {}", e.getMessage(), e);
+        }
+    }
+
+    void extendDueLeases() {
+        long now = System.nanoTime();
+        for (Map.Entry<String, ConcurrentMap<String, Lease>> queue : leasesByQueue.entrySet()) {
+            String queueUrl = queue.getKey();
+            ConcurrentMap<String, Lease> leases = queue.getValue();
+
+            // Group due handles by visibility timeout so each batch can use a single value
+            Map<Integer, List<String>> dueByVisibility = new LinkedHashMap<>();
+            for (Map.Entry<String, Lease> entry : leases.entrySet()) {
+                Lease lease = entry.getValue();
+                if (lease.extending || now - lease.nextExtendAtNanos < 0) {
+                    continue;
+                }
+                if (now + lease.visibilityNanos() - lease.receivedAtNanos > MAX_VISIBILITY_NANOS) {
+                    log.warn("Message on queue {} reached the 12 hour visibility limit; no longer extending", queueUrl);
+                    leases.remove(entry.getKey(), lease);
+                    continue;
+                }
+                lease.extending = true;
+                dueByVisibility.computeIfAbsent(lease.visibilityTimeoutSeconds, key -> new ArrayList<>())
+                        .add(entry.getKey());
+            }
+
+            dueByVisibility.forEach((visibilityTimeoutSeconds, handles) -> {
+                for (int from = 0; from < handles.size(); from += MAX_BATCH_SIZE) {
+                    List<String> batch = handles.subList(from, Math.min(from + MAX_BATCH_SIZE, handles.size()));
+                    extend(queueUrl, leases, List.copyOf(batch), visibilityTimeoutSeconds);
+                }
+            });
+        }
+    }
+
+    private void extend(String queueUrl, ConcurrentMap<String, Lease> leases, List<String> receiptHandles,
+                        int visibilityTimeoutSeconds) {
+        CompletableFuture<List<String>> request;
+        try {
+            request = sqsService.changeMessageVisibilityBatch(queueUrl, receiptHandles, visibilityTimeoutSeconds);
+        } catch (RuntimeException e) {
+            request = CompletableFuture.failedFuture(e);
+        }
+        long requestedAt = System.nanoTime();
+
+        request.whenComplete((failedHandles, throwable) -> {
+            if (throwable != null) {
+                log.warn("Failed to extend visibility of {} messages on queue {}: {}",
+                        receiptHandles.size(), queueUrl, throwable.getMessage());
+            }
+            Set<String> failed = throwable != null || failedHandles.isEmpty() ? Set.of() : new HashSet<>(failedHandles);
+            for (String receiptHandle : receiptHandles) {
+                Lease lease = leases.get(receiptHandle);
+                if (lease == null) {
+                    // Released while the request was in flight
+                    continue;
+                }
+                if (failed.contains(receiptHandle)) {
+                    log.debug("Visibility extension rejected for a message on queue {}; no longer extending", queueUrl);
+                    leases.remove(receiptHandle, lease);
+                    continue;
+                }
+                if (throwable == null) {
+                    lease.nextExtendAtNanos = requestedAt + lease.visibilityNanos() / 2;
+                }
+                lease.extending = false;
+            }
+        });
+    }
+
+    /**
+     * Visibility state of one tracked message.
+     */
+    private static final class Lease {
+        private final int visibilityTimeoutSeconds;
+        private final long receivedAtNanos;
+        private volatile long nextExtendAtNanos;
+        private volatile boolean extending;
+
+        private Lease(int visibilityTimeoutSeconds, long receivedAtNanos) {
+            this.visibilityTimeoutSeconds = visibilityTimeoutSeconds;
+            this.receivedAtNanos = receivedAtNanos;
+            this.nextExtendAtNanos = receivedAtNanos + visibilityNanos() / 2;
+        }
+
+        private long visibilityNanos() {
+            return TimeUnit.SECONDS.toNanos(visibilityTimeoutSeconds);
+        }
+    }
+}
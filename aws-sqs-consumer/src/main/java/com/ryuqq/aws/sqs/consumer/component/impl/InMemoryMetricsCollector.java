@@ -6,7 +6,7 @@ import org.springframework.stereotype.Component;
 import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * 메모리 기반 MetricsCollector 구현체
@@ -16,9 +16,10 @@ import java.util.concurrent.atomic.AtomicLong;
  * 
  * <h3>주요 특징</h3>
  * <ul>
- *   <li><strong>Thread 안전성</strong>: ConcurrentHashMap과 AtomicLong을 사용한 동시성 보장</li>
+ *   <li><strong>Thread 안전성</strong>: ConcurrentHashMap과 LongAdder를 사용한 락 없는 동시성 보장</li>
  *   <li><strong>실시간 모니터링</strong>: 메모리에 저장되어 빠른 조회 성능</li>
- *   <li><strong>자동 계산</strong>: 평균/최대/최소 처리 시간 자동 산출</li>
+ *   <li><strong>자동 계산</strong>: 평균/최대/최소 처리 시간과 p50/p90/p99/p99.9 백분위수 자동 산출</li>
+ *   <li><strong>큐 대기 지연</strong>: SentTimestamp 기준 종단 간 지연 백분위수 제공</li>
  *   <li><strong>Spring 통합</strong>: @Component 어노테이션으로 자동 빈 등록</li>
  * </ul>
  * 
@@ -75,7 +76,7 @@ public class InMemoryMetricsCollector implements MetricsCollector {
      * 메시지 처리 성공 이벤트 기록
      * 
      * 성공 카운터를 증가시키고 마지막 처리 시간을 현재 시간으로 업데이트합니다.
-     * Thread-safe한 AtomicLong 연산을 사용하여 동시성을 보장합니다.
+     * LongAdder 카운터를 사용하여 락 없이 동시성을 보장합니다.
      */
     @Override
     public void recordMessageProcessed(String containerId) {
@@ -107,6 +108,18 @@ public class InMemoryMetricsCollector implements MetricsCollector {
         metrics.recordProcessingTime(processingTimeMillis);
     }
     
+    /**
+     * 큐 대기 지연 시간 기록
+     * 
+     * 전송 시각부터 처리 시작까지의 지연을 별도 히스토그램에 기록합니다.
+     * 처리 시간 통계와 섞이지 않으므로 적체 여부를 독립적으로 판단할 수 있습니다.
+     */
+    @Override
+    public void recordQueueLatency(String containerId, long latencyMillis) {
+        MutableContainerMetrics metrics = getOrCreateMetrics(containerId);
+        metrics.recordQueueLatency(latencyMillis);
+    }
+    
     /**
      * 컨테이너 상태 변경 이벤트 기록
      * 
@@ -210,33 +223,33 @@ public class InMemoryMetricsCollector implements MetricsCollector {
      * 이를 통해 null 처리 대신 안전한 기본값을 제공합니다.
      */
     private ContainerMetrics createEmptyMetrics(String containerId) {
-        return new ImmutableContainerMetrics(containerId, 0, 0, 0, 0, 0, 0.0, 0, Long.MAX_VALUE, null, null, "CREATED", 0);
+        return new ImmutableContainerMetrics(containerId, 0, 0, 0, 0, 0, 0.0, 0, Long.MAX_VALUE, null, null, "CREATED", 0,
+                LatencyPercentiles.EMPTY, LatencyPercentiles.EMPTY);
     }
     
     /**
      * 내부 사용용 가변 메트릭 클래스
      * 
-     * Thread-safe한 메트릭 수집을 위해 AtomicLong과 volatile 변수를 사용합니다.
+     * 여러 워커 스레드가 동시에 기록해도 경합이 없도록 락을 사용하지 않습니다.
      * 외부에서는 Immutable 객체로 변환하여 제공하여 데이터 무결성을 보장합니다.
      * 
      * <h4>Thread 안전성 전략</h4>
      * <ul>
-     *   <li><strong>AtomicLong</strong>: 카운터 및 누적 값들의 원자적 연산</li>
+     *   <li><strong>LongAdder</strong>: 셀 단위로 분산된 카운터로 고빈도 증가 시에도 CAS 경합 최소화</li>
+     *   <li><strong>LatencyHistogram</strong>: 처리 시간과 큐 대기 지연을 로그 버킷에 기록하여 합계/최대/최소와 백분위수 제공</li>
      *   <li><strong>volatile</strong>: 단순 값 및 참조의 가시성 보장</li>
-     *   <li><strong>synchronized</strong>: 배타적 업데이트에서만 사용</li>
      * </ul>
      */
     private static class MutableContainerMetrics {
         private final String containerId;
-        private final AtomicLong processedCount = new AtomicLong(0);
-        private final AtomicLong failedCount = new AtomicLong(0);
-        private final AtomicLong totalRetryAttempts = new AtomicLong(0);
-        private final AtomicLong dlqSuccessCount = new AtomicLong(0);
-        private final AtomicLong dlqFailureCount = new AtomicLong(0);
-        private final AtomicLong totalProcessingTimeMs = new AtomicLong(0);
-        private final AtomicLong stateChanges = new AtomicLong(0);
-        private volatile long maxProcessingTimeMs = 0;
-        private volatile long minProcessingTimeMs = Long.MAX_VALUE;
+        private final LongAdder processedCount = new LongAdder();
+        private final LongAdder failedCount = new LongAdder();
+        private final LongAdder totalRetryAttempts = new LongAdder();
+        private final LongAdder dlqSuccessCount = new LongAdder();
+        private final LongAdder dlqFailureCount = new LongAdder();
+        private final LongAdder stateChanges = new LongAdder();
+        private final LatencyHistogram processingTime = new LatencyHistogram();
+        private final LatencyHistogram queueLatency = new LatencyHistogram();
         private volatile Instant lastProcessedTime;
         private volatile Instant lastFailureTime;
         private volatile String currentState = "CREATED";
@@ -256,27 +269,28 @@ public class InMemoryMetricsCollector implements MetricsCollector {
          * 성공 카운터를 원자적으로 증가시키고 마지막 처리 시간을 업데이트합니다.
          */
         public void recordMessageProcessed() {
-            processedCount.incrementAndGet();
+            processedCount.increment();
             lastProcessedTime = Instant.now();
         }
         
         /**
          * 메시지 처리 시간 기록
          * 
-         * 총 처리 시간을 누적하고 최대/최소 처리 시간을 업데이트합니다.
-         * synchronized를 사용하여 최대/최소값 비교 연산의 원자성을 보장합니다.
+         * 히스토그램에 기록하면 합계, 최대/최소값과 버킷 카운트가 락 없이 함께 갱신됩니다.
          * 
          * @param processingTimeMs 처리 소요 시간(밀리초)
          */
-        public synchronized void recordProcessingTime(long processingTimeMs) {
-            totalProcessingTimeMs.addAndGet(processingTimeMs);
-            
-            if (processingTimeMs > maxProcessingTimeMs) {
-                maxProcessingTimeMs = processingTimeMs;
-            }
-            if (processingTimeMs < minProcessingTimeMs) {
-                minProcessingTimeMs = processingTimeMs;
-            }
+        public void recordProcessingTime(long processingTimeMs) {
+            processingTime.record(processingTimeMs);
+        }
+        
+        /**
+         * 큐 대기 지연 시간 기록
+         * 
+         * @param latencyMs 전송 시각부터 처리 시작까지의 지연 시간(밀리초)
+         */
+        public void recordQueueLatency(long latencyMs) {
+            queueLatency.record(latencyMs);
         }
         
         /**
@@ -287,7 +301,7 @@ public class InMemoryMetricsCollector implements MetricsCollector {
          * @param exception 발생한 예외 (현재는 저장하지 않음, 추후 확장 가능)
          */
         public void recordMessageFailed(Exception exception) {
-            failedCount.incrementAndGet();
+            failedCount.increment();
             lastFailureTime = Instant.now();
         }
         
@@ -301,7 +315,7 @@ public class InMemoryMetricsCollector implements MetricsCollector {
          */
         public void recordStateChange(String fromState, String toState) {
             this.currentState = toState;
-            stateChanges.incrementAndGet();
+            stateChanges.increment();
         }
         
         /**
@@ -314,9 +328,9 @@ public class InMemoryMetricsCollector implements MetricsCollector {
          */
         public void recordDlqOperation(boolean success) {
             if (success) {
-                dlqSuccessCount.incrementAndGet();
+                dlqSuccessCount.increment();
             } else {
-                dlqFailureCount.incrementAndGet();
+                dlqFailureCount.increment();
             }
         }
         
@@ -329,37 +343,35 @@ public class InMemoryMetricsCollector implements MetricsCollector {
          * @param retryAttempts 현재까지의 재시도 시도 횟수
          */
         public void recordRetryAttempts(int retryAttempts) {
-            totalRetryAttempts.addAndGet(retryAttempts);
+            totalRetryAttempts.add(retryAttempts);
         }
         
         /**
          * 불변 메트릭 객체로 변환
          * 
          * 현재 수집된 모든 메트릭 데이터를 불변 객체로 변환하여 외부에 안전하게 노출합니다.
-         * 평균 처리 시간은 실시간으로 계산되고, 최소값의 특수 처리도 포함됩니다.
+         * 평균 처리 시간은 처리 시간 기록 건수 기준으로 계산됩니다. 백분위수는 버킷 배열을
+         * 복사하지 않고 직접 순회하여 계산하므로 조회 시 추가 할당이 스냅샷 객체로 제한됩니다.
          * 
          * @return 외부 노출용 불변 메트릭 객체
          */
         public ContainerMetrics toImmutable() {
-            long processed = processedCount.get();
-            // 처리된 메시지가 있을 경우만 평균 계산
-            double averageProcessingTime = processed > 0 ? 
-                    (double) totalProcessingTimeMs.get() / processed : 0.0;
-            
             return new ImmutableContainerMetrics(
                     containerId,
-                    processed,
-                    failedCount.get(),
-                    totalRetryAttempts.get(),
-                    dlqSuccessCount.get(),
-                    dlqFailureCount.get(),
-                    averageProcessingTime,
-                    maxProcessingTimeMs,
-                    minProcessingTimeMs == Long.MAX_VALUE ? 0 : minProcessingTimeMs, // 초기값 처리
+                    processedCount.sum(),
+                    failedCount.sum(),
+                    totalRetryAttempts.sum(),
+                    dlqSuccessCount.sum(),
+                    dlqFailureCount.sum(),
+                    processingTime.getMean(),
+                    processingTime.getMax(),
+                    processingTime.getMin(),
                     lastProcessedTime,
                     lastFailureTime,
                     currentState,
-                    stateChanges.get()
+                    stateChanges.sum(),
+                    processingTime.percentiles(),
+                    queueLatency.percentiles()
             );
         }
     }
@@ -384,7 +396,9 @@ public class InMemoryMetricsCollector implements MetricsCollector {
             Instant lastProcessedTime,
             Instant lastFailureTime,
             String currentState,
-            long stateChanges
+            long stateChanges,
+            LatencyPercentiles processingTimePercentiles,
+            LatencyPercentiles queueLatencyPercentiles
     ) implements ContainerMetrics {
 
         /**
@@ -474,5 +488,25 @@ public class InMemoryMetricsCollector implements MetricsCollector {
         public String getCurrentState() {
             return currentState;
         }
+
+        /**
+         * 처리 시간 백분위수 반환
+         *
+         * @return 스냅샷 시점의 p50/p90/p99/p99.9 처리 시간(밀리초)
+         */
+        @Override
+        public LatencyPercentiles getProcessingTimePercentiles() {
+            return processingTimePercentiles;
+        }
+
+        /**
+         * 큐 대기 지연 백분위수 반환
+         *
+         * @return 스냅샷 시점의 p50/p90/p99/p99.9 큐 대기 지연(밀리초)
+         */
+        @Override
+        public LatencyPercentiles getQueueLatencyPercentiles() {
+            return queueLatencyPercentiles;
+        }
     }
 }
\ No newline at end of file
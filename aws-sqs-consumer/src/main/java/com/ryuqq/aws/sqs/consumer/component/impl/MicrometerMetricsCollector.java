@@ -0,0 +1,406 @@
+package com.ryuqq.aws.sqs.consumer.component.impl;
+
+import com.ryuqq.aws.sqs.consumer.component.MetricsCollector;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * MetricsCollector that publishes to a Micrometer {@link MeterRegistry}.
+ *
+ * Every container gets its own set of meters tagged with {@code container} and {@code queue}:
+ * processed/failed counters, processing-time and queue-latency timers with p50/p90/p99/p99.9,
+ * an in-flight gauge, DLQ counters by outcome, a DLQ send-latency timer, retry attempts and state changes. Queue depth
+ * readings from the sampler are exposed as visible/not-visible gauges and a lag gauge holding the
+ * age of the oldest message.
+ *
+ * Meters are registered once per container in {@link #bindContainer}, and the returned recorder
+ * writes to them directly, so the message path performs neither registry nor map lookups. The
+ * containerId-based methods remain available and resolve the container's meters through a map;
+ * containers that were never bound are tagged with queue {@code unknown}.
+ *
+ * {@link #getAllMetrics()} returns a read-only live view backed by the meters instead of copying
+ * a snapshot on every call.
+ */
+public class MicrometerMetricsCollector implements MetricsCollector {
+
+    static final String PROCESSED = "sqs.consumer.messages.processed";
+    static final String FAILED = "sqs.consumer.messages.failed";
+    static final String IN_FLIGHT = "sqs.consumer.messages.in.flight";
+    static final String PROCESSING_TIME = "sqs.consumer.processing.time";
+    static final String QUEUE_LATENCY = "sqs.consumer.queue.latency";
+    static final String DLQ = "sqs.consumer.dlq.messages";
+    static final String DLQ_LATENCY = "sqs.consumer.dlq.latency";
+    static final String RETRY_ATTEMPTS = "sqs.consumer.retry.attempts";
+    static final String STATE_CHANGES = "sqs.consumer.state.changes";
+    static final String QUEUE_VISIBLE = "sqs.consumer.queue.messages.visible";
+    static final String QUEUE_NOT_VISIBLE = "sqs.consumer.queue.messages.not.visible";
+    static final String QUEUE_LAG = "sqs.consumer.queue.lag";
+
+    private static final String UNKNOWN_QUEUE = "unknown";
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final MeterRegistry registry;
+    private final Map<String, ContainerMeters> containers = new ConcurrentHashMap<>();
+    private final Map<String, ContainerMetrics> view = Collections.unmodifiableMap(containers);
+
+    public MicrometerMetricsCollector(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public ContainerRecorder bindContainer(String containerId, String queueUrl, IntSupplier inFlightMessages) {
+        String queue = queueNameOf(queueUrl);
+        ContainerMeters meters = containers.compute(containerId, (id, existing) -> {
+            if (existing != null && existing.queue.equals(queue)) {
+                return existing;
+            }
+            if (existing != null) {
+                existing.remove();
+            }
+            return new ContainerMeters(id, queue);
+        });
+        meters.inFlight = inFlightMessages != null ? inFlightMessages : () -> 0;
+        return meters;
+    }
+
+    @Override
+    public void recordMessageProcessed(String containerId) {
+        ContainerMeters meters = meters(containerId);
+        meters.processed.increment();
+        meters.lastProcessedTime = Instant.now();
+    }
+
+    @Override
+    public void recordMessageFailed(String containerId, Exception exception) {
+        meters(containerId).recordMessageFailed(exception);
+    }
+
+    @Override
+    public void recordProcessingTime(String containerId, long processingTimeMillis) {
+        meters(containerId).processingTime.record(Math.max(0L, processingTimeMillis), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordQueueLatency(String containerId, long latencyMillis) {
+        meters(containerId).recordQueueLatency(latencyMillis);
+    }
+
+    @Override
+    public void recordQueueDepth(String containerId, long visibleMessages, long notVisibleMessages,
+                                 long oldestMessageAgeSeconds) {
+        ContainerMeters meters = meters(containerId);
+        meters.visibleMessages = visibleMessages;
+        meters.notVisibleMessages = notVisibleMessages;
+        meters.oldestMessageAgeSeconds = oldestMessageAgeSeconds;
+    }
+
+    @Override
+    public void recordStateChange(String containerId, String fromState, String toState) {
+        ContainerMeters meters = meters(containerId);
+        meters.currentState = toState;
+        meters.stateChanges.increment();
+    }
+
+    @Override
+    public void recordDlqOperation(String containerId, boolean success) {
+        meters(containerId).recordDlqOperation(success);
+    }
+
+    @Override
+    public void recordDlqLatency(String containerId, long latencyMillis) {
+        meters(containerId).recordDlqLatency(latencyMillis);
+    }
+
+    @Override
+    public void recordRetryAttempts(String containerId, int retryAttempts) {
+        if (retryAttempts > 0) {
+            meters(containerId).retryAttempts.increment(retryAttempts);
+        }
+    }
+
+    @Override
+    public ContainerMetrics getContainerMetrics(String containerId) {
+        ContainerMeters meters = containers.get(containerId);
+        return meters != null ? meters : new EmptyContainerMetrics(containerId);
+    }
+
+    @Override
+    public Map<String, ContainerMetrics> getAllMetrics() {
+        return view;
+    }
+
+    @Override
+    public void resetContainerMetrics(String containerId) {
+        ContainerMeters meters = containers.remove(containerId);
+        if (meters != null) {
+            meters.remove();
+        }
+    }
+
+    @Override
+    public void resetAllMetrics() {
+        containers.keySet().forEach(this::resetContainerMetrics);
+    }
+
+    private ContainerMeters meters(String containerId) {
+        ContainerMeters meters = containers.get(containerId);
+        return meters != null ? meters : containers.computeIfAbsent(containerId, id -> new ContainerMeters(id, UNKNOWN_QUEUE));
+    }
+
+    /**
+     * Use the last path segment of the queue URL as tag value; it identifies the queue without
+     * repeating the account and region in every time series.
+     */
+    static String queueNameOf(String queueUrl) {
+        if (queueUrl == null || queueUrl.isEmpty()) {
+            return UNKNOWN_QUEUE;
+        }
+        int slash = queueUrl.lastIndexOf('/');
+        return slash >= 0 && slash < queueUrl.length() - 1 ? queueUrl.substring(slash + 1) : queueUrl;
+    }
+
+    private static LatencyPercentiles percentilesOf(Timer timer) {
+        ValueAtPercentile[] values = timer.takeSnapshot().percentileValues();
+        long[] millis = new long[PERCENTILES.length];
+        for (ValueAtPercentile value : values) {
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                if (value.percentile() == PERCENTILES[i]) {
+                    millis[i] = (long) value.value(TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+        return new LatencyPercentiles(millis[0], millis[1], millis[2], millis[3]);
+    }
+
+    /**
+     * Meters of one container. Serves both as the bound recorder and as the live metrics view.
+     */
+    private final class ContainerMeters implements ContainerRecorder, ContainerMetrics {
+        private final String containerId;
+        private final String queue;
+        private final Counter processed;
+        private final Counter failed;
+        private final Counter dlqSuccess;
+        private final Counter dlqFailure;
+        private final Counter retryAttempts;
+        private final Counter stateChanges;
+        private final Timer processingTime;
+        private final Timer queueLatency;
+        private final Timer dlqLatency;
+        private final List<Meter> registered;
+        private volatile IntSupplier inFlight = () -> 0;
+        private volatile Instant lastProcessedTime;
+        private volatile Instant lastFailureTime;
+        private volatile String currentState = "CREATED";
+        private volatile long visibleMessages;
+        private volatile long notVisibleMessages;
+        private volatile long oldestMessageAgeSeconds;
+
+        private ContainerMeters(String containerId, String queue) {
+            this.containerId = containerId;
+            this.queue = queue;
+            Tags tags = Tags.of("container", containerId, "queue", queue);
+            this.processed = Counter.builder(PROCESSED)
+                    .description("Messages processed successfully")
+                    .tags(tags)
+                    .register(registry);
+            this.failed = Counter.builder(FAILED)
+                    .description("Messages that failed after all retry attempts")
+                    .tags(tags)
+                    .register(registry);
+            this.dlqSuccess = Counter.builder(DLQ)
+                    .description("Failed messages sent to the dead letter queue")
+                    .tags(tags)
+                    .tag("outcome", "success")
+                    .register(registry);
+            this.dlqFailure = Counter.builder(DLQ)
+                    .description("Failed messages sent to the dead letter queue")
+                    .tags(tags)
+                    .tag("outcome", "failure")
+                    .register(registry);
+            this.retryAttempts = Counter.builder(RETRY_ATTEMPTS)
+                    .description("Listener retry attempts")
+                    .tags(tags)
+                    .register(registry);
+            this.stateChanges = Counter.builder(STATE_CHANGES)
+                    .description("Container state transitions")
+                    .tags(tags)
+                    .register(registry);
+            this.processingTime = Timer.builder(PROCESSING_TIME)
+                    .description("Listener processing time per message")
+                    .tags(tags)
+                    .publishPercentiles(PERCENTILES)
+                    .register(registry);
+            this.queueLatency = Timer.builder(QUEUE_LATENCY)
+                    .description("Time from SentTimestamp until the listener started processing")
+                    .tags(tags)
+                    .publishPercentiles(PERCENTILES)
+                    .register(registry);
+            this.dlqLatency = Timer.builder(DLQ_LATENCY)
+                    .description("Time from handing a failed message to the DLQ pipeline until the send settled")
+                    .tags(tags)
+                    .register(registry);
+            Gauge inFlightGauge = Gauge.builder(IN_FLIGHT, this, meters -> meters.inFlight.getAsInt())
+                    .description("Messages received but not yet completed")
+                    .tags(tags)
+                    .register(registry);
+            Gauge visibleGauge = Gauge.builder(QUEUE_VISIBLE, this, meters -> meters.visibleMessages)
+                    .description("Approximate number of messages available in the queue")
+                    .tags(tags)
+                    .register(registry);
+            Gauge notVisibleGauge = Gauge.builder(QUEUE_NOT_VISIBLE, this, meters -> meters.notVisibleMessages)
+                    .description("Approximate number of messages received but not yet deleted")
+                    .tags(tags)
+                    .register(registry);
+            Gauge lagGauge = Gauge.builder(QUEUE_LAG, this, meters -> meters.oldestMessageAgeSeconds)
+                    .description("Approximate age of the oldest message in the queue")
+                    .tags(tags)
+                    .baseUnit("seconds")
+                    .register(registry);
+            this.registered = List.of(processed, failed, dlqSuccess, dlqFailure, retryAttempts, stateChanges,
+                    processingTime, queueLatency, dlqLatency, inFlightGauge, visibleGauge, notVisibleGauge, lagGauge);
+        }
+
+        private void remove() {
+            registered.forEach(registry::remove);
+        }
+
+        @Override
+        public void recordMessageProcessed(long processingTimeMillis) {
+            processed.increment();
+            processingTime.record(Math.max(0L, processingTimeMillis), TimeUnit.MILLISECONDS);
+            lastProcessedTime = Instant.now();
+        }
+
+        @Override
+        public void recordMessageFailed(Exception exception) {
+            failed.increment();
+            lastFailureTime = Instant.now();
+        }
+
+        @Override
+        public void recordQueueLatency(long latencyMillis) {
+            queueLatency.record(Math.max(0L, latencyMillis), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void recordDlqOperation(boolean success) {
+            (success ? dlqSuccess : dlqFailure).increment();
+        }
+
+        @Override
+        public void recordDlqLatency(long latencyMillis) {
+            dlqLatency.record(Math.max(0L, latencyMillis), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public String getContainerId() {
+            return containerId;
+        }
+
+        @Override
+        public long getProcessedCount() {
+            return (long) processed.count();
+        }
+
+        @Override
+        public long getFailedCount() {
+            return (long) failed.count();
+        }
+
+        @Override
+        public long getAverageProcessingTime() {
+            return (long) processingTime.mean(TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public long getMaxProcessingTime() {
+            return (long) processingTime.max(TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public Instant getLastActivity() {
+            Instant processedAt = lastProcessedTime;
+            Instant failedAt = lastFailureTime;
+            if (processedAt != null && failedAt != null) {
+                return processedAt.isAfter(failedAt) ? processedAt : failedAt;
+            }
+            return processedAt != null ? processedAt : failedAt;
+        }
+
+        @Override
+        public String getCurrentState() {
+            return currentState;
+        }
+
+        @Override
+        public long getStateChanges() {
+            return (long) stateChanges.count();
+        }
+
+        @Override
+        public LatencyPercentiles getProcessingTimePercentiles() {
+            return percentilesOf(processingTime);
+        }
+
+        @Override
+        public LatencyPercentiles getQueueLatencyPercentiles() {
+            return percentilesOf(queueLatency);
+        }
+    }
+
+    private record EmptyContainerMetrics(String containerId) implements ContainerMetrics {
+        @Override
+        public String getContainerId() {
+            return containerId;
+        }
+
+        @Override
+        public long getProcessedCount() {
+            return 0;
+        }
+
+        @Override
+        public long getFailedCount() {
+            return 0;
+        }
+
+        @Override
+        public long getAverageProcessingTime() {
+            return 0;
+        }
+
+        @Override
+        public long getMaxProcessingTime() {
+            return 0;
+        }
+
+        @Override
+        public Instant getLastActivity() {
+            return null;
+        }
+
+        @Override
+        public String getCurrentState() {
+            return "CREATED";
+        }
+
+        @Override
+        public long getStateChanges() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.ryuqq.aws.sqs.consumer.component.impl;
+
+import com.ryuqq.aws.sqs.consumer.component.ConcurrencyController;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * ConcurrencyController that always uses the configured annotation values.
+ * Runtime feedback is ignored.
+ */
+public class StaticConcurrencyController implements ConcurrencyController {
+
+    private final ConcurrentMap<String, Limits> limits = new ConcurrentHashMap<>();
+
+    @Override
+    public void register(String containerId, int maxConcurrency, int maxPollSize) {
+        limits.put(containerId, new Limits(Math.max(1, maxConcurrency), Math.max(1, maxPollSize)));
+    }
+
+    @Override
+    public void unregister(String containerId) {
+        limits.remove(containerId);
+    }
+
+    @Override
+    public int getPollSize(String containerId) {
+        Limits values = limits.get(containerId);
+        return values != null ? values.pollSize() : 1;
+    }
+
+    @Override
+    public int getConcurrencyLimit(String containerId) {
+        Limits values = limits.get(containerId);
+        return values != null ? values.concurrency() : 1;
+    }
+
+    @Override
+    public void onPollCompleted(String containerId, int receivedCount) {
+        // Static limits do not react to feedback
+    }
+
+    @Override
+    public void onProcessingCompleted(String containerId, long processingTimeMillis, boolean success) {
+        // Static limits do not react to feedback
+    }
+
+    private record Limits(int concurrency, int pollSize) {
+    }
+}
@@ -3,7 +3,10 @@ package com.ryuqq.aws.sqs.consumer.config;
 import com.ryuqq.aws.sqs.consumer.component.*;
 import com.ryuqq.aws.sqs.consumer.component.impl.*;
 import com.ryuqq.aws.sqs.service.SqsService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
@@ -28,11 +31,13 @@ public class SqsComponentConfiguration {
     /**
      * Default message processor implementation.
      * Handles single messages and batches with auto-delete support.
+     * Deletes go through the MessageAcknowledger defined by the auto-configuration when batching is enabled.
      */
     @Bean
     @ConditionalOnMissingBean
-    public MessageProcessor messageProcessor(SqsService sqsService) {
-        return new DefaultMessageProcessor(sqsService);
+    public MessageProcessor messageProcessor(SqsService sqsService,
+                                             ObjectProvider<MessageAcknowledger> messageAcknowledger) {
+        return new DefaultMessageProcessor(sqsService, messageAcknowledger.getIfAvailable());
     }
     
     /**
@@ -47,12 +52,15 @@ public class SqsComponentConfiguration {
     
     /**
      * Default dead letter queue handler implementation.
-     * Creates structured DLQ messages with metadata.
+     * Creates structured DLQ messages with metadata and sends them asynchronously in SendMessageBatch calls.
      */
     @Bean
     @ConditionalOnMissingBean
-    public DeadLetterQueueHandler deadLetterQueueHandler(SqsService sqsService, Environment environment) {
-        return new DefaultDeadLetterQueueHandler(sqsService, environment);
+    public DeadLetterQueueHandler deadLetterQueueHandler(
+            SqsService sqsService,
+            Environment environment,
+            @Value("${aws.sqs.consumer.dead-letter-queue.linger-millis:50}") long lingerMillis) {
+        return new DefaultDeadLetterQueueHandler(sqsService, environment, lingerMillis);
     }
     
     /**
@@ -64,4 +72,25 @@ public class SqsComponentConfiguration {
     public MetricsCollector metricsCollector() {
         return new InMemoryMetricsCollector();
     }
-}
\ No newline at end of file
+    
+    /**
+     * Adaptive AIMD concurrency controller.
+     * Enabled with aws.sqs.consumer.adaptive-concurrency.enabled=true.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "aws.sqs.consumer.adaptive-concurrency", name = "enabled", havingValue = "true")
+    public ConcurrencyController adaptiveConcurrencyController() {
+        return new AimdConcurrencyController();
+    }
+    
+    /**
+     * Default concurrency controller.
+     * Uses maxConcurrentMessages and maxMessagesPerPoll from the annotation as-is.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ConcurrencyController concurrencyController() {
+        return new StaticConcurrencyController();
+    }
+}
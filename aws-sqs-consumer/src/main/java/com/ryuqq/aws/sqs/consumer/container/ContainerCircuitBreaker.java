@@ -0,0 +1,190 @@
+package com.ryuqq.aws.sqs.consumer.container;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 리스너 컨테이너 하나의 실패율 기반 Circuit Breaker
+ *
+ * 최근 windowSize번의 리스너 호출 결과를 링 버퍼로 유지하며, 창이 가득 찬 상태에서 실패율이
+ * failureRateThreshold(%) 이상이 되면 열립니다(OPEN). 하위 시스템 장애 중에 모든 메시지가
+ * 재시도 일정을 끝까지 소모하고 폴링이 계속되는 것을 막기 위해 사용합니다.
+ *
+ * <h3>상태 전이</h3>
+ * <ul>
+ *   <li><strong>CLOSED</strong>: 정상 - 결과를 기록하고 실패율을 계산</li>
+ *   <li><strong>OPEN</strong>: openMillis 동안 유지 - 컨테이너는 폴링을 멈추고 받은 메시지를 지연 후 큐로 반환.
+ *       이 동안 기록되는 결과는 무시</li>
+ *   <li><strong>HALF_OPEN</strong>: openMillis 경과 후 - {@link #tryAcquireProbe()}로 메시지 하나만 시험 처리.
+ *       성공하면 CLOSED, 실패하면 다시 OPEN</li>
+ * </ul>
+ *
+ * Thread 안전성: 워커 스레드와 폴링 스레드가 동시에 접근하며, 상태 변경은 인스턴스 잠금으로 직렬화됩니다.
+ * 결과 기록은 리스너 호출마다 한 번이므로 잠금 경합은 리스너 실행 시간에 비해 무시할 수 있습니다.
+ */
+public final class ContainerCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureRateThreshold;
+    private final long openNanos;
+    private final LongSupplier clock;
+
+    // 최근 호출 결과 (true = 실패), next가 다음에 덮어쓸 위치
+    private final boolean[] outcomes;
+    private int next;
+    private int recorded;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    /**
+     * @param failureRateThreshold 열림 기준 실패율 (1-100 %)
+     * @param windowSize 실패율을 계산할 최근 호출 수
+     * @param openMillis 열린 상태를 유지하는 시간 (밀리초)
+     */
+    ContainerCircuitBreaker(int failureRateThreshold, int windowSize, long openMillis) {
+        this(failureRateThreshold, windowSize, openMillis, System::nanoTime);
+    }
+
+    ContainerCircuitBreaker(int failureRateThreshold, int windowSize, long openMillis, LongSupplier clock) {
+        if (failureRateThreshold < 1 || failureRateThreshold > 100) {
+            throw new IllegalArgumentException("failureRateThreshold must be 1-100: " + failureRateThreshold);
+        }
+        this.failureRateThreshold = failureRateThreshold;
+        this.outcomes = new boolean[Math.max(1, windowSize)];
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, openMillis));
+        this.clock = clock;
+    }
+
+    /**
+     * 성공한 리스너 호출 기록
+     *
+     * @return 이 기록으로 상태가 바뀌었으면 바뀐 상태, 아니면 null
+     */
+    synchronized State recordSuccess() {
+        if (state == State.HALF_OPEN) {
+            return close();
+        }
+        if (state == State.CLOSED) {
+            record(false);
+        }
+        return null;
+    }
+
+    /**
+     * 실패한 리스너 호출 기록
+     *
+     * @return 이 기록으로 상태가 바뀌었으면 바뀐 상태, 아니면 null
+     */
+    synchronized State recordFailure() {
+        if (state == State.HALF_OPEN) {
+            return open();
+        }
+        if (state == State.CLOSED) {
+            record(true);
+            if (recorded == outcomes.length && failures * 100L >= (long) failureRateThreshold * recorded) {
+                return open();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 열린 상태가 끝날 때까지 남은 시간
+     *
+     * openMillis가 지났으면 HALF_OPEN으로 전환하고 0을 반환합니다.
+     *
+     * @return OPEN이면 남은 시간 (밀리초, 최소 1), 그 외에는 0
+     */
+    synchronized long remainingOpenMillis() {
+        if (state != State.OPEN) {
+            return 0L;
+        }
+        long remaining = openedAt + openNanos - clock.getAsLong();
+        if (remaining <= 0) {
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+            return 0L;
+        }
+        return Math.max(1L, TimeUnit.NANOSECONDS.toMillis(remaining));
+    }
+
+    /**
+     * HALF_OPEN 상태에서 시험 처리할 메시지 수신 권한 확보
+     *
+     * @return CLOSED이거나, HALF_OPEN에서 진행 중인 시험이 없어 권한을 얻었으면 true
+     */
+    synchronized boolean tryAcquireProbe() {
+        remainingOpenMillis();
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.HALF_OPEN && !probeInFlight) {
+            probeInFlight = true;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 결과를 남기지 못한 시험 권한 반환 (시험 수신에 메시지가 없었거나 처리하지 않고 반환한 경우)
+     */
+    synchronized void releaseProbe() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    /**
+     * 현재 상태 (OPEN 경과 시간은 반영하지 않음)
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * OPEN 상태인지 확인 (openMillis가 지났으면 HALF_OPEN으로 전환되어 false)
+     */
+    boolean isOpen() {
+        return remainingOpenMillis() > 0;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == outcomes.length) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % outcomes.length;
+    }
+
+    private State open() {
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+        probeInFlight = false;
+        resetWindow();
+        return State.OPEN;
+    }
+
+    private State close() {
+        state = State.CLOSED;
+        probeInFlight = false;
+        resetWindow();
+        return State.CLOSED;
+    }
+
+    private void resetWindow() {
+        next = 0;
+        recorded = 0;
+        failures = 0;
+    }
+}
@@ -0,0 +1,148 @@
+package com.ryuqq.aws.sqs.consumer.container;
+
+import com.ryuqq.aws.sqs.consumer.executor.RetryScheduler;
+import com.ryuqq.aws.sqs.types.SqsMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * 여러 번의 폴링에 걸쳐 메시지를 모아 배치 리스너에 전달하는 누적기
+ * 
+ * 한 번의 수신 결과를 그대로 배치로 넘기면 부하가 낮을 때 1~3개짜리 배치가 만들어집니다.
+ * 누적기는 batchSize개가 모이거나, 첫 메시지가 버퍼에 들어온 뒤 maxWaitMillis가 지나면
+ * 모인 메시지를 하나의 배치로 내보냅니다.
+ * 
+ * <h3>동작 방식</h3>
+ * <ul>
+ *   <li><strong>크기 기준</strong>: batchSize에 도달한 배치는 add()를 호출한 스레드에서 즉시 전달</li>
+ *   <li><strong>시간 기준</strong>: 공유 타이머(RetryScheduler)가 대기 시간 경과 후 Executor에서 남은 메시지를 전달</li>
+ *   <li><strong>maxWaitMillis = 0</strong>: 폴링 간 누적 없이 수신 결과를 batchSize 단위로 나누어 바로 전달</li>
+ *   <li><strong>순서 보장</strong>: 배치는 수신 순서대로 구성됨</li>
+ * </ul>
+ * 
+ * 배치 전달(sink)은 잠금 밖에서 호출되며, 작업을 Executor에 넘기고 바로 반환해야 합니다.
+ * 
+ * @since 1.0.0
+ */
+public final class MessageBatchAccumulator {
+    
+    private final int batchSize;
+    private final long maxWaitMillis;
+    private final Executor flushExecutor;
+    private final Consumer<List<SqsMessage>> sink;
+    
+    private final Object lock = new Object();
+    private List<SqsMessage> buffer;
+    // 버퍼를 비울 때마다 증가 - 이전 버퍼에 예약된 타이머가 새 버퍼를 일찍 내보내지 않도록 구분
+    private long generation;
+    private boolean flushScheduled;
+    
+    /**
+     * @param batchSize 배치당 최대 메시지 수
+     * @param maxWaitMillis 첫 메시지가 버퍼에 들어온 뒤 배치를 내보낼 때까지의 최대 대기 시간 (0이면 대기하지 않음)
+     * @param flushExecutor 시간 기준 배치를 전달할 Executor
+     * @param sink 완성된 배치를 받을 함수
+     */
+    public MessageBatchAccumulator(int batchSize, long maxWaitMillis, Executor flushExecutor,
+                                   Consumer<List<SqsMessage>> sink) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        if (maxWaitMillis < 0) {
+            throw new IllegalArgumentException("maxWaitMillis cannot be negative: " + maxWaitMillis);
+        }
+        this.batchSize = batchSize;
+        this.maxWaitMillis = maxWaitMillis;
+        this.flushExecutor = flushExecutor;
+        this.sink = sink;
+        this.buffer = new ArrayList<>(batchSize);
+    }
+    
+    /**
+     * 수신한 메시지를 버퍼에 추가
+     * 
+     * batchSize에 도달한 배치는 호출한 스레드에서 바로 전달하고, 남은 메시지는 대기 시간이 지나면 전달합니다.
+     * 
+     * @param messages 수신한 메시지 목록
+     */
+    public void add(List<SqsMessage> messages) {
+        List<List<SqsMessage>> ready = new ArrayList<>();
+        long scheduleGeneration = -1;
+        
+        synchronized (lock) {
+            for (SqsMessage message : messages) {
+                buffer.add(message);
+                if (buffer.size() >= batchSize) {
+                    ready.add(takeBuffer());
+                }
+            }
+            if (!buffer.isEmpty()) {
+                if (maxWaitMillis == 0) {
+                    ready.add(takeBuffer());
+                } else if (!flushScheduled) {
+                    flushScheduled = true;
+                    scheduleGeneration = generation;
+                }
+            }
+        }
+        
+        ready.forEach(sink);
+        if (scheduleGeneration >= 0) {
+            scheduleFlush(scheduleGeneration);
+        }
+    }
+    
+    /**
+     * 버퍼에 남은 메시지를 즉시 배치로 전달 (컨테이너 정지 시 사용)
+     */
+    public void flush() {
+        List<SqsMessage> batch;
+        synchronized (lock) {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            batch = takeBuffer();
+        }
+        sink.accept(batch);
+    }
+    
+    /**
+     * 버퍼에서 대기 중인 메시지 수
+     */
+    public int getPendingCount() {
+        synchronized (lock) {
+            return buffer.size();
+        }
+    }
+    
+    private void scheduleFlush(long expectedGeneration) {
+        RetryScheduler.runAfter(maxWaitMillis, flushExecutor, () -> flushIfCurrent(expectedGeneration))
+            .exceptionally(rejected -> {
+                // Executor가 종료된 경우에도 버퍼를 비워 메시지가 점유한 자원이 반환되도록 함
+                flushIfCurrent(expectedGeneration);
+                return null;
+            });
+    }
+    
+    private void flushIfCurrent(long expectedGeneration) {
+        List<SqsMessage> batch;
+        synchronized (lock) {
+            if (generation != expectedGeneration || buffer.isEmpty()) {
+                return;
+            }
+            batch = takeBuffer();
+        }
+        sink.accept(batch);
+    }
+    
+    private List<SqsMessage> takeBuffer() {
+        List<SqsMessage> batch = buffer;
+        buffer = new ArrayList<>(batchSize);
+        generation++;
+        flushScheduled = false;
+        return batch;
+    }
+}
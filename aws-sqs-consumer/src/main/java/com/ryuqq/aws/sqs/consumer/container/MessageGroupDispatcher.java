@@ -0,0 +1,195 @@
+package com.ryuqq.aws.sqs.consumer.container;
+
+import com.ryuqq.aws.sqs.types.SqsMessage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * FIFO 메시지 그룹별 순차 실행 디스패처
+ * 
+ * 같은 MessageGroupId를 가진 작업은 이전 작업이 끝난 뒤에 시작되고, 서로 다른 그룹의 작업은
+ * 병렬로 실행됩니다. 작업은 완료 시점을 알리는 CompletableFuture를 반환하므로, 재시도 대기처럼
+ * 스레드를 점유하지 않는 비동기 처리도 그룹 순서를 지킵니다.
+ * 
+ * <h3>레인 관리</h3>
+ * <ul>
+ *   <li><strong>레인</strong>: 그룹별로 마지막에 등록된 작업의 Future만 보관</li>
+ *   <li><strong>유휴 레인 제거</strong>: 레인의 마지막 작업이 끝나면 즉시 제거되므로,
+ *       메모리 사용량은 그룹 수가 아니라 처리 대기 중인 메시지 수(in-flight 퍼밋)에 비례</li>
+ *   <li><strong>반환 전파</strong>: 작업 Future가 예외로 완료되면(메시지를 처리하지 않고 큐로 반환한 경우)
+ *       그 그룹의 레인이 비워질 때까지 대기 중인 다음 작업을 시작하지 않고 onSkipped를 호출하여 함께 반환.
+ *       반환된 메시지보다 뒤의 메시지가 먼저 처리되어 그룹 순서가 깨지는 것을 막음</li>
+ * </ul>
+ * 
+ * 이 클래스는 스레드를 소유하지 않습니다. 작업 시작은 앞선 작업을 완료한 스레드에서 호출되므로,
+ * 작업 Supplier는 실제 처리를 Executor에 넘기고 바로 반환해야 합니다.
+ * 
+ * @since 1.0.0
+ */
+public final class MessageGroupDispatcher {
+    
+    private final Map<String, CompletableFuture<Void>> lanes = new HashMap<>();
+    
+    // 앞선 작업의 메시지가 큐로 반환되어, 레인이 비워질 때까지 대기 작업을 건너뛰는 그룹 (lanes 잠금으로 보호)
+    private final Set<String> returnedGroups = new HashSet<>();
+    
+    /**
+     * 메시지의 MessageGroupId 조회
+     * 
+     * @param message SQS 메시지
+     * @return 그룹 ID (표준 큐 메시지이거나 속성이 없으면 null)
+     */
+    public static String groupIdOf(SqsMessage message) {
+        return message.getMessageGroupId();
+    }
+    
+    /**
+     * 단일 그룹 레인에 작업 등록
+     * 
+     * @param groupId 메시지 그룹 ID (null이면 순서 보장 없이 즉시 시작)
+     * @param task 작업을 시작하고 완료 Future를 반환하는 Supplier (메시지를 큐로 반환했으면 예외로 완료)
+     * @param onSkipped 앞선 작업의 메시지가 반환되어 작업을 시작하지 않을 때 대신 실행 (메시지 반환용)
+     * @return 작업 완료 Future
+     */
+    public CompletableFuture<Void> dispatch(String groupId, Supplier<CompletableFuture<Void>> task,
+                                            Runnable onSkipped) {
+        if (groupId == null) {
+            return start(task);
+        }
+        return dispatch(List.of(groupId), task, onSkipped);
+    }
+    
+    /**
+     * 여러 그룹에 걸친 작업 등록 (배치 처리용)
+     * 
+     * 포함된 모든 그룹의 이전 작업이 끝난 뒤 시작되며, 각 그룹의 다음 작업은 이 작업이 끝날 때까지 대기합니다.
+     * 포함된 그룹 중 하나라도 반환 상태이면 작업을 건너뛰고, 나머지 그룹도 반환 상태로 만듭니다.
+     * 
+     * @param groupIds 작업에 포함된 메시지 그룹 ID 목록 (null 요소는 무시)
+     * @param task 작업을 시작하고 완료 Future를 반환하는 Supplier (메시지를 큐로 반환했으면 예외로 완료)
+     * @param onSkipped 앞선 작업의 메시지가 반환되어 작업을 시작하지 않을 때 대신 실행 (메시지 반환용)
+     * @return 작업 완료 Future
+     */
+    public CompletableFuture<Void> dispatch(Collection<String> groupIds, Supplier<CompletableFuture<Void>> task,
+                                            Runnable onSkipped) {
+        Set<String> groups = new LinkedHashSet<>();
+        for (String groupId : groupIds) {
+            if (groupId != null) {
+                groups.add(groupId);
+            }
+        }
+        if (groups.isEmpty()) {
+            return start(task);
+        }
+        
+        CompletableFuture<Void> next = new CompletableFuture<>();
+        List<CompletableFuture<Void>> predecessors = new ArrayList<>(groups.size());
+        synchronized (lanes) {
+            for (String groupId : groups) {
+                CompletableFuture<Void> tail = lanes.get(groupId);
+                if (tail != null && !tail.isDone()) {
+                    // 앞선 작업의 반환 여부는 시작 시점에 returnedGroups로 확인하므로 결과는 무시
+                    predecessors.add(tail.handle((result, throwable) -> null));
+                } else {
+                    // 새 레인 - 이전 레인의 반환 상태를 이어받지 않음
+                    returnedGroups.remove(groupId);
+                }
+                lanes.put(groupId, next);
+            }
+        }
+        
+        // 작업 시작은 잠금 밖에서 수행
+        CompletableFuture<Void> processing = predecessors.isEmpty()
+            ? startUnlessReturned(groups, task, onSkipped)
+            : CompletableFuture.allOf(predecessors.toArray(new CompletableFuture[0]))
+                .thenCompose(ignored -> startUnlessReturned(groups, task, onSkipped));
+        processing.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                // 다음 작업이 시작 여부를 판단하기 전에 반환 상태로 표시
+                markReturned(groups);
+            }
+            complete(next, throwable);
+        });
+        
+        next.whenComplete((result, throwable) -> evict(groups, next));
+        return next;
+    }
+    
+    /**
+     * 처리 대기 또는 실행 중인 작업이 있는 그룹 수
+     * 
+     * @return 활성 레인 수
+     */
+    public int getActiveLaneCount() {
+        synchronized (lanes) {
+            return lanes.size();
+        }
+    }
+    
+    private void evict(Set<String> groups, CompletableFuture<Void> lane) {
+        synchronized (lanes) {
+            for (String groupId : groups) {
+                // 이후에 다른 작업이 등록되지 않은 레인만 제거 - 레인이 비워지면 반환 상태도 해제
+                if (lanes.remove(groupId, lane)) {
+                    returnedGroups.remove(groupId);
+                }
+            }
+        }
+    }
+    
+    private void markReturned(Set<String> groups) {
+        synchronized (lanes) {
+            returnedGroups.addAll(groups);
+        }
+    }
+    
+    /**
+     * 앞선 작업의 메시지가 반환된 그룹이 없으면 작업 시작, 있으면 건너뛰고 onSkipped 실행
+     */
+    private CompletableFuture<Void> startUnlessReturned(Set<String> groups, Supplier<CompletableFuture<Void>> task,
+                                                        Runnable onSkipped) {
+        boolean skip;
+        synchronized (lanes) {
+            skip = groups.stream().anyMatch(returnedGroups::contains);
+            if (skip) {
+                // 배치에 함께 포함된 다른 그룹의 다음 작업도 이 메시지들보다 먼저 처리되지 않도록 표시
+                returnedGroups.addAll(groups);
+            }
+        }
+        if (!skip) {
+            return start(task);
+        }
+        try {
+            onSkipped.run();
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+    
+    private static void complete(CompletableFuture<Void> future, Throwable throwable) {
+        if (throwable == null) {
+            future.complete(null);
+        } else {
+            future.completeExceptionally(throwable);
+        }
+    }
+    
+    private static CompletableFuture<Void> start(Supplier<CompletableFuture<Void>> task) {
+        try {
+            CompletableFuture<Void> started = task.get();
+            return started != null ? started : CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
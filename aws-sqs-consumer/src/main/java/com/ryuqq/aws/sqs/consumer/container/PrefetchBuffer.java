@@ -0,0 +1,118 @@
+package com.ryuqq.aws.sqs.consumer.container;
+
+import com.ryuqq.aws.sqs.types.SqsMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수신했지만 아직 처리 슬롯을 배정받지 못한 메시지를 보관하는 선행 수신(prefetch) 버퍼
+ *
+ * 현재 메시지를 처리하는 동안 다음 수신 요청을 미리 보내 두어, 처리 완료 후 Long Polling
+ * 왕복 시간을 기다리지 않고 바로 다음 메시지를 처리할 수 있도록 합니다.
+ *
+ * <h3>가시성 만료 처리</h3>
+ * 버퍼에 머무는 동안에는 가시성 타임아웃이 연장되지 않으므로, 각 메시지에 수신 시각을 기록하고
+ * 가시성 타임아웃의 절반 이상이 지난 메시지는 꺼낼 때 만료로 분류합니다. 만료 기준이 되는
+ * 타임아웃은 컨테이너가 수신 요청에 지정한 값이어야 하며, 만료된 메시지는 처리하지 않고 호출자가
+ * 큐로 반환하므로 처리 도중 다른 컨슈머에게 재전달되어 중복 처리되는 일이 없습니다.
+ * 꺼낸 메시지는 수신 시각과 함께 반환되므로, 처리 중 가시성 연장도 같은 시각을 기준으로 계산됩니다.
+ *
+ * <h3>크기 제한</h3>
+ * 버퍼 자체는 크기를 제한하지 않습니다. 컨테이너가 수신 퍼밋(maxConcurrentMessages + prefetchMessages)
+ * 범위 안에서만 수신하므로 버퍼에 쌓이는 메시지 수는 prefetchMessages를 넘지 않습니다.
+ *
+ * Thread 안전성: 폴링 스레드와 워커 스레드가 동시에 접근할 수 있습니다.
+ *
+ * @since 1.0.0
+ */
+public final class PrefetchBuffer {
+
+    private final long expiryNanos;
+    private final Queue<Entry> entries = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param visibilityTimeoutMillis 수신 요청에 지정한 가시성 타임아웃 (밀리초)
+     */
+    public PrefetchBuffer(long visibilityTimeoutMillis) {
+        this.expiryNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, visibilityTimeoutMillis)) / 2;
+    }
+
+    /**
+     * 수신한 메시지를 버퍼에 추가
+     *
+     * @param messages 수신한 메시지 목록
+     * @param receivedAtNanos 수신 요청을 보낸 시각 ({@link System#nanoTime()}) - 가시성 타임아웃은
+     *                        이 시각 이후에 시작되므로 만료 판단이 보수적으로 이루어짐
+     */
+    public void addAll(List<SqsMessage> messages, long receivedAtNanos) {
+        for (SqsMessage message : messages) {
+            entries.add(new Entry(message, receivedAtNanos));
+        }
+    }
+
+    /**
+     * 처리할 다음 메시지를 꺼냄
+     *
+     * 앞쪽의 만료된 메시지는 건너뛰면서 expired에 담습니다.
+     *
+     * @param expired 건너뛴 만료 메시지를 담을 목록
+     * @return 만료되지 않은 다음 메시지와 수신 시각 (없으면 null)
+     */
+    public Entry poll(List<SqsMessage> expired) {
+        long now = System.nanoTime();
+        Entry entry;
+        while ((entry = entries.poll()) != null) {
+            if (now - entry.receivedAtNanos() >= expiryNanos) {
+                expired.add(entry.message());
+            } else {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 버퍼에 남은 메시지를 모두 꺼냄 (컨테이너 정지 시 사용)
+     *
+     * @return 남아 있던 메시지 목록
+     */
+    public List<SqsMessage> drain() {
+        List<SqsMessage> drained = new ArrayList<>();
+        Entry entry;
+        while ((entry = entries.poll()) != null) {
+            drained.add(entry.message());
+        }
+        return drained;
+    }
+
+    /**
+     * 버퍼가 비어 있는지 확인
+     *
+     * @return 보관 중인 메시지가 없으면 true
+     */
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * 버퍼에 보관 중인 메시지 수 조회
+     *
+     * @return 보관 중인 메시지 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 버퍼에 보관된 메시지
+     *
+     * @param message 수신한 메시지
+     * @param receivedAtNanos 수신 요청을 보낸 시각 ({@link System#nanoTime()})
+     */
+    public record Entry(SqsMessage message, long receivedAtNanos) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.ryuqq.aws.sqs.consumer.container;
+
+import com.ryuqq.aws.sqs.types.SqsMessage;
+
+/**
+ * VISIBILITY_TIMEOUT 재시도 모드의 재전달 지연 계산
+ *
+ * 컨테이너가 재시도 횟수를 메모리에 보관하지 않고 SQS의 ApproximateReceiveCount를 시도 번호로 사용합니다.
+ * n번째 수신에서 실패한 메시지는 retryDelayMillis * 2^(n-1) (최대 maxRetryDelayMillis) 뒤에 다시 수신되도록
+ * 가시성 타임아웃을 변경하며, 수신 횟수가 maxRetryAttempts를 넘으면 재시도를 소진한 것으로 판단합니다.
+ * 재시도 상태가 메시지에 남아 있으므로 컨슈머가 재시작되거나 다른 인스턴스가 수신해도 이어집니다.
+ *
+ * 불변 객체이므로 여러 워커 스레드가 동시에 사용해도 안전합니다.
+ */
+final class RedriveBackoff {
+
+    // 수신 횟수 속성이 없거나 잘못된 경우 첫 수신으로 간주
+    private static final int FIRST_RECEIVE = 1;
+
+    // ChangeMessageVisibility로 지정할 수 있는 최대 가시성 타임아웃 (12시간)
+    private static final int MAX_VISIBILITY_TIMEOUT_SECONDS = 43200;
+
+    // long 범위를 넘지 않도록 지연 시간을 두 배로 늘리는 최대 횟수
+    private static final int MAX_DOUBLINGS = 30;
+
+    private final int maxRetryAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    /**
+     * @param maxRetryAttempts 첫 수신 이후 허용하는 재수신 횟수
+     * @param baseDelayMillis 첫 실패 후 재전달 지연 시간 (밀리초)
+     * @param maxDelayMillis 재전달 지연 시간 상한 (밀리초)
+     */
+    RedriveBackoff(int maxRetryAttempts, long baseDelayMillis, long maxDelayMillis) {
+        this.maxRetryAttempts = Math.max(0, maxRetryAttempts);
+        this.baseDelayMillis = Math.max(0L, baseDelayMillis);
+        this.maxDelayMillis = Math.max(this.baseDelayMillis, maxDelayMillis);
+    }
+
+    /**
+     * 메시지의 ApproximateReceiveCount 조회
+     *
+     * @param message 수신한 메시지
+     * @return 수신 횟수 (1 이상, 속성이 없으면 1)
+     */
+    int receiveCountOf(SqsMessage message) {
+        String value = message.getApproximateReceiveCount();
+        if (value == null) {
+            return FIRST_RECEIVE;
+        }
+        try {
+            return Math.max(FIRST_RECEIVE, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            return FIRST_RECEIVE;
+        }
+    }
+
+    /**
+     * 이번 수신에서 실패하면 재시도를 소진하는지 확인
+     *
+     * @param receiveCount 메시지의 수신 횟수
+     * @return 수신 횟수가 maxRetryAttempts를 넘었으면 true (총 maxRetryAttempts + 1회 처리)
+     */
+    boolean isExhausted(int receiveCount) {
+        return receiveCount > maxRetryAttempts;
+    }
+
+    /**
+     * 실패한 메시지가 다시 수신될 때까지의 가시성 타임아웃
+     *
+     * @param receiveCount 메시지의 수신 횟수
+     * @return 가시성 타임아웃 (초, 0 이상 최대 12시간)
+     */
+    int visibilityTimeoutSeconds(int receiveCount) {
+        int doublings = Math.min(Math.max(0, receiveCount - FIRST_RECEIVE), MAX_DOUBLINGS);
+        long delayMillis = baseDelayMillis > (maxDelayMillis >> doublings)
+            ? maxDelayMillis
+            : baseDelayMillis << doublings;
+        return (int) Math.min(MAX_VISIBILITY_TIMEOUT_SECONDS, (delayMillis + 999) / 1000);
+    }
+}
@@ -5,6 +5,9 @@ import com.ryuqq.aws.sqs.consumer.component.*;
 import com.ryuqq.aws.sqs.consumer.component.MessageProcessor.ProcessingConfig;
 import com.ryuqq.aws.sqs.consumer.component.RetryManager.RetryConfig;
 import com.ryuqq.aws.sqs.consumer.component.DeadLetterQueueHandler.DlqConfig;
+import com.ryuqq.aws.sqs.consumer.component.impl.StaticConcurrencyController;
+import com.ryuqq.aws.sqs.consumer.processor.ListenerInvoker;
+import com.ryuqq.aws.sqs.consumer.processor.ListenerInvokerFactory;
 import com.ryuqq.aws.sqs.service.SqsService;
 import com.ryuqq.aws.sqs.types.SqsMessage;
 import org.slf4j.Logger;
@@ -14,13 +17,25 @@ import org.springframework.core.env.Environment;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Refactored SQS listener container following SOLID principles.
  * Delegates responsibilities to specialized components for better maintainability and testability.
+ * Receive batch size and the number of concurrent listener invocations are taken from the
+ * {@link ConcurrencyController}, which is fed with poll and processing outcomes.
  */
 public class RefactoredSqsListenerContainer {
 
@@ -33,6 +48,7 @@ public class RefactoredSqsListenerContainer {
     private final SqsService sqsService;
     private final Environment environment;
     private final ExecutorService executorService;
+    private final ListenerInvoker listenerInvoker;
     
     // Injected components following SOLID principles
     private final MessagePoller messagePoller;
@@ -40,6 +56,17 @@ public class RefactoredSqsListenerContainer {
     private final RetryManager retryManager;
     private final DeadLetterQueueHandler dlqHandler;
     private final MetricsCollector metricsCollector;
+    private final ConcurrencyController concurrencyController;
+    private final VisibilityExtender visibilityExtender;
+    // Serializes messages of the same FIFO group when orderByMessageGroup is enabled
+    private final MessageGroupDispatcher groupDispatcher;
+    // Collects messages across polls into batches of batchSize in batch mode
+    private final MessageBatchAccumulator batchAccumulator;
+    
+    // Listener invocations currently submitted to the executor
+    private final AtomicInteger activeInvocations = new AtomicInteger(0);
+    private final ReentrantLock capacityLock = new ReentrantLock();
+    private final Condition capacityAvailable = capacityLock.newCondition();
     
     private final AtomicBoolean running = new AtomicBoolean(false);
     private String resolvedQueueUrl;
@@ -61,6 +88,47 @@ public class RefactoredSqsListenerContainer {
                                         RetryManager retryManager,
                                         DeadLetterQueueHandler dlqHandler,
                                         MetricsCollector metricsCollector) {
+        this(containerId, targetBean, targetMethod, listenerAnnotation, sqsService, environment,
+                executorService, messagePoller, messageProcessor, retryManager, dlqHandler,
+                metricsCollector, new StaticConcurrencyController());
+    }
+    
+    public RefactoredSqsListenerContainer(String containerId,
+                                        Object targetBean,
+                                        Method targetMethod,
+                                        SqsListener listenerAnnotation,
+                                        SqsService sqsService,
+                                        Environment environment,
+                                        ExecutorService executorService,
+                                        MessagePoller messagePoller,
+                                        MessageProcessor messageProcessor,
+                                        RetryManager retryManager,
+                                        DeadLetterQueueHandler dlqHandler,
+                                        MetricsCollector metricsCollector,
+                                        ConcurrencyController concurrencyController) {
+        this(containerId, targetBean, targetMethod, listenerAnnotation, sqsService, environment,
+                executorService, messagePoller, messageProcessor, retryManager, dlqHandler,
+                metricsCollector, concurrencyController, null);
+    }
+    
+    /**
+     * Create a container whose in-flight messages are kept invisible by the given extender
+     * until their final outcome. A null extender disables visibility extension.
+     */
+    public RefactoredSqsListenerContainer(String containerId,
+                                        Object targetBean,
+                                        Method targetMethod,
+                                        SqsListener listenerAnnotation,
+                                        SqsService sqsService,
+                                        Environment environment,
+                                        ExecutorService executorService,
+                                        MessagePoller messagePoller,
+                                        MessageProcessor messageProcessor,
+                                        RetryManager retryManager,
+                                        DeadLetterQueueHandler dlqHandler,
+                                        MetricsCollector metricsCollector,
+                                        ConcurrencyController concurrencyController,
+                                        VisibilityExtender visibilityExtender) {
         
         this.containerId = containerId;
         this.targetBean = targetBean;
@@ -75,6 +143,13 @@ public class RefactoredSqsListenerContainer {
         this.retryManager = retryManager;
         this.dlqHandler = dlqHandler;
         this.metricsCollector = metricsCollector;
+        this.concurrencyController = concurrencyController;
+        this.visibilityExtender = visibilityExtender;
+        this.groupDispatcher = listenerAnnotation.orderByMessageGroup() ? new MessageGroupDispatcher() : null;
+        this.batchAccumulator = listenerAnnotation.batchMode()
+                ? new MessageBatchAccumulator(Math.max(1, listenerAnnotation.batchSize()),
+                        Math.max(0L, listenerAnnotation.batchMaxWaitMillis()), executorService, this::dispatchBatch)
+                : null;
         
         // Initialize configuration objects
         this.processingConfig = new ProcessingConfigImpl();
@@ -82,6 +157,7 @@ public class RefactoredSqsListenerContainer {
         this.dlqConfig = new DlqConfigImpl();
         
         this.targetMethod.setAccessible(true);
+        this.listenerInvoker = ListenerInvokerFactory.create(targetBean, targetMethod);
     }
     
     /**
@@ -95,11 +171,14 @@ public class RefactoredSqsListenerContainer {
         
         try {
             resolveQueueUrl();
+            concurrencyController.register(containerId,
+                    listenerAnnotation.maxConcurrentMessages(), listenerAnnotation.maxMessagesPerPoll());
             startMessagePolling();
             
             log.info("Started SQS listener container: {} for queue: {}", containerId, resolvedQueueUrl);
         } catch (Exception e) {
             running.set(false);
+            concurrencyController.unregister(containerId);
             log.error("Failed to start container {}: {}", containerId, e.getMessage(), e);
             throw new RuntimeException("Failed to start SQS listener container", e);
         }
@@ -116,7 +195,13 @@ public class RefactoredSqsListenerContainer {
         log.info("Stopping SQS listener container: {}", containerId);
         
         try {
+            signalCapacity();
             messagePoller.stopPolling();
+            if (batchAccumulator != null) {
+                // Buffered messages are not dispatched once stopped; stop extending their visibility
+                batchAccumulator.flush();
+            }
+            concurrencyController.unregister(containerId);
             log.info("Stopped SQS listener container: {}", containerId);
         } catch (Exception e) {
             log.error("Error stopping container {}: {}", containerId, e.getMessage(), e);
@@ -163,86 +248,279 @@ public class RefactoredSqsListenerContainer {
     private void startMessagePolling() {
         messagePoller.startPolling(
                 resolvedQueueUrl,
-                listenerAnnotation.maxMessagesPerPoll(),
+                () -> concurrencyController.getPollSize(containerId),
                 listenerAnnotation.pollTimeoutSeconds(),
-                this::handlePolledMessages
+                listenerAnnotation.messageVisibilitySeconds(),
+                Math.max(1, listenerAnnotation.pollerCount()),
+                new PolledMessageHandler()
         );
     }
     
-    private void handlePolledMessages(List<SqsMessage> messages) {
-        if (listenerAnnotation.batchMode()) {
-            processBatch(messages);
+    /**
+     * Track the visibility of received messages from the receive time, before they wait for
+     * an invocation slot or in the batch accumulator, then hand them on.
+     */
+    private void handlePolledMessages(List<SqsMessage> messages, long receivedAtNanos) {
+        concurrencyController.onPollCompleted(containerId, messages.size());
+        trackVisibility(messages, receivedAtNanos);
+        
+        if (batchAccumulator != null) {
+            batchAccumulator.add(messages);
+        } else {
+            for (int index = 0; index < messages.size(); index++) {
+                if (!awaitCapacity()) {
+                    // Container stopping; remaining messages become visible again after the timeout
+                    releaseVisibility(messages.subList(index, messages.size()));
+                    return;
+                }
+                processMessage(messages.get(index));
+            }
+        }
+    }
+    
+    /**
+     * Sink of the batch accumulator. Size-triggered batches arrive on a polling engine thread,
+     * time-triggered ones on an executor thread; both wait for an invocation slot.
+     */
+    private void dispatchBatch(List<SqsMessage> batch) {
+        if (awaitCapacity()) {
+            processBatch(batch);
         } else {
-            messages.forEach(this::processMessage);
+            releaseVisibility(batch);
         }
     }
     
-    private void processMessage(SqsMessage message) {
-        CompletableFuture.runAsync(() -> {
-            long startTime = System.currentTimeMillis();
-            
+    /**
+     * Block the calling thread until an invocation slot is free under the current limit.
+     * Uses a lock rather than a monitor so a waiting virtual thread does not pin its carrier.
+     *
+     * @return true if a slot was reserved, false if the container stopped while waiting
+     */
+    private boolean awaitCapacity() {
+        capacityLock.lock();
+        try {
+            while (running.get()) {
+                int active = activeInvocations.get();
+                if (active < concurrencyController.getConcurrencyLimit(containerId)) {
+                    activeInvocations.incrementAndGet();
+                    return true;
+                }
+                try {
+                    capacityAvailable.await(100, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            return false;
+        } finally {
+            capacityLock.unlock();
+        }
+    }
+    
+    private void releaseCapacity() {
+        activeInvocations.decrementAndGet();
+        signalCapacity();
+    }
+    
+    private void signalCapacity() {
+        capacityLock.lock();
+        try {
+            capacityAvailable.signalAll();
+        } finally {
+            capacityLock.unlock();
+        }
+    }
+    
+    /**
+     * Run an operation through the retry manager's non-blocking path. Backoff delays are
+     * scheduled on a timer, so a failing listener does not hold worker threads between attempts.
+     * The capacity slot and the visibility extension of the messages are held until the final
+     * outcome and released afterwards; the returned future completes after that release.
+     */
+    private CompletableFuture<Void> processWithRetry(List<SqsMessage> messages, Runnable operation,
+                                                     Consumer<Exception> onFailure) {
+        long startTime = System.currentTimeMillis();
+        recordQueueLatency(messages, startTime);
+        CompletableFuture<Void> processing;
+        try {
+            processing = retryManager.executeWithRetryAsync(operation, retryConfig, executorService);
+        } catch (RuntimeException e) {
+            processing = CompletableFuture.failedFuture(e);
+        }
+        
+        return processing.handle((ignored, throwable) -> {
             try {
-                // Process with retry logic
-                retryManager.executeWithRetry(() -> {
-                    try {
-                        messageProcessor.processMessage(message, processingConfig);
-                    } catch (MessageProcessor.MessageProcessingException e) {
-                        throw new RuntimeException(e);
-                    }
-                }, retryConfig);
-                
                 long processingTime = System.currentTimeMillis() - startTime;
-                metricsCollector.recordMessageProcessed(containerId);
-                metricsCollector.recordProcessingTime(containerId, processingTime);
-                
-            } catch (Exception e) {
-                metricsCollector.recordMessageFailed(containerId, e);
-                log.error("Failed to process message {} for container {}: {}", 
-                        message.getMessageId(), containerId, e.getMessage(), e);
+                if (throwable == null) {
+                    metricsCollector.recordMessageProcessed(containerId);
+                    metricsCollector.recordProcessingTime(containerId, processingTime);
+                    concurrencyController.onProcessingCompleted(containerId, processingTime, true);
+                    return null;
+                }
                 
-                handleFailedMessage(message, e);
+                Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause()
+                        : throwable;
+                if (cause instanceof RejectedExecutionException) {
+                    log.warn("Executor rejected work for container {}: {}", containerId, cause.getMessage());
+                    returnToQueue(messages);
+                    // Fail the dispatcher lane so later messages of the same groups are returned too
+                    throw new CompletionException(cause);
+                }
+                Exception failure = cause instanceof Exception ? (Exception) cause : new RuntimeException(cause);
+                metricsCollector.recordMessageFailed(containerId, failure);
+                concurrencyController.onProcessingCompleted(containerId, processingTime, false);
+                onFailure.accept(failure);
+                return null;
+            } finally {
+                releaseVisibility(messages);
+                releaseCapacity();
+            }
+        });
+    }
+    
+    /**
+     * Record how long each message waited in the queue, from its SentTimestamp to the moment
+     * the listener starts on it. Messages without a parseable timestamp are skipped.
+     */
+    private void recordQueueLatency(List<SqsMessage> messages, long startedAtMillis) {
+        for (SqsMessage message : messages) {
+            String sentTimestamp = message.getSentTimestamp();
+            if (sentTimestamp == null) {
+                continue;
+            }
+            try {
+                long latency = startedAtMillis - Long.parseLong(sentTimestamp);
+                metricsCollector.recordQueueLatency(containerId, Math.max(0L, latency));
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring unparseable SentTimestamp '{}' on message {}", sentTimestamp, message.getMessageId());
             }
-        }, executorService);
+        }
     }
     
+    private void trackVisibility(List<SqsMessage> messages, long receivedAtNanos) {
+        if (visibilityExtender != null) {
+            for (SqsMessage message : messages) {
+                visibilityExtender.track(resolvedQueueUrl, message.getReceiptHandle(),
+                        listenerAnnotation.messageVisibilitySeconds(), receivedAtNanos);
+            }
+        }
+    }
+    
+    private void releaseVisibility(List<SqsMessage> messages) {
+        if (visibilityExtender != null) {
+            for (SqsMessage message : messages) {
+                visibilityExtender.release(resolvedQueueUrl, message.getReceiptHandle());
+            }
+        }
+    }
+    
+    /**
+     * Dispatch work for the given messages, waiting for earlier work of the same message
+     * groups first when orderByMessageGroup is enabled. If an earlier message of one of the
+     * groups went back to the queue, the work is skipped and its messages are returned as well.
+     */
+    private void dispatch(List<SqsMessage> messages, Supplier<CompletableFuture<Void>> work) {
+        if (groupDispatcher == null) {
+            work.get();
+        } else {
+            groupDispatcher.dispatch(messages.stream().map(MessageGroupDispatcher::groupIdOf).toList(), work, () -> {
+                releaseVisibility(messages);
+                returnToQueue(messages);
+                releaseCapacity();
+            });
+        }
+    }
+    
+    /**
+     * Make unprocessed messages visible again right away so they are redelivered in order.
+     */
+    private void returnToQueue(List<SqsMessage> messages) {
+        for (SqsMessage message : messages) {
+            try {
+                sqsService.changeMessageVisibility(resolvedQueueUrl, message.getReceiptHandle(), 0)
+                        .exceptionally(throwable -> {
+                            log.warn("Failed to return message {} to queue for container {}: {}",
+                                    message.getMessageId(), containerId, throwable.getMessage());
+                            return null;
+                        });
+            } catch (RuntimeException e) {
+                log.warn("Failed to return message {} to queue for container {}: {}",
+                        message.getMessageId(), containerId, e.getMessage());
+            }
+        }
+    }
+    
+    private void processMessage(SqsMessage message) {
+        dispatch(List.of(message), () -> processWithRetry(List.of(message), () -> {
+            try {
+                messageProcessor.processMessage(message, processingConfig);
+            } catch (MessageProcessor.MessageProcessingException e) {
+                throw new RuntimeException(e);
+            }
+        }, e -> {
+            log.error("Failed to process message {} for container {}: {}", 
+                    message.getMessageId(), containerId, e.getMessage(), e);
+            handleFailedMessage(message, e);
+        }));
+    }
+    
+    /**
+     * Process a batch with partial acknowledgement. Messages the listener reports as failed are
+     * the only ones passed to the next attempt and, once retries are exhausted, to the DLQ;
+     * the others are acknowledged by the message processor right away.
+     */
     private void processBatch(List<SqsMessage> messages) {
-        CompletableFuture.runAsync(() -> {
-            long startTime = System.currentTimeMillis();
-            
+        AtomicReference<List<SqsMessage>> remaining = new AtomicReference<>(messages);
+        dispatch(messages, () -> processWithRetry(messages, () -> {
+            List<SqsMessage> attempted = remaining.get();
+            Set<String> failedIds;
             try {
-                // Process batch with retry logic
-                retryManager.executeWithRetry(() -> {
-                    try {
-                        messageProcessor.processBatch(messages, processingConfig);
-                    } catch (MessageProcessor.MessageProcessingException e) {
-                        throw new RuntimeException(e);
-                    }
-                }, retryConfig);
-                
-                long processingTime = System.currentTimeMillis() - startTime;
-                metricsCollector.recordMessageProcessed(containerId);
-                metricsCollector.recordProcessingTime(containerId, processingTime);
-                
-            } catch (Exception e) {
-                metricsCollector.recordMessageFailed(containerId, e);
-                log.error("Failed to process message batch for container {}: {}", 
-                        containerId, e.getMessage(), e);
-                
-                messages.forEach(message -> handleFailedMessage(message, e));
+                failedIds = messageProcessor.processBatch(attempted, processingConfig);
+            } catch (MessageProcessor.MessageProcessingException e) {
+                throw new RuntimeException(e);
+            }
+            if (!failedIds.isEmpty()) {
+                remaining.set(attempted.stream()
+                        .filter(message -> failedIds.contains(message.getMessageId()))
+                        .toList());
+                // Acknowledged messages no longer need their visibility extended
+                releaseVisibility(attempted.stream()
+                        .filter(message -> !failedIds.contains(message.getMessageId()))
+                        .toList());
+                throw new MessageProcessor.PartialBatchFailureException(failedIds, attempted.size());
             }
-        }, executorService);
+        }, e -> {
+            List<SqsMessage> failed = remaining.get();
+            log.error("Failed to process {} of {} messages in batch for container {}: {}",
+                    failed.size(), messages.size(), containerId, e.getMessage(), e);
+            failed.forEach(message -> handleFailedMessage(message, e));
+        }));
     }
     
+    /**
+     * Hand a failed message to the DLQ handler without waiting for the send, so a burst of
+     * failures does not hold worker threads. The outcome and send latency are recorded once it settles.
+     */
     private void handleFailedMessage(SqsMessage message, Exception exception) {
+        long startedAt = System.nanoTime();
+        CompletableFuture<Boolean> sent;
         try {
-            boolean dlqSuccess = dlqHandler.sendToDeadLetterQueue(message, exception, dlqConfig);
-            // Record DLQ operation through state change
-            metricsCollector.recordStateChange(containerId, "PROCESSING", dlqSuccess ? "DLQ_SUCCESS" : "DLQ_FAILED");
+            sent = dlqHandler.sendToDeadLetterQueueAsync(message, exception, dlqConfig);
         } catch (Exception dlqException) {
-            metricsCollector.recordStateChange(containerId, "PROCESSING", "DLQ_FAILED");
-            log.error("Failed to handle failed message for container {}: {}", 
-                    containerId, dlqException.getMessage(), dlqException);
+            sent = CompletableFuture.failedFuture(dlqException);
         }
+        sent.whenComplete((dlqSuccess, throwable) -> {
+            boolean success = throwable == null && Boolean.TRUE.equals(dlqSuccess);
+            metricsCollector.recordDlqLatency(containerId, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            // Record DLQ operation through state change
+            metricsCollector.recordStateChange(containerId, "PROCESSING", success ? "DLQ_SUCCESS" : "DLQ_FAILED");
+            if (throwable != null) {
+                log.error("Failed to handle failed message for container {}: {}",
+                        containerId, throwable.getMessage(), throwable);
+            }
+        });
     }
     
     private String resolveProperty(String value) {
@@ -252,6 +530,26 @@ public class RefactoredSqsListenerContainer {
         return environment.resolvePlaceholders(value);
     }
     
+    /**
+     * Poller callback that also reports empty receives to the concurrency controller.
+     */
+    private class PolledMessageHandler implements MessagePoller.MessageHandler {
+        @Override
+        public void handleMessages(List<SqsMessage> messages) {
+            handlePolledMessages(messages, System.nanoTime());
+        }
+        
+        @Override
+        public void handleMessages(List<SqsMessage> messages, long receivedAtNanos) {
+            handlePolledMessages(messages, receivedAtNanos);
+        }
+        
+        @Override
+        public void onEmptyReceive() {
+            concurrencyController.onPollCompleted(containerId, 0);
+        }
+    }
+    
     /**
      * Implementation of ProcessingConfig.
      */
@@ -280,6 +578,11 @@ public class RefactoredSqsListenerContainer {
         public String getQueueUrl() {
             return resolvedQueueUrl;
         }
+        
+        @Override
+        public ListenerInvoker getListenerInvoker() {
+            return listenerInvoker;
+        }
     }
     
     /**
@@ -316,6 +619,16 @@ public class RefactoredSqsListenerContainer {
             return containerId;
         }
         
+        @Override
+        public String getSourceQueueUrl() {
+            return resolvedQueueUrl;
+        }
+        
+        @Override
+        public Integer getRetryAttempts() {
+            return listenerAnnotation.maxRetryAttempts();
+        }
+        
         @Override
         public Map<String, String> getAdditionalMetadata() {
             return Map.of(
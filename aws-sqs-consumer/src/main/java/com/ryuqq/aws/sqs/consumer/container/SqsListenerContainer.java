@@ -1,21 +1,36 @@
 package com.ryuqq.aws.sqs.consumer.container;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.ryuqq.aws.sqs.consumer.types.DlqMessage;
+import com.ryuqq.aws.sqs.consumer.component.DeadLetterQueueHandler;
+import com.ryuqq.aws.sqs.consumer.component.DeadLetterQueueHandler.DlqConfig;
+import com.ryuqq.aws.sqs.consumer.component.MessageAcknowledger;
+import com.ryuqq.aws.sqs.consumer.component.MessageProcessor;
+import com.ryuqq.aws.sqs.consumer.component.MetricsCollector;
+import com.ryuqq.aws.sqs.consumer.component.VisibilityExtender;
+import com.ryuqq.aws.sqs.consumer.component.impl.DefaultDeadLetterQueueHandler;
+import com.ryuqq.aws.sqs.consumer.executor.PollingEngine;
+import com.ryuqq.aws.sqs.consumer.executor.RetryScheduler;
+import com.ryuqq.aws.sqs.consumer.processor.BatchResults;
+import com.ryuqq.aws.sqs.consumer.processor.ListenerInvoker;
+import com.ryuqq.aws.sqs.consumer.processor.ListenerInvokerFactory;
+import com.ryuqq.aws.sqs.consumer.properties.SqsConsumerProperties;
 import com.ryuqq.aws.sqs.service.SqsService;
 import com.ryuqq.aws.sqs.types.SqsMessage;
 import com.ryuqq.aws.sqs.consumer.annotation.SqsListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.env.Environment;
 
 import java.lang.reflect.Method;
-import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -30,14 +45,17 @@ import java.util.concurrent.atomic.AtomicReference;
  * <ul>
  *   <li>Long Polling을 통한 효율적인 메시지 수신</li>
  *   <li>Thread Pool을 사용한 비동기 메시지 처리</li>
- *   <li>Retry 및 Dead Letter Queue(DLQ) 지원</li>
- *   <li>Thread-safe한 컨테이너 생명주기 관리</li>
+ *   <li>maxConcurrentMessages 기반 in-flight 퍼밋을 통한 Backpressure 제어</li>
+ *   <li>prefetchMessages 설정시 처리 중에도 다음 수신을 미리 수행하는 선행 수신 버퍼</li>
+ *   <li>Retry 및 Dead Letter Queue(DLQ) 지원 - 컨테이너 내 재시도 또는 SQS 재전달 기반 재시도 (retryMode)</li>
+ *   <li>FIFO 큐의 MessageGroupId별 순서 보장 (orderByMessageGroup)</li>
+ *   <li>Thread-safe한 컨테이너 생명주기 관리 및 정지 시 in-flight 메시지 drain</li>
  *   <li>메시지 처리 통계 및 모니터링 지원</li>
  * </ul>
  * 
  * <h3>Thread 모델</h3>
  * <ul>
- *   <li><strong>Polling Thread</strong>: SQS로부터 메시지를 수신하는 전용 스레드</li>
+ *   <li><strong>Polling</strong>: 전용 스레드 없이 공유 {@link PollingEngine}이 수신 응답 완료 시 다음 폴링을 이어서 실행</li>
  *   <li><strong>Message Processing Threads</strong>: 수신된 메시지를 실제로 처리하는 워커 스레드들</li>
  *   <li><strong>Virtual Threads</strong>: Java 21+에서 I/O 집약적 작업에 최적화된 경량 스레드</li>
  *   <li><strong>Platform Threads</strong>: 전통적인 OS 스레드를 사용한 스레드 풀</li>
@@ -45,7 +63,7 @@ import java.util.concurrent.atomic.AtomicReference;
  * 
  * <h3>보안 개선사항</h3>
  * <ul>
- *   <li>Jackson ObjectMapper를 사용한 안전한 JSON 직렬화 (인젝션 방지)</li>
+ *   <li>DLQ 메시지는 공유 DeadLetterQueueHandler가 Jackson으로 직렬화 (인젝션 방지)</li>
  *   <li>Atomic 연산을 통한 Thread-safe한 상태 관리</li>
  *   <li>적절한 예외 처리 및 리소스 정리</li>
  *   <li>UncaughtExceptionHandler를 통한 스레드 예외 처리</li>
@@ -68,7 +86,29 @@ public class SqsListenerContainer {
 
     private static final Logger log = LoggerFactory.getLogger(SqsListenerContainer.class);
     
-    private static final ObjectMapper OBJECT_MAPPER = createSecureObjectMapper();
+    // 퍼밋 대기 중에도 컨테이너 정지를 감지할 수 있도록 짧은 주기로 재시도
+    private static final long PERMIT_WAIT_MILLIS = 500L;
+    
+    // SqsConsumerProperties를 찾을 수 없을 때 사용하는 drain 대기 시간 (프로퍼티 기본값과 동일)
+    private static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLIS = 30000L;
+    
+    // drain 대기 시간을 모두 사용한 경우에도 삭제 배치 전송에 보장하는 최소 시간
+    private static final long MIN_ACKNOWLEDGEMENT_FLUSH_MILLIS = 1000L;
+    
+    // ChangeMessageVisibilityBatch 한 번에 보낼 수 있는 최대 항목 수
+    private static final int VISIBILITY_BATCH_LIMIT = 10;
+    
+    // 메시지 처리 ExecutorService가 포화되어 작업을 거부한 뒤 수신을 멈추는 시간
+    private static final long SATURATION_PAUSE_MILLIS = 1000L;
+    
+    // Circuit Breaker HALF_OPEN 상태에서 다른 폴러의 시험 메시지 결과를 기다리는 간격
+    private static final long PROBE_WAIT_MILLIS = 500L;
+    
+    // ChangeMessageVisibility로 지정할 수 있는 최대 가시성 타임아웃 (12시간)
+    private static final int MAX_VISIBILITY_TIMEOUT_SECONDS = 43200;
+    
+    // 메시지가 삭제되거나 DLQ로 넘어가지 않고 큐에 남았음을 MessageGroupDispatcher에 알리는 완료 신호
+    private static final UnsettledMessageException UNSETTLED = new UnsettledMessageException();
     
     private final String containerId;
     private final Object targetBean;
@@ -78,16 +118,67 @@ public class SqsListenerContainer {
     private final Environment environment;
     private final ApplicationContext applicationContext;
     private final ExecutorService messageExecutorService;
-    private final ExecutorService pollingExecutorService;
+    private final MessageAcknowledger messageAcknowledger;
+    private final VisibilityExtender visibilityExtender;
+    private final ListenerInvoker listenerInvoker;
+    private final long shutdownTimeoutMillis;
+    
+    // ApplicationContext에 MetricsCollector가 있는 경우에만 사용 - 시작 시 컨테이너 전용 기록기로 바인딩
+    private final MetricsCollector metricsCollector;
+    private volatile MetricsCollector.ContainerRecorder metrics = MetricsCollector.ContainerRecorder.NOOP;
+    
+    // orderByMessageGroup=true인 경우에만 사용 - 같은 MessageGroupId의 메시지를 순서대로 처리
+    private final MessageGroupDispatcher groupDispatcher;
+    
+    // batchMode=true인 경우에만 사용 - 여러 폴링 결과를 batchSize 단위로 모아 배치 처리
+    private final MessageBatchAccumulator batchAccumulator;
+    
+    // enableDeadLetterQueue=true인 경우에만 사용 - 재시도를 소진한 메시지를 배치로 DLQ에 비동기 전송
+    private final DeadLetterQueueHandler deadLetterQueueHandler;
+    // ApplicationContext에 핸들러가 없어 이 컨테이너가 직접 생성한 경우에만 사용 - 정지 시 남은 DLQ 배치를 전송하고 닫음
+    private final DefaultDeadLetterQueueHandler localDeadLetterQueueHandler;
+    private final DlqConfig dlqConfig = new ContainerDlqConfig();
+    
+    // circuitBreakerFailureRateThreshold > 0인 경우에만 사용 - 실패율이 높으면 폴링을 멈추고 받은 메시지를 지연 반환
+    private final ContainerCircuitBreaker circuitBreaker;
+    // HALF_OPEN 시험 수신으로 받은 메시지 - 이 메시지가 결과 없이 반환될 때만 시험 권한을 반환
+    private final AtomicReference<SqsMessage> probeMessage = new AtomicReference<>();
+    
+    // retryMode=VISIBILITY_TIMEOUT인 경우에만 사용 - 실패한 메시지를 보관하지 않고 수신 횟수에 따라 지연 후 재전달
+    private final RedriveBackoff redriveBackoff;
     
     // Atomic 연산을 통한 Thread-safe 상태 관리 - 단일 원자적 참조를 사용하여 동시성 보장
     private final AtomicReference<ContainerState> state = new AtomicReference<>(ContainerState.CREATED);
     private final AtomicLong processedMessages = new AtomicLong(0);
     private final AtomicLong failedMessages = new AtomicLong(0);
     
+    // Backpressure 제어 - 수신 후 처리 완료 전까지 메시지당 하나의 퍼밋을 점유
+    // maxConcurrentMessages는 setMaxConcurrentMessages()로 실행 중에 변경될 수 있음
+    private volatile int maxConcurrentMessages;
+    private volatile int receiveCapacity;
+    private final int prefetchMessages;
+    private final ResizableSemaphore inFlightPermits;
+    
+    // prefetchMessages > 0인 경우에만 사용 - 처리 슬롯(maxConcurrentMessages)을 기다리는 선행 수신 메시지 보관
+    private final PrefetchBuffer prefetchBuffer;
+    private final ResizableSemaphore processingSlots;
+    
+    // 동시 처리 수 변경과 drain 시작을 직렬화 - drain이 기다릴 퍼밋 수가 도중에 바뀌지 않도록 함
+    private final Object resizeLock = new Object();
+    private final AtomicInteger inFlightMessages = new AtomicInteger(0);
+    private final AtomicInteger queuedMessages = new AtomicInteger(0);
+    
     private volatile String resolvedQueueUrl;
-    private volatile ScheduledExecutorService pollingExecutor;
-    private volatile CompletableFuture<Void> pollingTask;
+    private volatile PollingEngine.Handle pollingHandle;
+    
+    // ExecutorService 포화로 폴링을 멈춘 경우 재개 시각 (System.nanoTime 기준, 0이면 멈추지 않음)
+    private volatile long pollingResumesAt;
+    
+    // 정지 중 drain 단계 여부 - true이면 실행 차례가 온 메시지를 처리하지 않고 큐로 돌려보냄
+    private volatile boolean draining;
+    
+    // drain 종료 전에 완료되어야 하는 삭제 및 가시성 복원 요청
+    private final Set<CompletableFuture<?>> pendingAcknowledgements = ConcurrentHashMap.newKeySet();
     
     // 상태 전환을 위한 동기화 객체 - 동시에 여러 스레드가 상태를 변경하는 것을 방지
     private final Object stateLock = new Object();
@@ -101,6 +192,74 @@ public class SqsListenerContainer {
                               ApplicationContext applicationContext,
                               ExecutorService messageExecutorService,
                               ExecutorService pollingExecutorService) {
+        this(containerId, targetBean, targetMethod, listenerAnnotation, sqsService, environment,
+            applicationContext, messageExecutorService, pollingExecutorService, null);
+    }
+    
+    /**
+     * 삭제 배치 처리기를 사용하는 컨테이너 생성
+     * 
+     * messageAcknowledger가 지정되면 autoDelete 시 메시지별 DeleteMessage 호출 대신
+     * 수신 확인을 모아서 DeleteMessageBatch로 전송합니다. null이면 개별 삭제합니다.
+     */
+    public SqsListenerContainer(String containerId,
+                              Object targetBean,
+                              Method targetMethod,
+                              SqsListener listenerAnnotation,
+                              SqsService sqsService,
+                              Environment environment,
+                              ApplicationContext applicationContext,
+                              ExecutorService messageExecutorService,
+                              ExecutorService pollingExecutorService,
+                              MessageAcknowledger messageAcknowledger) {
+        this(containerId, targetBean, targetMethod, listenerAnnotation, sqsService, environment,
+            applicationContext, messageExecutorService, pollingExecutorService, messageAcknowledger, null);
+    }
+    
+    /**
+     * 가시성 타임아웃 연장기를 사용하는 컨테이너 생성
+     * 
+     * visibilityExtender가 지정되면 메시지가 워커에 전달된 시점부터 처리 결과가 확정될 때까지
+     * messageVisibilitySeconds 단위로 가시성 타임아웃을 연장하여, 처리 시간이 긴 메시지가
+     * 다른 컨슈머에게 다시 전달되지 않도록 합니다. null이면 연장하지 않습니다.
+     */
+    public SqsListenerContainer(String containerId,
+                              Object targetBean,
+                              Method targetMethod,
+                              SqsListener listenerAnnotation,
+                              SqsService sqsService,
+                              Environment environment,
+                              ApplicationContext applicationContext,
+                              ExecutorService messageExecutorService,
+                              ExecutorService pollingExecutorService,
+                              MessageAcknowledger messageAcknowledger,
+                              VisibilityExtender visibilityExtender) {
+        this(containerId, targetBean, targetMethod, listenerAnnotation, sqsService, environment,
+            applicationContext, messageExecutorService, pollingExecutorService, messageAcknowledger,
+            visibilityExtender, null);
+    }
+    
+    /**
+     * 미리 생성한 리스너 호출기를 사용하는 컨테이너 생성
+     * 
+     * listenerInvoker는 빈 등록 시점에 한 번 생성되어 메시지마다 리플렉션 호출 비용이 들지 않도록 합니다.
+     * null이면 생성자에서 {@link ListenerInvokerFactory#create}로 생성합니다.
+     * 
+     * 폴링은 공유 {@link PollingEngine}이 담당하므로 pollingExecutorService는 하위 호환을 위해서만
+     * 받으며 사용하지 않습니다.
+     */
+    public SqsListenerContainer(String containerId,
+                              Object targetBean,
+                              Method targetMethod,
+                              SqsListener listenerAnnotation,
+                              SqsService sqsService,
+                              Environment environment,
+                              ApplicationContext applicationContext,
+                              ExecutorService messageExecutorService,
+                              ExecutorService pollingExecutorService,
+                              MessageAcknowledger messageAcknowledger,
+                              VisibilityExtender visibilityExtender,
+                              ListenerInvoker listenerInvoker) {
         this.containerId = containerId;
         this.targetBean = targetBean;
         this.targetMethod = targetMethod;
@@ -109,25 +268,110 @@ public class SqsListenerContainer {
         this.environment = environment;
         this.applicationContext = applicationContext;
         this.messageExecutorService = messageExecutorService;
-        this.pollingExecutorService = pollingExecutorService;
+        this.messageAcknowledger = messageAcknowledger;
+        this.visibilityExtender = visibilityExtender;
+        this.groupDispatcher = listenerAnnotation.orderByMessageGroup() ? new MessageGroupDispatcher() : null;
+        this.batchAccumulator = listenerAnnotation.batchMode()
+            ? new MessageBatchAccumulator(Math.max(1, listenerAnnotation.batchSize()),
+                Math.max(0L, listenerAnnotation.batchMaxWaitMillis()), messageExecutorService, this::processBatch)
+            : null;
+        this.circuitBreaker = listenerAnnotation.circuitBreakerFailureRateThreshold() > 0
+            ? new ContainerCircuitBreaker(Math.min(100, listenerAnnotation.circuitBreakerFailureRateThreshold()),
+                listenerAnnotation.circuitBreakerWindowSize(), listenerAnnotation.circuitBreakerOpenMillis())
+            : null;
+        this.redriveBackoff = listenerAnnotation.retryMode() == SqsListener.RetryMode.VISIBILITY_TIMEOUT
+            ? new RedriveBackoff(listenerAnnotation.maxRetryAttempts(), listenerAnnotation.retryDelayMillis(),
+                listenerAnnotation.maxRetryDelayMillis())
+            : null;
+        this.maxConcurrentMessages = Math.max(1, listenerAnnotation.maxConcurrentMessages());
+        this.prefetchMessages = listenerAnnotation.batchMode() ? 0 : Math.max(0, listenerAnnotation.prefetchMessages());
+        this.receiveCapacity = maxConcurrentMessages + prefetchMessages;
+        this.inFlightPermits = new ResizableSemaphore(receiveCapacity);
+        this.prefetchBuffer = prefetchMessages > 0
+            ? new PrefetchBuffer(listenerAnnotation.messageVisibilitySeconds() * 1000L)
+            : null;
+        this.processingSlots = prefetchMessages > 0 ? new ResizableSemaphore(maxConcurrentMessages) : null;
         
         this.targetMethod.setAccessible(true);
+        this.listenerInvoker = listenerInvoker != null
+            ? listenerInvoker
+            : ListenerInvokerFactory.create(targetBean, targetMethod);
+        this.shutdownTimeoutMillis = resolveShutdownTimeoutMillis(applicationContext);
+        this.metricsCollector = resolveMetricsCollector(applicationContext);
+        DeadLetterQueueHandler sharedDeadLetterQueueHandler = listenerAnnotation.enableDeadLetterQueue()
+            ? lookupDeadLetterQueueHandler(applicationContext)
+            : null;
+        this.localDeadLetterQueueHandler = listenerAnnotation.enableDeadLetterQueue() && sharedDeadLetterQueueHandler == null
+            ? new DefaultDeadLetterQueueHandler(sqsService, environment)
+            : null;
+        this.deadLetterQueueHandler = sharedDeadLetterQueueHandler != null
+            ? sharedDeadLetterQueueHandler
+            : localDeadLetterQueueHandler;
+    }
+    
+    /**
+     * 정지 시 in-flight 메시지를 기다릴 최대 시간 해결
+     * 
+     * ApplicationContext에 등록된 SqsConsumerProperties의 shutdownTimeoutMillis를 사용하며,
+     * 찾을 수 없으면 기본값 30초를 사용합니다.
+     * 
+     * @param applicationContext 프로퍼티 빈을 조회할 컨텍스트 (null 허용)
+     * @return drain 대기 시간 (밀리초)
+     */
+    private static long resolveShutdownTimeoutMillis(ApplicationContext applicationContext) {
+        if (applicationContext != null) {
+            try {
+                SqsConsumerProperties properties = applicationContext.getBean(SqsConsumerProperties.class);
+                if (properties != null) {
+                    return properties.getShutdownTimeoutMillis();
+                }
+            } catch (BeansException e) {
+                log.debug("SqsConsumerProperties not available, using default shutdown timeout: {}", e.getMessage());
+            }
+        }
+        return DEFAULT_SHUTDOWN_TIMEOUT_MILLIS;
+    }
+    
+    /**
+     * 메트릭을 기록할 MetricsCollector 해결
+     * 
+     * ApplicationContext에 MetricsCollector 빈이 없으면 메트릭을 기록하지 않습니다.
+     * 
+     * @param applicationContext 메트릭 수집기 빈을 조회할 컨텍스트 (null 허용)
+     * @return MetricsCollector (없으면 null)
+     */
+    private static MetricsCollector resolveMetricsCollector(ApplicationContext applicationContext) {
+        if (applicationContext != null) {
+            try {
+                return applicationContext.getBean(MetricsCollector.class);
+            } catch (BeansException e) {
+                log.debug("MetricsCollector not available, consumer metrics are disabled: {}", e.getMessage());
+            }
+        }
+        return null;
     }
     
     /**
-     * JSON 직렬화를 위한 보안 ObjectMapper 인스턴스 생성
+     * ApplicationContext에 등록된 DeadLetterQueueHandler 조회
      * 
-     * Jackson ObjectMapper를 사용하여 DLQ 메시지를 안전하게 JSON으로 직렬화합니다.
-     * AUTO_CLOSE_SOURCE 기능을 비활성화하여 보안 취약점을 방지합니다.
+     * 등록된 핸들러를 사용하여 모든 컨테이너가 하나의 DLQ 배치 파이프라인을 공유하며,
+     * 찾을 수 없으면 호출자가 이 컨테이너 전용 {@link DefaultDeadLetterQueueHandler}를 생성합니다.
      * 
-     * @return 보안이 강화된 ObjectMapper 인스턴스
+     * @param applicationContext 핸들러 빈을 조회할 컨텍스트 (null 허용)
+     * @return 등록된 DeadLetterQueueHandler (없으면 null)
      */
-    private static ObjectMapper createSecureObjectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        // 보안 취약점으로 악용될 수 있는 기능들을 비활성화
-        mapper.getFactory().disable(com.fasterxml.jackson.core.JsonParser.Feature.AUTO_CLOSE_SOURCE);
-        return mapper;
+    private static DeadLetterQueueHandler lookupDeadLetterQueueHandler(ApplicationContext applicationContext) {
+        if (applicationContext != null) {
+            try {
+                DeadLetterQueueHandler handler = applicationContext.getBean(DeadLetterQueueHandler.class);
+                if (handler != null) {
+                    return handler;
+                }
+            } catch (BeansException e) {
+                log.debug("DeadLetterQueueHandler not available, using a container-local handler: {}", e.getMessage());
+            }
+        }
+        return null;
     }
     
     /**
@@ -141,7 +385,8 @@ public class SqsListenerContainer {
      *   <li>현재 상태가 시작 가능한지 검증 (CREATED 또는 STOPPED 상태)</li>
      *   <li>STARTING 상태로 안전하게 전환</li>
      *   <li>SQS 큐 URL 해결 (queueName 또는 queueUrl 사용)</li>
-     *   <li>폴링 스레드 초기화 및 시작</li>
+     *   <li>MetricsCollector가 있으면 컨테이너 미터 등록</li>
+     *   <li>공유 폴링 엔진에 폴링 루프 등록</li>
      *   <li>RUNNING 상태로 전환 완료</li>
      * </ol>
      * 
@@ -163,7 +408,15 @@ public class SqsListenerContainer {
         }
         
         try {
+            draining = false;
+            pollingResumesAt = 0L;
+            if (circuitBreaker != null) {
+                // 이전 실행에서 결과 없이 중단된 시험 메시지가 HALF_OPEN 상태를 막지 않도록 함
+                probeMessage.set(null);
+                circuitBreaker.releaseProbe();
+            }
             resolveQueueUrl();
+            bindMetrics();
             initializePolling();
             
             if (!transitionState(ContainerState.STARTING, ContainerState.RUNNING)) {
@@ -172,6 +425,9 @@ public class SqsListenerContainer {
             
             log.info("Started SQS listener container: {} for queue: {}", containerId, resolvedQueueUrl);
         } catch (Exception e) {
+            if (pollingHandle != null) {
+                pollingHandle.stop();
+            }
             transitionState(state.get(), ContainerState.FAILED);
             log.error("Failed to start container {}: {}", containerId, e.getMessage(), e);
             throw new RuntimeException("Failed to start SQS listener container", e);
@@ -182,15 +438,20 @@ public class SqsListenerContainer {
      * 컨테이너 정지 및 리소스 정리
      * 
      * 실행 중인 컨테이너를 안전하게 정지하고 모든 리소스를 정리합니다.
-     * ExecutorService의 graceful shutdown을 수행하여 진행 중인 작업이 완료되도록 합니다.
+     * 수신을 멈춘 뒤 이미 처리 중인 메시지가 끝날 때까지 기다리는 drain 단계를 거치므로,
+     * 배포 등으로 컨테이너가 정지되어도 처리 완료된 메시지가 삭제되지 않고 재전달되는 일을 줄입니다.
      * 
      * <h4>정지 과정</h4>
      * <ol>
      *   <li>현재 상태가 정지 가능한지 검증</li>
      *   <li>STOPPING 상태로 전환</li>
-     *   <li>폴링 작업 취소 (CompletableFuture.cancel)</li>
-     *   <li>ExecutorService graceful shutdown (30초 대기)</li>
-     *   <li>필요시 강제 종료 (10초 추가 대기)</li>
+     *   <li>폴링 루프 정지 및 대기 중인 수신 요청 취소</li>
+     *   <li>진행 중인 수신 사이클 종료 대기 (최대 30초)</li>
+     *   <li>drain 시작 - 아직 시작되지 않은 메시지(실행 대기, 배치 누적, 그룹 대기, 재시도 대기)는
+     *       처리하지 않고 가시성 타임아웃을 0으로 되돌려 다른 컨슈머가 즉시 가져가도록 함</li>
+     *   <li>처리 중인 메시지 완료 대기 (최대 shutdownTimeoutMillis)</li>
+     *   <li>삭제 배치 및 가시성 복원 요청 전송 완료 대기</li>
+     *   <li>컨테이너 전용 DLQ 핸들러에 남은 배치 전송</li>
      *   <li>STOPPED 상태로 전환 완료</li>
      * </ol>
      * 
@@ -214,21 +475,21 @@ public class SqsListenerContainer {
         log.info("Stopping SQS listener container: {}", containerId);
         
         try {
-            // 폴링 작업 취소 - CompletableFuture의 interrupt 플래그를 설정하여 안전하게 취소
-            if (pollingTask != null && !pollingTask.isDone()) {
-                pollingTask.cancel(true);
+            // 폴링 루프 정지 - 대기 중인 Long Polling 요청은 취소되고 진행 중인 메시지 전달은 마무리됨
+            PollingEngine.Handle handle = pollingHandle;
+            if (handle != null) {
+                try {
+                    handle.stop().get(30, TimeUnit.SECONDS);
+                } catch (TimeoutException e) {
+                    log.warn("Polling loops for container {} did not finish gracefully", containerId);
+                }
             }
             
-            // 폴링 ExecutorService를 적절한 타임아웃과 함께 종료
-            if (pollingExecutor != null && !pollingExecutor.isShutdown()) {
-                pollingExecutor.shutdown();
-                if (!pollingExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
-                    pollingExecutor.shutdownNow();
-                    // 강제 종료 후 추가 대기 시간
-                    if (!pollingExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
-                        log.warn("Polling executor for container {} did not terminate gracefully", containerId);
-                    }
-                }
+            drainInFlightMessages();
+            
+            // 컨테이너 전용 DLQ 핸들러에 남은 배치 전송 - 공유 핸들러는 애플리케이션 종료 시 닫힘
+            if (localDeadLetterQueueHandler != null) {
+                localDeadLetterQueueHandler.close();
             }
             
             transitionState(ContainerState.STOPPING, ContainerState.STOPPED);
@@ -240,6 +501,118 @@ public class SqsListenerContainer {
         }
     }
     
+    /**
+     * 정지 중 in-flight 메시지 drain
+     * 
+     * drain 플래그를 설정한 뒤 배치 누적기를 비우고, 모든 in-flight 퍼밋이 반환될 때까지
+     * shutdownTimeoutMillis 동안 기다립니다. 이후 MessageAcknowledger에 남은 삭제 요청과
+     * 진행 중인 삭제/가시성 복원 요청이 전송될 때까지 기다립니다.
+     * 
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    private void drainInFlightMessages() throws InterruptedException {
+        int capacity;
+        synchronized (resizeLock) {
+            draining = true;
+            capacity = receiveCapacity;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownTimeoutMillis);
+        
+        // 누적 중인 메시지는 배치로 제출되며, 실행 차례에 drain 중임을 확인하고 큐로 반환됨
+        if (batchAccumulator != null) {
+            batchAccumulator.flush();
+        }
+        
+        // 선행 수신 버퍼의 메시지는 처리 슬롯을 받은 적이 없으므로 바로 반환
+        if (prefetchBuffer != null) {
+            releaseUnprocessed(prefetchBuffer.drain());
+        }
+        
+        // 폴링이 멈춘 뒤에는 모든 퍼밋이 반환되어야 in-flight 메시지가 없는 상태
+        if (inFlightPermits.tryAcquire(capacity, shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            inFlightPermits.release(capacity);
+        } else {
+            log.warn("Container {} stopped with {} message(s) still in flight after {} ms; they will be redelivered",
+                containerId, inFlightMessages.get(), shutdownTimeoutMillis);
+        }
+        
+        long remainingMillis = Math.max(MIN_ACKNOWLEDGEMENT_FLUSH_MILLIS,
+            TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+        List<CompletableFuture<?>> outstanding = new ArrayList<>(pendingAcknowledgements);
+        if (messageAcknowledger != null) {
+            outstanding.add(messageAcknowledger.flush());
+        }
+        try {
+            CompletableFuture.allOf(outstanding.toArray(new CompletableFuture[0]))
+                .get(remainingMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            log.warn("Pending deletes for container {} did not complete during shutdown: {}", containerId, e.getMessage());
+        }
+    }
+    
+    /**
+     * 삭제 또는 가시성 복원 요청을 drain 대상에 등록
+     * 
+     * @param request 전송 중인 요청
+     */
+    private void trackAcknowledgement(CompletableFuture<?> request) {
+        pendingAcknowledgements.add(request);
+        request.whenComplete((ignored, throwable) -> pendingAcknowledgements.remove(request));
+    }
+    
+    /**
+     * 처리하지 않은 메시지를 즉시 다시 수신 가능하도록 큐로 반환
+     * 
+     * 가시성 타임아웃 연장을 중단하고 가시성 타임아웃을 0으로 변경하여,
+     * 정지 중인 컨테이너가 가진 메시지를 다른 컨슈머가 타임아웃을 기다리지 않고 가져가도록 합니다.
+     * 변경에 실패한 메시지는 기존 가시성 타임아웃 만료 후 재전달됩니다.
+     * 
+     * @param messages 반환할 메시지 목록
+     */
+    private void returnToQueue(List<SqsMessage> messages) {
+        returnToQueue(messages, 0);
+    }
+    
+    /**
+     * 처리하지 않은 메시지를 지정한 시간 뒤에 다시 수신 가능하도록 큐로 반환
+     * 
+     * @param messages 반환할 메시지 목록
+     * @param visibilityTimeoutSeconds 다시 수신 가능해질 때까지의 시간 (초, 0이면 즉시)
+     */
+    private void returnToQueue(List<SqsMessage> messages, int visibilityTimeoutSeconds) {
+        messages.forEach(this::releaseVisibility);
+        try {
+            if (messages.size() == 1) {
+                trackAcknowledgement(sqsService.changeMessageVisibility(
+                        resolvedQueueUrl, messages.get(0).getReceiptHandle(), visibilityTimeoutSeconds)
+                    .exceptionally(throwable -> {
+                        log.warn("Failed to return message {} to queue for container {}: {}",
+                            messages.get(0).getMessageId(), containerId, throwable.getMessage());
+                        return null;
+                    }));
+            } else {
+                for (int from = 0; from < messages.size(); from += VISIBILITY_BATCH_LIMIT) {
+                    List<String> receiptHandles = messages
+                        .subList(from, Math.min(from + VISIBILITY_BATCH_LIMIT, messages.size())).stream()
+                        .map(SqsMessage::getReceiptHandle)
+                        .toList();
+                    trackAcknowledgement(sqsService.changeMessageVisibilityBatch(
+                            resolvedQueueUrl, receiptHandles, visibilityTimeoutSeconds)
+                        .exceptionally(throwable -> {
+                            log.warn("Failed to return {} message(s) to queue for container {}: {}",
+                                receiptHandles.size(), containerId, throwable.getMessage());
+                            return List.of();
+                        }));
+                }
+            }
+            log.debug("Container {} returned {} unstarted message(s) to queue (visible again in {} s)",
+                containerId, messages.size(), visibilityTimeoutSeconds);
+        } catch (RuntimeException e) {
+            log.warn("Failed to return {} message(s) to queue for container {}: {}",
+                messages.size(), containerId, e.getMessage());
+        }
+    }
+    
     /**
      * Thread-safe 상태 전환 및 유효성 검증
      * 
@@ -288,13 +661,22 @@ public class SqsListenerContainer {
         return state.get();
     }
     
+    /**
+     * Circuit Breaker 상태 조회
+     * 
+     * @return 현재 Circuit Breaker 상태 (circuitBreakerFailureRateThreshold가 0이면 항상 CLOSED)
+     */
+    public ContainerCircuitBreaker.State getCircuitState() {
+        return circuitBreaker != null ? circuitBreaker.getState() : ContainerCircuitBreaker.State.CLOSED;
+    }
+    
     /**
      * 컨테이너 통계 정보 조회
      * 
      * 컨테이너의 현재 상태와 메시지 처리 통계를 포함한 모니터링 정보를 제공합니다.
      * Atomic 변수를 사용하여 Thread-safe하게 통계를 수집합니다.
      * 
-     * @return 컨테이너 ID, 상태, 처리된/실패한 메시지 수를 포함한 통계 객체
+     * @return 컨테이너 ID, 상태, 처리된/실패한 메시지 수 및 in-flight 현황을 포함한 통계 객체
      */
     public ContainerStats getStats() {
         ContainerState currentState = state.get();
@@ -303,10 +685,143 @@ public class SqsListenerContainer {
             currentState,
             currentState == ContainerState.RUNNING,
             processedMessages.get(),
-            failedMessages.get()
+            failedMessages.get(),
+            inFlightMessages.get(),
+            queuedMessages.get(),
+            maxConcurrentMessages
         );
     }
     
+    /**
+     * 현재 in-flight 메시지 수 조회
+     * 
+     * 수신되었지만 아직 처리(삭제 또는 DLQ 전송 포함)가 완료되지 않은 메시지 수입니다.
+     * 워커 대기열에 있는 메시지도 포함됩니다.
+     * 
+     * @return in-flight 메시지 수 (최대 maxConcurrentMessages + prefetchMessages)
+     */
+    public int getInFlightCount() {
+        return inFlightMessages.get();
+    }
+    
+    /**
+     * 현재 최대 동시 처리 메시지 수 조회
+     * 
+     * @return maxConcurrentMessages (setMaxConcurrentMessages()로 변경된 경우 변경된 값)
+     */
+    public int getMaxConcurrentMessages() {
+        return maxConcurrentMessages;
+    }
+    
+    /**
+     * 실행 중에 최대 동시 처리 메시지 수 변경
+     * 
+     * in-flight 퍼밋과 처리 슬롯을 차이만큼 늘리거나 줄입니다. 줄이는 경우 이미 처리 중인 메시지는
+     * 중단하지 않으며, 처리 중인 메시지가 새 한도 아래로 내려갈 때까지 추가 수신을 하지 않습니다.
+     * prefetchMessages는 변경되지 않고 새 한도에 더해집니다.
+     * 
+     * @param newMaxConcurrentMessages 새 최대 동시 처리 메시지 수 (1 이상)
+     * @return 변경되었으면 true, 컨테이너가 정지 중이거나 정지되어 변경하지 않았으면 false
+     * @throws IllegalArgumentException newMaxConcurrentMessages가 1 미만인 경우
+     */
+    public boolean setMaxConcurrentMessages(int newMaxConcurrentMessages) {
+        if (newMaxConcurrentMessages < 1) {
+            throw new IllegalArgumentException("maxConcurrentMessages must be at least 1: " + newMaxConcurrentMessages);
+        }
+        int previous;
+        synchronized (resizeLock) {
+            if (draining) {
+                return false;
+            }
+            previous = maxConcurrentMessages;
+            int delta = newMaxConcurrentMessages - previous;
+            if (delta == 0) {
+                return true;
+            }
+            inFlightPermits.resize(delta);
+            if (processingSlots != null) {
+                processingSlots.resize(delta);
+            }
+            maxConcurrentMessages = newMaxConcurrentMessages;
+            receiveCapacity = newMaxConcurrentMessages + prefetchMessages;
+        }
+        log.info("Container {} resized max concurrent messages from {} to {}",
+            containerId, previous, newMaxConcurrentMessages);
+        if (processingSlots != null && newMaxConcurrentMessages > previous) {
+            // 늘어난 슬롯으로 선행 수신 버퍼의 메시지를 바로 처리 시작
+            dispatchPrefetched();
+        }
+        return true;
+    }
+    
+    /**
+     * 컨테이너가 수신하는 큐 URL 조회
+     * 
+     * @return 해결된 큐 URL (컨테이너가 시작되기 전에는 null)
+     */
+    public String getQueueUrl() {
+        return resolvedQueueUrl;
+    }
+    
+    /**
+     * 처리 슬롯을 기다리며 선행 수신 버퍼에 보관 중인 메시지 수 조회
+     * 
+     * @return 버퍼에 보관 중인 메시지 수 (prefetchMessages가 0이면 항상 0)
+     */
+    public int getPrefetchedCount() {
+        return prefetchBuffer != null ? prefetchBuffer.size() : 0;
+    }
+    
+    /**
+     * 워커 스레드 할당을 기다리는 메시지 수 조회
+     * 
+     * @return ExecutorService에 제출되었으나 아직 실행되지 않은 메시지 수
+     */
+    public int getQueueDepth() {
+        return queuedMessages.get();
+    }
+    
+    /**
+     * 추가로 수신 가능한 메시지 수 조회
+     * 
+     * @return 현재 사용 가능한 in-flight 퍼밋 수
+     */
+    public int getAvailablePermits() {
+        return inFlightPermits.availablePermits();
+    }
+    
+    /**
+     * 컨테이너 전용 메트릭 기록기 바인딩
+     * 
+     * 큐 URL이 해결된 뒤 한 번 호출되어 미터를 미리 등록하므로, 메시지 처리 경로에서는
+     * 미터 조회 없이 바로 기록합니다. in-flight 게이지는 getInFlightCount()를 읽습니다.
+     */
+    private void bindMetrics() {
+        if (metricsCollector == null) {
+            return;
+        }
+        MetricsCollector.ContainerRecorder recorder =
+            metricsCollector.bindContainer(containerId, resolvedQueueUrl, inFlightMessages::get);
+        metrics = recorder != null ? recorder : MetricsCollector.ContainerRecorder.NOOP;
+    }
+    
+    /**
+     * 메시지가 큐에 전송된 시각(SentTimestamp)부터 처리 시작까지의 지연 기록
+     * 
+     * @param message 처리를 시작하는 메시지 (SentTimestamp가 없거나 숫자가 아니면 기록하지 않음)
+     */
+    private void recordQueueLatency(SqsMessage message) {
+        String sentTimestamp = message.getSentTimestamp();
+        if (sentTimestamp == null) {
+            return;
+        }
+        try {
+            metrics.recordQueueLatency(Math.max(0L, System.currentTimeMillis() - Long.parseLong(sentTimestamp)));
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring invalid SentTimestamp '{}' on message {}", sentTimestamp, message.getMessageId());
+        }
+    }
+    
     /**
      * SQS 큐 URL 해결
      * 
@@ -331,92 +846,275 @@ public class SqsListenerContainer {
         }
         
         log.info("Container {} will listen to queue: {}", containerId, resolvedQueueUrl);
+        if (groupDispatcher != null && !resolvedQueueUrl.endsWith(".fifo")) {
+            log.warn("Container {} orders by message group but queue {} is not a FIFO queue; messages without MessageGroupId are not ordered",
+                containerId, resolvedQueueUrl);
+        }
     }
     
     /**
      * 메시지 폴링 초기화
      * 
-     * SQS Long Polling을 수행할 스레드를 초기화합니다.
-     * 제공된 ExecutorService가 ScheduledExecutorService인 경우 그대로 사용하고,
-     * 그렇지 않은 경우 새로운 ScheduledExecutorService로 래핑합니다.
+     * pollerCount만큼의 폴링 루프를 공유 {@link PollingEngine}에 등록합니다.
+     * 각 루프는 한 번의 수신 사이클({@link #pollOnce()})이 끝나면 다음 사이클을 시작하며,
+     * Long Polling 응답을 기다리는 동안 스레드를 점유하지 않으므로 컨테이너 수만큼
+     * 폴링 스레드가 늘어나지 않습니다.
      * 
-     * UncaughtExceptionHandler를 설정하여 폴링 스레드에서 발생하는 예외를 처리합니다.
+     * 모든 폴러는 동일한 in-flight 퍼밋(maxConcurrentMessages + prefetchMessages)을 공유합니다.
+     * 수신 실패시 min(1000, retryDelayMillis) 후 다음 사이클을 시작합니다.
      */
     private void initializePolling() {
-        // Use the provided polling executor service instead of creating a new one
-        if (pollingExecutorService instanceof ScheduledExecutorService) {
-            pollingExecutor = (ScheduledExecutorService) pollingExecutorService;
-        } else {
-            // Wrap non-scheduled executor in a scheduled executor for compatibility
-            pollingExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
-                Thread thread = new Thread(r, "sqs-poller-" + containerId);
-                thread.setDaemon(true);
-                // 폴링 스레드에서 처리되지 않은 예외 발생시 컨테이너 상태를 FAILED로 전환
-                thread.setUncaughtExceptionHandler((t, e) -> {
-                    log.error("Uncaught exception in polling thread for container {}: {}", containerId, e.getMessage(), e);
-                    transitionState(state.get(), ContainerState.FAILED);
-                });
-                return thread;
-            });
-        }
+        int pollerCount = Math.max(1, listenerAnnotation.pollerCount());
+        long errorBackoffMillis = Math.min(1000, listenerAnnotation.retryDelayMillis());
+        
+        pollingHandle = PollingEngine.start(containerId, pollerCount, this::pollOnce, errorBackoffMillis);
         
-        pollingTask = CompletableFuture.runAsync(this::pollMessages, pollingExecutor);
+        if (pollerCount > 1) {
+            log.info("Container {} started {} pollers sharing {} in-flight permits", 
+                containerId, pollerCount, maxConcurrentMessages);
+        }
     }
     
     /**
-     * SQS 메시지 지속적 폴링
+     * 한 번의 SQS 메시지 수신 사이클
      * 
-     * 컨테이너가 RUNNING 상태인 동안 지속적으로 SQS에서 메시지를 수신합니다.
-     * AWS SQS Long Polling 방식을 사용하여 효율적으로 메시지를 가져옵니다.
+     * AWS SQS Long Polling 요청을 비동기로 보내고, 응답이 오면 수신된 메시지를 전달합니다.
      * 
      * <h4>폴링 프로세스</h4>
      * <ol>
-     *   <li>SqsService.receiveMessages()로 배치 단위 메시지 수신</li>
-     *   <li>batchMode 설정에 따라 개별 또는 배치 처리 선택</li>
-     *   <li>예외 발생시 재시도 지연 후 폴링 재개</li>
-     *   <li>InterruptedException 발생시 정상적으로 폴링 중단</li>
+     *   <li>in-flight 퍼밋 확보 (퍼밋이 없으면 처리 완료까지 대기)</li>
+     *   <li>확보한 퍼밋 수만큼만 SqsService.receiveMessages()로 수신 요청 (messageVisibilitySeconds를 가시성 타임아웃으로 적용)</li>
+     *   <li>응답 도착시 수신된 메시지 수를 초과하는 퍼밋은 즉시 반환</li>
+     *   <li>batchMode 설정에 따라 개별 처리하거나 배치 누적기에 추가</li>
+     *   <li>수신 실패 또는 컨테이너 정지시 확보한 퍼밋을 모두 반환</li>
      * </ol>
      * 
-     * Thread 안전성: 이 메서드는 단일 폴링 스레드에서만 실행됩니다.
+     * Thread 안전성: 엔진의 Virtual Thread에서 실행되며 pollerCount가 1보다 크면 동시에 실행됩니다.
+     * 공유 상태는 Semaphore와 Atomic 변수로만 접근합니다.
+     * 
+     * @return 메시지 전달까지 끝나면 완료되는 Future (수신 실패시 예외로 완료)
      */
-    private void pollMessages() {
-        while (state.get() == ContainerState.RUNNING) {
-            try {
-                List<SqsMessage> messages = sqsService.receiveMessages(
-                    resolvedQueueUrl,
-                    listenerAnnotation.maxMessagesPerPoll()
-                ).get(listenerAnnotation.pollTimeoutSeconds() + 5, TimeUnit.SECONDS);
-                
-                if (!messages.isEmpty()) {
-                    log.debug("Container {} received {} messages", containerId, messages.size());
-                    
-                    if (listenerAnnotation.batchMode()) {
-                        processBatch(messages);
-                    } else {
-                        messages.forEach(this::processMessage);
-                    }
+    private CompletableFuture<Void> pollOnce() {
+        long resumesAt = pollingResumesAt;
+        if (resumesAt != 0L) {
+            long pausedNanos = resumesAt - System.nanoTime();
+            if (pausedNanos > 0) {
+                // 워커가 따라잡을 때까지 수신하지 않음 - 정지 시 엔진이 대기 Future를 취소
+                return RetryScheduler.runAfter(TimeUnit.NANOSECONDS.toMillis(pausedNanos) + 1,
+                    PollingEngine.continuationExecutor(), () -> { });
+            }
+            pollingResumesAt = 0L;
+        }
+        
+        boolean probe = false;
+        if (circuitBreaker != null) {
+            long openMillis = circuitBreaker.remainingOpenMillis();
+            if (openMillis > 0) {
+                // 하위 시스템 장애 중에는 수신하지 않음 - 열린 시간이 지나면 HALF_OPEN으로 전환
+                return RetryScheduler.runAfter(openMillis + 1, PollingEngine.continuationExecutor(), () -> { });
+            }
+            if (circuitBreaker.getState() == ContainerCircuitBreaker.State.HALF_OPEN) {
+                if (!circuitBreaker.tryAcquireProbe()) {
+                    return RetryScheduler.runAfter(PROBE_WAIT_MILLIS, PollingEngine.continuationExecutor(), () -> { });
                 }
-                
-            } catch (InterruptedException e) {
-                log.debug("Container {} polling interrupted", containerId);
-                Thread.currentThread().interrupt();
-                break;
-            } catch (Exception e) {
-                if (state.get() == ContainerState.RUNNING) {
-                    log.error("Error polling messages for container {}: {}", containerId, e.getMessage(), e);
-                    
-                    // 시스템 과부하 방지를 위한 재시도 전 짧은 지연
-                    try {
-                        Thread.sleep(Math.min(1000, listenerAnnotation.retryDelayMillis()));
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
+                log.info("Circuit breaker of container {} is half-open; probing with a single message", containerId);
+                probe = true;
+            }
+        }
+        
+        int permits;
+        try {
+            permits = acquirePermits(probe ? 1 : listenerAnnotation.maxMessagesPerPoll());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            releaseProbe(probe);
+            return CompletableFuture.completedFuture(null);
+        }
+        if (permits == 0) {
+            releaseProbe(probe);
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        // 가시성 타임아웃은 요청 이후에 시작되므로 요청 시각을 수신 시각으로 사용 (선행 수신 만료 판단용)
+        long requestedAt = System.nanoTime();
+        CompletableFuture<List<SqsMessage>> receive;
+        try {
+            receive = sqsService.receiveMessages(resolvedQueueUrl, permits, listenerAnnotation.messageVisibilitySeconds())
+                .orTimeout(listenerAnnotation.pollTimeoutSeconds() + 5, TimeUnit.SECONDS);
+        } catch (RuntimeException e) {
+            inFlightPermits.release(permits);
+            releaseProbe(probe);
+            return CompletableFuture.failedFuture(e);
+        }
+        
+        boolean probing = probe;
+        CompletableFuture<Void> cycle = new CompletableFuture<>();
+        // 응답 처리는 SDK 응답 스레드가 아닌 엔진 스레드에서 수행
+        // 정지 시 엔진은 cycle만 취소하므로, 취소로 끝난 수신도 이 콜백이 실행되어 퍼밋을 반환함
+        // (handleAsync 등의 파생 Future가 먼저 취소되면 콜백이 실행되지 않아 퍼밋이 누수됨)
+        receive.whenCompleteAsync((messages, failure) -> {
+            if (failure != null) {
+                inFlightPermits.release(permits);
+                releaseProbe(probing);
+                cycle.completeExceptionally(failure);
+                return;
+            }
+            try {
+                deliverReceived(messages, permits, probing, requestedAt);
+                cycle.complete(null);
+            } catch (RuntimeException e) {
+                cycle.completeExceptionally(e);
+            }
+        }, PollingEngine.continuationExecutor());
+        return PollingEngine.linkCancellation(cycle, receive);
+    }
+    
+    /**
+     * 수신 응답의 메시지를 처리 경로로 전달하고 수신되지 않은 몫의 퍼밋 반환
+     * 
+     * @param messages 수신한 메시지 목록
+     * @param permits 수신 요청 시 확보한 퍼밋 수
+     * @param probing HALF_OPEN 시험 수신 권한을 가지고 있는지 여부
+     * @param requestedAt 수신 요청 시각 ({@link System#nanoTime()})
+     */
+    private void deliverReceived(List<SqsMessage> messages, int permits, boolean probing, long requestedAt) {
+        if (!isPolling()) {
+            // 정지 중에 도착한 메시지는 전달하지 않고 다른 컨슈머가 바로 수신하도록 반환
+            if (!messages.isEmpty()) {
+                returnToQueue(messages);
+            }
+            inFlightPermits.release(permits);
+            releaseProbe(probing);
+            return;
+        }
+        if (messages.isEmpty()) {
+            releaseProbe(probing);
+        } else if (probing) {
+            // 시험 수신은 메시지 하나만 요청하므로 처리 결과가 이 메시지로 확정됨
+            probeMessage.set(messages.get(0));
+        }
+        
+        // 수신되지 않은 몫의 퍼밋은 즉시 반환하고, 나머지는 처리 완료 시 반환
+        int received = Math.min(messages.size(), permits);
+        inFlightPermits.release(permits - received);
+        
+        if (!messages.isEmpty()) {
+            log.debug("Container {} received {} messages", containerId, messages.size());
+            inFlightMessages.addAndGet(received);
+            
+            if (batchAccumulator != null) {
+                // 배치가 채워지기를 기다리는 동안에도 가시성 타임아웃을 연장
+                messages.forEach(message -> trackVisibility(message, requestedAt));
+                batchAccumulator.add(messages);
+            } else if (prefetchBuffer != null) {
+                prefetchBuffer.addAll(messages, requestedAt);
+                dispatchPrefetched();
+            } else {
+                messages.forEach(message -> processMessage(message, requestedAt));
+            }
+        }
+    }
+    
+    /**
+     * 다음 폴링에 사용할 in-flight 퍼밋 확보
+     * 
+     * 최소 1개의 퍼밋을 확보할 때까지 대기한 후, limit 한도 내에서
+     * 즉시 사용 가능한 퍼밋을 추가로 확보합니다. 워커가 모두 사용 중이면
+     * 폴링 사이클이 대기하므로 처리 가능한 양보다 많은 메시지를 수신하지 않습니다.
+     * 
+     * @param limit 한 번에 수신할 최대 메시지 수 (보통 maxMessagesPerPoll, 시험 수신이면 1)
+     * @return 확보한 퍼밋 수 (대기 중 컨테이너가 정지된 경우 0)
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    private int acquirePermits(int limit) throws InterruptedException {
+        while (!inFlightPermits.tryAcquire(PERMIT_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (!isPolling()) {
+                return 0;
+            }
+        }
+        
+        int wanted = Math.min(limit, receiveCapacity);
+        int acquired = 1;
+        while (acquired < wanted && inFlightPermits.tryAcquire()) {
+            acquired++;
+        }
+        return acquired;
+    }
+    
+    /**
+     * 처리 완료된 메시지의 in-flight 퍼밋 반환
+     * 
+     * @param count 반환할 퍼밋 수
+     */
+    private void releasePermits(int count) {
+        releaseReceivePermits(count);
+        if (processingSlots != null) {
+            processingSlots.release(count);
+            dispatchPrefetched();
+        }
+    }
+    
+    /**
+     * 처리 슬롯을 받지 않은 메시지의 수신 퍼밋 반환
+     * 
+     * @param count 반환할 퍼밋 수
+     */
+    private void releaseReceivePermits(int count) {
+        inFlightMessages.addAndGet(-count);
+        inFlightPermits.release(count);
+    }
+    
+    /**
+     * 선행 수신 버퍼의 메시지를 빈 처리 슬롯 수만큼 처리 시작
+     * 
+     * 수신 응답 처리와 메시지 처리 완료 시점 모두에서 호출됩니다. 버퍼에서 꺼낸 메시지 중
+     * 가시성 타임아웃 만료가 가까운 메시지는 처리하지 않고 큐로 반환합니다.
+     * 슬롯 반환 후 버퍼를 다시 확인하므로, 동시에 추가된 메시지가 처리되지 않고 남지 않습니다.
+     */
+    private void dispatchPrefetched() {
+        while (processingSlots.tryAcquire()) {
+            List<SqsMessage> expired = new ArrayList<>();
+            PrefetchBuffer.Entry next = prefetchBuffer.poll(expired);
+            if (!expired.isEmpty()) {
+                log.debug("Container {} released {} prefetched message(s) close to their visibility deadline",
+                    containerId, expired.size());
+                releaseUnprocessed(expired);
+            }
+            if (next == null) {
+                processingSlots.release();
+                if (prefetchBuffer.isEmpty()) {
+                    return;
                 }
+                continue;
             }
+            // 가시성 타임아웃은 버퍼에 들어온 시점이 아니라 수신 요청 시점부터 흐르고 있음
+            processMessage(next.message(), next.receivedAtNanos());
+        }
+    }
+    
+    /**
+     * 처리하지 않은 선행 수신 메시지를 큐로 반환하고 수신 퍼밋 반환
+     * 
+     * @param messages 반환할 메시지 목록
+     */
+    private void releaseUnprocessed(List<SqsMessage> messages) {
+        if (!messages.isEmpty()) {
+            returnToQueue(messages);
+            releaseReceivePermits(messages.size());
+            releaseProbe(messages);
         }
     }
     
+    /**
+     * 폴링을 계속해야 하는 상태인지 확인
+     * 
+     * 폴링 루프는 RUNNING 전환 직전(STARTING)에 등록되므로 두 상태 모두 폴링 중으로 간주합니다.
+     */
+    private boolean isPolling() {
+        ContainerState current = state.get();
+        return current == ContainerState.RUNNING || current == ContainerState.STARTING;
+    }
+    
     /**
      * 단일 메시지 비동기 처리
      * 
@@ -425,142 +1123,575 @@ public class SqsListenerContainer {
      * 
      * <h4>처리 흐름</h4>
      * <ol>
-     *   <li>메시지 처리용 ExecutorService에 비동기 작업 제출</li>
-     *   <li>processMessageWithRetry()를 통한 재시도 로직 실행</li>
+     *   <li>메시지 처리용 ExecutorService에 첫 시도 제출</li>
+     *   <li>실패시 retryDelayMillis 후 공유 타이머(RetryScheduler)를 통해 재시도 제출</li>
      *   <li>성공시 processedMessages 카운터 증가 및 메시지 삭제</li>
-     *   <li>실패시 failedMessages 카운터 증가 및 DLQ 처리</li>
+     *   <li>재시도 소진시 failedMessages 카운터 증가 및 DLQ 처리</li>
+     *   <li>최종 결과 확정 후 in-flight 퍼밋 반환</li>
      * </ol>
      * 
+     * 재시도 대기 중에는 워커 스레드를 점유하지 않으며, 퍼밋은 마지막 시도가 끝날 때까지 유지됩니다.
+     * orderByMessageGroup=true이면 같은 MessageGroupId의 이전 메시지가 최종 처리된 뒤에 첫 시도를 제출하며,
+     * 이전 메시지가 처리되지 않고 큐에 남았으면 시도하지 않고 함께 반환합니다.
+     * 
      * @param message 처리할 SQS 메시지
+     * @param receivedAtNanos 메시지를 수신한 요청 시각 ({@link System#nanoTime()}) - 가시성 타임아웃 연장 기준
      */
-    private void processMessage(SqsMessage message) {
-        CompletableFuture.runAsync(() -> {
-            try {
-                processMessageWithRetry(message);
-                processedMessages.incrementAndGet();
-                
-                // 설정에 따른 메시지 자동 삭제 (autoDelete=true인 경우)
-                if (listenerAnnotation.autoDelete()) {
-                    sqsService.deleteMessage(resolvedQueueUrl, message.getReceiptHandle())
-                        .exceptionally(throwable -> {
-                            log.warn("Failed to delete message {} for container {}: {}", 
-                                message.getMessageId(), containerId, throwable.getMessage());
-                            return null;
-                        });
+    private void processMessage(SqsMessage message, long receivedAtNanos) {
+        trackVisibility(message, receivedAtNanos);
+        queuedMessages.incrementAndGet();
+        if (groupDispatcher != null) {
+            groupDispatcher.dispatch(MessageGroupDispatcher.groupIdOf(message), () -> startAttempts(message),
+                () -> returnSkipped(message));
+        } else {
+            startAttempts(message);
+        }
+    }
+    
+    /**
+     * 같은 그룹의 이전 메시지가 큐에 남아 시작하지 않은 메시지를 큐로 반환
+     * 
+     * @param message 시작하지 않은 메시지
+     */
+    private void returnSkipped(SqsMessage message) {
+        queuedMessages.decrementAndGet();
+        returnToQueue(List.of(message));
+        releasePermits(1);
+        releaseProbe(message);
+    }
+    
+    /**
+     * 메시지의 첫 처리 시도 제출
+     * 
+     * @param message 처리할 SQS 메시지
+     * @return 재시도를 포함한 최종 처리(또는 제출 거부)가 끝나면 완료되는 Future
+     *         (메시지가 삭제되거나 DLQ로 넘어가지 않고 큐에 남았으면 예외로 완료)
+     */
+    private CompletableFuture<Void> startAttempts(SqsMessage message) {
+        CompletableFuture<Void> outcome = new CompletableFuture<>();
+        scheduleAttempt(message, 0, 0L, outcome);
+        return outcome;
+    }
+    
+    /**
+     * 메시지 처리 시도를 지연 후 ExecutorService에 제출
+     * 
+     * ExecutorService가 작업을 거부하면 메시지를 즉시 큐로 반환하고 퍼밋을 반환한 뒤 폴링을 잠시 멈춥니다.
+     * 
+     * @param message 처리할 SQS 메시지
+     * @param attempt 시도 번호 (0부터 시작)
+     * @param delayMillis 제출 전 대기 시간
+     * @param outcome 최종 처리 결과가 확정되면 완료할 Future
+     */
+    private void scheduleAttempt(SqsMessage message, int attempt, long delayMillis, CompletableFuture<Void> outcome) {
+        RetryScheduler.runAfter(delayMillis, messageExecutorService, () -> runAttempt(message, attempt, outcome))
+            .exceptionally(rejected -> {
+                if (attempt == 0) {
+                    queuedMessages.decrementAndGet();
                 }
-                
-            } catch (Exception e) {
-                failedMessages.incrementAndGet();
-                log.error("Failed to process message {} for container {}: {}", 
-                    message.getMessageId(), containerId, e.getMessage(), e);
-                
-                handleFailedMessage(message, e);
+                returnToQueue(List.of(message));
+                releasePermits(1);
+                releaseProbe(message);
+                pausePollingAfterRejection(1);
+                outcome.completeExceptionally(UNSETTLED);
+                return null;
+            });
+    }
+    
+    /**
+     * 메시지 처리 1회 시도
+     * 
+     * 실패하고 재시도 횟수가 남아 있으면 다음 시도를 예약하고 퍼밋을 넘겨줍니다.
+     * 그 외에는 결과를 기록한 뒤 퍼밋을 반환합니다. 컨테이너가 drain 중이면 시도하지 않고 큐로 반환합니다.
+     * 
+     * retryMode=VISIBILITY_TIMEOUT이면 컨테이너 안에서 재시도하지 않고 {@link #redeliverOrDeadLetter}로 넘깁니다.
+     * 
+     * 모든 시도의 성공/실패는 Circuit Breaker에 기록됩니다. Circuit Breaker가 열려 있으면 시도하지 않고,
+     * 실패로 열린 경우에는 재시도나 DLQ 처리 대신 메시지를 열린 시간 뒤에 다시 수신되도록 반환합니다.
+     * 
+     * @param message 처리할 SQS 메시지
+     * @param attempt 시도 번호 (0부터 시작)
+     * @param outcome 최종 처리 결과가 확정되면 완료할 Future
+     */
+    private void runAttempt(SqsMessage message, int attempt, CompletableFuture<Void> outcome) {
+        if (attempt == 0) {
+            queuedMessages.decrementAndGet();
+        }
+        if (draining) {
+            // 정지 중에는 새 시도를 시작하지 않고 다른 컨슈머가 처리하도록 반환
+            returnToQueue(List.of(message));
+            releasePermits(1);
+            releaseProbe(message);
+            outcome.completeExceptionally(UNSETTLED);
+            return;
+        }
+        long openMillis = circuitOpenMillis();
+        if (openMillis > 0) {
+            // 장애 중에 실행 차례가 온 메시지는 재시도를 소모하지 않고 열린 시간 뒤에 다시 수신되도록 반환
+            returnToQueue(List.of(message), visibilityTimeoutFor(openMillis));
+            releasePermits(1);
+            outcome.completeExceptionally(UNSETTLED);
+            return;
+        }
+        if (attempt == 0) {
+            recordQueueLatency(message);
+        }
+        boolean retryScheduled = false;
+        boolean unsettled = false;
+        long startedAt = System.nanoTime();
+        try {
+            invokeTargetMethod(message);
+            recordCircuitOutcome(message, true);
+            processedMessages.incrementAndGet();
+            metrics.recordMessageProcessed(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            
+            // 설정에 따른 메시지 자동 삭제 (autoDelete=true인 경우)
+            if (listenerAnnotation.autoDelete()) {
+                trackAcknowledgement(acknowledge(message)
+                    .exceptionally(throwable -> {
+                        log.warn("Failed to delete message {} for container {}: {}", 
+                            message.getMessageId(), containerId, throwable.getMessage());
+                        return null;
+                    }));
+            }
+            
+        } catch (Exception e) {
+            recordCircuitOutcome(message, false);
+            long deferMillis = circuitOpenMillis();
+            if (deferMillis > 0) {
+                log.warn("Processing attempt {} failed for message {} in container {} while its circuit breaker is open, "
+                    + "returning it to queue for {} ms", attempt + 1, message.getMessageId(), containerId, deferMillis);
+                returnToQueue(List.of(message), visibilityTimeoutFor(deferMillis));
+                unsettled = true;
+                return;
+            }
+            if (redriveBackoff != null) {
+                // 재전달되는 메시지보다 같은 그룹의 다음 메시지가 먼저 처리되지 않도록 함께 반환
+                unsettled = redeliverOrDeadLetter(List.of(message), e);
+                return;
             }
-        }, messageExecutorService);
+            if (attempt < listenerAnnotation.maxRetryAttempts()) {
+                log.warn("Processing attempt {} failed for message {} in container {}, retrying...", 
+                    attempt + 1, message.getMessageId(), containerId);
+                // 퍼밋은 다음 시도로 넘어가므로 여기서 반환하지 않음
+                retryScheduled = true;
+                scheduleAttempt(message, attempt + 1, listenerAnnotation.retryDelayMillis(), outcome);
+                return;
+            }
+            
+            failedMessages.incrementAndGet();
+            metrics.recordMessageFailed(e);
+            log.error("Failed to process message {} for container {}: {}", 
+                message.getMessageId(), containerId, e.getMessage(), e);
+            
+            // DLQ가 없으면 메시지는 가시성 타임아웃 만료 후 재전달되므로 큐에 남은 것으로 처리
+            unsettled = !deadLetterQueueEnabled();
+            handleFailedMessage(message, e);
+        } finally {
+            if (!retryScheduled) {
+                releaseVisibility(message);
+                releasePermits(1);
+                if (unsettled) {
+                    outcome.completeExceptionally(UNSETTLED);
+                } else {
+                    outcome.complete(null);
+                }
+            }
+        }
+    }
+    
+    /**
+     * 처리 완료된 단일 메시지 삭제
+     * 
+     * MessageAcknowledger가 설정된 경우 삭제 요청을 모아 배치로 전송하고,
+     * 그렇지 않으면 즉시 DeleteMessage를 호출합니다.
+     * 
+     * @param message 삭제할 메시지
+     * @return 삭제 완료 CompletableFuture
+     */
+    private CompletableFuture<Void> acknowledge(SqsMessage message) {
+        if (messageAcknowledger != null) {
+            return messageAcknowledger.acknowledge(resolvedQueueUrl, message.getReceiptHandle());
+        }
+        return sqsService.deleteMessage(resolvedQueueUrl, message.getReceiptHandle());
     }
     
     /**
      * 배치 메시지 비동기 처리
      * 
      * 여러 개의 SQS 메시지를 하나의 배치로 처리합니다.
-     * @SqsListener의 batchMode=true로 설정된 경우에 사용됩니다.
+     * @SqsListener의 batchMode=true로 설정된 경우 {@link MessageBatchAccumulator}가
+     * batchSize 또는 batchMaxWaitMillis 기준으로 만든 배치가 전달됩니다.
      * 
      * <h4>배치 처리 특징</h4>
      * <ul>
      *   <li>모든 메시지를 단일 메서드 호출로 처리</li>
-     *   <li>배치 전체가 성공하거나 실패하는 원자적 처리</li>
-     *   <li>성공시 모든 메시지의 receiptHandle을 배치 삭제</li>
-     *   <li>실패시 배치 내 모든 메시지를 개별적으로 DLQ 처리</li>
+     *   <li>리스너가 실패한 메시지 ID(또는 메시지) 컬렉션을 반환하면 해당 메시지만 실패로 처리 ({@link BatchResults})</li>
+     *   <li>성공한 메시지의 receiptHandle만 한 번의 DeleteMessageBatch로 삭제</li>
+     *   <li>실패한 메시지는 개별적으로 DLQ 처리되며, 삭제되지 않으므로 visibility timeout 이후 재전달</li>
+     *   <li>retryMode=VISIBILITY_TIMEOUT이면 실패한 메시지마다 수신 횟수에 따른 지연 후 재전달 ({@link #redeliverOrDeadLetter})</li>
+     *   <li>리스너가 예외를 던지면 배치 내 모든 메시지를 실패로 처리</li>
      * </ul>
      * 
+     * orderByMessageGroup=true이면 배치에 포함된 모든 MessageGroupId의 이전 작업이 끝난 뒤에 제출합니다.
+     * 가시성 타임아웃 연장은 배치 누적 전, 수신 시점에 이미 시작되어 있습니다.
+     * 
      * @param messages 처리할 SQS 메시지 목록
      */
     private void processBatch(List<SqsMessage> messages) {
-        CompletableFuture.runAsync(() -> {
+        if (groupDispatcher != null) {
+            List<String> groupIds = messages.stream().map(MessageGroupDispatcher::groupIdOf).toList();
+            groupDispatcher.dispatch(groupIds, () -> submitBatch(messages), () -> returnSkipped(messages));
+        } else {
+            submitBatch(messages);
+        }
+    }
+    
+    /**
+     * 같은 그룹의 이전 메시지가 큐에 남아 시작하지 않은 배치를 큐로 반환
+     * 
+     * @param messages 시작하지 않은 배치
+     */
+    private void returnSkipped(List<SqsMessage> messages) {
+        returnToQueue(messages);
+        releasePermits(messages.size());
+        releaseProbe(messages);
+    }
+    
+    /**
+     * 배치 처리 작업 제출
+     * 
+     * @param messages 처리할 SQS 메시지 목록
+     * @return 배치 처리(또는 제출 거부)가 끝나면 완료되는 Future
+     *         (일부 메시지라도 삭제되거나 DLQ로 넘어가지 않고 큐에 남았으면 예외로 완료)
+     */
+    private CompletableFuture<Void> submitBatch(List<SqsMessage> messages) {
+        AtomicBoolean unsettled = new AtomicBoolean(false);
+        CompletableFuture<Void> processing = submitWithPermits(messages.size(), () -> {
+            if (draining) {
+                returnToQueue(messages);
+                releaseProbe(messages);
+                unsettled.set(true);
+                return;
+            }
+            long openMillis = circuitOpenMillis();
+            if (openMillis > 0) {
+                returnToQueue(messages, visibilityTimeoutFor(openMillis));
+                unsettled.set(true);
+                return;
+            }
+            messages.forEach(this::recordQueueLatency);
+            long startedAt = System.nanoTime();
             try {
-                invokeTargetMethod(messages);
-                processedMessages.addAndGet(messages.size());
+                Object result = invokeTargetMethod(messages);
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                Set<String> failedIds = BatchResults.failedMessageIds(result, messages);
+                List<SqsMessage> succeeded = new ArrayList<>(messages.size() - failedIds.size());
+                List<SqsMessage> failed = new ArrayList<>(failedIds.size());
+                for (SqsMessage message : messages) {
+                    if (failedIds.contains(message.getMessageId())) {
+                        failed.add(message);
+                    } else {
+                        succeeded.add(message);
+                    }
+                }
+                succeeded.forEach(message -> recordCircuitOutcome(message, true));
+                failed.forEach(message -> recordCircuitOutcome(message, false));
+                processedMessages.addAndGet(succeeded.size());
+                // 배치 처리 시간을 성공한 메시지마다 기록하여 처리 건수와 타이머 건수를 일치시킴
+                succeeded.forEach(message -> metrics.recordMessageProcessed(elapsedMillis));
                 
-                // 설정에 따른 메시지 배치 자동 삭제 (autoDelete=true인 경우)
-                if (listenerAnnotation.autoDelete()) {
-                    List<String> receiptHandles = messages.stream()
+                // 설정에 따른 성공 메시지 배치 자동 삭제 (autoDelete=true인 경우)
+                if (listenerAnnotation.autoDelete() && !succeeded.isEmpty()) {
+                    List<String> receiptHandles = succeeded.stream()
                         .map(SqsMessage::getReceiptHandle)
                         .toList();
                     
-                    sqsService.deleteMessageBatch(resolvedQueueUrl, receiptHandles)
+                    trackAcknowledgement(sqsService.deleteMessageBatch(resolvedQueueUrl, receiptHandles)
                         .exceptionally(throwable -> {
                             log.warn("Failed to delete message batch for container {}: {}", 
                                 containerId, throwable.getMessage());
                             return null;
-                        });
+                        }));
+                }
+                
+                long deferMillis = failed.isEmpty() ? 0L : circuitOpenMillis();
+                if (deferMillis > 0) {
+                    log.warn("Batch listener reported {} of {} messages as failed for container {} while its circuit breaker is open, "
+                        + "returning them to queue for {} ms", failed.size(), messages.size(), containerId, deferMillis);
+                    returnToQueue(failed, visibilityTimeoutFor(deferMillis));
+                    unsettled.set(true);
+                } else if (!failed.isEmpty()) {
+                    Exception failure = new MessageProcessor.PartialBatchFailureException(failedIds, messages.size());
+                    log.warn("Batch listener reported {} of {} messages as failed for container {}", 
+                        failed.size(), messages.size(), containerId);
+                    if (redriveBackoff != null) {
+                        unsettled.set(redeliverOrDeadLetter(failed, failure));
+                    } else {
+                        failedMessages.addAndGet(failed.size());
+                        failed.forEach(message -> metrics.recordMessageFailed(failure));
+                        failed.forEach(message -> handleFailedMessage(message, failure));
+                        unsettled.set(!deadLetterQueueEnabled());
+                    }
                 }
                 
             } catch (Exception e) {
-                failedMessages.addAndGet(messages.size());
+                messages.forEach(message -> recordCircuitOutcome(message, false));
+                long deferMillis = circuitOpenMillis();
+                if (deferMillis > 0) {
+                    log.warn("Failed to process message batch for container {} while its circuit breaker is open, "
+                        + "returning {} message(s) to queue for {} ms: {}", containerId, messages.size(), deferMillis, e.getMessage());
+                    returnToQueue(messages, visibilityTimeoutFor(deferMillis));
+                    unsettled.set(true);
+                    return;
+                }
                 log.error("Failed to process message batch for container {}: {}", 
                     containerId, e.getMessage(), e);
+                if (redriveBackoff != null) {
+                    unsettled.set(redeliverOrDeadLetter(messages, e));
+                    return;
+                }
+                failedMessages.addAndGet(messages.size());
+                messages.forEach(message -> metrics.recordMessageFailed(e));
                 
                 messages.forEach(message -> handleFailedMessage(message, e));
+                unsettled.set(!deadLetterQueueEnabled());
+            } finally {
+                messages.forEach(this::releaseVisibility);
+            }
+        });
+        if (processing.isCompletedExceptionally()) {
+            // ExecutorService가 거부한 경우 - 정상 실행된 작업은 예외를 던지지 않음
+            returnToQueue(messages);
+            releaseProbe(messages);
+            return processing;
+        }
+        return processing.thenRun(() -> {
+            if (unsettled.get()) {
+                throw UNSETTLED;
             }
-        }, messageExecutorService);
+        });
     }
     
     /**
-     * 재시도 로직을 포함한 메시지 처리
+     * 메시지의 가시성 타임아웃 연장 시작 (VisibilityExtender가 설정된 경우)
      * 
-     * @SqsListener에 설정된 maxRetryAttempts와 retryDelayMillis에 따라
-     * 메시지 처리를 재시도합니다. 모든 재시도가 실패한 경우 최종 예외를 throw합니다.
+     * 수신 요청에 messageVisibilitySeconds를 적용하므로, 첫 연장 시점은 추적 시작이 아닌
+     * 수신 시각부터 계산합니다.
      * 
-     * <h4>재시도 정책</h4>
-     * <ul>
-     *   <li>지수 백오프 없이 고정 지연 시간 사용</li>
-     *   <li>각 재시도 시도 사이에 Thread.sleep() 적용</li>
-     *   <li>최대 재시도 횟수 초과시 마지막 예외를 상위로 전파</li>
-     * </ul>
+     * @param message 처리를 시작할 메시지
+     * @param receivedAtNanos 메시지를 수신한 요청 시각 ({@link System#nanoTime()})
+     */
+    private void trackVisibility(SqsMessage message, long receivedAtNanos) {
+        if (visibilityExtender != null) {
+            visibilityExtender.track(resolvedQueueUrl, message.getReceiptHandle(),
+                listenerAnnotation.messageVisibilitySeconds(), receivedAtNanos);
+        }
+    }
+    
+    /**
+     * 처리 결과가 확정된 메시지의 가시성 타임아웃 연장 중단
      * 
-     * @param message 처리할 SQS 메시지
-     * @throws Exception 모든 재시도 실패시 마지막 발생한 예외
+     * @param message 처리가 끝난 메시지
      */
-    private void processMessageWithRetry(SqsMessage message) throws Exception {
-        Exception lastException = null;
-        
-        for (int attempt = 0; attempt <= listenerAnnotation.maxRetryAttempts(); attempt++) {
-            try {
-                invokeTargetMethod(message);
-                return; // 메시지 처리 성공 - 재시도 루프 종료
-            } catch (Exception e) {
-                lastException = e;
-                
-                if (attempt < listenerAnnotation.maxRetryAttempts()) {
-                    log.warn("Processing attempt {} failed for message {} in container {}, retrying...", 
-                        attempt + 1, message.getMessageId(), containerId);
-                    
-                    Thread.sleep(listenerAnnotation.retryDelayMillis());
+    private void releaseVisibility(SqsMessage message) {
+        if (visibilityExtender != null) {
+            visibilityExtender.release(resolvedQueueUrl, message.getReceiptHandle());
+        }
+    }
+    
+    /**
+     * in-flight 퍼밋을 점유한 작업을 메시지 처리용 ExecutorService에 제출
+     * 
+     * 작업이 실행을 기다리는 동안 queue depth에 집계되며, 작업 종료(성공/실패 무관) 또는
+     * 제출 거부 시 점유한 퍼밋을 반환합니다.
+     * 
+     * @param permits 작업이 점유한 퍼밋 수 (메시지 수와 동일)
+     * @param task 실행할 처리 작업
+     * @return 작업이 끝나면 완료되는 Future (ExecutorService가 거부하면 폴링을 멈추고 RejectedExecutionException으로 예외 완료)
+     */
+    private CompletableFuture<Void> submitWithPermits(int permits, Runnable task) {
+        queuedMessages.addAndGet(permits);
+        try {
+            return CompletableFuture.runAsync(() -> {
+                queuedMessages.addAndGet(-permits);
+                try {
+                    task.run();
+                } finally {
+                    releasePermits(permits);
                 }
-            }
+            }, messageExecutorService);
+        } catch (RejectedExecutionException e) {
+            queuedMessages.addAndGet(-permits);
+            releasePermits(permits);
+            pausePollingAfterRejection(permits);
+            return CompletableFuture.failedFuture(e);
         }
-        
-        throw lastException; // 모든 재시도 소진 - 최종 예외 전파
     }
     
     /**
-     * 타겟 메서드 리플렉션 호출
+     * 메시지 처리 ExecutorService가 작업을 거부한 경우 폴링 일시 중단
+     * 
+     * 거부로 반환된 퍼밋을 바로 다음 수신에 사용하면 같은 거부가 반복되므로,
+     * SATURATION_PAUSE_MILLIS 동안 수신을 멈추어 워커가 밀린 작업을 처리하도록 합니다.
+     * 
+     * @param rejected 거부된 메시지 수
+     */
+    private void pausePollingAfterRejection(int rejected) {
+        boolean alreadyPaused = pollingResumesAt != 0L;
+        pollingResumesAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SATURATION_PAUSE_MILLIS);
+        if (!alreadyPaused) {
+            log.warn("Message executor of container {} is saturated; returned {} message(s) to queue and paused polling for {} ms",
+                containerId, rejected, SATURATION_PAUSE_MILLIS);
+        }
+    }
+    
+    /**
+     * 리스너 호출 결과를 Circuit Breaker에 기록하고 상태 전환을 로깅
+     * 
+     * 시험 메시지의 결과가 기록되면 이후 재시도나 반환은 시험 권한과 무관하게 됩니다.
+     * 
+     * @param message 리스너가 처리한 메시지
+     * @param success 리스너 호출 성공 여부
+     */
+    private void recordCircuitOutcome(SqsMessage message, boolean success) {
+        if (circuitBreaker == null) {
+            return;
+        }
+        probeMessage.compareAndSet(message, null);
+        ContainerCircuitBreaker.State transition = success ? circuitBreaker.recordSuccess() : circuitBreaker.recordFailure();
+        if (transition == ContainerCircuitBreaker.State.OPEN) {
+            log.warn("Circuit breaker of container {} opened; polling paused and received messages returned to queue for {} ms",
+                containerId, listenerAnnotation.circuitBreakerOpenMillis());
+        } else if (transition == ContainerCircuitBreaker.State.CLOSED) {
+            log.info("Circuit breaker of container {} closed after a successful probe; polling resumed", containerId);
+        }
+    }
+    
+    /**
+     * Circuit Breaker가 열려 있는 남은 시간
+     * 
+     * @return 열려 있으면 남은 시간 (밀리초), 닫혀 있거나 사용하지 않으면 0
+     */
+    private long circuitOpenMillis() {
+        return circuitBreaker != null ? circuitBreaker.remainingOpenMillis() : 0L;
+    }
+    
+    /**
+     * 처리 결과 없이 끝난 HALF_OPEN 시험 수신 권한 반환
+     * 
+     * @param probe 시험 수신 권한을 가지고 있었는지 여부
+     */
+    private void releaseProbe(boolean probe) {
+        if (probe) {
+            circuitBreaker.releaseProbe();
+        }
+    }
+    
+    /**
+     * 결과 없이 큐로 반환된 메시지가 HALF_OPEN 시험 메시지이면 시험 권한 반환
+     * 
+     * @param message 처리하지 않고 반환한 메시지
+     */
+    private void releaseProbe(SqsMessage message) {
+        if (circuitBreaker != null && probeMessage.compareAndSet(message, null)) {
+            circuitBreaker.releaseProbe();
+        }
+    }
+    
+    /**
+     * 결과 없이 큐로 반환된 메시지 중 HALF_OPEN 시험 메시지가 있으면 시험 권한 반환
+     * 
+     * @param messages 처리하지 않고 반환한 메시지 목록
+     */
+    private void releaseProbe(List<SqsMessage> messages) {
+        messages.forEach(this::releaseProbe);
+    }
+    
+    /**
+     * Circuit Breaker가 닫힐 때까지 메시지를 숨길 가시성 타임아웃 계산
+     * 
+     * @param openMillis Circuit Breaker가 열려 있는 남은 시간 (밀리초)
+     * @return 가시성 타임아웃 (초, 1 이상 최대 12시간)
+     */
+    private static int visibilityTimeoutFor(long openMillis) {
+        return (int) Math.min(MAX_VISIBILITY_TIMEOUT_SECONDS, Math.max(1L, (openMillis + 999) / 1000));
+    }
+    
+    /**
+     * 타겟 메서드 호출
      * 
-     * @SqsListener가 지정된 실제 메시지 처리 메서드를 리플렉션을 통해 호출합니다.
-     * 메서드는 생성자에서 setAccessible(true)로 설정되어 private 메서드도 호출 가능합니다.
+     * @SqsListener가 지정된 실제 메시지 처리 메서드를 미리 바인딩된 ListenerInvoker로 호출합니다.
+     * 리스너가 던진 예외는 InvocationTargetException으로 감싸지지 않고 그대로 전달됩니다.
      * 
      * @param messageParameter 메서드에 전달할 파라미터 (SqsMessage 또는 List<SqsMessage>)
+     * @return 리스너 메서드의 반환값 (void 메서드는 null)
      * @throws Exception 메서드 호출 중 발생한 예외 (비즈니스 로직 예외 포함)
      */
-    private void invokeTargetMethod(Object messageParameter) throws Exception {
-        targetMethod.invoke(targetBean, messageParameter);
+    private Object invokeTargetMethod(Object messageParameter) throws Exception {
+        return listenerInvoker.invoke(messageParameter);
+    }
+    
+    /**
+     * VISIBILITY_TIMEOUT 재시도 모드에서 실패한 메시지 처리
+     * 
+     * 컨테이너 안에서 재시도하지 않고, 메시지의 ApproximateReceiveCount로 재시도 소진 여부를 판단합니다.
+     * <ul>
+     *   <li>재시도가 남은 메시지: 수신 횟수에 따라 늘어나는 가시성 타임아웃으로 변경하여 SQS가 나중에 다시 전달</li>
+     *   <li>재시도를 소진한 메시지: 실패로 기록하고 DLQ로 전송하며, 전송에 성공하면 원본 메시지를 삭제</li>
+     *   <li>DLQ가 없거나 전송에 실패한 메시지: 같은 방식으로 지연 후 재전달되어 큐의 RedrivePolicy가 이어서 처리</li>
+     * </ul>
+     * 
+     * 같은 지연 시간의 메시지는 ChangeMessageVisibilityBatch로 함께 반환하며,
+     * 워커 스레드와 퍼밋은 지연 시간 동안 점유되지 않습니다.
+     * 
+     * @param messages 처리에 실패한 메시지 목록
+     * @param exception 발생한 예외 (DLQ 메시지에 기록)
+     * @return 재전달을 위해 큐에 남긴 메시지가 있으면 true - 같은 그룹의 다음 메시지를 함께 반환하는 데 사용
+     */
+    private boolean redeliverOrDeadLetter(List<SqsMessage> messages, Exception exception) {
+        Map<Integer, List<SqsMessage>> redeliveries = new TreeMap<>();
+        for (SqsMessage message : messages) {
+            int receiveCount = redriveBackoff.receiveCountOf(message);
+            int visibilitySeconds = redriveBackoff.visibilityTimeoutSeconds(receiveCount);
+            if (!redriveBackoff.isExhausted(receiveCount)) {
+                log.warn("Processing failed for message {} in container {} on receive {}, redelivering in {} s",
+                    message.getMessageId(), containerId, receiveCount, visibilitySeconds);
+                redeliveries.computeIfAbsent(visibilitySeconds, seconds -> new ArrayList<>()).add(message);
+                continue;
+            }
+            
+            failedMessages.incrementAndGet();
+            metrics.recordMessageFailed(exception);
+            log.error("Failed to process message {} for container {} after {} receive(s): {}",
+                message.getMessageId(), containerId, receiveCount, exception.getMessage(), exception);
+            if (!deadLetterQueueEnabled()) {
+                redeliveries.computeIfAbsent(visibilitySeconds, seconds -> new ArrayList<>()).add(message);
+                continue;
+            }
+            handleFailedMessage(message, exception).thenAccept(delivered -> {
+                if (delivered) {
+                    trackAcknowledgement(acknowledge(message)
+                        .exceptionally(throwable -> {
+                            log.warn("Failed to delete dead-lettered message {} for container {}: {}",
+                                message.getMessageId(), containerId, throwable.getMessage());
+                            return null;
+                        }));
+                } else {
+                    returnToQueue(List.of(message), visibilitySeconds);
+                }
+            });
+        }
+        redeliveries.forEach((visibilitySeconds, delayed) -> returnToQueue(delayed, visibilitySeconds));
+        return !redeliveries.isEmpty();
     }
     
     /**
      * 실패한 메시지의 Dead Letter Queue(DLQ) 처리
      * 
-     * 메시지 처리에 실패한 경우 설정에 따라 DLQ로 메시지를 전송합니다.
-     * 보안상 안전한 JSON 직렬화를 위해 Jackson ObjectMapper를 사용합니다.
+     * 메시지 처리에 실패한 경우 설정에 따라 DeadLetterQueueHandler로 메시지를 넘깁니다.
+     * 핸들러가 {@link com.ryuqq.aws.sqs.consumer.types.DlqMessage} 봉투로 직렬화하여 DLQ별로 모은 뒤
+     * SendMessageBatch로 전송하므로, DLQ 전송이 몰려도 워커 스레드는 응답을 기다리지 않습니다.
      * 
      * <h4>DLQ 메시지 구조</h4>
      * <ul>
@@ -571,49 +1702,43 @@ public class SqsListenerContainer {
      *   <li>원본 메시지의 속성들</li>
      * </ul>
      * 
-     * <h4>보안 강화</h4>
-     * - 문자열 연결 대신 Jackson ObjectMapper 사용으로 JSON 인젝션 공격 방지
-     * - AUTO_CLOSE_SOURCE 기능 비활성화로 보안 취약점 차단
+     * 전송 결과와 전송 요청부터 결과 확정까지의 지연 시간은 메트릭으로 기록됩니다.
      * 
      * @param message 처리 실패한 원본 SQS 메시지
      * @param exception 발생한 예외 객체
+     * @return DLQ 전송 결과가 확정되면 전송 성공 여부로 완료되는 Future (DLQ를 사용하지 않으면 false, 예외로 완료되지 않음)
      */
-    private void handleFailedMessage(SqsMessage message, Exception exception) {
-        if (listenerAnnotation.enableDeadLetterQueue() && 
-            !listenerAnnotation.deadLetterQueueName().isEmpty()) {
-            
-            try {
-                String dlqName = resolveProperty(listenerAnnotation.deadLetterQueueName());
-                String dlqUrl = sqsService.getQueueUrl(dlqName).get();
-                
-                // 안전한 JSON 직렬화를 사용한 DLQ 메시지 생성
-                DlqMessage dlqMessage = DlqMessage.builder()
-                    .originalMessageId(message.getMessageId())
-                    .originalMessage(message.getBody())
-                    .errorMessage(exception.getMessage())
-                    .errorType(exception.getClass().getSimpleName())
-                    .timestamp(Instant.now())
-                    .containerId(containerId)
-                    .queueUrl(resolvedQueueUrl)
-                    .retryAttempts(listenerAnnotation.maxRetryAttempts())
-                    .originalAttributes(message.getAttributes())
-                    .build();
-                
-                // 보안 ObjectMapper를 사용한 JSON 직렬화
-                String dlqBody = OBJECT_MAPPER.writeValueAsString(dlqMessage);
-                
-                sqsService.sendMessage(dlqUrl, dlqBody);
-                log.info("Sent failed message {} to DLQ for container {}", 
-                    message.getMessageId(), containerId);
-                
-            } catch (JsonProcessingException jsonException) {
-                log.error("Failed to serialize DLQ message for container {}: {}", 
-                    containerId, jsonException.getMessage(), jsonException);
-            } catch (Exception dlqException) {
-                log.error("Failed to send message to DLQ for container {}: {}", 
-                    containerId, dlqException.getMessage(), dlqException);
-            }
+    private CompletableFuture<Boolean> handleFailedMessage(SqsMessage message, Exception exception) {
+        if (!deadLetterQueueEnabled()) {
+            return CompletableFuture.completedFuture(false);
         }
+        long startedAt = System.nanoTime();
+        CompletableFuture<Boolean> sent;
+        try {
+            sent = deadLetterQueueHandler.sendToDeadLetterQueueAsync(message, exception, dlqConfig);
+        } catch (RuntimeException e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+        return sent.handle((delivered, throwable) -> {
+            boolean success = throwable == null && Boolean.TRUE.equals(delivered);
+            MetricsCollector.ContainerRecorder recorder = metrics;
+            recorder.recordDlqLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            recorder.recordDlqOperation(success);
+            if (throwable != null) {
+                log.error("Failed to send message {} to DLQ for container {}: {}",
+                    message.getMessageId(), containerId, throwable.getMessage(), throwable);
+            }
+            return success;
+        });
+    }
+    
+    /**
+     * 재시도를 소진한 메시지를 DLQ로 보내는지 확인
+     * 
+     * @return enableDeadLetterQueue=true이고 DLQ 이름이 지정되어 있으면 true
+     */
+    private boolean deadLetterQueueEnabled() {
+        return deadLetterQueueHandler != null && deadLetterQueueHandler.isDlqEnabled(dlqConfig);
     }
     
     /**
@@ -645,6 +1770,7 @@ public class SqsListenerContainer {
      *   <li>실행 여부 (boolean)</li>
      *   <li>총 처리된 메시지 수</li>
      *   <li>총 실패한 메시지 수</li>
+     *   <li>in-flight 메시지 수, 워커 대기 메시지 수 및 동시 처리 한도</li>
      * </ul>
      */
     public static class ContainerStats {
@@ -653,13 +1779,25 @@ public class SqsListenerContainer {
         private final boolean running;
         private final long processedMessages;
         private final long failedMessages;
+        private final int inFlightMessages;
+        private final int queuedMessages;
+        private final int maxConcurrentMessages;
         
         public ContainerStats(String containerId, ContainerState state, boolean running, long processedMessages, long failedMessages) {
+            this(containerId, state, running, processedMessages, failedMessages, 0, 0, 0);
+        }
+        
+        public ContainerStats(String containerId, ContainerState state, boolean running,
+                              long processedMessages, long failedMessages,
+                              int inFlightMessages, int queuedMessages, int maxConcurrentMessages) {
             this.containerId = containerId;
             this.state = state;
             this.running = running;
             this.processedMessages = processedMessages;
             this.failedMessages = failedMessages;
+            this.inFlightMessages = inFlightMessages;
+            this.queuedMessages = queuedMessages;
+            this.maxConcurrentMessages = maxConcurrentMessages;
         }
         
         /** 컨테이너 고유 식별자 반환 */
@@ -672,11 +1810,85 @@ public class SqsListenerContainer {
         public long getProcessedMessages() { return processedMessages; }
         /** 총 실패한 메시지 수 반환 */
         public long getFailedMessages() { return failedMessages; }
+        /** 처리 완료되지 않은 in-flight 메시지 수 반환 */
+        public int getInFlightMessages() { return inFlightMessages; }
+        /** 워커 스레드를 기다리는 메시지 수 반환 */
+        public int getQueuedMessages() { return queuedMessages; }
+        /** 동시 처리 한도(maxConcurrentMessages) 반환 */
+        public int getMaxConcurrentMessages() { return maxConcurrentMessages; }
         
         @Override
         public String toString() {
-            return String.format("ContainerStats{id='%s', state=%s, running=%s, processed=%d, failed=%d}", 
-                containerId, state, running, processedMessages, failedMessages);
+            return String.format("ContainerStats{id='%s', state=%s, running=%s, processed=%d, failed=%d, inFlight=%d, queued=%d}", 
+                containerId, state, running, processedMessages, failedMessages, inFlightMessages, queuedMessages);
+        }
+    }
+    
+    /**
+     * @SqsListener 설정을 DeadLetterQueueHandler에 전달하는 DLQ 설정
+     * 
+     * 원본 큐 URL은 시작 시 해결되므로 전송 시점의 값을 읽습니다.
+     */
+    private final class ContainerDlqConfig implements DlqConfig {
+        
+        @Override
+        public boolean isEnabled() {
+            return listenerAnnotation.enableDeadLetterQueue();
+        }
+        
+        @Override
+        public String getDlqName() {
+            return listenerAnnotation.deadLetterQueueName();
+        }
+        
+        @Override
+        public String getContainerId() {
+            return containerId;
+        }
+        
+        @Override
+        public String getSourceQueueUrl() {
+            return resolvedQueueUrl;
+        }
+        
+        @Override
+        public Integer getRetryAttempts() {
+            return listenerAnnotation.maxRetryAttempts();
+        }
+    }
+    
+    /**
+     * 처리 결과가 확정되지 않고 메시지가 큐에 남았음을 알리는 완료 신호
+     * 
+     * 공유 인스턴스로 사용하므로 스택 트레이스를 만들지 않습니다.
+     */
+    private static final class UnsettledMessageException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        
+        private UnsettledMessageException() {
+            super("Message was returned to the queue unsettled", null, false, false);
+        }
+    }
+    
+    /**
+     * 전체 퍼밋 수를 늘리거나 줄일 수 있는 Semaphore
+     * 
+     * 줄이는 경우 사용 가능한 퍼밋이 음수가 될 수 있으며, 점유 중인 퍼밋이 반환되어
+     * 다시 양수가 될 때까지 새 퍼밋을 확보할 수 없습니다.
+     */
+    private static final class ResizableSemaphore extends Semaphore {
+        private static final long serialVersionUID = 1L;
+        
+        private ResizableSemaphore(int permits) {
+            super(permits);
+        }
+        
+        private void resize(int delta) {
+            if (delta > 0) {
+                release(delta);
+            } else if (delta < 0) {
+                reducePermits(-delta);
+            }
         }
     }
-}
\ No newline at end of file
+}
@@ -5,6 +5,7 @@ import com.ryuqq.aws.sqs.consumer.component.*;
 import com.ryuqq.aws.sqs.service.SqsService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
@@ -32,6 +33,8 @@ public class SqsListenerContainerFactory {
     private final RetryManager retryManager;
     private final DeadLetterQueueHandler dlqHandler;
     private final MetricsCollector metricsCollector;
+    private final ConcurrencyController concurrencyController;
+    private final VisibilityExtender visibilityExtender;
 
     public SqsListenerContainerFactory(
             SqsService sqsService,
@@ -42,7 +45,9 @@ public class SqsListenerContainerFactory {
             MessageProcessor messageProcessor,
             RetryManager retryManager,
             DeadLetterQueueHandler dlqHandler,
-            MetricsCollector metricsCollector) {
+            MetricsCollector metricsCollector,
+            ConcurrencyController concurrencyController,
+            ObjectProvider<VisibilityExtender> visibilityExtender) {
         this.sqsService = sqsService;
         this.environment = environment;
         this.applicationContext = applicationContext;
@@ -52,6 +57,9 @@ public class SqsListenerContainerFactory {
         this.retryManager = retryManager;
         this.dlqHandler = dlqHandler;
         this.metricsCollector = metricsCollector;
+        this.concurrencyController = concurrencyController;
+        // Only registered when visibility heartbeat is enabled
+        this.visibilityExtender = visibilityExtender.getIfAvailable();
     }
     
     /**
@@ -84,7 +92,9 @@ public class SqsListenerContainerFactory {
                 messageProcessor,
                 retryManager,
                 dlqHandler,
-                metricsCollector
+                metricsCollector,
+                concurrencyController,
+                visibilityExtender
         );
     }
     
@@ -190,5 +200,9 @@ public class SqsListenerContainerFactory {
         if (listenerAnnotation.pollTimeoutSeconds() < 0 || listenerAnnotation.pollTimeoutSeconds() > 20) {
             throw new IllegalArgumentException("Poll timeout must be between 0 and 20 seconds");
         }
+        
+        if (listenerAnnotation.pollerCount() < 1) {
+            throw new IllegalArgumentException("Poller count must be at least 1");
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package com.ryuqq.aws.sqs.consumer.executor;
+
+import com.ryuqq.aws.sqs.consumer.properties.SqsConsumerProperties.RejectionPolicy;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작업 큐 크기가 제한된 메시지 처리용 ThreadPoolExecutor
+ *
+ * corePoolSize개의 스레드가 먼저 작업을 받고, 이후 작업은 용량이 queueCapacity인 큐에 쌓이며,
+ * 큐가 가득 차면 maximumPoolSize까지 스레드를 늘립니다. 그래도 받을 수 없는 작업은
+ * {@link RejectionPolicy}에 따라 처리하므로 과부하 시 대기 작업이 메모리에 무한히 쌓이지 않습니다.
+ *
+ * <h3>거부 처리</h3>
+ * <ul>
+ *   <li><strong>PAUSE_POLLER</strong>: RejectedExecutionException을 던짐 - 리스너 컨테이너가 메시지를
+ *       큐로 반환하고 폴링을 잠시 멈춤</li>
+ *   <li><strong>CALLER_RUNS</strong>: 제출한 스레드가 폴링 엔진의 Virtual Thread이면 그 자리에서 실행하여
+ *       해당 폴러의 다음 수신을 늦춤. 공유 재시도 타이머 같은 Platform Thread에서 제출된 작업은
+ *       다른 컨테이너를 막지 않도록 PAUSE_POLLER와 같이 거부</li>
+ * </ul>
+ * 종료된 풀에 제출된 작업은 정책과 관계없이 거부되며 거부 횟수에 집계되지 않습니다.
+ * 포화로 인한 거부 및 호출 스레드 실행 횟수는 메트릭으로 노출됩니다.
+ */
+public class BoundedThreadPoolExecutor extends ThreadPoolExecutor {
+
+    private final String name;
+    private final int queueCapacity;
+    private final RejectionPolicy rejectionPolicy;
+    private final LongAdder rejectedTasks = new LongAdder();
+    private final LongAdder callerRunsTasks = new LongAdder();
+
+    /**
+     * @param name 풀 이름 (메트릭 태그로 사용, 보통 컨테이너 ID)
+     * @param corePoolSize 항상 유지하는 스레드 수
+     * @param maximumPoolSize 큐가 가득 찼을 때 늘릴 수 있는 최대 스레드 수
+     * @param keepAliveSeconds corePoolSize를 넘는 유휴 스레드의 생존 시간 (초)
+     * @param queueCapacity 작업 큐 용량 (0이면 큐 없이 스레드에 직접 전달)
+     * @param threadFactory 스레드 생성기
+     * @param rejectionPolicy 포화 시 처리 방식
+     */
+    public BoundedThreadPoolExecutor(String name,
+                                     int corePoolSize,
+                                     int maximumPoolSize,
+                                     long keepAliveSeconds,
+                                     int queueCapacity,
+                                     ThreadFactory threadFactory,
+                                     RejectionPolicy rejectionPolicy) {
+        super(corePoolSize, maximumPoolSize, keepAliveSeconds, TimeUnit.SECONDS,
+            createQueue(queueCapacity), threadFactory, new SaturationHandler());
+        this.name = name;
+        this.queueCapacity = Math.max(0, queueCapacity);
+        this.rejectionPolicy = rejectionPolicy;
+    }
+
+    private static BlockingQueue<Runnable> createQueue(int queueCapacity) {
+        return queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public RejectionPolicy getRejectionPolicy() {
+        return rejectionPolicy;
+    }
+
+    /**
+     * 실행을 기다리는 작업 수
+     */
+    public int getQueueSize() {
+        return getQueue().size();
+    }
+
+    /**
+     * 풀이 받지 못해 거부한 작업 수 (누적)
+     */
+    public long getRejectedCount() {
+        return rejectedTasks.sum();
+    }
+
+    /**
+     * CALLER_RUNS 정책으로 제출한 스레드에서 실행된 작업 수 (누적)
+     */
+    public long getCallerRunsCount() {
+        return callerRunsTasks.sum();
+    }
+
+    /**
+     * 포화 시 정책을 적용하고 결과를 집계하는 거부 처리기
+     */
+    private static final class SaturationHandler implements RejectedExecutionHandler {
+
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            BoundedThreadPoolExecutor pool = (BoundedThreadPoolExecutor) executor;
+            if (!pool.isShutdown()
+                    && pool.rejectionPolicy == RejectionPolicy.CALLER_RUNS
+                    && Thread.currentThread().isVirtual()) {
+                pool.callerRunsTasks.increment();
+                task.run();
+                return;
+            }
+            if (pool.isShutdown()) {
+                throw new RejectedExecutionException("Message executor '" + pool.name + "' has been shut down");
+            }
+            pool.rejectedTasks.increment();
+            throw new RejectedExecutionException("Message executor '" + pool.name + "' is saturated ("
+                + pool.getActiveCount() + " active, " + pool.getQueueSize() + "/" + pool.queueCapacity + " queued)");
+        }
+    }
+}
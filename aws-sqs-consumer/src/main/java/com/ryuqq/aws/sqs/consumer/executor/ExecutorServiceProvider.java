@@ -30,6 +30,10 @@ public interface ExecutorServiceProvider {
      * Creates a new ExecutorService instance for polling operations.
      * This executor is typically single-threaded per listener.
      * 
+     * <p>The built-in listener containers no longer request a polling executor: long polls of all
+     * containers are driven by the shared {@link PollingEngine}. The method remains for custom
+     * components that still run their own polling loop.</p>
+     * 
      * @param consumerName the name identifier for this consumer instance
      * @return a configured ExecutorService for polling operations
      */
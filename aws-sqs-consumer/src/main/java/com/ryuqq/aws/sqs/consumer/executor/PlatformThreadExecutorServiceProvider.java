@@ -4,11 +4,15 @@ import com.ryuqq.aws.sqs.consumer.properties.SqsConsumerProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * Platform Thread ExecutorService 제공자
@@ -21,7 +25,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  *   <li><strong>OS 네이티브 스레드</strong>: 운영체제가 직접 관리하는 스레드</li>
  *   <li><strong>CPU 집약적 작업 최적</strong>: 계산 위주의 작업에서 높은 성능</li>
  *   <li><strong>메모리 비용</strong>: 각 스레드당 1-2MB 스택 메모리 사용</li>
- *   <li><strong>스레드 풀 관리</strong>: 고정 크기의 스레드 풀로 리소스 제어</li>
+ *   <li><strong>스레드 풀 관리</strong>: 큐 크기가 제한된 스레드 풀로 리소스 제어</li>
  * </ul>
  * 
  * <h3>Virtual Thread와의 비교</h3>
@@ -48,34 +52,38 @@ public class PlatformThreadExecutorServiceProvider implements ExecutorServicePro
     private static final Logger log = LoggerFactory.getLogger(PlatformThreadExecutorServiceProvider.class);
 
     private final SqsConsumerProperties properties;
+    
+    // 생성한 모든 ExecutorService - shutdown()에서 함께 종료
+    private final List<ExecutorService> executors = new CopyOnWriteArrayList<>();
+    private final List<BoundedThreadPoolExecutor> messageProcessingExecutors = new ArrayList<>();
+    private final List<Consumer<BoundedThreadPoolExecutor>> creationListeners = new ArrayList<>();
 
     public PlatformThreadExecutorServiceProvider(SqsConsumerProperties properties) {
         this.properties = properties;
     }
-    private volatile ExecutorService executorService;
     
     /**
      * 메시지 처리용 Platform Thread ExecutorService 생성
      * 
-     * 고정 크기의 스레드 풀을 사용하여 메시지 처리 전용 ExecutorService를 생성합니다.
-     * 스레드 풀 크기는 SqsConsumerProperties에서 설정할 수 있습니다.
+     * 작업 큐 크기가 제한된 {@link BoundedThreadPoolExecutor}를 생성합니다.
+     * 스레드 풀 크기, 큐 용량, 유휴 스레드 생존 시간은 SqsConsumerProperties에서 설정할 수 있습니다.
      * 
      * <h4>스레드 풀 설정</h4>
      * <ul>
      *   <li><strong>Core Pool Size</strong>: properties.getThreadPoolCoreSize()</li>
-     *   <li><strong>Maximum Pool Size</strong>: properties.getThreadPoolMaxSize()</li>
+     *   <li><strong>Maximum Pool Size</strong>: properties.getThreadPoolMaxSize() (큐가 가득 찬 경우에만 증가)</li>
+     *   <li><strong>Queue Capacity</strong>: properties.getThreadPoolQueueCapacity()</li>
+     *   <li><strong>Keep Alive</strong>: properties.getThreadPoolKeepAliveSeconds()</li>
+     *   <li><strong>포화 시 처리</strong>: properties.getExecutor().rejectionPolicy()</li>
      *   <li><strong>스레드 명명</strong>: "sqs-msg-processor-{consumerName}-{threadNumber}"</li>
      *   <li><strong>Daemon Thread</strong>: true (애플리케이션 종료시 자동 종료)</li>
      * </ul>
      * 
-     * @param consumerName 컨슈머 이름 (스레드 명명에 사용)
-     * @return 고정 크기 스레드 풀 ExecutorService
+     * @param consumerName 컨슈머 이름 (스레드 명명 및 메트릭 태그에 사용)
+     * @return 큐 크기가 제한된 ThreadPoolExecutor
      */
     @Override
     public ExecutorService createMessageProcessingExecutor(String consumerName) {
-        int corePoolSize = properties.getThreadPoolCoreSize();
-        int maxPoolSize = properties.getThreadPoolMaxSize();
-        
         // 메시지 처리 스레드용 ThreadFactory 생성
         ThreadFactory threadFactory = new ThreadFactory() {
             private final AtomicInteger threadNumber = new AtomicInteger(1);
@@ -88,7 +96,50 @@ public class PlatformThreadExecutorServiceProvider implements ExecutorServicePro
             }
         };
         
-        return Executors.newFixedThreadPool(corePoolSize, threadFactory);
+        BoundedThreadPoolExecutor executor = new BoundedThreadPoolExecutor(
+            consumerName,
+            properties.getThreadPoolCoreSize(),
+            properties.getThreadPoolMaxSize(),
+            properties.getThreadPoolKeepAliveSeconds(),
+            properties.getThreadPoolQueueCapacity(),
+            threadFactory,
+            properties.getExecutor().rejectionPolicy());
+        executors.add(executor);
+        
+        List<Consumer<BoundedThreadPoolExecutor>> listeners;
+        synchronized (creationListeners) {
+            messageProcessingExecutors.add(executor);
+            listeners = List.copyOf(creationListeners);
+        }
+        listeners.forEach(listener -> listener.accept(executor));
+        return executor;
+    }
+    
+    /**
+     * 메시지 처리용 ExecutorService 생성 알림 등록
+     * 
+     * 이미 생성된 ExecutorService에 대해서는 등록 즉시 호출됩니다. 메트릭 바인딩에 사용됩니다.
+     * 
+     * @param listener 생성된 ExecutorService를 받을 콜백
+     */
+    public void onMessageProcessingExecutorCreated(Consumer<BoundedThreadPoolExecutor> listener) {
+        List<BoundedThreadPoolExecutor> existing;
+        synchronized (creationListeners) {
+            creationListeners.add(listener);
+            existing = List.copyOf(messageProcessingExecutors);
+        }
+        existing.forEach(listener);
+    }
+    
+    /**
+     * 지금까지 생성한 메시지 처리용 ExecutorService 목록
+     * 
+     * @return 생성 순서대로 정렬된 목록 (불변 복사본)
+     */
+    public List<BoundedThreadPoolExecutor> getMessageProcessingExecutors() {
+        synchronized (creationListeners) {
+            return List.copyOf(messageProcessingExecutors);
+        }
     }
     
     /**
@@ -120,7 +171,9 @@ public class PlatformThreadExecutorServiceProvider implements ExecutorServicePro
             }
         };
         
-        return Executors.newSingleThreadExecutor(threadFactory);
+        ExecutorService executor = Executors.newSingleThreadExecutor(threadFactory);
+        executors.add(executor);
+        return executor;
     }
     
     /**
@@ -152,6 +205,8 @@ public class PlatformThreadExecutorServiceProvider implements ExecutorServicePro
      * 다단계 shutdown 절차를 수행하여 안전하게 스레드 풀을 종료합니다.
      * 진행 중인 작업이 완료될 때까지 대기한 후, 타임아웃 초과시 강제 종료합니다.
      * 
+     * 이 제공자가 생성한 모든 ExecutorService가 대상이며, 타임아웃은 전체 종료에 함께 적용됩니다.
+     * 
      * <h4>Shutdown 절차</h4>
      * <ol>
      *   <li>새로운 작업 수락 중단 (executorService.shutdown())</li>
@@ -164,25 +219,32 @@ public class PlatformThreadExecutorServiceProvider implements ExecutorServicePro
      */
     @Override
     public void shutdown(long timeoutMillis) {
-        if (executorService != null && !executorService.isShutdown()) {
-            log.info("Platform Thread ExecutorService Graceful Shutdown 시작");
-            executorService.shutdown();
-            
-            try {
-                if (!executorService.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+        if (executors.isEmpty()) {
+            return;
+        }
+        log.info("Platform Thread ExecutorService {}개 Graceful Shutdown 시작", executors.size());
+        executors.forEach(ExecutorService::shutdown);
+        
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        try {
+            for (ExecutorService executor : executors) {
+                long remaining = Math.max(0L, deadline - System.nanoTime());
+                if (!executor.awaitTermination(remaining, TimeUnit.NANOSECONDS)) {
                     log.warn("ExecutorService가 정상적으로 종료되지 않아 강제 종료를 시도합니다");
-                    executorService.shutdownNow();
+                    executor.shutdownNow();
                     
                     // 강제 종료 후 추가 대기 시간
-                    if (!executorService.awaitTermination(5000, TimeUnit.MILLISECONDS)) {
+                    if (!executor.awaitTermination(5000, TimeUnit.MILLISECONDS)) {
                         log.error("강제 종료 후에도 ExecutorService가 종료되지 않았습니다");
                     }
                 }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.warn("ExecutorService 종료 대기 중 인터럽트가 발생했습니다");
-                executorService.shutdownNow();
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("ExecutorService 종료 대기 중 인터럽트가 발생했습니다");
+            executors.forEach(ExecutorService::shutdownNow);
+        } finally {
+            executors.clear();
         }
     }
     
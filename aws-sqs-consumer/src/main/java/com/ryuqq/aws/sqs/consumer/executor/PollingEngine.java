@@ -0,0 +1,206 @@
+package com.ryuqq.aws.sqs.consumer.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 모든 리스너 컨테이너가 공유하는 비동기 폴링 엔진
+ *
+ * 컨테이너마다 폴링 스레드를 두고 Long Polling 응답을 {@code .get()}으로 기다리는 대신,
+ * SqsAsyncClient가 반환한 Future가 완료되면 다음 수신 사이클을 이어서 실행합니다.
+ * Long Polling 대기 중에는 어떤 스레드도 점유하지 않으며, 컨테이너 수와 무관하게
+ * 전용 OS 스레드를 만들지 않습니다.
+ *
+ * <h3>실행 모델</h3>
+ * <ul>
+ *   <li><strong>사이클</strong>: 컨테이너가 제공하는 함수로, 수신 요청을 보내고 메시지 전달까지 끝나면 완료되는 Future를 반환</li>
+ *   <li><strong>사이클 실행</strong>: 매 사이클은 공유 Virtual Thread에서 시작되므로, 퍼밋 대기처럼
+ *       잠시 블로킹하는 흐름 제어도 플랫폼 스레드를 점유하지 않음</li>
+ *   <li><strong>오류 백오프</strong>: 사이클이 실패하면 공유 타이머 스레드 하나가 지정된 시간 후 다음 사이클을 예약</li>
+ *   <li><strong>정지</strong>: 진행 중인 사이클 Future를 취소하고, 모든 루프가 끝나면 완료되는 Future를 반환</li>
+ * </ul>
+ *
+ * @since 1.0.0
+ */
+public final class PollingEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(PollingEngine.class);
+
+    private static final ExecutorService CYCLE_EXECUTOR = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("sqs-poll-cycle-", 0).factory());
+
+    private static final ScheduledExecutorService BACKOFF_TIMER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "sqs-poll-backoff");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private PollingEngine() {
+        // 유틸리티 클래스 - 인스턴스 생성 방지
+    }
+
+    /**
+     * 수신 응답 후속 처리에 사용할 공유 Executor
+     * 
+     * SDK 응답 스레드에서 메시지 전달 로직을 실행하지 않도록 {@code handleAsync} 등에 사용합니다.
+     *
+     * @return Virtual Thread 기반 공유 Executor
+     */
+    public static Executor continuationExecutor() {
+        return CYCLE_EXECUTOR;
+    }
+
+    /**
+     * 후속 처리 Future가 취소되면 원본 수신 Future도 함께 취소되도록 연결
+     * 
+     * 엔진은 사이클이 반환한 Future만 취소하므로, {@code thenApplyAsync} 등으로 파생된 Future를
+     * 반환하는 사이클은 이 메서드로 대기 중인 수신 요청까지 취소를 전달합니다.
+     *
+     * @param derived 사이클이 반환할 파생 Future
+     * @param source 대기 중인 수신 요청 Future
+     * @return derived
+     */
+    public static <T> CompletableFuture<T> linkCancellation(CompletableFuture<T> derived, CompletableFuture<?> source) {
+        derived.whenComplete((ignored, failure) -> {
+            if (derived.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return derived;
+    }
+
+    /**
+     * 폴링 루프 시작
+     *
+     * @param name 로그에 사용할 이름 (컨테이너 ID 또는 큐 URL)
+     * @param loopCount 동시에 실행할 루프 수 (pollerCount)
+     * @param cycle 한 번의 수신 사이클을 시작하고 완료 Future를 반환하는 함수
+     * @param errorBackoffMillis 사이클 실패 후 다음 사이클까지의 대기 시간
+     * @return 루프를 정지할 수 있는 핸들
+     */
+    public static Handle start(String name, int loopCount, Supplier<? extends CompletableFuture<?>> cycle,
+                               long errorBackoffMillis) {
+        if (loopCount < 1) {
+            throw new IllegalArgumentException("Loop count must be at least 1: " + loopCount);
+        }
+        Handle handle = new Handle(name);
+        for (int i = 0; i < loopCount; i++) {
+            Loop loop = new Loop(handle, cycle, Math.max(0L, errorBackoffMillis));
+            handle.loops.add(loop);
+        }
+        handle.loops.forEach(Loop::next);
+        return handle;
+    }
+
+    /**
+     * 실행 중인 폴링 루프 묶음에 대한 핸들
+     */
+    public static final class Handle {
+        private final String name;
+        private final List<Loop> loops = new ArrayList<>();
+        private volatile boolean active = true;
+
+        private Handle(String name) {
+            this.name = name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        /**
+         * 새 사이클 시작을 중단하고 진행 중인 사이클 Future를 취소
+         *
+         * @return 모든 루프가 끝나면 완료되는 Future
+         */
+        public CompletableFuture<Void> stop() {
+            active = false;
+            loops.forEach(Loop::cancel);
+            return CompletableFuture.allOf(loops.stream()
+                .map(loop -> loop.finished)
+                .toArray(CompletableFuture[]::new));
+        }
+    }
+
+    private static final class Loop {
+        private final Handle handle;
+        private final Supplier<? extends CompletableFuture<?>> cycle;
+        private final long errorBackoffMillis;
+        private final CompletableFuture<Void> finished = new CompletableFuture<>();
+        private volatile CompletableFuture<?> current;
+        private volatile ScheduledFuture<?> backoff;
+
+        private Loop(Handle handle, Supplier<? extends CompletableFuture<?>> cycle, long errorBackoffMillis) {
+            this.handle = handle;
+            this.cycle = cycle;
+            this.errorBackoffMillis = errorBackoffMillis;
+        }
+
+        private void next() {
+            if (!handle.active) {
+                finished.complete(null);
+                return;
+            }
+            try {
+                CYCLE_EXECUTOR.execute(this::runCycle);
+            } catch (RejectedExecutionException e) {
+                finished.complete(null);
+            }
+        }
+
+        private void runCycle() {
+            if (!handle.active) {
+                finished.complete(null);
+                return;
+            }
+            CompletableFuture<?> result;
+            try {
+                result = cycle.get();
+            } catch (Throwable t) {
+                result = CompletableFuture.failedFuture(t);
+            }
+            current = result;
+            if (!handle.active) {
+                // stop()이 current 설정 전에 호출된 경우에도 대기 중인 수신을 놓치지 않도록 취소
+                result.cancel(false);
+            }
+            result.whenComplete((ignored, failure) -> {
+                if (failure == null || !handle.active) {
+                    next();
+                    return;
+                }
+                log.warn("Polling cycle failed for {}; retrying in {} ms: {}",
+                    handle.name, errorBackoffMillis, failure.getMessage());
+                try {
+                    backoff = BACKOFF_TIMER.schedule(this::next, errorBackoffMillis, TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    finished.complete(null);
+                }
+            });
+        }
+
+        private void cancel() {
+            CompletableFuture<?> inFlight = current;
+            if (inFlight != null) {
+                inFlight.cancel(false);
+            }
+            // 백오프 대기 중인 루프는 타이머를 기다리지 않고 바로 종료
+            ScheduledFuture<?> pendingBackoff = backoff;
+            if (pendingBackoff != null && pendingBackoff.cancel(false)) {
+                finished.complete(null);
+            }
+        }
+    }
+}
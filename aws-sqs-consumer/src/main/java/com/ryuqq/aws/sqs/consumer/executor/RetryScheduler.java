@@ -0,0 +1,69 @@
+package com.ryuqq.aws.sqs.consumer.executor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재시도 지연용 공유 타이머
+ *
+ * 재시도 사이의 대기를 워커 스레드의 Thread.sleep() 대신 단일 데몬 타이머 스레드에 맡깁니다.
+ * 타이머 스레드는 지연이 끝난 작업을 지정된 Executor로 넘기기만 하므로, 대기 중인 재시도는
+ * 워커 스레드를 점유하지 않습니다.
+ *
+ * <h3>특징</h3>
+ * <ul>
+ *   <li><strong>공유 타이머</strong>: 모든 컨테이너가 하나의 타이머 스레드를 공유</li>
+ *   <li><strong>Hand-off 전용</strong>: 타이머 스레드에서는 사용자 코드를 실행하지 않음</li>
+ *   <li><strong>거부 처리</strong>: Executor가 작업을 거부하면 반환된 Future가 예외로 완료됨</li>
+ * </ul>
+ *
+ * @since 1.0.0
+ */
+public final class RetryScheduler {
+
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "sqs-retry-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private RetryScheduler() {
+        // 유틸리티 클래스 - 인스턴스 생성 방지
+    }
+
+    /**
+     * 지연 후 작업을 Executor에 제출
+     *
+     * @param delayMillis 제출 전 대기 시간 (0 이하이면 즉시 제출)
+     * @param executor 작업을 실행할 Executor
+     * @param task 실행할 작업
+     * @return 작업이 Executor에 제출되면 완료되는 Future
+     *         (Executor가 거부하면 RejectedExecutionException으로 예외 완료)
+     */
+    public static CompletableFuture<Void> runAfter(long delayMillis, Executor executor, Runnable task) {
+        CompletableFuture<Void> handedOff = new CompletableFuture<>();
+        Runnable handOff = () -> {
+            try {
+                executor.execute(task);
+                handedOff.complete(null);
+            } catch (RejectedExecutionException e) {
+                handedOff.completeExceptionally(e);
+            }
+        };
+
+        if (delayMillis <= 0) {
+            handOff.run();
+        } else {
+            try {
+                TIMER.schedule(handOff, delayMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                handedOff.completeExceptionally(e);
+            }
+        }
+        return handedOff;
+    }
+}
@@ -93,9 +93,10 @@ public class SqsExecutorConfiguration implements ApplicationContextAware, Dispos
     @ConditionalOnClass(name = "java.lang.Thread$Builder$OfVirtual")
     @ConditionalOnProperty(prefix = "aws.sqs.consumer.executor", name = "type", havingValue = "VIRTUAL_THREADS")
     @ConditionalOnMissingBean(name = "virtualThreadExecutorServiceProvider")
-    public VirtualThreadExecutorServiceProvider virtualThreadExecutorServiceProvider() {
+    public VirtualThreadExecutorServiceProvider virtualThreadExecutorServiceProvider(
+            SqsConsumerProperties properties) {
         log.info("Creating explicit VirtualThreadExecutorServiceProvider");
-        return new VirtualThreadExecutorServiceProvider();
+        return newVirtualThreadProvider(properties);
     }
     
     @Override
@@ -143,7 +144,7 @@ public class SqsExecutorConfiguration implements ApplicationContextAware, Dispos
                 // Auto-selection logic
                 if (preferVirtualThreads && VirtualThreadExecutorServiceProvider.isVirtualThreadsSupported()) {
                     log.info("Auto-selecting VirtualThreadExecutorServiceProvider (virtual threads available)");
-                    return new VirtualThreadExecutorServiceProvider();
+                    return newVirtualThreadProvider(properties);
                 } else {
                     log.info("Auto-selecting PlatformThreadExecutorServiceProvider " +
                             "(virtual threads not available or not preferred)");
@@ -158,7 +159,7 @@ public class SqsExecutorConfiguration implements ApplicationContextAware, Dispos
     private ExecutorServiceProvider createVirtualThreadsProvider(SqsConsumerProperties properties) {
         if (VirtualThreadExecutorServiceProvider.isVirtualThreadsSupported()) {
             log.info("Creating VirtualThreadExecutorServiceProvider (Java 21+ virtual threads)");
-            return new VirtualThreadExecutorServiceProvider();
+            return newVirtualThreadProvider(properties);
         } else {
             log.warn("Virtual threads requested but not available, falling back to platform threads. " +
                     "Requires Java 21+ with virtual threads support.");
@@ -166,6 +167,16 @@ public class SqsExecutorConfiguration implements ApplicationContextAware, Dispos
         }
     }
     
+    /**
+     * Creates VirtualThreadExecutorServiceProvider with the per-container concurrency limit
+     * and pinning detection settings from the executor properties.
+     */
+    private static VirtualThreadExecutorServiceProvider newVirtualThreadProvider(SqsConsumerProperties properties) {
+        SqsConsumerProperties.Executor executor = properties.getExecutor();
+        return new VirtualThreadExecutorServiceProvider(
+                executor.virtualThreadConcurrencyLimit(), executor.detectPinning());
+    }
+    
     /**
      * Creates CustomExecutorServiceProvider using user-provided bean.
      */
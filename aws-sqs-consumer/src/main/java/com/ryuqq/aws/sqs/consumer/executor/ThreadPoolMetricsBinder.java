@@ -0,0 +1,71 @@
+package com.ryuqq.aws.sqs.consumer.executor;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.function.Supplier;
+
+/**
+ * 메시지 처리용 스레드 풀 메트릭 바인더
+ *
+ * {@link PlatformThreadExecutorServiceProvider}가 생성한 {@link BoundedThreadPoolExecutor}마다
+ * 대기 작업 수, 큐 잔여 용량, 실행 중인 스레드 수, 풀 크기 게이지와 거부/호출 스레드 실행 카운터를
+ * executor 태그(컨테이너 ID)로 등록합니다. 바인딩 이후에 생성되는 풀도 생성 시점에 등록됩니다.
+ * 다른 ExecutorServiceProvider를 사용하는 경우 아무 메트릭도 등록하지 않습니다.
+ */
+public class ThreadPoolMetricsBinder implements MeterBinder {
+
+    static final String QUEUED = "sqs.consumer.executor.queued";
+    static final String QUEUE_REMAINING = "sqs.consumer.executor.queue.remaining";
+    static final String ACTIVE = "sqs.consumer.executor.active";
+    static final String POOL_SIZE = "sqs.consumer.executor.pool.size";
+    static final String REJECTED = "sqs.consumer.executor.rejected";
+    static final String CALLER_RUNS = "sqs.consumer.executor.caller.runs";
+
+    private final Supplier<ExecutorServiceProvider> providerSupplier;
+
+    /**
+     * @param providerSupplier 바인딩 시점에 조회할 ExecutorServiceProvider (null을 반환할 수 있음)
+     */
+    public ThreadPoolMetricsBinder(Supplier<ExecutorServiceProvider> providerSupplier) {
+        this.providerSupplier = providerSupplier;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (providerSupplier.get() instanceof PlatformThreadExecutorServiceProvider provider) {
+            provider.onMessageProcessingExecutorCreated(executor -> register(registry, executor));
+        }
+    }
+
+    private static void register(MeterRegistry registry, BoundedThreadPoolExecutor executor) {
+        Tags tags = Tags.of("executor", executor.getName());
+        Gauge.builder(QUEUED, executor, BoundedThreadPoolExecutor::getQueueSize)
+            .description("Message processing tasks waiting for a worker thread")
+            .tags(tags)
+            .register(registry);
+        Gauge.builder(QUEUE_REMAINING, executor, pool -> pool.getQueue().remainingCapacity())
+            .description("Free slots in the bounded work queue")
+            .tags(tags)
+            .register(registry);
+        Gauge.builder(ACTIVE, executor, BoundedThreadPoolExecutor::getActiveCount)
+            .description("Worker threads currently running a listener")
+            .tags(tags)
+            .register(registry);
+        Gauge.builder(POOL_SIZE, executor, BoundedThreadPoolExecutor::getPoolSize)
+            .description("Current number of worker threads")
+            .tags(tags)
+            .register(registry);
+        FunctionCounter.builder(REJECTED, executor, BoundedThreadPoolExecutor::getRejectedCount)
+            .description("Tasks rejected because the pool and its queue were full")
+            .tags(tags)
+            .register(registry);
+        FunctionCounter.builder(CALLER_RUNS, executor, BoundedThreadPoolExecutor::getCallerRunsCount)
+            .description("Tasks run on the submitting poller thread because the pool was full")
+            .tags(tags)
+            .register(registry);
+    }
+}
@@ -3,8 +3,11 @@ package com.ryuqq.aws.sqs.consumer.executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Java 21+ Virtual Thread ExecutorService 제공자
@@ -28,11 +31,20 @@ import java.util.concurrent.Executors;
  *   <li><strong>동시성</strong>: 대량의 메시지를 동시에 처리 가능</li>
  * </ul>
  * 
+ * <h3>컨테이너별 작업 범위</h3>
+ * 컨테이너마다 {@link VirtualThreadTaskScope}를 생성하여 메시지 하나당 Virtual Thread 하나를 실행합니다.
+ * concurrencyLimit이 설정되면 범위마다 Semaphore로 동시 실행 수를 제한하고, 초과한 스레드는 park 상태로
+ * 대기합니다. 생성한 모든 범위는 {@link #shutdown(long)}에서 함께 종료됩니다.
+ * 
+ * <h3>Pinning 감지</h3>
+ * detectPinning이 true이면 첫 Executor 생성 시 {@link VirtualThreadPinningMonitor}를 시작하여
+ * synchronized 블록 안에서 블로킹되는 리스너를 경고 로그로 보고합니다.
+ * 
  * <h3>주의사항</h3>
  * <ul>
  *   <li>Java 21+ 필수 - 이전 버전에서는 UnsupportedOperationException 발생</li>
  *   <li>CPU 집약적 작업에는 Platform Thread가 더 적합</li>
- *   <li>synchronized 블록에서는 Platform Thread로 자동 전환</li>
+ *   <li>synchronized 블록 안에서 블로킹되면 캐리어 스레드가 고정(pinning)되어 확장성이 떨어짐</li>
  * </ul>
  * 
  * @since Java 21
@@ -43,20 +55,43 @@ public class VirtualThreadExecutorServiceProvider implements ExecutorServiceProv
 
     private static final Logger log = LoggerFactory.getLogger(VirtualThreadExecutorServiceProvider.class);
 
-    private volatile ExecutorService executorService;
+    private static final Duration PINNING_THRESHOLD = Duration.ofMillis(20);
+    
+    private final int concurrencyLimit;
+    private final VirtualThreadPinningMonitor pinningMonitor;
+    private final Set<ExecutorService> executors = ConcurrentHashMap.newKeySet();
+    
+    /**
+     * 동시 실행 상한과 pinning 감지 없이 제공자 생성
+     */
+    public VirtualThreadExecutorServiceProvider() {
+        this(0, false);
+    }
+    
+    /**
+     * @param concurrencyLimit 컨테이너당 동시에 실행되는 메시지 처리 작업 수 상한 (0이면 제한 없음)
+     * @param detectPinning JFR 기반 pinning 감지 사용 여부
+     */
+    public VirtualThreadExecutorServiceProvider(int concurrencyLimit, boolean detectPinning) {
+        if (concurrencyLimit < 0) {
+            throw new IllegalArgumentException("concurrencyLimit must not be negative: " + concurrencyLimit);
+        }
+        this.concurrencyLimit = concurrencyLimit;
+        this.pinningMonitor = detectPinning ? new VirtualThreadPinningMonitor(PINNING_THRESHOLD) : null;
+    }
     
     /**
      * 메시지 처리용 Virtual Thread ExecutorService 생성
      * 
      * SQS 메시지를 처리하는 워커 스레드용 ExecutorService를 생성합니다.
-     * 각 메시지는 개별 Virtual Thread에서 처리되어 높은 동시성을 제공합니다.
+     * 각 메시지는 개별 Virtual Thread에서 처리되어 높은 동시성을 제공하며, concurrencyLimit이 적용됩니다.
      * 
      * @param consumerName 컨슈머 이름 (스레드 명명에 사용)
-     * @return Virtual Thread 기반 ExecutorService
+     * @return 컨테이너 전용 Virtual Thread 작업 범위
      */
     @Override
     public ExecutorService createMessageProcessingExecutor(String consumerName) {
-        return createVirtualThreadExecutor("msg-processor-" + consumerName);
+        return createVirtualThreadExecutor("msg-processor-" + consumerName, concurrencyLimit);
     }
     
     /**
@@ -70,7 +105,7 @@ public class VirtualThreadExecutorServiceProvider implements ExecutorServiceProv
      */
     @Override
     public ExecutorService createPollingExecutor(String consumerName) {
-        return createVirtualThreadExecutor("poller-" + consumerName);
+        return createVirtualThreadExecutor("poller-" + consumerName, 0);
     }
     
     /**
@@ -96,19 +131,49 @@ public class VirtualThreadExecutorServiceProvider implements ExecutorServiceProv
     }
     
     /**
-     * Virtual Thread ExecutorService 종료
+     * 이 제공자가 생성한 모든 Virtual Thread 작업 범위 종료
      * 
-     * Virtual Thread는 경량 스레드이므로 대부분의 경우 빠르게 종료됩니다.
-     * 별도의 타임아웃 처리는 하지 않습니다.
+     * 모든 범위에 새 작업 수락을 중단시킨 뒤 남은 시간 안에 실행 중인 Virtual Thread가 끝나기를 기다리고,
+     * 타임아웃을 넘긴 범위는 shutdownNow()로 남은 스레드를 인터럽트합니다. pinning 감지도 함께 종료됩니다.
      * 
-     * @param timeoutMillis 타임아웃 시간 (사용되지 않음)
+     * @param timeoutMillis 전체 범위 종료 대기 시간 (밀리초)
      */
     @Override
     public void shutdown(long timeoutMillis) {
-        if (executorService != null && !executorService.isShutdown()) {
-            log.info("Virtual Thread ExecutorService 종료 시작");
-            executorService.shutdown();
+        if (!executors.isEmpty()) {
+            log.info("Virtual Thread ExecutorService {}개 종료 시작", executors.size());
         }
+        executors.forEach(ExecutorService::shutdown);
+        
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        try {
+            for (ExecutorService executor : executors) {
+                long remaining = Math.max(0L, deadline - System.nanoTime());
+                if (!executor.awaitTermination(remaining, TimeUnit.NANOSECONDS)) {
+                    log.warn("Virtual Thread ExecutorService가 {} ms 안에 종료되지 않아 남은 스레드를 인터럽트합니다",
+                        timeoutMillis);
+                    executor.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Virtual Thread ExecutorService 종료 대기 중 인터럽트가 발생했습니다");
+            executors.forEach(ExecutorService::shutdownNow);
+        } finally {
+            executors.clear();
+            if (pinningMonitor != null) {
+                pinningMonitor.stop();
+            }
+        }
+    }
+    
+    /**
+     * 시작 후 감지된 Virtual Thread pinning 이벤트 수
+     * 
+     * @return 누적 pinning 이벤트 수 (감지를 사용하지 않으면 0)
+     */
+    public long getPinnedEventCount() {
+        return pinningMonitor != null ? pinningMonitor.getPinnedEventCount() : 0L;
     }
     
     /**
@@ -130,38 +195,34 @@ public class VirtualThreadExecutorServiceProvider implements ExecutorServiceProv
     }
     
     /**
-     * Virtual Thread ExecutorService 생성
-     * 
-     * Executors.newVirtualThreadPerTaskExecutor()를 리플렉션으로 호출하여 Virtual Thread ExecutorService를 생성합니다.
-     * Java 21 이전 버전에서는 UnsupportedOperationException을 발생시킵니다.
+     * Virtual Thread 작업 범위 생성
      * 
-     * <h4>Virtual Thread ExecutorService 특성</h4>
+     * <h4>Virtual Thread 작업 범위 특성</h4>
      * <ul>
      *   <li>Task당 하나의 Virtual Thread 생성 (고정 스레드 풀 없음)</li>
      *   <li>각 Virtual Thread는 Task 완료 후 자동 종료</li>
-     *   <li>메모리 사용량이 매우 적음 (대량 동시 실행 가능)</li>
+     *   <li>concurrencyLimit을 넘는 Task는 Semaphore에서 park 상태로 대기</li>
      * </ul>
      * 
      * @param prefix 스레드 이름 접두사 (디버깅용)
+     * @param limit 동시 실행 상한 (0이면 제한 없음)
      * @return Virtual Thread 기반 ExecutorService
-     * @throws UnsupportedOperationException Java 21 이전 버전에서 호출시
-     * @throws RuntimeException Virtual Thread ExecutorService 생성 실패시
+     * @throws UnsupportedOperationException Virtual Thread를 지원하지 않는 JVM에서 호출시
      */
-    private ExecutorService createVirtualThreadExecutor(String prefix) {
+    private ExecutorService createVirtualThreadExecutor(String prefix, int limit) {
         if (!isVirtualThreadsSupported()) {
             throw new UnsupportedOperationException(
                 "Virtual Thread가 지원되지 않습니다. Java 21+ 버전이 필요합니다.");
         }
+        if (pinningMonitor != null) {
+            pinningMonitor.start();
+        }
         
-        log.info("접두사 '{}'를 사용하여 Virtual Thread ExecutorService 생성 중", prefix);
+        log.info("접두사 '{}'를 사용하여 Virtual Thread ExecutorService 생성 중 (동시 실행 상한: {})",
+            prefix, limit > 0 ? limit : "없음");
         
-        try {
-            // 리플렉션을 사용하여 Executors.newVirtualThreadPerTaskExecutor() 호출
-            return (ExecutorService) Executors.class
-                .getMethod("newVirtualThreadPerTaskExecutor")
-                .invoke(null);
-        } catch (Exception e) {
-            throw new RuntimeException("Virtual Thread ExecutorService 생성에 실패했습니다", e);
-        }
+        VirtualThreadTaskScope scope = new VirtualThreadTaskScope(prefix, limit);
+        executors.add(scope);
+        return scope;
     }
-}
\ No newline at end of file
+}
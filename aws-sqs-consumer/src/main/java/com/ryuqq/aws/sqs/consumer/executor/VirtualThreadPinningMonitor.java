@@ -0,0 +1,135 @@
+package com.ryuqq.aws.sqs.consumer.executor;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Virtual Thread 캐리어 고정(pinning) 감지기
+ *
+ * JFR jdk.VirtualThreadPinned 이벤트를 스트리밍으로 구독하여, synchronized 블록이나 네이티브 프레임
+ * 안에서 블로킹되어 캐리어 스레드를 놓지 못한 Virtual Thread를 보고합니다. 고정된 리스너는
+ * 캐리어 스레드 수(기본 CPU 코어 수)만큼만 동시에 실행되므로 Virtual Thread 모드의 확장성을 잃습니다.
+ *
+ * 같은 호출 위치(JDK 밖의 첫 스택 프레임)는 처음 한 번만 WARN으로 스택 트레이스와 함께 기록하고,
+ * 이후에는 DEBUG로 기록합니다. 전체 발생 횟수는 {@link #getPinnedEventCount()}로 조회합니다.
+ */
+class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_REPORTED_FRAMES = 24;
+
+    private final Duration threshold;
+    private final LongAdder pinnedEvents = new LongAdder();
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private final Object lifecycleLock = new Object();
+    private RecordingStream stream;
+
+    /**
+     * @param threshold 보고할 최소 고정 시간 (이보다 짧은 고정은 무시)
+     */
+    VirtualThreadPinningMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * 이벤트 구독 시작 (이미 시작된 경우 무시)
+     *
+     * @return 구독 중이면 true, JFR을 사용할 수 없어 시작하지 못했으면 false
+     */
+    boolean start() {
+        synchronized (lifecycleLock) {
+            if (stream != null) {
+                return true;
+            }
+            try {
+                RecordingStream recordingStream = new RecordingStream();
+                recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+                recordingStream.onEvent(PINNED_EVENT, this::report);
+                recordingStream.startAsync();
+                stream = recordingStream;
+                log.info("Virtual Thread pinning 감지 시작 (임계값 {} ms)", threshold.toMillis());
+                return true;
+            } catch (RuntimeException e) {
+                log.warn("JFR을 사용할 수 없어 Virtual Thread pinning 감지를 비활성화합니다: {}", e.getMessage());
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 이벤트 구독 종료
+     */
+    void stop() {
+        synchronized (lifecycleLock) {
+            if (stream != null) {
+                stream.close();
+                stream = null;
+            }
+        }
+    }
+
+    /**
+     * 감지된 pinning 이벤트 수
+     *
+     * @return 구독 시작 후 누적 이벤트 수
+     */
+    long getPinnedEventCount() {
+        return pinnedEvents.sum();
+    }
+
+    private void report(RecordedEvent event) {
+        pinnedEvents.increment();
+        RecordedThread thread = event.getThread();
+        String threadName = thread != null ? thread.getJavaName() : "unknown";
+        List<String> frames = describeFrames(event.getStackTrace());
+        String site = callSite(frames);
+
+        if (reportedSites.add(site)) {
+            log.warn("Virtual Thread '{}'가 {} ms 동안 캐리어 스레드에 고정되었습니다. " +
+                    "synchronized 블록 안의 블로킹 I/O를 ReentrantLock 등으로 바꾸세요:{}",
+                threadName, event.getDuration().toMillis(), formatFrames(frames));
+        } else if (log.isDebugEnabled()) {
+            log.debug("Virtual Thread '{}' pinned for {} ms at {}", threadName, event.getDuration().toMillis(), site);
+        }
+    }
+
+    private static List<String> describeFrames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return List.of();
+        }
+        return stackTrace.getFrames().stream()
+            .filter(RecordedFrame::isJavaFrame)
+            .limit(MAX_REPORTED_FRAMES)
+            .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber())
+            .toList();
+    }
+
+    private static String callSite(List<String> frames) {
+        return frames.stream()
+            .filter(frame -> !frame.startsWith("java.") && !frame.startsWith("jdk.") && !frame.startsWith("sun."))
+            .findFirst()
+            .orElse(frames.isEmpty() ? "unknown" : frames.get(0));
+    }
+
+    private static String formatFrames(List<String> frames) {
+        StringBuilder builder = new StringBuilder();
+        for (String frame : frames) {
+            builder.append(System.lineSeparator()).append("\tat ").append(frame);
+        }
+        return builder.toString();
+    }
+}
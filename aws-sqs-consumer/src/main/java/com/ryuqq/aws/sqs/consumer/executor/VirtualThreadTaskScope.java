@@ -0,0 +1,85 @@
+package com.ryuqq.aws.sqs.consumer.executor;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨테이너 하나의 Virtual Thread 수명을 묶는 작업 범위
+ *
+ * 제출된 작업마다 Virtual Thread 하나를 생성하며, 모든 스레드의 수명은 이 범위에 속합니다.
+ * 범위를 종료(shutdown/close)하면 새 작업을 받지 않고 실행 중인 스레드가 끝날 때까지 기다리며,
+ * shutdownNow()는 아직 살아있는 모든 스레드를 인터럽트합니다.
+ *
+ * <h3>동시 실행 상한</h3>
+ * concurrencyLimit이 0보다 크면 리스너 실행 전에 Semaphore 퍼밋을 확보합니다. 상한을 넘는
+ * 스레드는 캐리어 스레드를 점유하지 않고 park 상태로 대기하므로 OS 스레드 수와 무관하게
+ * 대기 작업을 쌓을 수 있습니다.
+ *
+ * StructuredTaskScope는 Java 21에서 preview API이므로 라이브러리에서 사용할 수 없어
+ * thread-per-task ExecutorService 위에 같은 수명 규칙을 구현합니다.
+ */
+final class VirtualThreadTaskScope extends AbstractExecutorService {
+
+    private final ExecutorService threads;
+    private final Semaphore concurrencyPermits;
+
+    /**
+     * @param name 스레드 이름 접두사 (스레드 이름은 "{name}-{번호}")
+     * @param concurrencyLimit 동시에 실행되는 작업 수 상한 (0이면 제한 없음)
+     */
+    VirtualThreadTaskScope(String name, int concurrencyLimit) {
+        this.threads = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+        this.concurrencyPermits = concurrencyLimit > 0 ? new Semaphore(concurrencyLimit) : null;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (concurrencyPermits == null) {
+            threads.execute(command);
+            return;
+        }
+        threads.execute(() -> {
+            try {
+                concurrencyPermits.acquire();
+            } catch (InterruptedException e) {
+                // 범위 종료로 인터럽트된 경우 작업을 시작하지 않음
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                command.run();
+            } finally {
+                concurrencyPermits.release();
+            }
+        });
+    }
+
+    @Override
+    public void shutdown() {
+        threads.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return threads.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return threads.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return threads.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return threads.awaitTermination(timeout, unit);
+    }
+}
@@ -41,6 +41,8 @@
  *     consumer:
  *       executor:
  *         type: VIRTUAL_THREADS
+ *         virtual-thread-concurrency-limit: 200   # optional per-container cap, 0 = none
+ *         detect-pinning: true                    # optional, report listeners pinning their carrier
  * }</pre>
  * 
  * <h3>Custom Executor</h3>
@@ -0,0 +1,66 @@
+package com.ryuqq.aws.sqs.consumer.processor;
+
+import com.ryuqq.aws.sqs.types.SqsMessage;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Interprets the value returned by a batch-mode @SqsListener method.
+ *
+ * A batch listener may return a Collection naming the messages it could not process, either by
+ * message id (String) or as the SqsMessage / payload objects it received. Only those messages are
+ * treated as failed; the rest of the batch is acknowledged. Any other return value, including void
+ * and null, means the whole batch succeeded.
+ *
+ * <pre>
+ * {@code
+ * @SqsListener(queueName = "orders", batchMode = true)
+ * public Set<String> handle(List<SqsMessage> messages) {
+ *     Set<String> failed = new HashSet<>();
+ *     for (SqsMessage message : messages) {
+ *         if (!orderService.apply(message)) {
+ *             failed.add(message.getMessageId());
+ *         }
+ *     }
+ *     return failed;
+ * }
+ * }
+ * </pre>
+ */
+public final class BatchResults {
+
+    private BatchResults() {
+        // Utility class
+    }
+
+    /**
+     * Resolve the ids of the messages reported as failed by a batch listener.
+     *
+     * @param listenerResult value returned by the listener invoker
+     * @param messages the batch passed to the listener
+     * @return ids of failed messages that belong to the batch; empty if all succeeded
+     */
+    public static Set<String> failedMessageIds(Object listenerResult, List<SqsMessage> messages) {
+        if (!(listenerResult instanceof Collection<?> reported) || reported.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> batchIds = new HashSet<>(messages.size() * 2);
+        for (SqsMessage message : messages) {
+            batchIds.add(message.getMessageId());
+        }
+        Set<String> failed = new HashSet<>();
+        for (Object entry : reported) {
+            String messageId = entry instanceof SqsMessage message ? message.getMessageId()
+                    : entry instanceof String id ? id
+                    : null;
+            // Ids that are not part of this batch cannot be acknowledged or redriven here
+            if (messageId != null && batchIds.contains(messageId)) {
+                failed.add(messageId);
+            }
+        }
+        return failed;
+    }
+}
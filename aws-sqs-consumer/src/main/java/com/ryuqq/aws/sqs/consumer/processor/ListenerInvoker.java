@@ -0,0 +1,22 @@
+package com.ryuqq.aws.sqs.consumer.processor;
+
+/**
+ * Pre-bound invoker for a single @SqsListener method.
+ * Created once per listener at registration so that delivering a message does not go through
+ * {@link java.lang.reflect.Method#invoke} and its per-call argument array and access checks.
+ * Exceptions thrown by the listener propagate unchanged, without an InvocationTargetException wrapper.
+ *
+ * @see ListenerInvokerFactory
+ */
+@FunctionalInterface
+public interface ListenerInvoker {
+
+    /**
+     * Invoke the listener method on its bean.
+     *
+     * @param argument the SqsMessage, or List of SqsMessage in batch mode
+     * @return the value returned by the listener, or null for void methods
+     * @throws Exception any exception thrown by the listener method
+     */
+    Object invoke(Object argument) throws Exception;
+}
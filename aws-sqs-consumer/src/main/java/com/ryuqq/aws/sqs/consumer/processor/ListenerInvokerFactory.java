@@ -0,0 +1,163 @@
+package com.ryuqq.aws.sqs.consumer.processor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Consumer;
+
+/**
+ * Compiles @SqsListener methods into {@link ListenerInvoker}s.
+ *
+ * Instance methods are first linked with {@link LambdaMetafactory}, which generates a class whose
+ * {@code invoke} calls the listener directly, so the JIT can inline it like hand-written code.
+ * When that is not possible (static methods, or a lookup without full access to the declaring class,
+ * e.g. a class in a module that is not open), a bound {@link MethodHandle} adapted to
+ * {@code (Object)Object} is used instead.
+ *
+ * Listeners that declare a payload type instead of SqsMessage get the message body deserialized
+ * before the call (see {@link PayloadReader}).
+ */
+public final class ListenerInvokerFactory {
+
+    private static final Logger log = LoggerFactory.getLogger(ListenerInvokerFactory.class);
+
+    private static final MethodType INVOKE_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private ListenerInvokerFactory() {
+        // Utility class
+    }
+
+    /**
+     * Create the fastest available invoker for a listener method, reading payload parameters
+     * with the default ObjectMapper.
+     *
+     * @param bean the bean declaring the listener method
+     * @param method the listener method
+     * @return invoker bound to the bean
+     */
+    public static ListenerInvoker create(Object bean, Method method) {
+        return create(bean, method, PayloadReader.defaultObjectMapper());
+    }
+
+    /**
+     * Create the fastest available invoker for a listener method.
+     *
+     * @param bean the bean declaring the listener method
+     * @param method the listener method
+     * @param objectMapper mapper used to read payload parameters other than SqsMessage and String
+     * @return invoker bound to the bean
+     */
+    public static ListenerInvoker create(Object bean, Method method, ObjectMapper objectMapper) {
+        if (method.getParameterCount() != 1) {
+            // Signature is validated at registration; keep reflective semantics for anything else
+            return reflective(bean, method);
+        }
+        return PayloadReader.adapt(link(bean, method), method, objectMapper);
+    }
+
+    private static ListenerInvoker link(Object bean, Method method) {
+        if (!Modifier.isStatic(method.getModifiers())) {
+            try {
+                return metafactory(bean, method);
+            } catch (Throwable e) {
+                log.debug("Falling back to MethodHandle invocation for {}: {}", method, e.toString());
+            }
+        }
+        return methodHandle(bean, method);
+    }
+
+    /**
+     * Create an invoker that calls the method through {@link Method#invoke}.
+     * Listener exceptions are unwrapped from InvocationTargetException.
+     *
+     * @param bean the bean declaring the listener method
+     * @param method the listener method
+     * @return reflective invoker
+     */
+    public static ListenerInvoker reflective(Object bean, Method method) {
+        method.setAccessible(true);
+        return argument -> {
+            try {
+                return method.invoke(bean, argument);
+            } catch (InvocationTargetException e) {
+                throw rethrow(e.getCause());
+            }
+        };
+    }
+
+    private static ListenerInvoker metafactory(Object bean, Method method) throws Throwable {
+        Class<?> declaringClass = method.getDeclaringClass();
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+        MethodHandle target = lookup.unreflect(method);
+        Class<?> parameterType = method.getParameterTypes()[0];
+
+        if (method.getReturnType() == void.class) {
+            // A void method cannot implement invoke(Object)Object; link it as a Consumer instead.
+            // Checked listener exceptions still propagate unchanged through accept.
+            CallSite callSite = LambdaMetafactory.metafactory(
+                    lookup,
+                    "accept",
+                    MethodType.methodType(Consumer.class, declaringClass),
+                    MethodType.methodType(void.class, Object.class),
+                    target,
+                    MethodType.methodType(void.class, parameterType));
+            @SuppressWarnings("unchecked")
+            Consumer<Object> consumer = (Consumer<Object>) callSite.getTarget().invoke(bean);
+            return argument -> {
+                consumer.accept(argument);
+                return null;
+            };
+        }
+
+        CallSite callSite = LambdaMetafactory.metafactory(
+                lookup,
+                "invoke",
+                MethodType.methodType(ListenerInvoker.class, declaringClass),
+                INVOKE_TYPE,
+                target,
+                MethodType.methodType(Object.class, parameterType));
+        return (ListenerInvoker) callSite.getTarget().invoke(bean);
+    }
+
+    private static ListenerInvoker methodHandle(Object bean, Method method) {
+        MethodHandle handle;
+        try {
+            method.setAccessible(true);
+            handle = MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException | RuntimeException e) {
+            log.debug("Falling back to reflective invocation for {}: {}", method, e.toString());
+            return reflective(bean, method);
+        }
+        if (!Modifier.isStatic(method.getModifiers())) {
+            handle = handle.bindTo(bean);
+        }
+        // asType boxes primitive results and yields null for void methods
+        MethodHandle bound = handle.asType(INVOKE_TYPE);
+        return argument -> {
+            try {
+                return (Object) bound.invokeExact(argument);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    private static Exception rethrow(Throwable throwable) {
+        if (throwable instanceof Error error) {
+            throw error;
+        }
+        if (throwable instanceof Exception exception) {
+            return exception;
+        }
+        return new IllegalStateException(throwable);
+    }
+}
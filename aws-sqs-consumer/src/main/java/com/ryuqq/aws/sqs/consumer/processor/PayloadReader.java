@@ -0,0 +1,140 @@
+package com.ryuqq.aws.sqs.consumer.processor;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ryuqq.aws.sqs.types.SqsMessage;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts delivered messages into the type declared by the listener parameter.
+ *
+ * SqsMessage (and List&lt;SqsMessage&gt; in batch mode) parameters receive the messages unchanged,
+ * String parameters receive the raw body, and any other type is read from the UTF-8 body bytes
+ * with an {@link ObjectReader} created once for the listener. Batch listeners may declare
+ * List&lt;T&gt;, in which case every message body is read as T; payload objects they return as
+ * failed are mapped back to their messages (see {@link BatchResults}).
+ */
+final class PayloadReader {
+
+    // Used when the application context does not provide an ObjectMapper
+    private static final ObjectMapper DEFAULT_OBJECT_MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private PayloadReader() {
+        // Utility class
+    }
+
+    static ObjectMapper defaultObjectMapper() {
+        return DEFAULT_OBJECT_MAPPER;
+    }
+
+    /**
+     * Wrap an invoker so that it receives the payload type declared by the method.
+     * Returns the invoker unchanged when the method already accepts SqsMessage.
+     *
+     * @param invoker invoker calling the listener method
+     * @param method single-parameter listener method
+     * @param objectMapper mapper used to build the payload readers
+     * @return invoker converting messages before delegating
+     */
+    static ListenerInvoker adapt(ListenerInvoker invoker, Method method, ObjectMapper objectMapper) {
+        JavaType parameterType = objectMapper.getTypeFactory().constructType(method.getGenericParameterTypes()[0]);
+        Conversion single = conversionFor(parameterType, objectMapper);
+        Conversion element = parameterType.isCollectionLikeType()
+                && List.class.isAssignableFrom(parameterType.getRawClass())
+                ? conversionFor(parameterType.getContentType(), objectMapper)
+                : null;
+
+        if (single == null && element == null) {
+            return invoker;
+        }
+        return argument -> {
+            if (single != null && argument instanceof SqsMessage message) {
+                return invoker.invoke(convert(single, message));
+            }
+            if (element != null && argument instanceof List<?> messages) {
+                List<Object> payloads = convertAll(element, messages);
+                return toMessages(invoker.invoke(payloads), messages, payloads);
+            }
+            return invoker.invoke(argument);
+        };
+    }
+
+    /**
+     * @return conversion for the target type, or null if a SqsMessage can be passed as is
+     */
+    private static Conversion conversionFor(JavaType targetType, ObjectMapper objectMapper) {
+        Class<?> rawClass = targetType.getRawClass();
+        if (rawClass.isAssignableFrom(SqsMessage.class)) {
+            return null;
+        }
+        if (rawClass == String.class) {
+            return new Conversion(targetType, null);
+        }
+        return new Conversion(targetType, objectMapper.readerFor(targetType));
+    }
+
+    private static Object convert(Conversion conversion, SqsMessage message) {
+        String body = message.getBody();
+        if (conversion.reader() == null) {
+            return body;
+        }
+        if (body == null || body.isEmpty()) {
+            throw new IllegalArgumentException("Message " + message.getMessageId() + " has no body to read as "
+                    + conversion.targetType().toCanonical());
+        }
+        try {
+            return conversion.reader().readValue(body.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to read message " + message.getMessageId() + " as "
+                    + conversion.targetType().toCanonical(), e);
+        }
+    }
+
+    private static List<Object> convertAll(Conversion conversion, List<?> messages) {
+        List<Object> payloads = new ArrayList<>(messages.size());
+        for (Object message : messages) {
+            payloads.add(message instanceof SqsMessage sqsMessage ? convert(conversion, sqsMessage) : message);
+        }
+        return payloads;
+    }
+
+    /**
+     * Replace payload objects in a batch listener's result with the messages they were read from,
+     * so a listener that only sees payloads can still report which messages failed.
+     */
+    private static Object toMessages(Object result, List<?> messages, List<Object> payloads) {
+        if (!(result instanceof Collection<?> failed) || failed.isEmpty()) {
+            return result;
+        }
+        Map<Object, Object> messageByPayload = new IdentityHashMap<>(payloads.size());
+        for (int i = 0; i < payloads.size(); i++) {
+            messageByPayload.put(payloads.get(i), messages.get(i));
+        }
+        List<Object> mapped = new ArrayList<>(failed.size());
+        for (Object entry : failed) {
+            mapped.add(messageByPayload.getOrDefault(entry, entry));
+        }
+        return mapped;
+    }
+
+    /**
+     * Target type with its cached reader; a null reader means the raw body is passed.
+     */
+    private record Conversion(JavaType targetType, ObjectReader reader) {
+    }
+}
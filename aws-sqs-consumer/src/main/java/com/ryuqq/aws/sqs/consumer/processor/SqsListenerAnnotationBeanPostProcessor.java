@@ -1,6 +1,9 @@
 package com.ryuqq.aws.sqs.consumer.processor;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ryuqq.aws.sqs.consumer.annotation.SqsListener;
+import com.ryuqq.aws.sqs.consumer.component.MessageAcknowledger;
+import com.ryuqq.aws.sqs.consumer.component.VisibilityExtender;
 import com.ryuqq.aws.sqs.consumer.container.SqsListenerContainer;
 import com.ryuqq.aws.sqs.consumer.executor.ExecutorServiceProvider;
 import com.ryuqq.aws.sqs.consumer.registry.SqsListenerContainerRegistry;
@@ -31,6 +34,12 @@ public class SqsListenerAnnotationBeanPostProcessor implements BeanPostProcessor
     private SqsService sqsService;
     private Environment environment;
     private ExecutorServiceProvider executorServiceProvider;
+    private MessageAcknowledger messageAcknowledger;
+    private boolean messageAcknowledgerResolved;
+    private VisibilityExtender visibilityExtender;
+    private boolean visibilityExtenderResolved;
+    private ObjectMapper objectMapper;
+    private boolean objectMapperResolved;
     
     @Override
     public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
@@ -86,6 +95,33 @@ public class SqsListenerAnnotationBeanPostProcessor implements BeanPostProcessor
                 // We'll handle this case in processListenerMethod
             }
         }
+        if (!messageAcknowledgerResolved) {
+            messageAcknowledgerResolved = true;
+            try {
+                messageAcknowledger = applicationContext.getBean(MessageAcknowledger.class);
+            } catch (BeansException e) {
+                // Optional: containers fall back to one DeleteMessage call per message
+                log.debug("MessageAcknowledger not available, auto-delete will not be batched: {}", e.getMessage());
+            }
+        }
+        if (!visibilityExtenderResolved) {
+            visibilityExtenderResolved = true;
+            try {
+                visibilityExtender = applicationContext.getBean(VisibilityExtender.class);
+            } catch (BeansException e) {
+                // Optional: messages then rely on the visibility timeout applied on receive
+                log.debug("VisibilityExtender not available, visibility will not be extended: {}", e.getMessage());
+            }
+        }
+        if (!objectMapperResolved) {
+            objectMapperResolved = true;
+            try {
+                objectMapper = applicationContext.getBean(ObjectMapper.class);
+            } catch (BeansException e) {
+                // Optional: payload parameters are then read with the default mapper
+                log.debug("ObjectMapper not available, using default mapper for listener payloads: {}", e.getMessage());
+            }
+        }
     }
     
     private void processListenerMethod(Object bean, Method method, SqsListener annotation, String beanName) {
@@ -100,9 +136,13 @@ public class SqsListenerAnnotationBeanPostProcessor implements BeanPostProcessor
 
             String containerId = generateContainerId(beanName, method, annotation);
 
-            // Create dedicated executors for this container using the provider
+            // Create the message executor for this container; polling runs on the shared PollingEngine
             ExecutorService messageExecutor = executorServiceProvider.createMessageProcessingExecutor(containerId);
-            ExecutorService pollingExecutor = executorServiceProvider.createPollingExecutor(containerId);
+            
+            // Link the listener and its payload reader once so message delivery does not pay for reflection
+            ListenerInvoker listenerInvoker = objectMapper != null
+                ? ListenerInvokerFactory.create(bean, method, objectMapper)
+                : ListenerInvokerFactory.create(bean, method);
             
             SqsListenerContainer container = new SqsListenerContainer(
                 containerId,
@@ -113,7 +153,10 @@ public class SqsListenerAnnotationBeanPostProcessor implements BeanPostProcessor
                 environment,
                 applicationContext,
                 messageExecutor,
-                pollingExecutor
+                null,
+                messageAcknowledger,
+                visibilityExtender,
+                listenerInvoker
             );
             
             containerRegistry.registerContainer(containerId, container);
@@ -148,9 +191,10 @@ public class SqsListenerAnnotationBeanPostProcessor implements BeanPostProcessor
                 throw new IllegalArgumentException("@SqsListener methods must have exactly one parameter");
             }
             
+            // Any other reference type is read from the message body
             Class<?> paramType = parameterTypes[0];
-            if (!com.ryuqq.aws.sqs.types.SqsMessage.class.isAssignableFrom(paramType)) {
-                throw new IllegalArgumentException("@SqsListener methods must accept SqsMessage parameter");
+            if (paramType.isPrimitive()) {
+                throw new IllegalArgumentException("@SqsListener methods must accept SqsMessage or a payload object parameter");
             }
         }
         
@@ -180,6 +224,30 @@ public class SqsListenerAnnotationBeanPostProcessor implements BeanPostProcessor
             throw new IllegalArgumentException("@SqsListener batchSize must be positive");
         }
         
+        if (annotation.batchSize() > 10) {
+            // A processed batch is acknowledged with one DeleteMessageBatch call, which accepts at most 10 entries
+            throw new IllegalArgumentException("@SqsListener batchSize must be between 1 and 10");
+        }
+        
+        if (annotation.batchMaxWaitMillis() < 0) {
+            throw new IllegalArgumentException("@SqsListener batchMaxWaitMillis must be non-negative");
+        }
+        
+        if (annotation.batchMaxWaitMillis() > 0
+                && annotation.batchMaxWaitMillis() >= annotation.messageVisibilitySeconds() * 1000L) {
+            // Buffered messages would become visible again before they are dispatched
+            throw new IllegalArgumentException("@SqsListener batchMaxWaitMillis must be shorter than messageVisibilitySeconds");
+        }
+        
+        if (annotation.prefetchMessages() < 0) {
+            throw new IllegalArgumentException("@SqsListener prefetchMessages must be non-negative");
+        }
+        
+        if (annotation.batchMode() && annotation.prefetchMessages() > 0) {
+            // Batch listeners already buffer across polls through batchMaxWaitMillis
+            throw new IllegalArgumentException("@SqsListener prefetchMessages is not supported in batch mode");
+        }
+        
         if (annotation.maxRetryAttempts() < 0) {
             throw new IllegalArgumentException("@SqsListener maxRetryAttempts must be non-negative");
         }
@@ -187,6 +255,20 @@ public class SqsListenerAnnotationBeanPostProcessor implements BeanPostProcessor
         if (annotation.retryDelayMillis() < 0) {
             throw new IllegalArgumentException("@SqsListener retryDelayMillis must be non-negative");
         }
+        
+        if (annotation.circuitBreakerFailureRateThreshold() < 0 || annotation.circuitBreakerFailureRateThreshold() > 100) {
+            throw new IllegalArgumentException("@SqsListener circuitBreakerFailureRateThreshold must be between 0 and 100");
+        }
+        
+        if (annotation.circuitBreakerFailureRateThreshold() > 0) {
+            if (annotation.circuitBreakerWindowSize() <= 0) {
+                throw new IllegalArgumentException("@SqsListener circuitBreakerWindowSize must be positive");
+            }
+            
+            if (annotation.circuitBreakerOpenMillis() < 0) {
+                throw new IllegalArgumentException("@SqsListener circuitBreakerOpenMillis must be non-negative");
+            }
+        }
     }
     
     private String generateContainerId(String beanName, Method method, SqsListener annotation) {
@@ -234,7 +234,7 @@ public class SqsConsumerProperties {
         this.enableMetrics = enableMetrics != null ? enableMetrics : true;
         this.healthCheckIntervalMillis = healthCheckIntervalMillis != null ? healthCheckIntervalMillis : 30000L;
         this.shutdownTimeoutMillis = shutdownTimeoutMillis != null ? shutdownTimeoutMillis : 30000L;
-        this.executor = executor != null ? executor : new Executor(null, null, null, null);
+        this.executor = executor != null ? executor : new Executor(null, null, null, null, null, null, null);
     }
 
     // Getters
@@ -264,6 +264,9 @@ public class SqsConsumerProperties {
      * @param preferVirtualThreads Virtual Thread 우선 사용 여부
      * @param enableMonitoring Executor 모니터링 및 메트릭 활성화 여부
      * @param customProviderBeanName 사용자 정의 ExecutorServiceProvider 빈 이름
+     * @param virtualThreadConcurrencyLimit Virtual Thread 모드에서 컨테이너당 동시에 실행되는 리스너 수 상한
+     * @param detectPinning Virtual Thread 모드에서 캐리어 스레드 고정(pinning) 감지 여부
+     * @param rejectionPolicy Platform Thread 풀의 작업 큐가 가득 찼을 때의 처리 방식
      */
     public static record Executor(
             /**
@@ -309,16 +312,61 @@ public class SqsConsumerProperties {
              * 
              * 예시: "myCustomExecutorProvider"
              */
-            String customProviderBeanName) {
+            String customProviderBeanName,
+            
+            /**
+             * Virtual Thread 모드에서 컨테이너당 동시에 실행되는 리스너 수 상한
+             * 
+             * 메시지마다 Virtual Thread 하나가 생성되며, 상한을 넘는 스레드는 Semaphore에서 대기합니다.
+             * 0이면 컨테이너의 maxConcurrentMessages만 적용됩니다. 리스너가 호출하는 하위 시스템
+             * (DB 커넥션 풀 등)의 한도에 맞출 때 사용합니다.
+             */
+            Integer virtualThreadConcurrencyLimit,
+            
+            /**
+             * Virtual Thread 모드에서 캐리어 스레드 고정(pinning) 감지 여부
+             * 
+             * true이면 JFR jdk.VirtualThreadPinned 이벤트를 구독하여 synchronized 블록 안에서
+             * 블로킹 I/O를 수행하는 리스너를 스택 트레이스와 함께 경고 로그로 보고합니다.
+             * 프로세스 안에서 JFR 녹화 스트림을 계속 실행하므로 진단할 때만 켭니다 (기본값 false).
+             */
+            Boolean detectPinning,
+            
+            /**
+             * Platform Thread 풀의 작업 큐(threadPoolQueueCapacity)가 가득 차고 스레드가 threadPoolMaxSize에
+             * 도달했을 때의 처리 방식
+             * 
+             * <ul>
+             *   <li><strong>PAUSE_POLLER</strong>: 작업을 거부하고, 컨테이너는 메시지를 큐로 반환한 뒤 폴링을 잠시 멈춤 (기본값)</li>
+             *   <li><strong>CALLER_RUNS</strong>: 폴링 스레드에서 직접 실행하여 해당 폴러의 다음 수신을 늦춤</li>
+             * </ul>
+             */
+            RejectionPolicy rejectionPolicy) {
 
         public Executor {
             // Apply defaults if null
             type = type != null ? type : ExecutorType.PLATFORM_THREADS;
             preferVirtualThreads = preferVirtualThreads != null ? preferVirtualThreads : false;
             enableMonitoring = enableMonitoring != null ? enableMonitoring : true;
+            virtualThreadConcurrencyLimit = virtualThreadConcurrencyLimit != null ? virtualThreadConcurrencyLimit : 0;
+            detectPinning = detectPinning != null ? detectPinning : false;
+            rejectionPolicy = rejectionPolicy != null ? rejectionPolicy : RejectionPolicy.PAUSE_POLLER;
         }
     }
     
+    /**
+     * Platform Thread 풀 포화 시 처리 방식
+     * 
+     * 두 방식 모두 처리할 수 있는 양보다 많은 메시지를 메모리에 쌓지 않도록 폴러에 역압을 전달합니다.
+     */
+    public enum RejectionPolicy {
+        /** 작업을 거부 - 컨테이너가 메시지를 즉시 큐로 반환하고 폴링을 잠시 중단 */
+        PAUSE_POLLER,
+        
+        /** 제출한 폴링 스레드에서 직접 실행 - 실행이 끝날 때까지 해당 폴러가 수신하지 않음 */
+        CALLER_RUNS
+    }
+    
     /**
      * 지원되는 ExecutorService 타입들
      * 
@@ -481,6 +529,12 @@ public class SqsConsumerProperties {
             throw new IllegalArgumentException("executor.type은 null일 수 없습니다");
         }
         
+        if (executor.virtualThreadConcurrencyLimit() < 0) {
+            throw new IllegalArgumentException(
+                "executor.virtualThreadConcurrencyLimit는 0 이상이어야 합니다: " + executor.virtualThreadConcurrencyLimit()
+            );
+        }
+        
         // CUSTOM 타입일 때 빈 이름 검증
         if (executor.type() == ExecutorType.CUSTOM) {
             if (!StringUtils.hasText(executor.customProviderBeanName())) {
@@ -0,0 +1,41 @@
+package com.ryuqq.aws.sqs.consumer.registry;
+
+/**
+ * Autoscaling hook fed with queue depth readings.
+ * When a bean of this type is present, the {@link QueueDepthSampler} asks it for the desired
+ * concurrency of every container after each reading and resizes the container through
+ * {@link SqsListenerContainerRegistry#resizeContainer(String, int)} when the answer differs.
+ */
+@FunctionalInterface
+public interface ConcurrencyScalingPolicy {
+
+    /**
+     * Decide the concurrency a container should run with.
+     *
+     * @param containerId container the reading belongs to
+     * @param currentConcurrency current maxConcurrentMessages of the container
+     * @param depth latest reading of the container's queue
+     * @return desired maxConcurrentMessages; values below 1 leave the container unchanged
+     */
+    int desiredConcurrency(String containerId, int currentConcurrency, QueueDepth depth);
+
+    /**
+     * Policy that runs one listener invocation per {@code messagesPerWorker} visible messages,
+     * bounded by {@code minConcurrency} and {@code maxConcurrency}.
+     *
+     * @param minConcurrency lower bound (at least 1)
+     * @param maxConcurrency upper bound (at least minConcurrency)
+     * @param messagesPerWorker backlog a single invocation is expected to work off (at least 1)
+     * @return backlog-proportional policy
+     */
+    static ConcurrencyScalingPolicy proportionalToBacklog(int minConcurrency, int maxConcurrency, int messagesPerWorker) {
+        if (minConcurrency < 1 || maxConcurrency < minConcurrency || messagesPerWorker < 1) {
+            throw new IllegalArgumentException("Invalid scaling bounds: min=" + minConcurrency
+                + ", max=" + maxConcurrency + ", messagesPerWorker=" + messagesPerWorker);
+        }
+        return (containerId, currentConcurrency, depth) -> {
+            long wanted = (depth.visibleMessages() + messagesPerWorker - 1) / messagesPerWorker;
+            return (int) Math.max(minConcurrency, Math.min(maxConcurrency, wanted));
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.ryuqq.aws.sqs.consumer.registry;
+
+import java.time.Instant;
+
+/**
+ * One queue depth reading taken by the {@link QueueDepthSampler}.
+ * All values are the approximate counts SQS reports for GetQueueAttributes.
+ *
+ * @param queueUrl URL of the sampled queue
+ * @param visibleMessages ApproximateNumberOfMessages - messages waiting to be received
+ * @param notVisibleMessages ApproximateNumberOfMessagesNotVisible - messages received but not yet deleted
+ * @param oldestMessageAgeSeconds ApproximateAgeOfOldestMessage - how far consumers lag behind, in seconds
+ * @param sampledAt time the reading was taken
+ */
+public record QueueDepth(String queueUrl,
+                         long visibleMessages,
+                         long notVisibleMessages,
+                         long oldestMessageAgeSeconds,
+                         Instant sampledAt) {
+}
@@ -0,0 +1,226 @@
+package com.ryuqq.aws.sqs.consumer.registry;
+
+import com.ryuqq.aws.sqs.consumer.component.MetricsCollector;
+import com.ryuqq.aws.sqs.consumer.container.SqsListenerContainer;
+import com.ryuqq.aws.sqs.service.SqsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background sampler of queue depth for the registered listener containers.
+ *
+ * Every interval the running containers are grouped by queue URL and each queue is read with a
+ * single GetQueueAttributes call for ApproximateNumberOfMessages,
+ * ApproximateNumberOfMessagesNotVisible and ApproximateAgeOfOldestMessage, no matter how many
+ * containers consume it. A queue whose previous request has not completed is skipped for that
+ * round. Each reading is
+ * <ul>
+ *   <li>kept as the latest depth of every container on that queue,</li>
+ *   <li>recorded through {@link MetricsCollector#recordQueueDepth} (the age of the oldest message
+ *       is the lag metric), and</li>
+ *   <li>passed to the optional {@link ConcurrencyScalingPolicy}, whose answer is applied with
+ *       {@link SqsListenerContainerRegistry#resizeContainer(String, int)}.</li>
+ * </ul>
+ *
+ * Starts after and stops before the container registry.
+ */
+public class QueueDepthSampler implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(QueueDepthSampler.class);
+
+    static final String VISIBLE_MESSAGES = "ApproximateNumberOfMessages";
+    static final String NOT_VISIBLE_MESSAGES = "ApproximateNumberOfMessagesNotVisible";
+    static final String OLDEST_MESSAGE_AGE = "ApproximateAgeOfOldestMessage";
+    private static final List<String> ATTRIBUTES = List.of(VISIBLE_MESSAGES, NOT_VISIBLE_MESSAGES, OLDEST_MESSAGE_AGE);
+
+    private final SqsListenerContainerRegistry registry;
+    private final SqsService sqsService;
+    private final MetricsCollector metricsCollector;
+    private final ConcurrencyScalingPolicy scalingPolicy;
+    private final long intervalMillis;
+    private final ConcurrentMap<String, QueueDepth> latestByContainer = new ConcurrentHashMap<>();
+    private final Set<String> pendingQueues = ConcurrentHashMap.newKeySet();
+    private final Object lifecycleLock = new Object();
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param metricsCollector collector for the depth and lag metrics (null to skip metrics)
+     * @param scalingPolicy autoscaling hook (null to only observe)
+     * @param intervalMillis time between two sampling rounds
+     */
+    public QueueDepthSampler(SqsListenerContainerRegistry registry,
+                             SqsService sqsService,
+                             MetricsCollector metricsCollector,
+                             ConcurrencyScalingPolicy scalingPolicy,
+                             long intervalMillis) {
+        if (intervalMillis <= 0) {
+            throw new IllegalArgumentException("Sampling interval must be positive");
+        }
+        this.registry = registry;
+        this.sqsService = sqsService;
+        this.metricsCollector = metricsCollector;
+        this.scalingPolicy = scalingPolicy;
+        this.intervalMillis = intervalMillis;
+    }
+
+    @Override
+    public void start() {
+        synchronized (lifecycleLock) {
+            if (scheduler != null) {
+                return;
+            }
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "sqs-queue-depth-sampler");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::safeSample, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+        log.info("Started queue depth sampler with interval {} ms", intervalMillis);
+    }
+
+    @Override
+    public void stop() {
+        synchronized (lifecycleLock) {
+            if (scheduler == null) {
+                return;
+            }
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        latestByContainer.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        synchronized (lifecycleLock) {
+            return scheduler != null;
+        }
+    }
+
+    @Override
+    public int getPhase() {
+        return registry.getPhase() + 1;
+    }
+
+    /**
+     * Latest reading of the queue a container consumes.
+     *
+     * @return reading, or null if the container's queue has not been sampled yet
+     */
+    public QueueDepth getLatestDepth(String containerId) {
+        return latestByContainer.get(containerId);
+    }
+
+    /**
+     * Run one sampling round immediately.
+     *
+     * @return future completing when every queue of this round has been read (failures are logged, not propagated)
+     */
+    public CompletableFuture<Void> sampleNow() {
+        Map<String, List<String>> containerIdsByQueue = new HashMap<>();
+        registry.getContainersById().forEach((containerId, container) -> {
+            String queueUrl = container.getQueueUrl();
+            if (queueUrl != null && container.isRunning()) {
+                containerIdsByQueue.computeIfAbsent(queueUrl, key -> new ArrayList<>()).add(containerId);
+            } else {
+                latestByContainer.remove(containerId);
+            }
+        });
+
+        List<CompletableFuture<Void>> samples = new ArrayList<>(containerIdsByQueue.size());
+        containerIdsByQueue.forEach((queueUrl, containerIds) -> {
+            if (!pendingQueues.add(queueUrl)) {
+                log.debug("Skipping queue depth sample for {}; previous request still pending", queueUrl);
+                return;
+            }
+            CompletableFuture<Map<String, String>> request;
+            try {
+                request = sqsService.getQueueAttributes(queueUrl, ATTRIBUTES);
+            } catch (RuntimeException e) {
+                request = CompletableFuture.failedFuture(e);
+            }
+            samples.add(request.handle((attributes, failure) -> {
+                pendingQueues.remove(queueUrl);
+                if (failure != null) {
+                    log.warn("Failed to sample queue depth for {}: {}", queueUrl, failure.getMessage());
+                    return null;
+                }
+                apply(toDepth(queueUrl, attributes), containerIds);
+                return null;
+            }));
+        });
+        return CompletableFuture.allOf(samples.toArray(new CompletableFuture[0]));
+    }
+
+    private void safeSample() {
+        try {
+            sampleNow();
+        } catch (RuntimeException e) {
+            log.warn("Queue depth sampling round failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void apply(QueueDepth depth, List<String> containerIds) {
+        for (String containerId : containerIds) {
+            latestByContainer.put(containerId, depth);
+            if (metricsCollector != null) {
+                metricsCollector.recordQueueDepth(containerId, depth.visibleMessages(),
+                    depth.notVisibleMessages(), depth.oldestMessageAgeSeconds());
+            }
+            if (scalingPolicy != null) {
+                scale(containerId, depth);
+            }
+        }
+    }
+
+    private void scale(String containerId, QueueDepth depth) {
+        SqsListenerContainer container = registry.getContainer(containerId);
+        if (container == null) {
+            return;
+        }
+        try {
+            int current = container.getMaxConcurrentMessages();
+            int desired = scalingPolicy.desiredConcurrency(containerId, current, depth);
+            if (desired >= 1 && desired != current) {
+                registry.resizeContainer(containerId, desired);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Scaling policy failed for container {}: {}", containerId, e.getMessage(), e);
+        }
+    }
+
+    private static QueueDepth toDepth(String queueUrl, Map<String, String> attributes) {
+        return new QueueDepth(queueUrl,
+            parse(attributes, VISIBLE_MESSAGES),
+            parse(attributes, NOT_VISIBLE_MESSAGES),
+            parse(attributes, OLDEST_MESSAGE_AGE),
+            Instant.now());
+    }
+
+    private static long parse(Map<String, String> attributes, String name) {
+        String value = attributes != null ? attributes.get(name) : null;
+        if (value == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
@@ -115,6 +116,28 @@ public class SqsListenerContainerRegistry implements SmartLifecycle {
         return List.copyOf(containers.values());
     }
     
+    /**
+     * Get all registered containers keyed by container ID (thread-safe snapshot).
+     */
+    public Map<String, SqsListenerContainer> getContainersById() {
+        return Map.copyOf(containers);
+    }
+    
+    /**
+     * Change the maximum number of concurrently processed messages of a container at runtime.
+     * Used by the queue depth sampler's autoscaling hook; can also be called directly.
+     * 
+     * @return true if the container was resized, false if it is not registered or is stopping
+     */
+    public boolean resizeContainer(String containerId, int maxConcurrentMessages) {
+        SqsListenerContainer container = getContainer(containerId);
+        if (container == null) {
+            log.debug("Cannot resize unregistered container {}", containerId);
+            return false;
+        }
+        return container.setMaxConcurrentMessages(maxConcurrentMessages);
+    }
+    
     /**
      * Get container count.
      */
@@ -1,10 +1,17 @@
 package com.ryuqq.aws.sqs.consumer;
 
+import com.ryuqq.aws.sqs.consumer.component.DeadLetterQueueHandler;
+import com.ryuqq.aws.sqs.consumer.component.MetricsCollector;
+import com.ryuqq.aws.sqs.consumer.component.impl.DefaultDeadLetterQueueHandler;
+import com.ryuqq.aws.sqs.consumer.component.impl.MicrometerMetricsCollector;
+import com.ryuqq.aws.sqs.consumer.executor.ThreadPoolMetricsBinder;
 import com.ryuqq.aws.sqs.consumer.executor.ExecutorServiceProvider;
 import com.ryuqq.aws.sqs.consumer.processor.SqsListenerAnnotationBeanPostProcessor;
 import com.ryuqq.aws.sqs.consumer.properties.SqsConsumerProperties;
 import com.ryuqq.aws.sqs.consumer.registry.SqsListenerContainerRegistry;
 import com.ryuqq.aws.sqs.service.SqsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
@@ -66,6 +73,41 @@ class AwsSqsConsumerAutoConfigurationTest {
             });
     }
     
+    @Test
+    void autoConfiguration_공유DLQ핸들러등록() {
+        contextRunner
+            .withPropertyValues("aws.sqs.consumer.dead-letter-queue.linger-millis=10")
+            .run(context -> {
+                assertThat(context).hasSingleBean(DeadLetterQueueHandler.class);
+                assertThat(context.getBean(DeadLetterQueueHandler.class))
+                    .isInstanceOf(DefaultDeadLetterQueueHandler.class);
+            });
+    }
+    
+    @Test
+    void autoConfiguration_MeterRegistry있으면_Micrometer메트릭수집기등록() {
+        contextRunner
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .run(context -> {
+                assertThat(context).hasSingleBean(MetricsCollector.class);
+                assertThat(context.getBean(MetricsCollector.class)).isInstanceOf(MicrometerMetricsCollector.class);
+                assertThat(context).hasSingleBean(ThreadPoolMetricsBinder.class);
+            });
+    }
+    
+    @Test
+    void autoConfiguration_MeterRegistry없으면_메트릭수집기미등록() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(MetricsCollector.class));
+    }
+    
+    @Test
+    void autoConfiguration_메트릭비활성화설정() {
+        contextRunner
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withPropertyValues("aws.sqs.consumer.metrics.enabled=false")
+            .run(context -> assertThat(context).doesNotHaveBean(MetricsCollector.class));
+    }
+    
     @Test
     void autoConfiguration_SqsService없으면비활성화() {
         new ApplicationContextRunner()
@@ -59,7 +59,7 @@ class SqsConsumerIntegrationTest {
         when(sqsService.getQueueUrl("integration-test-queue"))
             .thenReturn(CompletableFuture.completedFuture(QUEUE_URL));
         
-        when(sqsService.receiveMessages(eq(QUEUE_URL), anyInt()))
+        when(sqsService.receiveMessages(eq(QUEUE_URL), anyInt(), anyInt()))
             .thenReturn(CompletableFuture.completedFuture(List.of(testMessage)))
             .thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
         
@@ -98,7 +98,7 @@ class SqsConsumerIntegrationTest {
         when(sqsService.getQueueUrl("integration-batch-queue"))
             .thenReturn(CompletableFuture.completedFuture(BATCH_QUEUE_URL));
         
-        when(sqsService.receiveMessages(eq(BATCH_QUEUE_URL), anyInt()))
+        when(sqsService.receiveMessages(eq(BATCH_QUEUE_URL), anyInt(), anyInt()))
             .thenReturn(CompletableFuture.completedFuture(List.of(message1, message2)))
             .thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
         
@@ -31,6 +31,8 @@ class SqsListenerTest {
         assertThat(annotation.autoDelete()).isTrue();
         assertThat(annotation.maxRetryAttempts()).isEqualTo(3);
         assertThat(annotation.retryDelayMillis()).isEqualTo(1000L);
+        assertThat(annotation.retryMode()).isEqualTo(SqsListener.RetryMode.IN_PROCESS);
+        assertThat(annotation.maxRetryDelayMillis()).isEqualTo(300000L);
         assertThat(annotation.enableDeadLetterQueue()).isFalse();
         assertThat(annotation.deadLetterQueueName()).isEmpty();
     }
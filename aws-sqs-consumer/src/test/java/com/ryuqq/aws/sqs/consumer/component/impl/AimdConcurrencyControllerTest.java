@@ -0,0 +1,111 @@
+package com.ryuqq.aws.sqs.consumer.component.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for AimdConcurrencyController.
+ */
+class AimdConcurrencyControllerTest {
+
+    private static final String CONTAINER_ID = "test-container";
+
+    private AimdConcurrencyController controller;
+
+    @BeforeEach
+    void setUp() {
+        // window of 5 samples, halve on overload, 2x latency tolerance, 20% error threshold, 50% empty threshold
+        controller = new AimdConcurrencyController(5, 0.5, 2.0, 0.2, 0.5);
+        controller.register(CONTAINER_ID, 8, 10);
+    }
+
+    @Test
+    void shouldStartAtConfiguredMaximum() {
+        assertThat(controller.getConcurrencyLimit(CONTAINER_ID)).isEqualTo(8);
+        assertThat(controller.getPollSize(CONTAINER_ID)).isEqualTo(8);
+    }
+
+    @Test
+    void shouldDecreaseMultiplicativelyOnErrors() {
+        // When
+        recordWindow(10, false);
+
+        // Then
+        assertThat(controller.getConcurrencyLimit(CONTAINER_ID)).isEqualTo(4);
+        assertThat(controller.getPollSize(CONTAINER_ID)).isEqualTo(4);
+    }
+
+    @Test
+    void shouldDecreaseWhenLatencyExceedsBaseline() {
+        // Given - establish baseline
+        recordWindow(10, true);
+        assertThat(controller.getConcurrencyLimit(CONTAINER_ID)).isEqualTo(8);
+
+        // When
+        recordWindow(100, true);
+
+        // Then
+        assertThat(controller.getConcurrencyLimit(CONTAINER_ID)).isEqualTo(4);
+    }
+
+    @Test
+    void shouldIncreaseAdditivelyUpToMaximum() {
+        // Given
+        recordWindow(10, false);
+        assertThat(controller.getConcurrencyLimit(CONTAINER_ID)).isEqualTo(4);
+
+        // When
+        recordWindow(10, true);
+        recordWindow(10, true);
+
+        // Then
+        assertThat(controller.getConcurrencyLimit(CONTAINER_ID)).isEqualTo(6);
+
+        for (int i = 0; i < 10; i++) {
+            recordWindow(10, true);
+        }
+        assertThat(controller.getConcurrencyLimit(CONTAINER_ID)).isEqualTo(8);
+    }
+
+    @Test
+    void shouldShrinkOnIdleQueue() {
+        // When - five empty receives without any processing
+        for (int i = 0; i < 5; i++) {
+            controller.onPollCompleted(CONTAINER_ID, 0);
+        }
+
+        // Then
+        assertThat(controller.getConcurrencyLimit(CONTAINER_ID)).isEqualTo(7);
+    }
+
+    @Test
+    void shouldNeverDropBelowOne() {
+        for (int i = 0; i < 20; i++) {
+            recordWindow(10, false);
+        }
+
+        assertThat(controller.getConcurrencyLimit(CONTAINER_ID)).isEqualTo(1);
+        assertThat(controller.getPollSize(CONTAINER_ID)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReturnMinimumForUnknownContainer() {
+        assertThat(controller.getConcurrencyLimit("unknown")).isEqualTo(1);
+        assertThat(controller.getPollSize("unknown")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectInvalidDecreaseFactor() {
+        assertThatThrownBy(() -> new AimdConcurrencyController(5, 1.5, 2.0, 0.2, 0.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void recordWindow(long latencyMillis, boolean success) {
+        for (int i = 0; i < 5; i++) {
+            controller.onProcessingCompleted(CONTAINER_ID, latencyMillis, success);
+        }
+    }
+}
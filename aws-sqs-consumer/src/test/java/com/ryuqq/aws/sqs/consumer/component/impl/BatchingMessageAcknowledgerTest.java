@@ -0,0 +1,147 @@
+package com.ryuqq.aws.sqs.consumer.component.impl;
+
+import com.ryuqq.aws.sqs.service.SqsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for BatchingMessageAcknowledger.
+ */
+@ExtendWith(MockitoExtension.class)
+class BatchingMessageAcknowledgerTest {
+
+    private static final String QUEUE_URL = "https://sqs.region.amazonaws.com/123456789012/test-queue";
+
+    @Mock
+    private SqsService sqsService;
+
+    private BatchingMessageAcknowledger acknowledger;
+
+    @BeforeEach
+    void setUp() {
+        // Long linger so only size-based or explicit flushes happen unless a test waits for it
+        acknowledger = new BatchingMessageAcknowledger(sqsService, 5_000L, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        acknowledger.close();
+    }
+
+    @Test
+    void shouldFlushImmediatelyWhenBatchIsFull() throws Exception {
+        // Given
+        when(sqsService.deleteMessageBatchWithRetryableFailures(eq(QUEUE_URL), anyList()))
+                .thenReturn(CompletableFuture.completedFuture(List.of()));
+
+        // When
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(acknowledger.acknowledge(QUEUE_URL, "receipt-" + i));
+        }
+
+        // Then
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(1, TimeUnit.SECONDS);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> handlesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(sqsService, times(1)).deleteMessageBatchWithRetryableFailures(eq(QUEUE_URL), handlesCaptor.capture());
+        assertThat(handlesCaptor.getValue()).hasSize(10).startsWith("receipt-0").endsWith("receipt-9");
+        assertThat(acknowledger.getPendingCount()).isZero();
+    }
+
+    @Test
+    void shouldFlushPartialBatchAfterLinger() throws Exception {
+        // Given
+        BatchingMessageAcknowledger lingering = new BatchingMessageAcknowledger(sqsService, 20L, 3);
+        when(sqsService.deleteMessageBatchWithRetryableFailures(eq(QUEUE_URL), anyList()))
+                .thenReturn(CompletableFuture.completedFuture(List.of()));
+
+        try {
+            // When
+            CompletableFuture<Void> first = lingering.acknowledge(QUEUE_URL, "receipt-1");
+            CompletableFuture<Void> second = lingering.acknowledge(QUEUE_URL, "receipt-2");
+
+            // Then
+            CompletableFuture.allOf(first, second).get(1, TimeUnit.SECONDS);
+            verify(sqsService).deleteMessageBatchWithRetryableFailures(QUEUE_URL, List.of("receipt-1", "receipt-2"));
+        } finally {
+            lingering.close();
+        }
+    }
+
+    @Test
+    void shouldRetryOnlyFailedEntries() throws Exception {
+        // Given
+        when(sqsService.deleteMessageBatchWithRetryableFailures(QUEUE_URL, List.of("receipt-1", "receipt-2", "receipt-3")))
+                .thenReturn(CompletableFuture.completedFuture(List.of("receipt-2")));
+        when(sqsService.deleteMessageBatchWithRetryableFailures(QUEUE_URL, List.of("receipt-2")))
+                .thenReturn(CompletableFuture.completedFuture(List.of()));
+
+        CompletableFuture<Void> first = acknowledger.acknowledge(QUEUE_URL, "receipt-1");
+        CompletableFuture<Void> second = acknowledger.acknowledge(QUEUE_URL, "receipt-2");
+        CompletableFuture<Void> third = acknowledger.acknowledge(QUEUE_URL, "receipt-3");
+
+        // When
+        acknowledger.flush();
+
+        // Then - successful entries complete, failed one is re-buffered
+        assertThat(first).isCompleted();
+        assertThat(third).isCompleted();
+        assertThat(second).isNotDone();
+
+        acknowledger.flush().get(1, TimeUnit.SECONDS);
+        assertThat(second).isCompleted();
+        verify(sqsService).deleteMessageBatchWithRetryableFailures(QUEUE_URL, List.of("receipt-2"));
+    }
+
+    @Test
+    void shouldFailAfterMaxAttempts() {
+        // Given
+        when(sqsService.deleteMessageBatchWithRetryableFailures(QUEUE_URL, List.of("receipt-1")))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("SQS unavailable")));
+
+        // When
+        CompletableFuture<Void> future = acknowledger.acknowledge(QUEUE_URL, "receipt-1");
+        for (int i = 0; i < 3; i++) {
+            acknowledger.flush();
+        }
+
+        // Then
+        assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+                .hasRootCauseMessage("SQS unavailable");
+        verify(sqsService, times(3)).deleteMessageBatchWithRetryableFailures(QUEUE_URL, List.of("receipt-1"));
+    }
+
+    @Test
+    void shouldDeleteDirectlyAfterClose() {
+        // Given
+        when(sqsService.deleteMessage(QUEUE_URL, "receipt-1"))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        acknowledger.close();
+
+        // When
+        CompletableFuture<Void> future = acknowledger.acknowledge(QUEUE_URL, "receipt-1");
+
+        // Then
+        assertThat(future).isCompleted();
+        verify(sqsService).deleteMessage(QUEUE_URL, "receipt-1");
+        verify(sqsService, never()).deleteMessageBatchWithRetryableFailures(eq(QUEUE_URL), anyList());
+    }
+}
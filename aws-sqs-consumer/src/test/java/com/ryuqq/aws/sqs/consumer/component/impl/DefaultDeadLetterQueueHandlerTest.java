@@ -0,0 +1,204 @@
+package com.ryuqq.aws.sqs.consumer.component.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.aws.sqs.consumer.component.DeadLetterQueueHandler.DeadLetterQueueException;
+import com.ryuqq.aws.sqs.consumer.component.DeadLetterQueueHandler.DlqConfig;
+import com.ryuqq.aws.sqs.service.SqsService;
+import com.ryuqq.aws.sqs.types.SqsBatchResult;
+import com.ryuqq.aws.sqs.types.SqsMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.env.Environment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for DefaultDeadLetterQueueHandler.
+ */
+@ExtendWith(MockitoExtension.class)
+class DefaultDeadLetterQueueHandlerTest {
+
+    private static final String DLQ_NAME = "orders-dlq";
+    private static final String DLQ_URL = "https://sqs.region.amazonaws.com/123456789012/orders-dlq";
+    private static final String SOURCE_URL = "https://sqs.region.amazonaws.com/123456789012/orders";
+    private static final DlqConfig CONFIG = new TestDlqConfig(true, DLQ_NAME);
+
+    @Mock
+    private SqsService sqsService;
+
+    @Mock
+    private Environment environment;
+
+    private DefaultDeadLetterQueueHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        // Long linger so only size-based or explicit flushes happen unless a test waits for it
+        handler = new DefaultDeadLetterQueueHandler(sqsService, environment, 5_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        handler.close();
+    }
+
+    @Test
+    void shouldSendFullBatchWithOneSendMessageBatchCall() throws Exception {
+        // Given
+        stubDlq();
+        when(sqsService.sendMessageBatch(eq(DLQ_URL), anyList(), eq(1)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(allSucceeded(invocation.getArgument(1))));
+
+        // When
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(handler.sendToDeadLetterQueueAsync(message("msg-" + i), new IllegalStateException("boom"), CONFIG));
+        }
+
+        // Then
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(1, TimeUnit.SECONDS);
+        assertThat(futures).allSatisfy(future -> assertThat(future.join()).isTrue());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> bodiesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(sqsService, times(1)).sendMessageBatch(eq(DLQ_URL), bodiesCaptor.capture(), eq(1));
+        assertThat(bodiesCaptor.getValue()).hasSize(10);
+        assertThat(handler.getPendingCount()).isZero();
+
+        JsonNode envelope = new ObjectMapper().readTree(bodiesCaptor.getValue().get(0));
+        assertThat(envelope.get("originalMessageId").asText()).isEqualTo("msg-0");
+        assertThat(envelope.get("originalMessage").asText()).isEqualTo("body-msg-0");
+        assertThat(envelope.get("errorType").asText()).isEqualTo("IllegalStateException");
+        assertThat(envelope.get("containerId").asText()).isEqualTo("orders-container");
+        assertThat(envelope.get("queueUrl").asText()).isEqualTo(SOURCE_URL);
+        assertThat(envelope.get("retryAttempts").asInt()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldSendPartialBatchAfterLinger() throws Exception {
+        // Given
+        DefaultDeadLetterQueueHandler lingering = new DefaultDeadLetterQueueHandler(sqsService, environment, 20L);
+        stubDlq();
+        when(sqsService.sendMessageBatch(eq(DLQ_URL), anyList(), eq(1)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(allSucceeded(invocation.getArgument(1))));
+
+        try {
+            // When
+            CompletableFuture<Boolean> first = lingering.sendToDeadLetterQueueAsync(message("msg-1"), new RuntimeException("a"), CONFIG);
+            CompletableFuture<Boolean> second = lingering.sendToDeadLetterQueueAsync(message("msg-2"), new RuntimeException("b"), CONFIG);
+
+            // Then
+            assertThat(first.get(1, TimeUnit.SECONDS)).isTrue();
+            assertThat(second.get(1, TimeUnit.SECONDS)).isTrue();
+            verify(sqsService, times(1)).sendMessageBatch(eq(DLQ_URL), anyList(), eq(1));
+        } finally {
+            lingering.close();
+        }
+    }
+
+    @Test
+    void shouldFailOnlyEntriesRejectedBySqs() throws Exception {
+        // Given
+        stubDlq();
+        when(sqsService.sendMessageBatch(eq(DLQ_URL), anyList(), eq(1)))
+                .thenReturn(CompletableFuture.completedFuture(SqsBatchResult.of(List.of(
+                        SqsBatchResult.Entry.success(0, "dlq-0"),
+                        SqsBatchResult.Entry.failure(1, "MessageTooLong", "too large", true)))));
+
+        // When
+        CompletableFuture<Boolean> accepted = handler.sendToDeadLetterQueueAsync(message("msg-1"), new RuntimeException("a"), CONFIG);
+        CompletableFuture<Boolean> rejected = handler.sendToDeadLetterQueueAsync(message("msg-2"), new RuntimeException("b"), CONFIG);
+        handler.flush().get(1, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(accepted.get()).isTrue();
+        assertThatThrownBy(rejected::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(DeadLetterQueueException.class);
+    }
+
+    @Test
+    void shouldNotSendWhenDlqDisabled() throws Exception {
+        // When
+        CompletableFuture<Boolean> result = handler.sendToDeadLetterQueueAsync(
+                message("msg-1"), new RuntimeException("a"), new TestDlqConfig(false, DLQ_NAME));
+
+        // Then
+        assertThat(result.get()).isFalse();
+        verifyNoInteractions(sqsService);
+    }
+
+    @Test
+    void shouldWaitForBatchInBlockingSend() {
+        // Given
+        DefaultDeadLetterQueueHandler immediate = new DefaultDeadLetterQueueHandler(sqsService, environment, 0L);
+        stubDlq();
+        when(sqsService.sendMessageBatch(eq(DLQ_URL), anyList(), eq(1)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(allSucceeded(invocation.getArgument(1))));
+
+        try {
+            // When
+            boolean sent = immediate.sendToDeadLetterQueue(message("msg-1"), new RuntimeException("a"), CONFIG);
+
+            // Then
+            assertThat(sent).isTrue();
+        } finally {
+            immediate.close();
+        }
+    }
+
+    private void stubDlq() {
+        when(environment.resolvePlaceholders(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(sqsService.getQueueUrl(DLQ_NAME)).thenReturn(CompletableFuture.completedFuture(DLQ_URL));
+    }
+
+    private static SqsBatchResult allSucceeded(List<String> bodies) {
+        List<SqsBatchResult.Entry> entries = new ArrayList<>();
+        for (int index = 0; index < bodies.size(); index++) {
+            entries.add(SqsBatchResult.Entry.success(index, "dlq-" + index));
+        }
+        return SqsBatchResult.of(entries);
+    }
+
+    private static SqsMessage message(String id) {
+        return SqsMessage.builder()
+                .messageId(id)
+                .body("body-" + id)
+                .receiptHandle("receipt-" + id)
+                .build();
+    }
+
+    private record TestDlqConfig(boolean isEnabled, String getDlqName) implements DlqConfig {
+        @Override
+        public String getContainerId() {
+            return "orders-container";
+        }
+
+        @Override
+        public String getSourceQueueUrl() {
+            return SOURCE_URL;
+        }
+
+        @Override
+        public Integer getRetryAttempts() {
+            return 3;
+        }
+    }
+}
@@ -13,9 +13,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -166,6 +168,68 @@ class DefaultMessagePollerTest {
         messagePoller.stopPolling();
     }
     
+    @Test
+    void shouldRunMultiplePollersConcurrently() throws InterruptedException {
+        // Given - receives never complete, so each poller keeps one long poll outstanding
+        String queueUrl = "https://sqs.region.amazonaws.com/123456789012/test-queue";
+        List<CompletableFuture<List<SqsMessage>>> pendingReceives = new CopyOnWriteArrayList<>();
+        CountDownLatch allPollersActive = new CountDownLatch(3);
+        
+        when(sqsService.receiveMessages(eq(queueUrl), anyInt())).thenAnswer(invocation -> {
+            CompletableFuture<List<SqsMessage>> receive = new CompletableFuture<>();
+            pendingReceives.add(receive);
+            allPollersActive.countDown();
+            return receive;
+        });
+        
+        // When
+        messagePoller.startPolling(queueUrl, 10, 20, 3, receivedMessages -> {});
+        
+        // Then - three long polls in flight without a thread blocked on any of them
+        assertThat(allPollersActive.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+        assertThat(pendingReceives).hasSize(3);
+        
+        messagePoller.stopPolling();
+        assertThat(messagePoller.isPolling()).isFalse();
+        assertThat(pendingReceives).allMatch(CompletableFuture::isDone);
+    }
+    
+    @Test
+    void shouldRequestVisibilityTimeoutAndPassReceiveTime() throws InterruptedException {
+        // Given
+        String queueUrl = "https://sqs.region.amazonaws.com/123456789012/test-queue";
+        List<SqsMessage> messages = List.of(createTestMessage("msg1", "body1"));
+        AtomicLong receivedAt = new AtomicLong();
+        CountDownLatch handlerCalled = new CountDownLatch(1);
+        
+        when(sqsService.receiveMessages(eq(queueUrl), anyInt(), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(messages))
+                .thenReturn(CompletableFuture.completedFuture(List.of()));
+        
+        long beforePolling = System.nanoTime();
+        MessagePoller.MessageHandler handler = new MessagePoller.MessageHandler() {
+            @Override
+            public void handleMessages(List<SqsMessage> receivedMessages) {
+            }
+            
+            @Override
+            public void handleMessages(List<SqsMessage> receivedMessages, long receivedAtNanos) {
+                receivedAt.set(receivedAtNanos);
+                handlerCalled.countDown();
+            }
+        };
+        
+        // When
+        messagePoller.startPolling(queueUrl, () -> 10, 20, 45, 1, handler);
+        
+        // Then - the receive start time is passed, not the time the handler ran
+        assertThat(handlerCalled.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(receivedAt.get()).isGreaterThanOrEqualTo(beforePolling);
+        verify(sqsService, atLeastOnce()).receiveMessages(queueUrl, 10, 45);
+        verify(sqsService, never()).receiveMessages(eq(queueUrl), anyInt());
+    }
+    
     private SqsMessage createTestMessage(String messageId, String body) {
         return SqsMessage.builder()
                 .messageId(messageId)
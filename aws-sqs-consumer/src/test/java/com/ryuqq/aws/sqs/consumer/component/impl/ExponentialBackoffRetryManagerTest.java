@@ -4,6 +4,12 @@ import com.ryuqq.aws.sqs.consumer.component.RetryManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -150,6 +156,61 @@ class ExponentialBackoffRetryManagerTest {
         assertThat(callCount.get()).isEqualTo(1); // Should stop on first interrupt
     }
     
+    @Test
+    void shouldRetryAsyncWithoutHoldingWorkerThread() throws Exception {
+        // Given - a single worker thread must stay free while a retry is waiting
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        AtomicInteger callCount = new AtomicInteger(0);
+        RetryManager.RetryConfig config = createRetryConfig(2, 200);
+        
+        try {
+            // When
+            CompletableFuture<String> result = retryManager.executeWithRetryAsync(() -> {
+                if (callCount.incrementAndGet() < 2) {
+                    throw new RuntimeException("Temporary failure");
+                }
+                return "success";
+            }, config, worker);
+            
+            // Then - worker can run other work during the backoff
+            CompletableFuture<String> other = CompletableFuture.supplyAsync(() -> "other", worker);
+            assertThat(other.get(100, TimeUnit.MILLISECONDS)).isEqualTo("other");
+            assertThat(result).isNotDone();
+            
+            assertThat(result.get(2, TimeUnit.SECONDS)).isEqualTo("success");
+            assertThat(callCount.get()).isEqualTo(2);
+        } finally {
+            worker.shutdownNow();
+        }
+    }
+    
+    @Test
+    void shouldFailAsyncWithRetryExhaustedException() {
+        // Given
+        ExecutorService worker = Executors.newFixedThreadPool(2);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        AtomicInteger callCount = new AtomicInteger(0);
+        RetryManager.RetryConfig config = createRetryConfig(2, 10);
+        
+        try {
+            // When
+            CompletableFuture<Void> result = retryManager.executeWithRetryAsync(() -> {
+                threads.add(Thread.currentThread().getName());
+                callCount.incrementAndGet();
+                throw new RuntimeException("Persistent failure");
+            }, config, worker);
+            
+            // Then
+            assertThatThrownBy(() -> result.get(2, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(RetryManager.RetryExhaustedException.class)
+                    .hasRootCauseMessage("Persistent failure");
+            assertThat(callCount.get()).isEqualTo(3);
+            assertThat(threads).noneMatch(name -> name.startsWith("sqs-retry-timer"));
+        } finally {
+            worker.shutdownNow();
+        }
+    }
+    
     private RetryManager.RetryConfig createRetryConfig(int maxRetries, long delayMillis) {
         return new RetryManager.RetryConfig() {
             @Override
@@ -0,0 +1,142 @@
+package com.ryuqq.aws.sqs.consumer.component.impl;
+
+import com.ryuqq.aws.sqs.service.SqsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for HeartbeatVisibilityExtender.
+ */
+@ExtendWith(MockitoExtension.class)
+class HeartbeatVisibilityExtenderTest {
+
+    private static final String QUEUE_URL = "https://sqs.region.amazonaws.com/123456789012/test-queue";
+
+    @Mock
+    private SqsService sqsService;
+
+    private HeartbeatVisibilityExtender extender;
+
+    @BeforeEach
+    void setUp() {
+        // Long tick so extensions only happen when a test triggers them
+        extender = new HeartbeatVisibilityExtender(sqsService, 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        extender.close();
+    }
+
+    @Test
+    void shouldExtendDueMessagesInOneBatch() throws Exception {
+        // Given
+        when(sqsService.changeMessageVisibilityBatch(eq(QUEUE_URL), anyList(), eq(1)))
+                .thenReturn(CompletableFuture.completedFuture(List.of()));
+        extender.track(QUEUE_URL, "receipt-1", 1);
+        extender.track(QUEUE_URL, "receipt-2", 1);
+        extender.track(QUEUE_URL, "receipt-3", 1);
+        Thread.sleep(600);
+
+        // When
+        extender.extendDueLeases();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> handlesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(sqsService, times(1)).changeMessageVisibilityBatch(eq(QUEUE_URL), handlesCaptor.capture(), eq(1));
+        assertThat(handlesCaptor.getValue()).containsExactlyInAnyOrder("receipt-1", "receipt-2", "receipt-3");
+        assertThat(extender.getTrackedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotExtendBeforeHalfOfVisibilityElapsed() {
+        // Given
+        extender.track(QUEUE_URL, "receipt-1", 30);
+
+        // When
+        extender.extendDueLeases();
+
+        // Then
+        verifyNoInteractions(sqsService);
+    }
+
+    @Test
+    void shouldCountFirstExtensionFromReceiveTime() {
+        // Given - received 20 seconds ago with a 30 second window, tracked only now
+        when(sqsService.changeMessageVisibilityBatch(eq(QUEUE_URL), anyList(), eq(30)))
+                .thenReturn(CompletableFuture.completedFuture(List.of()));
+        extender.track(QUEUE_URL, "receipt-1", 30, System.nanoTime() - TimeUnit.SECONDS.toNanos(20));
+
+        // When
+        extender.extendDueLeases();
+
+        // Then
+        verify(sqsService).changeMessageVisibilityBatch(QUEUE_URL, List.of("receipt-1"), 30);
+    }
+
+    @Test
+    void shouldStopExtendingReleasedMessages() throws Exception {
+        // Given
+        when(sqsService.changeMessageVisibilityBatch(eq(QUEUE_URL), anyList(), eq(1)))
+                .thenReturn(CompletableFuture.completedFuture(List.of()));
+        extender.track(QUEUE_URL, "receipt-1", 1);
+        extender.track(QUEUE_URL, "receipt-2", 1);
+        extender.release(QUEUE_URL, "receipt-1");
+        Thread.sleep(600);
+
+        // When
+        extender.extendDueLeases();
+
+        // Then
+        verify(sqsService).changeMessageVisibilityBatch(QUEUE_URL, List.of("receipt-2"), 1);
+        assertThat(extender.getTrackedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDropMessagesRejectedBySqs() throws Exception {
+        // Given
+        when(sqsService.changeMessageVisibilityBatch(eq(QUEUE_URL), anyList(), eq(1)))
+                .thenReturn(CompletableFuture.completedFuture(List.of("receipt-2")));
+        extender.track(QUEUE_URL, "receipt-1", 1);
+        extender.track(QUEUE_URL, "receipt-2", 1);
+        Thread.sleep(600);
+
+        // When
+        extender.extendDueLeases();
+
+        // Then
+        assertThat(extender.getTrackedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepTrackingWhenRequestFails() throws Exception {
+        // Given
+        when(sqsService.changeMessageVisibilityBatch(eq(QUEUE_URL), anyList(), eq(1)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("throttled")));
+        extender.track(QUEUE_URL, "receipt-1", 1);
+        Thread.sleep(600);
+
+        // When
+        extender.extendDueLeases();
+        extender.extendDueLeases();
+
+        // Then - still due, so the next tick retries
+        verify(sqsService, times(2)).changeMessageVisibilityBatch(QUEUE_URL, List.of("receipt-1"), 1);
+        assertThat(extender.getTrackedCount()).isEqualTo(1);
+    }
+}
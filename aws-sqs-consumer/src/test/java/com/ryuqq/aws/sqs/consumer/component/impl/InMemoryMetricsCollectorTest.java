@@ -334,4 +334,47 @@ class InMemoryMetricsCollectorTest {
         assertThat(metrics.getStateChanges()).isEqualTo(4);
         assertThat(metrics.getCurrentState()).isEqualTo("STOPPED");
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("처리 시간 백분위수를 히스토그램 오차 범위 내에서 계산해야 한다")
+    void shouldCalculateProcessingTimePercentiles() {
+        // when
+        for (long time = 1; time <= 1000; time++) {
+            metricsCollector.recordProcessingTime(CONTAINER_ID, time);
+        }
+        
+        // then
+        MetricsCollector.LatencyPercentiles percentiles =
+            metricsCollector.getContainerMetrics(CONTAINER_ID).getProcessingTimePercentiles();
+        assertThat(percentiles.p50()).isCloseTo(500L, withinPercentage(7));
+        assertThat(percentiles.p90()).isCloseTo(900L, withinPercentage(7));
+        assertThat(percentiles.p99()).isCloseTo(990L, withinPercentage(7));
+        assertThat(percentiles.p999()).isEqualTo(1000L); // 관측 최대값을 넘지 않음
+    }
+    
+    @Test
+    @DisplayName("큐 대기 지연은 처리 시간과 별도로 집계되어야 한다")
+    void shouldRecordQueueLatencySeparately() {
+        // when
+        metricsCollector.recordProcessingTime(CONTAINER_ID, 10);
+        metricsCollector.recordQueueLatency(CONTAINER_ID, 5000);
+        metricsCollector.recordQueueLatency(CONTAINER_ID, 5000);
+        
+        // then
+        MetricsCollector.ContainerMetrics metrics = metricsCollector.getContainerMetrics(CONTAINER_ID);
+        assertThat(metrics.getMaxProcessingTime()).isEqualTo(10);
+        assertThat(metrics.getProcessingTimePercentiles().p99()).isEqualTo(10);
+        assertThat(metrics.getQueueLatencyPercentiles().p50()).isEqualTo(5000);
+    }
+    
+    @Test
+    @DisplayName("기록이 없는 컨테이너는 빈 백분위수를 반환해야 한다")
+    void shouldReturnEmptyPercentilesWithoutSamples() {
+        // when
+        MetricsCollector.ContainerMetrics metrics = metricsCollector.getContainerMetrics("unknown-container");
+        
+        // then
+        assertThat(metrics.getProcessingTimePercentiles()).isEqualTo(MetricsCollector.LatencyPercentiles.EMPTY);
+        assertThat(metrics.getQueueLatencyPercentiles()).isEqualTo(MetricsCollector.LatencyPercentiles.EMPTY);
+    }
+}
@@ -0,0 +1,118 @@
+package com.ryuqq.aws.sqs.consumer.component.impl;
+
+import com.ryuqq.aws.sqs.consumer.component.MetricsCollector;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MicrometerMetricsCollector 테스트
+ */
+@DisplayName("MicrometerMetricsCollector 테스트")
+class MicrometerMetricsCollectorTest {
+
+    private static final String CONTAINER_ID = "orders-container";
+    private static final String QUEUE_URL = "https://sqs.ap-northeast-2.amazonaws.com/123456789012/orders";
+
+    private SimpleMeterRegistry registry;
+    private MicrometerMetricsCollector metricsCollector;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metricsCollector = new MicrometerMetricsCollector(registry);
+    }
+
+    @Test
+    @DisplayName("바인딩 시 컨테이너와 큐 태그로 미터를 미리 등록해야 한다")
+    void shouldPreRegisterMetersWhenBound() {
+        // when
+        metricsCollector.bindContainer(CONTAINER_ID, QUEUE_URL, () -> 0);
+
+        // then
+        assertThat(registry.find(MicrometerMetricsCollector.PROCESSED)
+            .tags("container", CONTAINER_ID, "queue", "orders").counter()).isNotNull();
+        assertThat(registry.find(MicrometerMetricsCollector.PROCESSING_TIME)
+            .tags("container", CONTAINER_ID, "queue", "orders").timer()).isNotNull();
+        assertThat(registry.find(MicrometerMetricsCollector.DLQ).tag("outcome", "failure").counter()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("바인딩된 기록기는 카운터, 타이머, DLQ 카운터에 기록해야 한다")
+    void shouldRecordThroughBoundRecorder() {
+        // given
+        MetricsCollector.ContainerRecorder recorder = metricsCollector.bindContainer(CONTAINER_ID, QUEUE_URL, () -> 0);
+
+        // when
+        recorder.recordMessageProcessed(120);
+        recorder.recordMessageProcessed(80);
+        recorder.recordMessageFailed(new IllegalStateException("boom"));
+        recorder.recordQueueLatency(3000);
+        recorder.recordDlqOperation(true);
+
+        // then
+        assertThat(registry.get(MicrometerMetricsCollector.PROCESSED).counter().count()).isEqualTo(2.0);
+        assertThat(registry.get(MicrometerMetricsCollector.FAILED).counter().count()).isEqualTo(1.0);
+        assertThat(registry.get(MicrometerMetricsCollector.PROCESSING_TIME).timer().totalTime(TimeUnit.MILLISECONDS))
+            .isEqualTo(200.0);
+        assertThat(registry.get(MicrometerMetricsCollector.QUEUE_LATENCY).timer().count()).isEqualTo(1);
+        assertThat(registry.get(MicrometerMetricsCollector.DLQ).tag("outcome", "success").counter().count())
+            .isEqualTo(1.0);
+
+        MetricsCollector.ContainerMetrics metrics = metricsCollector.getContainerMetrics(CONTAINER_ID);
+        assertThat(metrics.getProcessedCount()).isEqualTo(2);
+        assertThat(metrics.getFailedCount()).isEqualTo(1);
+        assertThat(metrics.getAverageProcessingTime()).isEqualTo(100);
+        assertThat(metrics.getLastActivity()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("in-flight 게이지는 바인딩 시 전달한 공급자를 읽어야 한다")
+    void shouldReadInFlightGaugeFromSupplier() {
+        // given
+        AtomicInteger inFlight = new AtomicInteger(3);
+        metricsCollector.bindContainer(CONTAINER_ID, QUEUE_URL, inFlight::get);
+
+        // when
+        inFlight.set(7);
+
+        // then
+        assertThat(registry.get(MicrometerMetricsCollector.IN_FLIGHT).gauge().value()).isEqualTo(7.0);
+    }
+
+    @Test
+    @DisplayName("컨테이너 ID 기반 기록도 같은 미터를 사용해야 한다")
+    void shouldShareMetersWithContainerIdApi() {
+        // given
+        metricsCollector.bindContainer(CONTAINER_ID, QUEUE_URL, () -> 0);
+
+        // when
+        metricsCollector.recordMessageProcessed(CONTAINER_ID);
+        metricsCollector.recordStateChange(CONTAINER_ID, "STARTING", "RUNNING");
+
+        // then
+        assertThat(registry.find(MicrometerMetricsCollector.PROCESSED).counters()).hasSize(1);
+        assertThat(metricsCollector.getContainerMetrics(CONTAINER_ID).getCurrentState()).isEqualTo("RUNNING");
+        assertThat(metricsCollector.getAllMetrics()).containsOnlyKeys(CONTAINER_ID);
+    }
+
+    @Test
+    @DisplayName("컨테이너 메트릭 초기화 시 레지스트리에서 미터를 제거해야 한다")
+    void shouldRemoveMetersOnReset() {
+        // given
+        metricsCollector.bindContainer(CONTAINER_ID, QUEUE_URL, () -> 0);
+
+        // when
+        metricsCollector.resetContainerMetrics(CONTAINER_ID);
+
+        // then
+        assertThat(registry.getMeters()).isEmpty();
+        assertThat(metricsCollector.getContainerMetrics(CONTAINER_ID).getProcessedCount()).isZero();
+    }
+}
@@ -0,0 +1,127 @@
+package com.ryuqq.aws.sqs.consumer.container;
+
+import com.ryuqq.aws.sqs.consumer.container.ContainerCircuitBreaker.State;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for ContainerCircuitBreaker.
+ */
+class ContainerCircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void recordFailure_창이가득차고_실패율이임계값이상이면_열림() {
+        // Given - 최근 4회 중 50% 이상 실패하면 열림
+        ContainerCircuitBreaker breaker = new ContainerCircuitBreaker(50, 4, 1000L, clock::get);
+        breaker.recordSuccess();
+        breaker.recordFailure();
+        breaker.recordSuccess();
+
+        // When - 창이 가득 찬 시점에 실패율 50%
+        State transition = breaker.recordFailure();
+
+        // Then
+        assertThat(transition).isEqualTo(State.OPEN);
+        assertThat(breaker.isOpen()).isTrue();
+        assertThat(breaker.remainingOpenMillis()).isEqualTo(1000L);
+    }
+
+    @Test
+    void recordFailure_창이가득차기전에는_열리지않음() {
+        // Given
+        ContainerCircuitBreaker breaker = new ContainerCircuitBreaker(50, 4, 1000L, clock::get);
+
+        // When - 3회 모두 실패했지만 창(4회)이 아직 차지 않음
+        breaker.recordFailure();
+        breaker.recordFailure();
+        State transition = breaker.recordFailure();
+
+        // Then
+        assertThat(transition).isNull();
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void recordFailure_오래된결과는_창에서밀려남() {
+        // Given - 실패 2회 후 성공 4회로 창이 성공으로만 채워짐
+        ContainerCircuitBreaker breaker = new ContainerCircuitBreaker(50, 4, 1000L, clock::get);
+        breaker.recordFailure();
+        breaker.recordFailure();
+        for (int i = 0; i < 4; i++) {
+            breaker.recordSuccess();
+        }
+
+        // When - 실패 1회 (최근 4회 중 25%)
+        State transition = breaker.recordFailure();
+
+        // Then
+        assertThat(transition).isNull();
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void remainingOpenMillis_열린시간경과후_HALF_OPEN으로전환하고_시험은하나만허용() {
+        // Given
+        ContainerCircuitBreaker breaker = openBreaker();
+
+        // When
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000L));
+
+        // Then
+        assertThat(breaker.remainingOpenMillis()).isZero();
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+        assertThat(breaker.tryAcquireProbe()).isTrue();
+        assertThat(breaker.tryAcquireProbe()).isFalse();
+
+        // 결과 없이 끝난 시험은 권한을 반환하여 다음 시험을 허용
+        breaker.releaseProbe();
+        assertThat(breaker.tryAcquireProbe()).isTrue();
+    }
+
+    @Test
+    void HALF_OPEN_시험성공시_닫히고_실패시_다시열림() {
+        // Given
+        ContainerCircuitBreaker breaker = openBreaker();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000L));
+        breaker.tryAcquireProbe();
+
+        // When & Then - 시험 실패
+        assertThat(breaker.recordFailure()).isEqualTo(State.OPEN);
+        assertThat(breaker.remainingOpenMillis()).isEqualTo(1000L);
+
+        // When & Then - 다시 열린 시간이 지난 뒤 시험 성공
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000L));
+        assertThat(breaker.tryAcquireProbe()).isTrue();
+        assertThat(breaker.recordSuccess()).isEqualTo(State.CLOSED);
+        assertThat(breaker.tryAcquireProbe()).isTrue();
+    }
+
+    @Test
+    void OPEN_상태에서기록된결과는_무시() {
+        // Given
+        ContainerCircuitBreaker breaker = openBreaker();
+
+        // When - 열리기 전에 시작된 호출의 결과가 뒤늦게 도착
+        State success = breaker.recordSuccess();
+        State failure = breaker.recordFailure();
+
+        // Then
+        assertThat(success).isNull();
+        assertThat(failure).isNull();
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    private ContainerCircuitBreaker openBreaker() {
+        ContainerCircuitBreaker breaker = new ContainerCircuitBreaker(100, 2, 1000L, clock::get);
+        breaker.recordFailure();
+        breaker.recordFailure();
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        return breaker;
+    }
+}
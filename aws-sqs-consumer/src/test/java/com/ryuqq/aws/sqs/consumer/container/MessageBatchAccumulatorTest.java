@@ -0,0 +1,94 @@
+package com.ryuqq.aws.sqs.consumer.container;
+
+import com.ryuqq.aws.sqs.types.SqsMessage;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for MessageBatchAccumulator.
+ */
+class MessageBatchAccumulatorTest {
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+    @Test
+    void add_배치크기도달시_즉시전달() {
+        // Given
+        MessageBatchAccumulator accumulator = new MessageBatchAccumulator(3, 60_000L, Runnable::run, this::record);
+
+        // When
+        accumulator.add(messages(1, 2));
+        accumulator.add(messages(3, 4));
+
+        // Then
+        assertThat(batches).containsExactly(List.of("msg-1", "msg-2", "msg-3"));
+        assertThat(accumulator.getPendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void add_대기시간경과시_남은메시지전달() throws Exception {
+        // Given
+        CountDownLatch delivered = new CountDownLatch(1);
+        MessageBatchAccumulator accumulator = new MessageBatchAccumulator(10, 50L, Runnable::run, batch -> {
+            record(batch);
+            delivered.countDown();
+        });
+
+        // When
+        accumulator.add(messages(1, 2));
+        accumulator.add(messages(3, 3));
+
+        // Then - 폴링 두 번의 메시지가 하나의 배치로 전달됨
+        assertThat(delivered.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(batches).containsExactly(List.of("msg-1", "msg-2", "msg-3"));
+        assertThat(accumulator.getPendingCount()).isZero();
+    }
+
+    @Test
+    void add_대기시간0_수신결과를배치크기로분할() {
+        // Given
+        MessageBatchAccumulator accumulator = new MessageBatchAccumulator(2, 0L, Runnable::run, this::record);
+
+        // When
+        accumulator.add(messages(1, 3));
+
+        // Then
+        assertThat(batches).containsExactly(List.of("msg-1", "msg-2"), List.of("msg-3"));
+        assertThat(accumulator.getPendingCount()).isZero();
+    }
+
+    @Test
+    void flush_남은메시지즉시전달_이전타이머는무시() throws Exception {
+        // Given
+        MessageBatchAccumulator accumulator = new MessageBatchAccumulator(10, 50L, Runnable::run, this::record);
+        accumulator.add(messages(1, 1));
+
+        // When
+        accumulator.flush();
+        Thread.sleep(200);
+
+        // Then
+        assertThat(batches).containsExactly(List.of("msg-1"));
+    }
+
+    private void record(List<SqsMessage> batch) {
+        batches.add(batch.stream().map(SqsMessage::getMessageId).toList());
+    }
+
+    private List<SqsMessage> messages(int from, int to) {
+        return IntStream.rangeClosed(from, to)
+                .mapToObj(i -> SqsMessage.builder()
+                        .messageId("msg-" + i)
+                        .body("body-" + i)
+                        .receiptHandle("receipt-" + i)
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,160 @@
+package com.ryuqq.aws.sqs.consumer.container;
+
+import com.ryuqq.aws.sqs.types.SqsMessage;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for MessageGroupDispatcher.
+ */
+class MessageGroupDispatcherTest {
+
+    private final MessageGroupDispatcher dispatcher = new MessageGroupDispatcher();
+
+    @Test
+    void dispatch_같은그룹_이전작업완료후시작() {
+        // Given
+        List<String> started = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> first = new CompletableFuture<>();
+
+        // When
+        dispatcher.dispatch("group-a", () -> {
+            started.add("first");
+            return first;
+        }, () -> {});
+        CompletableFuture<Void> second = dispatcher.dispatch("group-a", () -> {
+            started.add("second");
+            return CompletableFuture.completedFuture(null);
+        }, () -> {});
+
+        // Then
+        assertThat(started).containsExactly("first");
+        first.complete(null);
+        second.join();
+        assertThat(started).containsExactly("first", "second");
+    }
+
+    @Test
+    void dispatch_다른그룹_병렬시작() {
+        // Given
+        List<String> started = new CopyOnWriteArrayList<>();
+
+        // When
+        dispatcher.dispatch("group-a", () -> {
+            started.add("a");
+            return new CompletableFuture<>();
+        }, () -> {});
+        dispatcher.dispatch("group-b", () -> {
+            started.add("b");
+            return new CompletableFuture<>();
+        }, () -> {});
+
+        // Then
+        assertThat(started).containsExactly("a", "b");
+        assertThat(dispatcher.getActiveLaneCount()).isEqualTo(2);
+    }
+
+    @Test
+    void dispatch_이전작업메시지반환시_대기작업건너뛰고_레인비워지면복구() {
+        // Given
+        List<String> started = new CopyOnWriteArrayList<>();
+        List<String> skipped = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> first = new CompletableFuture<>();
+        dispatcher.dispatch("group-a", () -> first, () -> skipped.add("first"));
+        dispatcher.dispatch("group-a", () -> {
+            started.add("second");
+            return CompletableFuture.completedFuture(null);
+        }, () -> skipped.add("second"));
+
+        // When
+        first.completeExceptionally(new RuntimeException("returned to queue"));
+
+        // Then
+        assertThat(started).isEmpty();
+        assertThat(skipped).containsExactly("second");
+        assertThat(dispatcher.getActiveLaneCount()).isZero();
+
+        dispatcher.dispatch("group-a", () -> {
+            started.add("third");
+            return CompletableFuture.completedFuture(null);
+        }, () -> skipped.add("third"));
+        assertThat(started).containsExactly("third");
+    }
+
+    @Test
+    void dispatch_여러그룹배치건너뛰면_함께포함된그룹의대기작업도건너뜀() {
+        // Given
+        List<String> skipped = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> groupA = new CompletableFuture<>();
+        CompletableFuture<Void> groupB = new CompletableFuture<>();
+        dispatcher.dispatch("group-a", () -> groupA, () -> skipped.add("a"));
+        dispatcher.dispatch("group-b", () -> groupB, () -> skipped.add("b"));
+        dispatcher.dispatch(List.of("group-a", "group-b"), CompletableFuture::new, () -> skipped.add("batch"));
+        dispatcher.dispatch("group-b", () -> CompletableFuture.completedFuture(null), () -> skipped.add("next-b"));
+
+        // When
+        groupA.completeExceptionally(new RuntimeException("returned to queue"));
+        groupB.complete(null);
+
+        // Then
+        assertThat(skipped).containsExactly("batch", "next-b");
+    }
+
+    @Test
+    void dispatch_여러그룹배치_모든그룹의이전작업대기() {
+        // Given
+        CompletableFuture<Void> groupA = new CompletableFuture<>();
+        CompletableFuture<Void> groupB = new CompletableFuture<>();
+        dispatcher.dispatch("group-a", () -> groupA, () -> {});
+        dispatcher.dispatch("group-b", () -> groupB, () -> {});
+        List<String> started = new CopyOnWriteArrayList<>();
+
+        // When
+        dispatcher.dispatch(List.of("group-a", "group-b"), () -> {
+            started.add("batch");
+            return CompletableFuture.completedFuture(null);
+        }, () -> {});
+        groupA.complete(null);
+
+        // Then
+        assertThat(started).isEmpty();
+        groupB.complete(null);
+        assertThat(started).containsExactly("batch");
+    }
+
+    @Test
+    void dispatch_작업완료후_유휴레인제거() {
+        // Given
+        CompletableFuture<Void> work = new CompletableFuture<>();
+        dispatcher.dispatch("group-a", () -> work, () -> {});
+        assertThat(dispatcher.getActiveLaneCount()).isEqualTo(1);
+
+        // When
+        work.complete(null);
+
+        // Then
+        assertThat(dispatcher.getActiveLaneCount()).isZero();
+    }
+
+    @Test
+    void groupIdOf_시스템속성에서조회() {
+        // Given
+        SqsMessage fifoMessage = SqsMessage.builder()
+                .messageId("msg-1")
+                .attributes(Map.of("MessageGroupId", "order-42"))
+                .build();
+        SqsMessage standardMessage = SqsMessage.builder()
+                .messageId("msg-2")
+                .build();
+
+        // When & Then
+        assertThat(MessageGroupDispatcher.groupIdOf(fifoMessage)).isEqualTo("order-42");
+        assertThat(MessageGroupDispatcher.groupIdOf(standardMessage)).isNull();
+    }
+}
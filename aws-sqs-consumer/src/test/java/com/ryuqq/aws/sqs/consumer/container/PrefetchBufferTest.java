@@ -0,0 +1,71 @@
+package com.ryuqq.aws.sqs.consumer.container;
+
+import com.ryuqq.aws.sqs.types.SqsMessage;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for PrefetchBuffer.
+ */
+class PrefetchBufferTest {
+
+    @Test
+    void poll_수신순서대로_반환() {
+        // Given
+        PrefetchBuffer buffer = new PrefetchBuffer(30_000L);
+        buffer.addAll(List.of(message("msg-1"), message("msg-2")), System.nanoTime());
+        List<SqsMessage> expired = new ArrayList<>();
+
+        // When & Then
+        assertThat(buffer.poll(expired).message().getMessageId()).isEqualTo("msg-1");
+        assertThat(buffer.poll(expired).message().getMessageId()).isEqualTo("msg-2");
+        assertThat(buffer.poll(expired)).isNull();
+        assertThat(expired).isEmpty();
+    }
+
+    @Test
+    void poll_가시성타임아웃절반경과시_만료로분류() {
+        // Given - 30초 가시성 타임아웃 중 20초가 지난 메시지와 방금 수신한 메시지
+        PrefetchBuffer buffer = new PrefetchBuffer(30_000L);
+        long now = System.nanoTime();
+        buffer.addAll(List.of(message("stale")), now - TimeUnit.SECONDS.toNanos(20));
+        buffer.addAll(List.of(message("fresh")), now);
+        List<SqsMessage> expired = new ArrayList<>();
+
+        // When
+        PrefetchBuffer.Entry next = buffer.poll(expired);
+
+        // Then - 처리 중 가시성 연장이 같은 기준을 쓰도록 수신 시각을 함께 반환
+        assertThat(next.message().getMessageId()).isEqualTo("fresh");
+        assertThat(next.receivedAtNanos()).isEqualTo(now);
+        assertThat(expired).extracting(SqsMessage::getMessageId).containsExactly("stale");
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void drain_남은메시지모두반환() {
+        // Given
+        PrefetchBuffer buffer = new PrefetchBuffer(30_000L);
+        buffer.addAll(List.of(message("msg-1"), message("msg-2"), message("msg-3")), System.nanoTime());
+
+        // When
+        List<SqsMessage> drained = buffer.drain();
+
+        // Then
+        assertThat(drained).hasSize(3);
+        assertThat(buffer.size()).isZero();
+    }
+
+    private SqsMessage message(String id) {
+        return SqsMessage.builder()
+            .messageId(id)
+            .body("body-" + id)
+            .receiptHandle("receipt-" + id)
+            .build();
+    }
+}
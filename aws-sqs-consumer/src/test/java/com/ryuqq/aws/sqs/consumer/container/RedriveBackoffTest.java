@@ -0,0 +1,68 @@
+package com.ryuqq.aws.sqs.consumer.container;
+
+import com.ryuqq.aws.sqs.types.SqsMessage;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for RedriveBackoff.
+ */
+class RedriveBackoffTest {
+
+    @Test
+    void visibilityTimeoutSeconds_수신횟수마다_두배로늘고_상한에서멈춤() {
+        // Given - 기본 1초, 상한 10초
+        RedriveBackoff backoff = new RedriveBackoff(5, 1000L, 10000L);
+
+        // When & Then
+        assertThat(backoff.visibilityTimeoutSeconds(1)).isEqualTo(1);
+        assertThat(backoff.visibilityTimeoutSeconds(2)).isEqualTo(2);
+        assertThat(backoff.visibilityTimeoutSeconds(4)).isEqualTo(8);
+        assertThat(backoff.visibilityTimeoutSeconds(5)).isEqualTo(10);
+        assertThat(backoff.visibilityTimeoutSeconds(1000)).isEqualTo(10);
+    }
+
+    @Test
+    void visibilityTimeoutSeconds_초단위로올림하고_12시간을넘지않음() {
+        // Given
+        RedriveBackoff subSecond = new RedriveBackoff(3, 1500L, 60000L);
+        RedriveBackoff unbounded = new RedriveBackoff(3, 60000L, Long.MAX_VALUE);
+
+        // When & Then
+        assertThat(subSecond.visibilityTimeoutSeconds(1)).isEqualTo(2);
+        assertThat(unbounded.visibilityTimeoutSeconds(64)).isEqualTo(43200);
+    }
+
+    @Test
+    void isExhausted_수신횟수가_최대재시도횟수를넘으면_소진() {
+        // Given - 첫 수신 + 재시도 2회
+        RedriveBackoff backoff = new RedriveBackoff(2, 1000L, 10000L);
+
+        // When & Then
+        assertThat(backoff.isExhausted(2)).isFalse();
+        assertThat(backoff.isExhausted(3)).isTrue();
+    }
+
+    @Test
+    void receiveCountOf_속성이없거나_잘못되면_첫수신으로간주() {
+        // Given
+        RedriveBackoff backoff = new RedriveBackoff(2, 1000L, 10000L);
+
+        // When & Then
+        assertThat(backoff.receiveCountOf(message(Map.of("ApproximateReceiveCount", "4")))).isEqualTo(4);
+        assertThat(backoff.receiveCountOf(message(Map.of()))).isEqualTo(1);
+        assertThat(backoff.receiveCountOf(message(Map.of("ApproximateReceiveCount", "n/a")))).isEqualTo(1);
+    }
+
+    private SqsMessage message(Map<String, String> attributes) {
+        return SqsMessage.builder()
+            .messageId("id-1")
+            .body("body")
+            .receiptHandle("receipt-1")
+            .attributes(attributes)
+            .build();
+    }
+}
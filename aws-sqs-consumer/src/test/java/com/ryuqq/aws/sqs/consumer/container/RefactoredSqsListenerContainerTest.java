@@ -16,9 +16,11 @@ import org.springframework.core.env.Environment;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.function.IntSupplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -104,12 +106,16 @@ class RefactoredSqsListenerContainerTest {
         
         // Then
         assertThat(container.isRunning()).isTrue();
+        ArgumentCaptor<IntSupplier> pollSizeCaptor = ArgumentCaptor.forClass(IntSupplier.class);
         verify(messagePoller).startPolling(
                 eq("https://sqs.region.amazonaws.com/123456789012/test-queue"),
-                eq(10),
+                pollSizeCaptor.capture(),
                 eq(20),
+                eq(30),
+                eq(1),
                 any(MessagePoller.MessageHandler.class)
         );
+        assertThat(pollSizeCaptor.getValue().getAsInt()).isEqualTo(10);
     }
     
     @Test
@@ -137,7 +143,7 @@ class RefactoredSqsListenerContainerTest {
         
         // Then
         assertThat(container.isRunning()).isTrue();
-        verify(messagePoller, times(1)).startPolling(anyString(), anyInt(), anyInt(), any());
+        verify(messagePoller, times(1)).startPolling(anyString(), any(IntSupplier.class), anyInt(), anyInt(), anyInt(), any());
     }
     
     @Test
@@ -161,7 +167,7 @@ class RefactoredSqsListenerContainerTest {
         
         ArgumentCaptor<MessagePoller.MessageHandler> handlerCaptor = 
                 ArgumentCaptor.forClass(MessagePoller.MessageHandler.class);
-        verify(messagePoller).startPolling(anyString(), anyInt(), anyInt(), handlerCaptor.capture());
+        verify(messagePoller).startPolling(anyString(), any(IntSupplier.class), anyInt(), anyInt(), anyInt(), handlerCaptor.capture());
         
         SqsMessage message1 = createTestMessage("msg1", "body1");
         SqsMessage message2 = createTestMessage("msg2", "body2");
@@ -170,9 +176,13 @@ class RefactoredSqsListenerContainerTest {
         // Setup mocks for successful processing
         doAnswer(invocation -> {
             Runnable operation = invocation.getArgument(0);
-            operation.run();
-            return null;
-        }).when(retryManager).executeWithRetry(any(Runnable.class), any());
+            try {
+                operation.run();
+                return CompletableFuture.completedFuture(null);
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }).when(retryManager).executeWithRetryAsync(any(Runnable.class), any(), any());
         
         // When
         MessagePoller.MessageHandler messageHandler = handlerCaptor.getValue();
@@ -212,7 +222,7 @@ class RefactoredSqsListenerContainerTest {
         
         ArgumentCaptor<MessagePoller.MessageHandler> handlerCaptor = 
                 ArgumentCaptor.forClass(MessagePoller.MessageHandler.class);
-        verify(messagePoller).startPolling(anyString(), anyInt(), anyInt(), handlerCaptor.capture());
+        verify(messagePoller).startPolling(anyString(), any(IntSupplier.class), anyInt(), anyInt(), anyInt(), handlerCaptor.capture());
         
         SqsMessage message1 = createTestMessage("msg1", "body1");
         SqsMessage message2 = createTestMessage("msg2", "body2");
@@ -221,9 +231,13 @@ class RefactoredSqsListenerContainerTest {
         // Setup mocks for successful processing
         doAnswer(invocation -> {
             Runnable operation = invocation.getArgument(0);
-            operation.run();
-            return null;
-        }).when(retryManager).executeWithRetry(any(Runnable.class), any());
+            try {
+                operation.run();
+                return CompletableFuture.completedFuture(null);
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }).when(retryManager).executeWithRetryAsync(any(Runnable.class), any(), any());
         
         // When
         MessagePoller.MessageHandler messageHandler = handlerCaptor.getValue();
@@ -240,6 +254,65 @@ class RefactoredSqsListenerContainerTest {
         batchContainer.stop();
     }
     
+    @Test
+    void shouldRetryAndDeadLetterOnlyReportedBatchFailures() throws Exception {
+        // Given
+        Method batchListenerMethod = TestListener.class.getDeclaredMethod("handleMessageBatch", List.class);
+        RefactoredSqsListenerContainer batchContainer = new RefactoredSqsListenerContainer(
+                "batch-container",
+                testListener,
+                batchListenerMethod,
+                createBatchSqsListenerAnnotation(),
+                sqsService,
+                environment,
+                executorService,
+                messagePoller,
+                messageProcessor,
+                retryManager,
+                dlqHandler,
+                metricsCollector
+        );
+        batchContainer.start();
+        
+        ArgumentCaptor<MessagePoller.MessageHandler> handlerCaptor = 
+                ArgumentCaptor.forClass(MessagePoller.MessageHandler.class);
+        verify(messagePoller).startPolling(anyString(), any(IntSupplier.class), anyInt(), anyInt(), anyInt(), handlerCaptor.capture());
+        
+        SqsMessage message1 = createTestMessage("msg1", "body1");
+        SqsMessage message2 = createTestMessage("msg2", "body2");
+        List<SqsMessage> messages = List.of(message1, message2);
+        
+        // Two attempts, like a retry manager configured with one retry
+        doAnswer(invocation -> {
+            Runnable operation = invocation.getArgument(0);
+            RuntimeException lastFailure = null;
+            for (int attempt = 0; attempt < 2; attempt++) {
+                try {
+                    operation.run();
+                    return CompletableFuture.completedFuture(null);
+                } catch (RuntimeException e) {
+                    lastFailure = e;
+                }
+            }
+            return CompletableFuture.failedFuture(lastFailure);
+        }).when(retryManager).executeWithRetryAsync(any(Runnable.class), any(), any());
+        
+        when(messageProcessor.processBatch(any(), any())).thenReturn(Set.of("msg2"));
+        when(dlqHandler.sendToDeadLetterQueueAsync(any(), any(), any())).thenReturn(CompletableFuture.completedFuture(true));
+        
+        // When
+        handlerCaptor.getValue().handleMessages(messages);
+        Thread.sleep(100);
+        
+        // Then - the retry only carries the reported failure, and only it reaches the DLQ
+        verify(messageProcessor).processBatch(eq(messages), any());
+        verify(messageProcessor).processBatch(eq(List.of(message2)), any());
+        verify(dlqHandler).sendToDeadLetterQueueAsync(eq(message2), any(MessageProcessor.PartialBatchFailureException.class), any());
+        verify(dlqHandler, never()).sendToDeadLetterQueueAsync(eq(message1), any(), any());
+        
+        batchContainer.stop();
+    }
+    
     @Test
     void shouldHandleProcessingFailureWithDlq() throws Exception {
         // Given
@@ -247,7 +320,7 @@ class RefactoredSqsListenerContainerTest {
         
         ArgumentCaptor<MessagePoller.MessageHandler> handlerCaptor = 
                 ArgumentCaptor.forClass(MessagePoller.MessageHandler.class);
-        verify(messagePoller).startPolling(anyString(), anyInt(), anyInt(), handlerCaptor.capture());
+        verify(messagePoller).startPolling(anyString(), any(IntSupplier.class), anyInt(), anyInt(), anyInt(), handlerCaptor.capture());
         
         SqsMessage message = createTestMessage("msg1", "body1");
         List<SqsMessage> messages = List.of(message);
@@ -257,14 +330,18 @@ class RefactoredSqsListenerContainerTest {
         // Setup mocks for failed processing
         doAnswer(invocation -> {
             Runnable operation = invocation.getArgument(0);
-            operation.run();
-            return null;
-        }).when(retryManager).executeWithRetry(any(Runnable.class), any());
+            try {
+                operation.run();
+                return CompletableFuture.completedFuture(null);
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }).when(retryManager).executeWithRetryAsync(any(Runnable.class), any(), any());
         
         doThrow(new MessageProcessor.MessageProcessingException("Processing failed", processingException))
                 .when(messageProcessor).processMessage(any(), any());
         
-        when(dlqHandler.sendToDeadLetterQueue(any(), any(), any())).thenReturn(true);
+        when(dlqHandler.sendToDeadLetterQueueAsync(any(), any(), any())).thenReturn(CompletableFuture.completedFuture(true));
         
         // When
         MessagePoller.MessageHandler messageHandler = handlerCaptor.getValue();
@@ -275,7 +352,7 @@ class RefactoredSqsListenerContainerTest {
         
         // Then
         verify(metricsCollector).recordMessageFailed(eq("test-container"), any());
-        verify(dlqHandler).sendToDeadLetterQueue(eq(message), any(), any());
+        verify(dlqHandler).sendToDeadLetterQueueAsync(eq(message), any(), any());
         verify(metricsCollector).recordStateChange(eq("test-container"), eq("PROCESSING"), eq("DLQ_SUCCESS"));
     }
     
@@ -302,6 +379,8 @@ class RefactoredSqsListenerContainerTest {
         verify(sqsService).getQueueUrl("test-queue");
         verify(messagePoller).startPolling(
                 eq("https://sqs.region.amazonaws.com/123456789012/test-queue"),
+                any(IntSupplier.class),
+                anyInt(),
                 anyInt(),
                 anyInt(),
                 any()
@@ -371,12 +450,24 @@ class RefactoredSqsListenerContainerTest {
             @Override
             public int maxMessagesPerPoll() { return 10; }
             
+            @Override
+            public int pollerCount() { return 1; }
+            
+            @Override
+            public int prefetchMessages() { return 0; }
+            
+            @Override
+            public boolean orderByMessageGroup() { return false; }
+            
             @Override
             public boolean batchMode() { return false; }
             
             @Override
             public int batchSize() { return 10; }
             
+            @Override
+            public long batchMaxWaitMillis() { return 0L; }
+            
             @Override
             public boolean autoDelete() { return true; }
             
@@ -386,6 +477,21 @@ class RefactoredSqsListenerContainerTest {
             @Override
             public long retryDelayMillis() { return 1000L; }
             
+            @Override
+            public RetryMode retryMode() { return RetryMode.IN_PROCESS; }
+            
+            @Override
+            public long maxRetryDelayMillis() { return 300000L; }
+            
+            @Override
+            public int circuitBreakerFailureRateThreshold() { return 0; }
+            
+            @Override
+            public int circuitBreakerWindowSize() { return 20; }
+            
+            @Override
+            public long circuitBreakerOpenMillis() { return 30000L; }
+            
             @Override
             public boolean enableDeadLetterQueue() { return true; }
             
@@ -422,12 +528,24 @@ class RefactoredSqsListenerContainerTest {
             @Override
             public int maxMessagesPerPoll() { return 10; }
             
+            @Override
+            public int pollerCount() { return 1; }
+            
+            @Override
+            public int prefetchMessages() { return 0; }
+            
+            @Override
+            public boolean orderByMessageGroup() { return false; }
+            
             @Override
             public boolean batchMode() { return true; }
             
             @Override
             public int batchSize() { return 10; }
             
+            @Override
+            public long batchMaxWaitMillis() { return 0L; }
+            
             @Override
             public boolean autoDelete() { return true; }
             
@@ -437,6 +555,21 @@ class RefactoredSqsListenerContainerTest {
             @Override
             public long retryDelayMillis() { return 1000L; }
             
+            @Override
+            public RetryMode retryMode() { return RetryMode.IN_PROCESS; }
+            
+            @Override
+            public long maxRetryDelayMillis() { return 300000L; }
+            
+            @Override
+            public int circuitBreakerFailureRateThreshold() { return 0; }
+            
+            @Override
+            public int circuitBreakerWindowSize() { return 20; }
+            
+            @Override
+            public long circuitBreakerOpenMillis() { return 30000L; }
+            
             @Override
             public boolean enableDeadLetterQueue() { return true; }
             
@@ -473,12 +606,24 @@ class RefactoredSqsListenerContainerTest {
             @Override
             public int maxMessagesPerPoll() { return 10; }
             
+            @Override
+            public int pollerCount() { return 1; }
+            
+            @Override
+            public int prefetchMessages() { return 0; }
+            
+            @Override
+            public boolean orderByMessageGroup() { return false; }
+            
             @Override
             public boolean batchMode() { return false; }
             
             @Override
             public int batchSize() { return 10; }
             
+            @Override
+            public long batchMaxWaitMillis() { return 0L; }
+            
             @Override
             public boolean autoDelete() { return true; }
             
@@ -488,6 +633,21 @@ class RefactoredSqsListenerContainerTest {
             @Override
             public long retryDelayMillis() { return 1000L; }
             
+            @Override
+            public RetryMode retryMode() { return RetryMode.IN_PROCESS; }
+            
+            @Override
+            public long maxRetryDelayMillis() { return 300000L; }
+            
+            @Override
+            public int circuitBreakerFailureRateThreshold() { return 0; }
+            
+            @Override
+            public int circuitBreakerWindowSize() { return 20; }
+            
+            @Override
+            public long circuitBreakerOpenMillis() { return 30000L; }
+            
             @Override
             public boolean enableDeadLetterQueue() { return false; }
             
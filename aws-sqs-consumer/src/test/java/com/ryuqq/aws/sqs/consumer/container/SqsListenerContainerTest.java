@@ -17,11 +17,13 @@ import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
@@ -160,7 +162,7 @@ class SqsListenerContainerTest {
     void messageProcessing_단일메시지() throws Exception {
         // Given
         SqsMessage message = createTestMessage("msg1", "receipt1");
-        when(sqsService.receiveMessages(eq(QUEUE_URL), anyInt()))
+        when(sqsService.receiveMessages(eq(QUEUE_URL), anyInt(), anyInt()))
             .thenReturn(CompletableFuture.completedFuture(List.of(message)))
             .thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
         
@@ -200,7 +202,7 @@ class SqsListenerContainerTest {
         SqsMessage message1 = createTestMessage("msg1", "receipt1");
         SqsMessage message2 = createTestMessage("msg2", "receipt2");
         
-        when(sqsService.receiveMessages(eq(QUEUE_URL), anyInt()))
+        when(sqsService.receiveMessages(eq(QUEUE_URL), anyInt(), anyInt()))
             .thenReturn(CompletableFuture.completedFuture(Arrays.asList(message1, message2)))
             .thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
         
@@ -242,7 +244,7 @@ class SqsListenerContainerTest {
         );
         
         SqsMessage message = createTestMessage("msg1", "receipt1");
-        when(sqsService.receiveMessages(eq(QUEUE_URL), anyInt()))
+        when(sqsService.receiveMessages(eq(QUEUE_URL), anyInt(), anyInt()))
             .thenReturn(CompletableFuture.completedFuture(List.of(message)))
             .thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
         
@@ -282,7 +284,7 @@ class SqsListenerContainerTest {
         );
         
         SqsMessage message = createTestMessage("msg1", "receipt1");
-        when(sqsService.receiveMessages(eq(QUEUE_URL), anyInt()))
+        when(sqsService.receiveMessages(eq(QUEUE_URL), anyInt(), anyInt()))
             .thenReturn(CompletableFuture.completedFuture(List.of(message)))
             .thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
         
@@ -338,6 +340,364 @@ class SqsListenerContainerTest {
         directUrlContainer.stop();
     }
     
+    @Test
+    void backpressure_퍼밋소진시_폴링대기() throws Exception {
+        // Given
+        Method throttledMethod = TestListener.class.getDeclaredMethod("handleMessageThrottled", SqsMessage.class);
+        SqsListener throttledAnnotation = throttledMethod.getAnnotation(SqsListener.class);
+        
+        SqsListenerContainer throttledContainer = new SqsListenerContainer(
+            "throttled-container",
+            testListener,
+            throttledMethod,
+            throttledAnnotation,
+            sqsService,
+            environment,
+            applicationContext,
+            executorService,
+            executorService
+        );
+        
+        when(sqsService.receiveMessages(eq(QUEUE_URL), anyInt(), anyInt()))
+            .thenReturn(CompletableFuture.completedFuture(List.of(createTestMessage("msg1", "receipt1"))))
+            .thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+        when(sqsService.deleteMessage(QUEUE_URL, "receipt1"))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        
+        try {
+            // When
+            throttledContainer.start();
+            assertThat(testListener.awaitThrottledStarted()).isTrue();
+            Thread.sleep(200);
+            
+            // Then - 유일한 퍼밋이 점유된 동안에는 추가 수신 없음
+            verify(sqsService, times(1)).receiveMessages(QUEUE_URL, 1, 30);
+            SqsListenerContainer.ContainerStats stats = throttledContainer.getStats();
+            assertThat(stats.getInFlightMessages()).isEqualTo(1);
+            assertThat(stats.getMaxConcurrentMessages()).isEqualTo(1);
+            assertThat(throttledContainer.getAvailablePermits()).isZero();
+            
+            // When - 처리 완료 후 퍼밋 반환
+            testListener.releaseThrottled();
+            Thread.sleep(200);
+            
+            // Then
+            verify(sqsService, atLeast(2)).receiveMessages(QUEUE_URL, 1, 30);
+            assertThat(throttledContainer.getInFlightCount()).isZero();
+        } finally {
+            testListener.releaseThrottled();
+            throttledContainer.stop();
+        }
+    }
+    
+    @Test
+    void prefetch_처리중에도_다음메시지선행수신() throws Exception {
+        // Given - 처리 슬롯 1개, 선행 수신 1개
+        Method prefetchMethod = TestListener.class.getDeclaredMethod("handleMessagePrefetch", SqsMessage.class);
+        SqsListener prefetchAnnotation = prefetchMethod.getAnnotation(SqsListener.class);
+        
+        SqsListenerContainer prefetchContainer = new SqsListenerContainer(
+            "prefetch-container",
+            testListener,
+            prefetchMethod,
+            prefetchAnnotation,
+            sqsService,
+            environment,
+            applicationContext,
+            executorService,
+            executorService
+        );
+        
+        when(sqsService.receiveMessages(eq(QUEUE_URL), anyInt(), anyInt()))
+            .thenReturn(CompletableFuture.completedFuture(List.of(createTestMessage("msg1", "receipt1"))))
+            .thenReturn(CompletableFuture.completedFuture(List.of(createTestMessage("msg2", "receipt2"))))
+            .thenReturn(new CompletableFuture<>());
+        when(sqsService.deleteMessage(eq(QUEUE_URL), anyString()))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        
+        try {
+            // When
+            prefetchContainer.start();
+            assertThat(testListener.awaitThrottledStarted()).isTrue();
+            Thread.sleep(200);
+            
+            // Then - 첫 메시지 처리 중에 두 번째 메시지가 수신되어 버퍼에서 대기
+            verify(sqsService, times(2)).receiveMessages(eq(QUEUE_URL), anyInt(), anyInt());
+            assertThat(prefetchContainer.getPrefetchedCount()).isEqualTo(1);
+            assertThat(prefetchContainer.getInFlightCount()).isEqualTo(2);
+            assertThat(testListener.getProcessedMessages()).isEmpty();
+            
+            // When - 처리 슬롯이 반환되면 버퍼의 메시지를 바로 처리
+            testListener.releaseThrottled();
+            Thread.sleep(200);
+            
+            // Then
+            assertThat(testListener.getProcessedMessages()).extracting(SqsMessage::getBody)
+                .containsExactly("msg1", "msg2");
+            assertThat(prefetchContainer.getPrefetchedCount()).isZero();
+        } finally {
+            testListener.releaseThrottled();
+            prefetchContainer.stop();
+        }
+    }
+    
+    @Test
+    void stop_처리중메시지완료대기_미시작메시지반환() throws Exception {
+        // Given - 단일 워커 스레드: 첫 메시지가 처리되는 동안 두 번째 메시지는 실행 대기
+        ExecutorService singleWorker = Executors.newSingleThreadExecutor();
+        Method drainMethod = TestListener.class.getDeclaredMethod("handleMessageDraining", SqsMessage.class);
+        SqsListener drainAnnotation = drainMethod.getAnnotation(SqsListener.class);
+        
+        SqsListenerContainer drainContainer = new SqsListenerContainer(
+            "drain-container",
+            testListener,
+            drainMethod,
+            drainAnnotation,
+            sqsService,
+            environment,
+            applicationContext,
+            singleWorker,
+            singleWorker
+        );
+        
+        when(sqsService.receiveMessages(eq(QUEUE_URL), anyInt(), anyInt()))
+            .thenReturn(CompletableFuture.completedFuture(List.of(
+                createTestMessage("msg1", "receipt1"), createTestMessage("msg2", "receipt2"))))
+            .thenReturn(new CompletableFuture<>());
+        when(sqsService.deleteMessage(QUEUE_URL, "receipt1"))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        when(sqsService.changeMessageVisibility(QUEUE_URL, "receipt2", 0))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        
+        try {
+            drainContainer.start();
+            assertThat(testListener.awaitThrottledStarted()).isTrue();
+            
+            // When - 처리 중인 메시지가 끝나기 전에 정지 요청
+            CompletableFuture<Void> stopping = CompletableFuture.runAsync(drainContainer::stop);
+            Thread.sleep(200);
+            assertThat(stopping).isNotDone();
+            testListener.releaseThrottled();
+            stopping.get(5, java.util.concurrent.TimeUnit.SECONDS);
+            
+            // Then - 처리 중이던 메시지는 완료 후 삭제, 시작 전 메시지는 즉시 재수신 가능하도록 반환
+            assertThat(testListener.getProcessedMessages()).extracting(SqsMessage::getBody).containsExactly("msg1");
+            verify(sqsService).deleteMessage(QUEUE_URL, "receipt1");
+            verify(sqsService).changeMessageVisibility(QUEUE_URL, "receipt2", 0);
+            verify(sqsService, never()).deleteMessage(QUEUE_URL, "receipt2");
+            assertThat(drainContainer.getInFlightCount()).isZero();
+        } finally {
+            testListener.releaseThrottled();
+            drainContainer.stop();
+            singleWorker.shutdown();
+        }
+    }
+    
+    @Test
+    void stop_대기중인수신취소시_퍼밋반환하여_즉시정지하고_재시작시전체용량으로수신() throws Exception {
+        // Given - 응답이 오지 않는 Long Polling 요청
+        CompletableFuture<List<SqsMessage>> firstReceive = new CompletableFuture<>();
+        when(sqsService.receiveMessages(eq(QUEUE_URL), anyInt(), anyInt()))
+            .thenReturn(firstReceive)
+            .thenReturn(new CompletableFuture<>());
+        container.start();
+        verify(sqsService, timeout(1000)).receiveMessages(QUEUE_URL, 10, 30);
+        assertThat(container.getAvailablePermits()).isZero();
+        
+        // When
+        CompletableFuture<Void> stopping = CompletableFuture.runAsync(container::stop);
+        
+        // Then - 취소된 수신의 퍼밋이 반환되어 종료 타임아웃을 기다리지 않고 정지
+        stopping.get(5, java.util.concurrent.TimeUnit.SECONDS);
+        assertThat(firstReceive).isCancelled();
+        assertThat(container.getAvailablePermits()).isEqualTo(10);
+        
+        // When - 재시작
+        container.start();
+        
+        // Then - 줄어들지 않은 용량으로 다시 수신
+        verify(sqsService, timeout(1000).times(2)).receiveMessages(QUEUE_URL, 10, 30);
+    }
+    
+    @Test
+    void executor포화_메시지큐반환후_폴링일시중단() throws Exception {
+        // Given - 모든 작업을 거부하는 ExecutorService
+        ExecutorService saturated = Executors.newSingleThreadExecutor();
+        saturated.shutdown();
+        Method method = TestListener.class.getDeclaredMethod("handleMessage", SqsMessage.class);
+        SqsListenerContainer saturatedContainer = new SqsListenerContainer(
+            "saturated-container",
+            testListener,
+            method,
+            method.getAnnotation(SqsListener.class),
+            sqsService,
+            environment,
+            applicationContext,
+            saturated,
+            saturated
+        );
+        
+        when(sqsService.receiveMessages(eq(QUEUE_URL), anyInt(), anyInt()))
+            .thenReturn(CompletableFuture.completedFuture(List.of(createTestMessage("msg1", "receipt1"))))
+            .thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+        when(sqsService.changeMessageVisibility(QUEUE_URL, "receipt1", 0))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        
+        try {
+            // When
+            saturatedContainer.start();
+            Thread.sleep(300);
+            
+            // Then - 거부된 메시지는 즉시 큐로 반환되고, 일시 중단 동안 추가 수신 없음
+            verify(sqsService).changeMessageVisibility(QUEUE_URL, "receipt1", 0);
+            verify(sqsService, times(1)).receiveMessages(eq(QUEUE_URL), anyInt(), anyInt());
+            assertThat(testListener.getProcessedMessages()).isEmpty();
+            assertThat(saturatedContainer.getInFlightCount()).isZero();
+        } finally {
+            saturatedContainer.stop();
+        }
+    }
+    
+    @Test
+    void circuitBreaker_열리면_재시도없이지연반환후_폴링중단() throws Exception {
+        // Given - 한 번의 실패로 60초 동안 열리는 Circuit Breaker
+        Method method = TestListener.class.getDeclaredMethod("handleMessageCircuitBreaker", SqsMessage.class);
+        SqsListenerContainer breakerContainer = new SqsListenerContainer(
+            "breaker-container",
+            testListener,
+            method,
+            method.getAnnotation(SqsListener.class),
+            sqsService,
+            environment,
+            applicationContext,
+            executorService,
+            executorService
+        );
+        
+        when(sqsService.receiveMessages(eq(QUEUE_URL), anyInt(), anyInt()))
+            .thenReturn(CompletableFuture.completedFuture(List.of(createTestMessage("msg1", "receipt1"))))
+            .thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+        when(sqsService.changeMessageVisibility(QUEUE_URL, "receipt1", 60))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        testListener.setFailureCount(Integer.MAX_VALUE);
+        
+        try {
+            // When
+            breakerContainer.start();
+            Thread.sleep(300);
+            
+            // Then - 재시도하지 않고 열린 시간 뒤에 다시 수신되도록 반환하며, 열려 있는 동안 추가 수신 없음
+            assertThat(breakerContainer.getCircuitState()).isEqualTo(ContainerCircuitBreaker.State.OPEN);
+            assertThat(testListener.getRetryCount()).isEqualTo(1);
+            verify(sqsService).changeMessageVisibility(QUEUE_URL, "receipt1", 60);
+            verify(sqsService, times(1)).receiveMessages(eq(QUEUE_URL), anyInt(), anyInt());
+            assertThat(breakerContainer.getStats().getFailedMessages()).isZero();
+            assertThat(breakerContainer.getInFlightCount()).isZero();
+        } finally {
+            breakerContainer.stop();
+        }
+    }
+    
+    @Test
+    void retryMode_VISIBILITY_TIMEOUT_수신횟수에따라_지연반환하고_컨테이너내재시도없음() throws Exception {
+        // Given - 최대 2회 재시도, 기본 지연 1초 (수신 횟수마다 두 배)
+        Method method = TestListener.class.getDeclaredMethod("handleMessageRedrive", SqsMessage.class);
+        SqsListenerContainer redriveContainer = new SqsListenerContainer(
+            "redrive-container",
+            testListener,
+            method,
+            method.getAnnotation(SqsListener.class),
+            sqsService,
+            environment,
+            applicationContext,
+            executorService,
+            executorService
+        );
+        
+        when(sqsService.receiveMessages(eq(QUEUE_URL), anyInt(), anyInt()))
+            .thenReturn(CompletableFuture.completedFuture(List.of(
+                createTestMessage("msg1", "receipt1", 2),
+                createTestMessage("msg2", "receipt2", 3))))
+            .thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+        when(sqsService.changeMessageVisibility(eq(QUEUE_URL), anyString(), anyInt()))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        testListener.setFailureCount(Integer.MAX_VALUE);
+        
+        try {
+            // When
+            redriveContainer.start();
+            Thread.sleep(300);
+            
+            // Then - 두 번째 수신은 2초, 세 번째 수신(재시도 소진, DLQ 없음)은 4초 뒤에 다시 수신되도록 반환
+            verify(sqsService).changeMessageVisibility(QUEUE_URL, "receipt1", 2);
+            verify(sqsService).changeMessageVisibility(QUEUE_URL, "receipt2", 4);
+            verify(sqsService, times(2)).changeMessageVisibility(eq(QUEUE_URL), anyString(), anyInt());
+            verify(sqsService, never()).deleteMessage(anyString(), anyString());
+            assertThat(redriveContainer.getStats().getFailedMessages()).isEqualTo(1);
+            assertThat(redriveContainer.getInFlightCount()).isZero();
+        } finally {
+            redriveContainer.stop();
+        }
+    }
+    
+    @Test
+    void retryMode_VISIBILITY_TIMEOUT_그룹순서모드_재전달메시지의다음메시지도반환() throws Exception {
+        // Given - 같은 그룹의 두 메시지 중 첫 메시지가 실패
+        Method method = TestListener.class.getDeclaredMethod("handleMessageOrderedRedrive", SqsMessage.class);
+        SqsListenerContainer orderedContainer = new SqsListenerContainer(
+            "ordered-redrive-container",
+            testListener,
+            method,
+            method.getAnnotation(SqsListener.class),
+            sqsService,
+            environment,
+            applicationContext,
+            executorService,
+            executorService
+        );
+        
+        when(sqsService.receiveMessages(eq(QUEUE_URL), anyInt(), anyInt()))
+            .thenReturn(CompletableFuture.completedFuture(List.of(
+                createGroupMessage("msg1", "receipt1", "group-1"),
+                createGroupMessage("msg2", "receipt2", "group-1"))))
+            .thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+        when(sqsService.changeMessageVisibility(eq(QUEUE_URL), anyString(), anyInt()))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        testListener.setFailureCount(1);
+        
+        try {
+            // When
+            orderedContainer.start();
+            Thread.sleep(300);
+            
+            // Then - 실패한 메시지는 1초 뒤 재전달, 다음 메시지는 처리하지 않고 즉시 반환하여 순서 유지
+            verify(sqsService).changeMessageVisibility(QUEUE_URL, "receipt1", 1);
+            verify(sqsService).changeMessageVisibility(QUEUE_URL, "receipt2", 0);
+            verify(sqsService, never()).deleteMessage(anyString(), anyString());
+            assertThat(testListener.getProcessedMessages()).isEmpty();
+            assertThat(orderedContainer.getInFlightCount()).isZero();
+        } finally {
+            orderedContainer.stop();
+        }
+    }
+    
+    @Test
+    void setMaxConcurrentMessages_동시처리수변경() {
+        // Given
+        assertThat(container.getMaxConcurrentMessages()).isEqualTo(10);
+        
+        // When
+        boolean shrunk = container.setMaxConcurrentMessages(3);
+        boolean grown = container.setMaxConcurrentMessages(25);
+        
+        // Then
+        assertThat(shrunk).isTrue();
+        assertThat(grown).isTrue();
+        assertThat(container.getMaxConcurrentMessages()).isEqualTo(25);
+        assertThatThrownBy(() -> container.setMaxConcurrentMessages(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+    
     private SqsMessage createTestMessage(String body, String receiptHandle) {
         return SqsMessage.builder()
             .messageId("id-" + body)
@@ -346,12 +706,32 @@ class SqsListenerContainerTest {
             .build();
     }
     
+    private SqsMessage createTestMessage(String body, String receiptHandle, int receiveCount) {
+        return SqsMessage.builder()
+            .messageId("id-" + body)
+            .body(body)
+            .receiptHandle(receiptHandle)
+            .attributes(Map.of("ApproximateReceiveCount", String.valueOf(receiveCount)))
+            .build();
+    }
+    
+    private SqsMessage createGroupMessage(String body, String receiptHandle, String groupId) {
+        return SqsMessage.builder()
+            .messageId("id-" + body)
+            .body(body)
+            .receiptHandle(receiptHandle)
+            .attributes(Map.of("ApproximateReceiveCount", "1", "MessageGroupId", groupId))
+            .build();
+    }
+    
     // Test listener class
     static class TestListener {
         private final List<SqsMessage> processedMessages = Collections.synchronizedList(new java.util.ArrayList<>());
         private final List<List<SqsMessage>> batchProcessedMessages = Collections.synchronizedList(new java.util.ArrayList<>());
         private volatile int failureCount = 0;
         private volatile int retryCount = 0;
+        private final java.util.concurrent.CountDownLatch throttledStarted = new java.util.concurrent.CountDownLatch(1);
+        private final java.util.concurrent.CountDownLatch throttledRelease = new java.util.concurrent.CountDownLatch(1);
         
         @SqsListener(queueName = "test-queue")
         public void handleMessage(SqsMessage message) {
@@ -378,11 +758,54 @@ class SqsListenerContainerTest {
             processedMessages.add(message);
         }
         
+        @SqsListener(queueName = "test-queue", maxRetryAttempts = 2, retryDelayMillis = 50,
+            circuitBreakerFailureRateThreshold = 100, circuitBreakerWindowSize = 1, circuitBreakerOpenMillis = 60000)
+        public void handleMessageCircuitBreaker(SqsMessage message) {
+            handleMessageWithRetry(message);
+        }
+        
+        @SqsListener(queueName = "test-queue", maxRetryAttempts = 2, retryDelayMillis = 1000,
+            retryMode = SqsListener.RetryMode.VISIBILITY_TIMEOUT)
+        public void handleMessageRedrive(SqsMessage message) {
+            handleMessageWithRetry(message);
+        }
+        
+        @SqsListener(queueName = "test-queue", maxRetryAttempts = 2, retryDelayMillis = 1000,
+            retryMode = SqsListener.RetryMode.VISIBILITY_TIMEOUT, orderByMessageGroup = true)
+        public void handleMessageOrderedRedrive(SqsMessage message) {
+            handleMessageWithRetry(message);
+        }
+        
         @SqsListener(queueUrl = QUEUE_URL)
         public void handleMessageDirectUrl(SqsMessage message) {
             processedMessages.add(message);
         }
         
+        @SqsListener(queueName = "test-queue", maxConcurrentMessages = 1)
+        public void handleMessageThrottled(SqsMessage message) throws InterruptedException {
+            throttledStarted.countDown();
+            throttledRelease.await();
+            processedMessages.add(message);
+        }
+        
+        @SqsListener(queueName = "test-queue", maxConcurrentMessages = 2, maxMessagesPerPoll = 2)
+        public void handleMessageDraining(SqsMessage message) throws InterruptedException {
+            handleMessageThrottled(message);
+        }
+        
+        @SqsListener(queueName = "test-queue", maxConcurrentMessages = 1, prefetchMessages = 1)
+        public void handleMessagePrefetch(SqsMessage message) throws InterruptedException {
+            handleMessageThrottled(message);
+        }
+        
+        public boolean awaitThrottledStarted() throws InterruptedException {
+            return throttledStarted.await(5, java.util.concurrent.TimeUnit.SECONDS);
+        }
+        
+        public void releaseThrottled() {
+            throttledRelease.countDown();
+        }
+        
         public List<SqsMessage> getProcessedMessages() {
             return processedMessages;
         }
@@ -6,7 +6,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledOnJre;
 import org.junit.jupiter.api.condition.JRE;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -36,6 +41,88 @@ class ExecutorServiceProviderTest {
         provider.shutdown(5000);
     }
     
+    @Test
+    void platformThreadExecutorServiceProvider_shouldBuildBoundedPoolFromProperties() {
+        // Given
+        PlatformThreadExecutorServiceProvider provider =
+            new PlatformThreadExecutorServiceProvider(poolProperties(2, 4, 8, SqsConsumerProperties.RejectionPolicy.PAUSE_POLLER));
+        
+        // When
+        ExecutorService messageExecutor = provider.createMessageProcessingExecutor("test-consumer");
+        
+        // Then
+        assertThat(messageExecutor).isInstanceOf(BoundedThreadPoolExecutor.class);
+        BoundedThreadPoolExecutor pool = (BoundedThreadPoolExecutor) messageExecutor;
+        assertThat(pool.getCorePoolSize()).isEqualTo(2);
+        assertThat(pool.getMaximumPoolSize()).isEqualTo(4);
+        assertThat(pool.getQueueCapacity()).isEqualTo(8);
+        assertThat(pool.getQueue().remainingCapacity()).isEqualTo(8);
+        assertThat(provider.getMessageProcessingExecutors()).containsExactly(pool);
+        
+        provider.shutdown(5000);
+    }
+    
+    @Test
+    void platformThreadExecutorServiceProvider_shouldRejectWhenSaturated() throws Exception {
+        // Given - 스레드 1개, 큐 1칸
+        PlatformThreadExecutorServiceProvider provider =
+            new PlatformThreadExecutorServiceProvider(poolProperties(1, 1, 1, SqsConsumerProperties.RejectionPolicy.PAUSE_POLLER));
+        BoundedThreadPoolExecutor pool = (BoundedThreadPoolExecutor) provider.createMessageProcessingExecutor("test");
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blocking = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        pool.execute(blocking);
+        pool.execute(blocking);
+        
+        // When & Then
+        assertThatThrownBy(() -> pool.execute(blocking)).isInstanceOf(RejectedExecutionException.class);
+        assertThat(pool.getRejectedCount()).isEqualTo(1);
+        assertThat(pool.getQueueSize()).isEqualTo(1);
+        
+        release.countDown();
+        provider.shutdown(5000);
+    }
+    
+    @Test
+    @EnabledOnJre(JRE.JAVA_21)
+    void platformThreadExecutorServiceProvider_callerRuns_shouldRunOnSubmittingVirtualThread() throws Exception {
+        // Given
+        PlatformThreadExecutorServiceProvider provider =
+            new PlatformThreadExecutorServiceProvider(poolProperties(1, 1, 1, SqsConsumerProperties.RejectionPolicy.CALLER_RUNS));
+        BoundedThreadPoolExecutor pool = (BoundedThreadPoolExecutor) provider.createMessageProcessingExecutor("test");
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blocking = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        pool.execute(blocking);
+        pool.execute(blocking);
+        AtomicBoolean ranOnSubmitter = new AtomicBoolean();
+        
+        // When - 폴링 엔진처럼 Virtual Thread에서 제출
+        Thread submitter = Thread.ofVirtual().start(() -> {
+            Thread caller = Thread.currentThread();
+            pool.execute(() -> ranOnSubmitter.set(Thread.currentThread() == caller));
+        });
+        submitter.join(5000);
+        
+        // Then
+        assertThat(ranOnSubmitter).isTrue();
+        assertThat(pool.getCallerRunsCount()).isEqualTo(1);
+        assertThat(pool.getRejectedCount()).isZero();
+        
+        release.countDown();
+        provider.shutdown(5000);
+    }
+    
     @Test
     @EnabledOnJre(JRE.JAVA_21)
     void virtualThreadExecutorServiceProvider_shouldCreateExecutors_whenVirtualThreadsAvailable() {
@@ -57,6 +144,104 @@ class ExecutorServiceProviderTest {
         provider.shutdown(5000);
     }
     
+    @Test
+    @EnabledOnJre(JRE.JAVA_21)
+    void virtualThreadExecutorServiceProvider_shouldRunEachTaskOnVirtualThread() throws Exception {
+        // Given
+        VirtualThreadExecutorServiceProvider provider = new VirtualThreadExecutorServiceProvider(0, false);
+        ExecutorService messageExecutor = provider.createMessageProcessingExecutor("test-consumer");
+        AtomicBoolean virtual = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(1);
+        
+        // When
+        messageExecutor.execute(() -> {
+            virtual.set(Thread.currentThread().isVirtual());
+            done.countDown();
+        });
+        
+        // Then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(virtual).isTrue();
+        provider.shutdown(5000);
+    }
+    
+    @Test
+    @EnabledOnJre(JRE.JAVA_21)
+    void virtualThreadExecutorServiceProvider_shouldLimitConcurrentTasksPerContainer() throws Exception {
+        // Given - 컨테이너당 동시 실행 상한 2
+        VirtualThreadExecutorServiceProvider provider = new VirtualThreadExecutorServiceProvider(2, false);
+        ExecutorService messageExecutor = provider.createMessageProcessingExecutor("test-consumer");
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(20);
+        
+        // When
+        for (int i = 0; i < 20; i++) {
+            messageExecutor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                    finished.countDown();
+                }
+            });
+        }
+        Thread.sleep(200);
+        release.countDown();
+        
+        // Then
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxRunning.get()).isEqualTo(2);
+        provider.shutdown(5000);
+    }
+    
+    @Test
+    @EnabledOnJre(JRE.JAVA_21)
+    void virtualThreadExecutorServiceProvider_shutdown_shouldCloseCreatedExecutors() {
+        // Given
+        VirtualThreadExecutorServiceProvider provider = new VirtualThreadExecutorServiceProvider(0, false);
+        ExecutorService first = provider.createMessageProcessingExecutor("consumer1");
+        ExecutorService second = provider.createMessageProcessingExecutor("consumer2");
+        
+        // When
+        provider.shutdown(5000);
+        
+        // Then
+        assertThat(first.isShutdown()).isTrue();
+        assertThat(second.isShutdown()).isTrue();
+        assertThat(first.isTerminated()).isTrue();
+    }
+    
+    @Test
+    @EnabledOnJre(JRE.JAVA_21)
+    void virtualThreadExecutorServiceProvider_shutdown_shouldInterruptTasksAfterTimeout() throws Exception {
+        // Given
+        VirtualThreadExecutorServiceProvider provider = new VirtualThreadExecutorServiceProvider(0, false);
+        ExecutorService messageExecutor = provider.createMessageProcessingExecutor("test-consumer");
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        messageExecutor.execute(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        
+        // When
+        provider.shutdown(100);
+        
+        // Then
+        assertThat(messageExecutor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(interrupted).isTrue();
+    }
+    
     @Test
     void customExecutorServiceProvider_shouldCreateExecutors() {
         // Given
@@ -153,4 +338,13 @@ class ExecutorServiceProviderTest {
         // Then
         assertThat(executor.isShutdown()).isTrue();
     }
-}
\ No newline at end of file
+    
+    private static SqsConsumerProperties poolProperties(int coreSize, int maxSize, int queueCapacity,
+                                                        SqsConsumerProperties.RejectionPolicy rejectionPolicy) {
+        return new SqsConsumerProperties(
+            null, null, null, null, null, null, null, null,
+            null, coreSize, maxSize, queueCapacity, null, null, null, null, null,
+            new SqsConsumerProperties.Executor(null, null, null, null, null, null, rejectionPolicy)
+        );
+    }
+}
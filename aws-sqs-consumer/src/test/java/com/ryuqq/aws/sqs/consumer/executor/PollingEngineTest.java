@@ -0,0 +1,87 @@
+package com.ryuqq.aws.sqs.consumer.executor;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for PollingEngine.
+ */
+class PollingEngineTest {
+
+    @Test
+    void start_사이클완료시_다음사이클실행() throws Exception {
+        // Given
+        AtomicInteger cycles = new AtomicInteger();
+        CountDownLatch fiveCycles = new CountDownLatch(5);
+
+        // When
+        PollingEngine.Handle handle = PollingEngine.start("test", 1, () -> {
+            cycles.incrementAndGet();
+            fiveCycles.countDown();
+            return CompletableFuture.completedFuture(null);
+        }, 1000L);
+
+        // Then
+        assertThat(fiveCycles.await(5, TimeUnit.SECONDS)).isTrue();
+        handle.stop().get(5, TimeUnit.SECONDS);
+        int afterStop = cycles.get();
+        Thread.sleep(50);
+        assertThat(cycles.get()).isEqualTo(afterStop);
+        assertThat(handle.isActive()).isFalse();
+    }
+
+    @Test
+    void start_대기중인사이클은_스레드를점유하지않음() throws Exception {
+        // Given - 완료되지 않는 Long Polling을 흉내내는 사이클
+        List<CompletableFuture<Void>> pending = new CopyOnWriteArrayList<>();
+        CountDownLatch allStarted = new CountDownLatch(50);
+
+        // When
+        PollingEngine.Handle handle = PollingEngine.start("test", 50, () -> {
+            CompletableFuture<Void> receive = new CompletableFuture<>();
+            pending.add(receive);
+            allStarted.countDown();
+            return receive;
+        }, 1000L);
+
+        // Then
+        assertThat(allStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(pending).hasSize(50);
+
+        handle.stop().get(5, TimeUnit.SECONDS);
+        assertThat(pending).allMatch(CompletableFuture::isCancelled);
+    }
+
+    @Test
+    void start_사이클실패시_백오프후재시도() throws Exception {
+        // Given
+        CountDownLatch retried = new CountDownLatch(2);
+        long startedAt = System.nanoTime();
+
+        // When
+        PollingEngine.Handle handle = PollingEngine.start("test", 1, () -> {
+            retried.countDown();
+            return CompletableFuture.failedFuture(new IllegalStateException("receive failed"));
+        }, 100L);
+
+        // Then
+        assertThat(retried.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(100L);
+        handle.stop().get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void start_루프수가0이하면_예외발생() {
+        assertThatThrownBy(() -> PollingEngine.start("test", 0, () -> CompletableFuture.completedFuture(null), 0L))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
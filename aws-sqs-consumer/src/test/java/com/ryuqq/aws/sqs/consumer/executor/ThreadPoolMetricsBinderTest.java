@@ -0,0 +1,98 @@
+package com.ryuqq.aws.sqs.consumer.executor;
+
+import com.ryuqq.aws.sqs.consumer.properties.SqsConsumerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ThreadPoolMetricsBinder 테스트
+ */
+@DisplayName("ThreadPoolMetricsBinder 테스트")
+class ThreadPoolMetricsBinderTest {
+
+    private SimpleMeterRegistry registry;
+    private PlatformThreadExecutorServiceProvider provider;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        provider = new PlatformThreadExecutorServiceProvider(new SqsConsumerProperties(
+            null, null, null, null, null, null, null, null,
+            null, 1, 1, 1, null, null, null, null, null, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        provider.shutdown(5000);
+    }
+
+    @Test
+    @DisplayName("바인딩 전후에 생성된 풀 모두 executor 태그로 등록해야 한다")
+    void shouldRegisterPoolsCreatedBeforeAndAfterBinding() {
+        // given
+        provider.createMessageProcessingExecutor("orders");
+
+        // when
+        new ThreadPoolMetricsBinder(() -> provider).bindTo(registry);
+        provider.createMessageProcessingExecutor("payments");
+
+        // then
+        assertThat(registry.find(ThreadPoolMetricsBinder.QUEUED).tag("executor", "orders").gauge()).isNotNull();
+        assertThat(registry.find(ThreadPoolMetricsBinder.QUEUED).tag("executor", "payments").gauge()).isNotNull();
+        assertThat(registry.find(ThreadPoolMetricsBinder.REJECTED).functionCounters()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("대기 작업 수, 실행 중 스레드 수, 거부 횟수를 반영해야 한다")
+    void shouldReflectQueueDepthActiveCountAndRejections() throws Exception {
+        // given
+        new ThreadPoolMetricsBinder(() -> provider).bindTo(registry);
+        ExecutorService pool = provider.createMessageProcessingExecutor("orders");
+        CountDownLatch started = new CountDownLatch(1);
+        pool.execute(() -> {
+            started.countDown();
+            awaitRelease();
+        });
+        started.await();
+        pool.execute(this::awaitRelease);
+
+        // when
+        assertThatThrownBy(() -> pool.execute(this::awaitRelease)).isInstanceOf(RejectedExecutionException.class);
+
+        // then
+        assertThat(registry.get(ThreadPoolMetricsBinder.QUEUED).gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get(ThreadPoolMetricsBinder.QUEUE_REMAINING).gauge().value()).isZero();
+        assertThat(registry.get(ThreadPoolMetricsBinder.ACTIVE).gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get(ThreadPoolMetricsBinder.REJECTED).functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Platform Thread 제공자가 아니면 메트릭을 등록하지 않아야 한다")
+    void shouldIgnoreOtherProviders() {
+        // when
+        new ThreadPoolMetricsBinder(() -> null).bindTo(registry);
+
+        // then
+        assertThat(registry.getMeters()).isEmpty();
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
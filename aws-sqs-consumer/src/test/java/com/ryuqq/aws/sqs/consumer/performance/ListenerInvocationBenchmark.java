@@ -0,0 +1,106 @@
+package com.ryuqq.aws.sqs.consumer.performance;
+
+import com.ryuqq.aws.sqs.consumer.processor.ListenerInvoker;
+import com.ryuqq.aws.sqs.consumer.processor.ListenerInvokerFactory;
+import com.ryuqq.aws.sqs.types.SqsMessage;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmark for @SqsListener invocation
+ * Compares the per-message cost of the previous Method.invoke path with the pre-linked
+ * LambdaMetafactory and MethodHandle invokers and a direct call as the baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 3, timeUnit = TimeUnit.SECONDS)
+public class ListenerInvocationBenchmark {
+
+    private Listener listener;
+    private SqsMessage message;
+    private Method method;
+    private ListenerInvoker lambdaInvoker;
+    private ListenerInvoker reflectiveInvoker;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        listener = new Listener();
+        message = SqsMessage.builder()
+            .messageId("msg-1")
+            .body("{\"orderId\": 1}")
+            .receiptHandle("receipt-1")
+            .build();
+        method = Listener.class.getDeclaredMethod("handle", SqsMessage.class);
+        method.setAccessible(true);
+        lambdaInvoker = ListenerInvokerFactory.create(listener, method);
+        reflectiveInvoker = ListenerInvokerFactory.reflective(listener, method);
+    }
+
+    /**
+     * Baseline: plain Java call
+     */
+    @Benchmark
+    public void directCall(Blackhole bh) {
+        listener.handle(message);
+        bh.consume(listener.count);
+    }
+
+    /**
+     * Previous container path: Method.invoke per message
+     */
+    @Benchmark
+    public void methodInvoke(Blackhole bh) throws Exception {
+        method.invoke(listener, message);
+        bh.consume(listener.count);
+    }
+
+    /**
+     * Reflective invoker used as the ProcessingConfig fallback
+     */
+    @Benchmark
+    public void reflectiveInvoker(Blackhole bh) throws Exception {
+        reflectiveInvoker.invoke(message);
+        bh.consume(listener.count);
+    }
+
+    /**
+     * Invoker linked once at registration
+     */
+    @Benchmark
+    public void preLinkedInvoker(Blackhole bh) throws Exception {
+        lambdaInvoker.invoke(message);
+        bh.consume(listener.count);
+    }
+
+    public static class Listener {
+        private long count;
+
+        public void handle(SqsMessage message) {
+            count += message.getMessageId().length();
+        }
+    }
+
+    /**
+     * Main method to run listener invocation benchmarks
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(ListenerInvocationBenchmark.class.getSimpleName())
+            .shouldFailOnError(true)
+            .result("listener-invocation-benchmark-results.json")
+            .resultFormat(org.openjdk.jmh.results.format.ResultFormatType.JSON)
+            .build();
+
+        new Runner(opt).run();
+    }
+}
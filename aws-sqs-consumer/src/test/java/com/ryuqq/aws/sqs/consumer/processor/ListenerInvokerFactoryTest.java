@@ -0,0 +1,232 @@
+package com.ryuqq.aws.sqs.consumer.processor;
+
+import com.ryuqq.aws.sqs.types.SqsMessage;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for ListenerInvokerFactory.
+ */
+class ListenerInvokerFactoryTest {
+
+    private final SqsMessage message = SqsMessage.builder()
+            .messageId("msg-1")
+            .body("body")
+            .receiptHandle("receipt-1")
+            .build();
+
+    @Test
+    void shouldInvokePublicListener() throws Exception {
+        // Given
+        TestListener listener = new TestListener();
+        Method method = TestListener.class.getDeclaredMethod("handle", SqsMessage.class);
+
+        // When
+        ListenerInvoker invoker = ListenerInvokerFactory.create(listener, method);
+        invoker.invoke(message);
+
+        // Then
+        assertThat(listener.received).containsExactly("msg-1");
+    }
+
+    @Test
+    void shouldInvokePrivateBatchListener() throws Exception {
+        // Given
+        TestListener listener = new TestListener();
+        Method method = TestListener.class.getDeclaredMethod("handleBatch", List.class);
+
+        // When
+        ListenerInvoker invoker = ListenerInvokerFactory.create(listener, method);
+        invoker.invoke(List.of(message, message));
+
+        // Then
+        assertThat(listener.received).containsExactly("msg-1", "msg-1");
+    }
+
+    @Test
+    void shouldPropagateListenerExceptionUnwrapped() throws Exception {
+        // Given
+        TestListener listener = new TestListener();
+        Method method = TestListener.class.getDeclaredMethod("handleFailing", SqsMessage.class);
+
+        // When & Then
+        ListenerInvoker invoker = ListenerInvokerFactory.create(listener, method);
+        assertThatThrownBy(() -> invoker.invoke(message))
+                .isInstanceOf(IOException.class)
+                .hasMessage("downstream unavailable");
+    }
+
+    @Test
+    void shouldUnwrapExceptionOnReflectivePath() throws Exception {
+        // Given
+        TestListener listener = new TestListener();
+        Method method = TestListener.class.getDeclaredMethod("handleFailing", SqsMessage.class);
+
+        // When & Then
+        ListenerInvoker invoker = ListenerInvokerFactory.reflective(listener, method);
+        assertThatThrownBy(() -> invoker.invoke(message))
+                .isInstanceOf(IOException.class)
+                .hasMessage("downstream unavailable");
+    }
+
+    @Test
+    void shouldReturnListenerResult() throws Exception {
+        // Given
+        TestListener listener = new TestListener();
+        Method method = TestListener.class.getDeclaredMethod("handleAndReturn", SqsMessage.class);
+
+        // When
+        ListenerInvoker invoker = ListenerInvokerFactory.create(listener, method);
+        Object result = invoker.invoke(message);
+
+        // Then
+        assertThat(result).isEqualTo("msg-1");
+        assertThat(listener.received).containsExactly("msg-1");
+    }
+
+    @Test
+    void shouldReturnNullForVoidListener() throws Exception {
+        // Given
+        TestListener listener = new TestListener();
+        Method method = TestListener.class.getDeclaredMethod("handle", SqsMessage.class);
+
+        // When
+        Object result = ListenerInvokerFactory.create(listener, method).invoke(message);
+
+        // Then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void shouldMapFailedPayloadsBackToMessages() throws Exception {
+        // Given
+        TestListener listener = new TestListener();
+        Method method = TestListener.class.getDeclaredMethod("handleOrdersPartially", List.class);
+        SqsMessage accepted = message("order-1", "{\"orderId\":\"A-1\",\"quantity\":1}");
+        SqsMessage rejected = message("order-2", "{\"orderId\":\"A-2\",\"quantity\":0}");
+        List<SqsMessage> batch = List.of(accepted, rejected);
+
+        // When
+        Object result = ListenerInvokerFactory.create(listener, method).invoke(batch);
+
+        // Then
+        assertThat(BatchResults.failedMessageIds(result, batch)).containsExactly("order-2");
+    }
+
+    @Test
+    void shouldReadTypedPayloadFromBody() throws Exception {
+        // Given
+        TestListener listener = new TestListener();
+        Method method = TestListener.class.getDeclaredMethod("handleOrder", OrderEvent.class);
+        SqsMessage orderMessage = message("order-1", "{\"orderId\":\"A-1\",\"quantity\":3,\"ignored\":true}");
+
+        // When
+        ListenerInvoker invoker = ListenerInvokerFactory.create(listener, method);
+        invoker.invoke(orderMessage);
+
+        // Then
+        assertThat(listener.orders).containsExactly(new OrderEvent("A-1", 3));
+    }
+
+    @Test
+    void shouldPassRawBodyToStringParameter() throws Exception {
+        // Given
+        TestListener listener = new TestListener();
+        Method method = TestListener.class.getDeclaredMethod("handleBody", String.class);
+
+        // When
+        ListenerInvoker invoker = ListenerInvokerFactory.create(listener, method);
+        invoker.invoke(message);
+
+        // Then
+        assertThat(listener.received).containsExactly("body");
+    }
+
+    @Test
+    void shouldReadEveryMessageOfTypedBatch() throws Exception {
+        // Given
+        TestListener listener = new TestListener();
+        Method method = TestListener.class.getDeclaredMethod("handleOrders", List.class);
+        List<SqsMessage> batch = List.of(
+                message("order-1", "{\"orderId\":\"A-1\",\"quantity\":1}"),
+                message("order-2", "{\"orderId\":\"A-2\",\"quantity\":2}"));
+
+        // When
+        ListenerInvoker invoker = ListenerInvokerFactory.create(listener, method);
+        invoker.invoke(batch);
+
+        // Then
+        assertThat(listener.orders).containsExactly(new OrderEvent("A-1", 1), new OrderEvent("A-2", 2));
+    }
+
+    @Test
+    void shouldFailWithMessageIdWhenBodyCannotBeRead() throws Exception {
+        // Given
+        TestListener listener = new TestListener();
+        Method method = TestListener.class.getDeclaredMethod("handleOrder", OrderEvent.class);
+
+        // When & Then
+        ListenerInvoker invoker = ListenerInvokerFactory.create(listener, method);
+        assertThatThrownBy(() -> invoker.invoke(message("order-9", "not-json")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("order-9")
+                .hasCauseInstanceOf(IOException.class);
+        assertThat(listener.orders).isEmpty();
+    }
+
+    private SqsMessage message(String messageId, String body) {
+        return SqsMessage.builder()
+                .messageId(messageId)
+                .body(body)
+                .receiptHandle("receipt-" + messageId)
+                .build();
+    }
+
+    record OrderEvent(String orderId, int quantity) {
+    }
+
+    static class TestListener {
+        private final List<String> received = new ArrayList<>();
+        private final List<OrderEvent> orders = new ArrayList<>();
+
+        public void handle(SqsMessage message) {
+            received.add(message.getMessageId());
+        }
+
+        private void handleBatch(List<SqsMessage> messages) {
+            messages.forEach(message -> received.add(message.getMessageId()));
+        }
+
+        public void handleFailing(SqsMessage message) throws IOException {
+            throw new IOException("downstream unavailable");
+        }
+
+        public String handleAndReturn(SqsMessage message) {
+            received.add(message.getMessageId());
+            return message.getMessageId();
+        }
+
+        public void handleOrder(OrderEvent order) {
+            orders.add(order);
+        }
+
+        public void handleBody(String body) {
+            received.add(body);
+        }
+
+        public void handleOrders(List<OrderEvent> events) {
+            orders.addAll(events);
+        }
+
+        public List<OrderEvent> handleOrdersPartially(List<OrderEvent> events) {
+            return events.stream().filter(event -> event.quantity() == 0).toList();
+        }
+    }
+}
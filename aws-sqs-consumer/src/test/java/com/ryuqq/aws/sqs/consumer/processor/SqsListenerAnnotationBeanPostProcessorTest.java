@@ -161,10 +161,25 @@ class SqsListenerAnnotationBeanPostProcessorTest {
         try {
             processor.postProcessAfterInitialization(bean, "invalidTypeListener");
         } catch (RuntimeException e) {
-            assertThat(e.getCause().getMessage()).contains("must accept SqsMessage parameter");
+            assertThat(e.getCause().getMessage()).contains("must accept SqsMessage or a payload object parameter");
         }
     }
     
+    @Test
+    void postProcessAfterInitialization_페이로드타입리스너() {
+        // Given
+        PayloadListener bean = new PayloadListener();
+        
+        // When
+        processor.postProcessAfterInitialization(bean, "payloadListener");
+        
+        // Then
+        ArgumentCaptor<String> containerIdCaptor = ArgumentCaptor.forClass(String.class);
+        verify(containerRegistry, times(2)).registerContainer(containerIdCaptor.capture(), any());
+        assertThat(containerIdCaptor.getAllValues())
+            .contains("payloadListener.orderListener", "payloadListener.orderBatchListener");
+    }
+    
     @Test
     void validation_배치모드잘못된파라미터타입() {
         // Given
@@ -255,6 +270,33 @@ class SqsListenerAnnotationBeanPostProcessorTest {
         }
     }
     
+    @Test
+    void validation_배치크기가삭제배치한도초과() {
+        // Given
+        OversizedBatchListener bean = new OversizedBatchListener();
+        
+        // When & Then
+        assertThatThrownBy(() -> processor.postProcessAfterInitialization(bean, "oversizedBatchListener"))
+            .isInstanceOf(RuntimeException.class)
+            .hasCauseInstanceOf(IllegalArgumentException.class)
+            .satisfies(e -> assertThat(e.getCause().getMessage()).contains("batchSize must be between 1 and 10"));
+    }
+    
+    @Test
+    void validation_잘못된서킷브레이커설정() {
+        // When & Then
+        assertThatThrownBy(() -> processor.postProcessAfterInitialization(new InvalidThresholdListener(), "invalidThresholdListener"))
+            .hasCauseInstanceOf(IllegalArgumentException.class)
+            .satisfies(e -> assertThat(e.getCause().getMessage())
+                .contains("circuitBreakerFailureRateThreshold must be between 0 and 100"));
+        assertThatThrownBy(() -> processor.postProcessAfterInitialization(new InvalidWindowListener(), "invalidWindowListener"))
+            .hasCauseInstanceOf(IllegalArgumentException.class)
+            .satisfies(e -> assertThat(e.getCause().getMessage()).contains("circuitBreakerWindowSize must be positive"));
+        assertThatThrownBy(() -> processor.postProcessAfterInitialization(new InvalidOpenTimeListener(), "invalidOpenTimeListener"))
+            .hasCauseInstanceOf(IllegalArgumentException.class)
+            .satisfies(e -> assertThat(e.getCause().getMessage()).contains("circuitBreakerOpenMillis must be non-negative"));
+    }
+    
     @Test
     void postProcessAfterInitialization_applicationContext가null() {
         // Given
@@ -298,8 +340,8 @@ class SqsListenerAnnotationBeanPostProcessorTest {
     
     static class InvalidTypeListener {
         @SqsListener(queueName = "test-queue")
-        public void invalidTypeListener(String message) {
-            // Wrong parameter type
+        public void invalidTypeListener(int message) {
+            // Primitive parameter cannot receive a message
         }
     }
     
@@ -310,6 +352,19 @@ class SqsListenerAnnotationBeanPostProcessorTest {
         }
     }
     
+    static class PayloadListener {
+        @SqsListener(queueName = "order-queue")
+        public void orderListener(OrderEvent event) {
+        }
+        
+        @SqsListener(queueName = "order-batch-queue", batchMode = true)
+        public void orderBatchListener(List<OrderEvent> events) {
+        }
+    }
+    
+    record OrderEvent(String orderId, int quantity) {
+    }
+    
     static class NoQueueListener {
         @SqsListener
         public void noQueueListener(SqsMessage message) {
@@ -337,4 +392,32 @@ class SqsListenerAnnotationBeanPostProcessorTest {
             // Invalid timeout value
         }
     }
+    
+    static class InvalidThresholdListener {
+        @SqsListener(queueName = "test-queue", circuitBreakerFailureRateThreshold = 101)
+        public void invalidThresholdListener(SqsMessage message) {
+            // Failure rate above 100 percent
+        }
+    }
+    
+    static class InvalidWindowListener {
+        @SqsListener(queueName = "test-queue", circuitBreakerFailureRateThreshold = 50, circuitBreakerWindowSize = 0)
+        public void invalidWindowListener(SqsMessage message) {
+            // Breaker enabled without a window
+        }
+    }
+    
+    static class InvalidOpenTimeListener {
+        @SqsListener(queueName = "test-queue", circuitBreakerFailureRateThreshold = 50, circuitBreakerOpenMillis = -1)
+        public void invalidOpenTimeListener(SqsMessage message) {
+            // Negative open duration
+        }
+    }
+    
+    static class OversizedBatchListener {
+        @SqsListener(queueName = "test-queue", batchMode = true, batchSize = 11)
+        public void oversizedBatchListener(List<SqsMessage> messages) {
+            // More entries than one DeleteMessageBatch call accepts
+        }
+    }
 }
\ No newline at end of file
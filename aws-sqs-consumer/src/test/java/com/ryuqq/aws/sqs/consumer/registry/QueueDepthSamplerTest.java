@@ -0,0 +1,175 @@
+package com.ryuqq.aws.sqs.consumer.registry;
+
+import com.ryuqq.aws.sqs.consumer.component.MetricsCollector;
+import com.ryuqq.aws.sqs.consumer.container.SqsListenerContainer;
+import com.ryuqq.aws.sqs.service.SqsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for QueueDepthSampler.
+ */
+@ExtendWith(MockitoExtension.class)
+class QueueDepthSamplerTest {
+
+    private static final String ORDERS_QUEUE = "https://sqs.ap-northeast-2.amazonaws.com/123456789012/orders";
+    private static final String PAYMENTS_QUEUE = "https://sqs.ap-northeast-2.amazonaws.com/123456789012/payments";
+
+    @Mock
+    private SqsListenerContainer ordersContainer1;
+
+    @Mock
+    private SqsListenerContainer ordersContainer2;
+
+    @Mock
+    private SqsListenerContainer paymentsContainer;
+
+    @Mock
+    private SqsService sqsService;
+
+    @Mock
+    private MetricsCollector metricsCollector;
+
+    private SqsListenerContainerRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SqsListenerContainerRegistry();
+        lenient().when(ordersContainer1.isRunning()).thenReturn(true);
+        lenient().when(ordersContainer2.isRunning()).thenReturn(true);
+        lenient().when(paymentsContainer.isRunning()).thenReturn(true);
+        lenient().when(ordersContainer1.getQueueUrl()).thenReturn(ORDERS_QUEUE);
+        lenient().when(ordersContainer2.getQueueUrl()).thenReturn(ORDERS_QUEUE);
+        lenient().when(paymentsContainer.getQueueUrl()).thenReturn(PAYMENTS_QUEUE);
+    }
+
+    @Test
+    void sampleNow_큐당한번만속성조회() {
+        // Given
+        registry.registerContainer("orders-1", ordersContainer1);
+        registry.registerContainer("orders-2", ordersContainer2);
+        registry.registerContainer("payments", paymentsContainer);
+        when(sqsService.getQueueAttributes(anyString(), anyList()))
+            .thenReturn(CompletableFuture.completedFuture(depthAttributes("42", "5", "120")));
+        QueueDepthSampler sampler = new QueueDepthSampler(registry, sqsService, metricsCollector, null, 1000);
+
+        // When
+        sampler.sampleNow().join();
+
+        // Then
+        verify(sqsService, times(1)).getQueueAttributes(eq(ORDERS_QUEUE), anyList());
+        verify(sqsService, times(1)).getQueueAttributes(eq(PAYMENTS_QUEUE), anyList());
+        assertThat(sampler.getLatestDepth("orders-1").visibleMessages()).isEqualTo(42);
+        assertThat(sampler.getLatestDepth("orders-2").queueUrl()).isEqualTo(ORDERS_QUEUE);
+        verify(metricsCollector).recordQueueDepth("orders-1", 42, 5, 120);
+        verify(metricsCollector).recordQueueDepth("orders-2", 42, 5, 120);
+        verify(metricsCollector).recordQueueDepth("payments", 42, 5, 120);
+    }
+
+    @Test
+    void sampleNow_이전요청대기중이면큐건너뜀() {
+        // Given
+        registry.registerContainer("orders-1", ordersContainer1);
+        CompletableFuture<Map<String, String>> pending = new CompletableFuture<>();
+        when(sqsService.getQueueAttributes(eq(ORDERS_QUEUE), anyList())).thenReturn(pending);
+        QueueDepthSampler sampler = new QueueDepthSampler(registry, sqsService, null, null, 1000);
+        sampler.sampleNow();
+
+        // When
+        sampler.sampleNow();
+        pending.complete(depthAttributes("1", "0", "0"));
+
+        // Then
+        verify(sqsService, times(1)).getQueueAttributes(eq(ORDERS_QUEUE), anyList());
+        assertThat(sampler.getLatestDepth("orders-1")).isNotNull();
+    }
+
+    @Test
+    void sampleNow_조회실패시깊이미기록() {
+        // Given
+        registry.registerContainer("orders-1", ordersContainer1);
+        when(sqsService.getQueueAttributes(eq(ORDERS_QUEUE), anyList()))
+            .thenReturn(CompletableFuture.failedFuture(new RuntimeException("throttled")));
+        QueueDepthSampler sampler = new QueueDepthSampler(registry, sqsService, metricsCollector, null, 1000);
+
+        // When
+        sampler.sampleNow().join();
+
+        // Then
+        assertThat(sampler.getLatestDepth("orders-1")).isNull();
+        verify(metricsCollector, never()).recordQueueDepth(anyString(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void sampleNow_스케일링정책결과로컨테이너크기조정() {
+        // Given
+        registry.registerContainer("orders-1", ordersContainer1);
+        when(ordersContainer1.getMaxConcurrentMessages()).thenReturn(10);
+        when(ordersContainer1.setMaxConcurrentMessages(anyInt())).thenReturn(true);
+        when(sqsService.getQueueAttributes(eq(ORDERS_QUEUE), anyList()))
+            .thenReturn(CompletableFuture.completedFuture(depthAttributes("300", "10", "60")));
+        ConcurrencyScalingPolicy policy = ConcurrencyScalingPolicy.proportionalToBacklog(2, 50, 10);
+        QueueDepthSampler sampler = new QueueDepthSampler(registry, sqsService, null, policy, 1000);
+
+        // When
+        sampler.sampleNow().join();
+
+        // Then
+        verify(ordersContainer1).setMaxConcurrentMessages(30);
+    }
+
+    @Test
+    void sampleNow_정책결과가같으면크기유지() {
+        // Given
+        registry.registerContainer("orders-1", ordersContainer1);
+        when(ordersContainer1.getMaxConcurrentMessages()).thenReturn(10);
+        when(sqsService.getQueueAttributes(eq(ORDERS_QUEUE), anyList()))
+            .thenReturn(CompletableFuture.completedFuture(depthAttributes("0", "0", "0")));
+        QueueDepthSampler sampler = new QueueDepthSampler(registry, sqsService, null,
+            (containerId, current, depth) -> current, 1000);
+
+        // When
+        sampler.sampleNow().join();
+
+        // Then
+        verify(ordersContainer1, never()).setMaxConcurrentMessages(anyInt());
+    }
+
+    @Test
+    void proportionalToBacklog_최소최대범위로제한() {
+        // Given
+        ConcurrencyScalingPolicy policy = ConcurrencyScalingPolicy.proportionalToBacklog(2, 20, 10);
+
+        // When & Then
+        assertThat(policy.desiredConcurrency("c", 5, depth(0))).isEqualTo(2);
+        assertThat(policy.desiredConcurrency("c", 5, depth(55))).isEqualTo(6);
+        assertThat(policy.desiredConcurrency("c", 5, depth(10_000))).isEqualTo(20);
+        assertThatThrownBy(() -> ConcurrencyScalingPolicy.proportionalToBacklog(5, 1, 10))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Map<String, String> depthAttributes(String visible, String notVisible, String oldestAge) {
+        return Map.of(
+            QueueDepthSampler.VISIBLE_MESSAGES, visible,
+            QueueDepthSampler.NOT_VISIBLE_MESSAGES, notVisible,
+            QueueDepthSampler.OLDEST_MESSAGE_AGE, oldestAge);
+    }
+
+    private static QueueDepth depth(long visibleMessages) {
+        return new QueueDepth(ORDERS_QUEUE, visibleMessages, 0, 0, Instant.now());
+    }
+}